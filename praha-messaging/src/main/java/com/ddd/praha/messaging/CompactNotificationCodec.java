@@ -0,0 +1,195 @@
+package com.ddd.praha.messaging;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 通知メッセージのコンパクトなバイナリ形式
+ *
+ * <p>形式（バージョン1）:</p>
+ * <ol>
+ *   <li>バージョン（1バイト）</li>
+ *   <li>通知タイプ（可変長整数。{@link NotificationWireType} の序数+1。0の場合は続けて文字列。nullは空文字列として送る）</li>
+ *   <li>項目の有無のフラグ（1バイト。eventId, message, teamId, teamName, memberId, memberName の順に下位ビットから。
+ *       最上位ビットはeventIdがUUIDで16バイトの値として送ることを表す）</li>
+ *   <li>存在する項目の値（文字列は可変長整数のバイト数とUTF-8のバイト列）</li>
+ *   <li>発生時刻（可変長整数のエポックミリ秒）</li>
+ * </ol>
+ * <p>可変長整数は下位7ビットずつ、続きがあることを最上位ビットで表す（LEB128）。</p>
+ */
+public final class CompactNotificationCodec {
+
+    /**
+     * 形式のバージョン
+     */
+    public static final int VERSION = 1;
+
+    private static final int UUID_EVENT_ID = 0x80;
+
+    private CompactNotificationCodec() {
+    }
+
+    /**
+     * 通知をバイナリ形式に変換する
+     * @param fields 通知の項目
+     * @return バイト列
+     */
+    public static byte[] encode(NotificationFields fields) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(VERSION);
+
+        NotificationWireType.fromName(fields.type()).ifPresentOrElse(
+            type -> writeVarLong(out, type.ordinal() + 1),
+            () -> {
+                writeVarLong(out, 0);
+                writeString(out, fields.type() != null ? fields.type() : "");
+            });
+
+        String[] values = {fields.eventId(), fields.message(), fields.teamId(), fields.teamName(),
+            fields.memberId(), fields.memberName()};
+        UUID uuid = parseUuid(fields.eventId());
+        int flags = uuid != null ? UUID_EVENT_ID : 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                flags |= 1 << i;
+            }
+        }
+        out.write(flags);
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            if (i == 0 && uuid != null) {
+                writeLong(out, uuid.getMostSignificantBits());
+                writeLong(out, uuid.getLeastSignificantBits());
+            } else {
+                writeString(out, values[i]);
+            }
+        }
+        writeVarLong(out, fields.timestamp());
+        return out.toByteArray();
+    }
+
+    /**
+     * バイナリ形式から通知に変換する
+     * @param bytes バイト列
+     * @return 通知の項目
+     * @throws IllegalArgumentException 形式が不正な場合や未対応のバージョンの場合
+     */
+    public static NotificationFields decode(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("未対応の形式のバージョンです: " + version);
+        }
+
+        int typeCode = Math.toIntExact(in.readVarLong());
+        String type;
+        if (typeCode == 0) {
+            type = in.readString();
+        } else if (typeCode <= NotificationWireType.values().length) {
+            type = NotificationWireType.values()[typeCode - 1].name();
+        } else {
+            throw new IllegalArgumentException("未知の通知タイプです: " + typeCode);
+        }
+
+        int flags = in.readByte();
+        String[] values = new String[6];
+        for (int i = 0; i < values.length; i++) {
+            if ((flags & (1 << i)) == 0) {
+                continue;
+            }
+            values[i] = i == 0 && (flags & UUID_EVENT_ID) != 0
+                ? new UUID(in.readLong(), in.readLong()).toString()
+                : in.readString();
+        }
+        long timestamp = in.readVarLong();
+        return new NotificationFields(values[0], type, values[1], values[2], values[3], values[4], values[5], timestamp);
+    }
+
+    /**
+     * 小文字の標準形式のUUIDのみを16バイトで送る（復元した文字列が元と一致するものに限る）
+     */
+    private static UUID parseUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("負の値は可変長整数にできません: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("データが途中で終わっています");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("可変長整数が長すぎます");
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        String readString() {
+            int length = Math.toIntExact(readVarLong());
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("文字列の長さが不正です: " + length);
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
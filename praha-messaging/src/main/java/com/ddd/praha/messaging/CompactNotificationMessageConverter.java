@@ -0,0 +1,65 @@
+package com.ddd.praha.messaging;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.function.Function;
+
+/**
+ * 通知メッセージを {@link CompactNotificationCodec} のバイナリ形式で変換する
+ *
+ * <p>Jacksonの型情報ヘッダーは付けず、コンテンツタイプ {@link #CONTENT_TYPE} で形式を表す。
+ * 各アプリケーションのメッセージのレコードとは、コンストラクタに渡す関数で相互に変換する。</p>
+ *
+ * @param <T> 各アプリケーションの通知メッセージの型
+ */
+public class CompactNotificationMessageConverter<T> implements MessageConverter {
+
+    /**
+     * バイナリ形式のコンテンツタイプ（形式のバージョンを含む）
+     */
+    public static final String CONTENT_TYPE = "application/vnd.praha.notification.v" + CompactNotificationCodec.VERSION + "+binary";
+
+    private final Class<T> messageType;
+    private final Function<T, NotificationFields> toFields;
+    private final Function<NotificationFields, T> fromFields;
+
+    public CompactNotificationMessageConverter(Class<T> messageType,
+                                               Function<T, NotificationFields> toFields,
+                                               Function<NotificationFields, T> fromFields) {
+        this.messageType = messageType;
+        this.toFields = toFields;
+        this.fromFields = fromFields;
+    }
+
+    /**
+     * このコンバーターで送信できるオブジェクトかどうか
+     * @param object 送信するオブジェクト
+     * @return 通知メッセージの場合はtrue
+     */
+    public boolean supports(Object object) {
+        return messageType.isInstance(object);
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (!supports(object)) {
+            throw new MessageConversionException("バイナリ形式に変換できないオブジェクトです: " + object.getClass().getName());
+        }
+        byte[] body = CompactNotificationCodec.encode(toFields.apply(messageType.cast(object)));
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public T fromMessage(Message message) {
+        try {
+            return fromFields.apply(CompactNotificationCodec.decode(message.getBody()));
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("バイナリ形式の通知メッセージを変換できませんでした", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ddd.praha.messaging;
+
+/**
+ * 送信側・受信側の通知メッセージに共通する項目
+ * <p>各アプリケーションのメッセージのレコードとの変換は {@link CompactNotificationMessageConverter} に渡す関数で行う。</p>
+ * @param eventId イベントID
+ * @param type 通知タイプ
+ * @param message 通知メッセージ
+ * @param teamId チームID
+ * @param teamName チーム名
+ * @param memberId 参加者ID
+ * @param memberName 参加者名
+ * @param timestamp 通知の発生時刻（エポックミリ秒）
+ */
+public record NotificationFields(
+    String eventId,
+    String type,
+    String message,
+    String teamId,
+    String teamName,
+    String memberId,
+    String memberName,
+    long timestamp
+) {}
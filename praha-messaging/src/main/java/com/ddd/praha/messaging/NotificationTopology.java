@@ -0,0 +1,117 @@
+package com.ddd.praha.messaging;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * チーム通知のキュー・エクスチェンジの構成
+ *
+ * <p>送信側（praha-web）と受信側（praha-processor）の両方が同じ定義で宣言する。
+ * キューの引数が食い違うと、後から宣言した側が {@code PRECONDITION_FAILED} で失敗するため、
+ * 構成を変更する場合はこのクラスのみを変更すること。</p>
+ *
+ * <ul>
+ *   <li>{@link #TEAM_NOTIFICATION_QUEUE}: 通知キュー。期限切れ・再キューなしで否定応答されたメッセージは
+ *       {@link #DEAD_LETTER_EXCHANGE} を経由して {@link #PARKING_LOT_QUEUE} に移る</li>
+ *   <li>再送用の遅延キュー: 消費者を持たず、{@link #RETRY_DELAYS} の時間が経過したメッセージを通知キューに戻す</li>
+ *   <li>{@link #PARKING_LOT_QUEUE}: 再送しても処理できなかったメッセージの置き場。期限なしで保持する</li>
+ * </ul>
+ */
+public final class NotificationTopology {
+
+    /**
+     * チーム関連の通知用キュー名
+     */
+    public static final String TEAM_NOTIFICATION_QUEUE = "team.notification.queue";
+
+    /**
+     * 通知キューのデッドレターエクスチェンジ名
+     */
+    public static final String DEAD_LETTER_EXCHANGE = "team.notification.dlx";
+
+    /**
+     * 処理できなかった通知を保持するキュー名
+     */
+    public static final String PARKING_LOT_QUEUE = "team.notification.parking-lot";
+
+    /**
+     * 再送の回数を記録するヘッダー名
+     */
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+
+    /**
+     * 再送までの待ち時間（n回目の再送はn番目の時間だけ待つ）
+     */
+    public static final List<Duration> RETRY_DELAYS = List.of(
+        Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+    /**
+     * 通知キューでのメッセージの有効期限
+     */
+    public static final Duration MESSAGE_TTL = Duration.ofMinutes(5);
+
+    private NotificationTopology() {
+    }
+
+    /**
+     * 再送用の遅延キュー名
+     * @param retryCount 何回目の再送か（1から）
+     * @return キュー名
+     * @throws IllegalArgumentException 再送の上限を超えている場合
+     */
+    public static String retryQueue(int retryCount) {
+        if (retryCount < 1 || retryCount > RETRY_DELAYS.size()) {
+            throw new IllegalArgumentException("再送の回数が範囲外です: " + retryCount);
+        }
+        return TEAM_NOTIFICATION_QUEUE + ".retry." + RETRY_DELAYS.get(retryCount - 1).toSeconds() + "s";
+    }
+
+    /**
+     * 再送できる最大回数
+     * @return 最大回数
+     */
+    public static int maxRetries() {
+        return RETRY_DELAYS.size();
+    }
+
+    /**
+     * 通知に関する全てのキュー・エクスチェンジ・バインディング
+     * @return 宣言する定義
+     */
+    public static Declarables declarables() {
+        List<Declarable> declarables = new ArrayList<>();
+
+        declarables.add(QueueBuilder.durable(TEAM_NOTIFICATION_QUEUE)
+            .ttl(Math.toIntExact(MESSAGE_TTL.toMillis()))
+            .deadLetterExchange(DEAD_LETTER_EXCHANGE)
+            .deadLetterRoutingKey(PARKING_LOT_QUEUE)
+            .build());
+
+        DirectExchange deadLetterExchange = ExchangeBuilder.directExchange(DEAD_LETTER_EXCHANGE).durable(true).build();
+        Queue parkingLot = QueueBuilder.durable(PARKING_LOT_QUEUE).build();
+        Binding parkingLotBinding = BindingBuilder.bind(parkingLot).to(deadLetterExchange).with(PARKING_LOT_QUEUE);
+        declarables.add(deadLetterExchange);
+        declarables.add(parkingLot);
+        declarables.add(parkingLotBinding);
+
+        // 遅延キューは期限切れで既定のエクスチェンジ経由で通知キューに戻す
+        for (int retryCount = 1; retryCount <= maxRetries(); retryCount++) {
+            declarables.add(QueueBuilder.durable(retryQueue(retryCount))
+                .ttl(Math.toIntExact(RETRY_DELAYS.get(retryCount - 1).toMillis()))
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(TEAM_NOTIFICATION_QUEUE)
+                .build());
+        }
+        return new Declarables(declarables);
+    }
+}
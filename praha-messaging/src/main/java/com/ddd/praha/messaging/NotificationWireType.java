@@ -0,0 +1,29 @@
+package com.ddd.praha.messaging;
+
+import java.util.Optional;
+
+/**
+ * バイナリ形式で序数として送る通知タイプ
+ * <p>序数は送受信で共有するため、既存の値の順序は変えずに末尾に追加すること。
+ * ここにないタイプは文字列のまま送る。</p>
+ */
+public enum NotificationWireType {
+    TEAM_SPLIT,
+    TEAM_MERGED,
+    MONITORING_REQUIRED,
+    MERGE_FAILURE;
+
+    /**
+     * 名前から通知タイプを取得する
+     * @param name 通知タイプ名
+     * @return 通知タイプ（未知の名前の場合はEmpty）
+     */
+    public static Optional<NotificationWireType> fromName(String name) {
+        for (NotificationWireType type : values()) {
+            if (type.name().equals(name)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ddd.praha.messaging;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+
+/**
+ * コンテンツタイプに応じてJSONとバイナリ形式を使い分けるコンバーター
+ *
+ * <p>受信時はメッセージのコンテンツタイプが {@link CompactNotificationMessageConverter#CONTENT_TYPE} であればバイナリ形式、
+ * それ以外はJSONとして変換するため、どちらの形式で送られたメッセージも受信できる。
+ * 送信時は {@code sendCompact} がtrueの場合のみ、通知メッセージをバイナリ形式で送る。</p>
+ *
+ * <p>形式を切り替える場合は、先に受信側をこのコンバーターに入れ替えてから送信側の {@code sendCompact} を有効にする。
+ * 受信側が未対応の新しいバージョンの形式は変換に失敗し、パーキングロットに移る（受信側の更新後に再投入できる）。</p>
+ */
+public class WireFormatMessageConverter implements SmartMessageConverter {
+
+    private final SmartMessageConverter json;
+    private final CompactNotificationMessageConverter<?> compact;
+    private final boolean sendCompact;
+
+    public WireFormatMessageConverter(SmartMessageConverter json, CompactNotificationMessageConverter<?> compact,
+                                      boolean sendCompact) {
+        this.json = json;
+        this.compact = compact;
+        this.sendCompact = sendCompact;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (sendCompact && compact.supports(object)) {
+            return compact.toMessage(object, messageProperties);
+        }
+        return json.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        return isCompact(message) ? compact.fromMessage(message) : json.fromMessage(message);
+    }
+
+    @Override
+    public Object fromMessage(Message message, Object conversionHint) {
+        return isCompact(message) ? compact.fromMessage(message) : json.fromMessage(message, conversionHint);
+    }
+
+    private static boolean isCompact(Message message) {
+        String contentType = message.getMessageProperties().getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String baseType = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim();
+        return baseType.equalsIgnoreCase(CompactNotificationMessageConverter.CONTENT_TYPE);
+    }
+}
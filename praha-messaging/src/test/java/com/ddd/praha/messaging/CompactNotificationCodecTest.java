@@ -0,0 +1,77 @@
+package com.ddd.praha.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompactNotificationCodec のテスト")
+class CompactNotificationCodecTest {
+
+    @Test
+    @DisplayName("全ての項目を変換して元に戻せる")
+    void testRoundTrip() {
+        // Given
+        NotificationFields fields = new NotificationFields(
+            "3f2b8c1e-4d5a-4b6c-9e7f-0a1b2c3d4e5f", "TEAM_SPLIT", "チーム1が分割されました",
+            "team-1", "チーム1", "member-1", "山田太郎", 1_760_000_000_000L);
+
+        // When
+        byte[] bytes = CompactNotificationCodec.encode(fields);
+
+        // Then
+        assertEquals(fields, CompactNotificationCodec.decode(bytes));
+    }
+
+    @Test
+    @DisplayName("UUIDのイベントIDは16バイトで送る")
+    void testUuidEventIdIsEncodedAsBytes() {
+        // Given
+        String eventId = "3f2b8c1e-4d5a-4b6c-9e7f-0a1b2c3d4e5f";
+        NotificationFields uuid = new NotificationFields(eventId, "TEAM_MERGED", null, null, null, null, null, 0L);
+        NotificationFields text = new NotificationFields(eventId.toUpperCase(), "TEAM_MERGED", null, null, null, null, null, 0L);
+
+        // When
+        byte[] uuidBytes = CompactNotificationCodec.encode(uuid);
+        byte[] textBytes = CompactNotificationCodec.encode(text);
+
+        // Then（大文字のUUIDは元の文字列に戻せないため文字列のまま送る）
+        assertEquals(1 + 1 + 1 + 16 + 1, uuidBytes.length);
+        assertEquals(uuid, CompactNotificationCodec.decode(uuidBytes));
+        assertEquals(text, CompactNotificationCodec.decode(textBytes));
+    }
+
+    @Test
+    @DisplayName("未知の通知タイプや省略された項目もそのまま戻せる")
+    void testUnknownTypeAndMissingFields() {
+        // Given
+        NotificationFields fields = new NotificationFields(
+            "legacy-event-1", "NEW_TYPE", "新しい通知", null, null, "member-1", null, 42L);
+
+        // When
+        NotificationFields decoded = CompactNotificationCodec.decode(CompactNotificationCodec.encode(fields));
+
+        // Then
+        assertEquals(fields, decoded);
+    }
+
+    @Test
+    @DisplayName("未対応のバージョンや途中で終わるデータは変換できない")
+    void testRejectsInvalidData() {
+        // Given
+        byte[] bytes = CompactNotificationCodec.encode(new NotificationFields(
+            null, "TEAM_SPLIT", "メッセージ", null, null, null, null, 1L));
+        byte[] otherVersion = bytes.clone();
+        otherVersion[0] = 2;
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> CompactNotificationCodec.decode(otherVersion));
+        assertThrows(IllegalArgumentException.class, () -> CompactNotificationCodec.decode(truncated));
+        assertThrows(IllegalArgumentException.class,
+            () -> CompactNotificationCodec.decode("{\"type\":\"TEAM_SPLIT\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+}
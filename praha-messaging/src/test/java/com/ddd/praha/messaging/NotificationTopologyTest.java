@@ -0,0 +1,66 @@
+package com.ddd.praha.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Queue;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NotificationTopology のテスト")
+class NotificationTopologyTest {
+
+    @Test
+    @DisplayName("通知キューは期限切れ・否定応答されたメッセージをパーキングロットに送る")
+    void testNotificationQueueDeadLettersToParkingLot() {
+        // When
+        Queue queue = queue(NotificationTopology.TEAM_NOTIFICATION_QUEUE);
+
+        // Then
+        assertEquals(Map.of(
+            "x-message-ttl", 300000,
+            "x-dead-letter-exchange", NotificationTopology.DEAD_LETTER_EXCHANGE,
+            "x-dead-letter-routing-key", NotificationTopology.PARKING_LOT_QUEUE
+        ), queue.getArguments());
+        Binding binding = NotificationTopology.declarables().getDeclarablesByType(Binding.class).getFirst();
+        assertEquals(NotificationTopology.DEAD_LETTER_EXCHANGE, binding.getExchange());
+        assertEquals(NotificationTopology.PARKING_LOT_QUEUE, binding.getDestination());
+        assertTrue(queue(NotificationTopology.PARKING_LOT_QUEUE).getArguments().isEmpty());
+    }
+
+    @Test
+    @DisplayName("遅延キューは待ち時間の経過後に通知キューに戻す")
+    void testRetryQueuesReturnToNotificationQueue() {
+        // When
+        List<String> names = List.of(
+            NotificationTopology.retryQueue(1), NotificationTopology.retryQueue(2), NotificationTopology.retryQueue(3));
+
+        // Then
+        assertEquals(List.of(
+            "team.notification.queue.retry.1s", "team.notification.queue.retry.10s", "team.notification.queue.retry.60s"
+        ), names);
+        assertEquals(Map.of(
+            "x-message-ttl", 10000,
+            "x-dead-letter-exchange", "",
+            "x-dead-letter-routing-key", NotificationTopology.TEAM_NOTIFICATION_QUEUE
+        ), queue(names.get(1)).getArguments());
+    }
+
+    @Test
+    @DisplayName("再送の上限を超えた遅延キューは存在しない")
+    void testRetryQueueOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> NotificationTopology.retryQueue(0));
+        assertThrows(IllegalArgumentException.class,
+            () -> NotificationTopology.retryQueue(NotificationTopology.maxRetries() + 1));
+    }
+
+    private static Queue queue(String name) {
+        return NotificationTopology.declarables().getDeclarablesByType(Queue.class).stream()
+            .filter(queue -> queue.getName().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+}
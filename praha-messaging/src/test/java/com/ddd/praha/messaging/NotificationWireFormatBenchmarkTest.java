@@ -0,0 +1,88 @@
+package com.ddd.praha.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JSONとバイナリ形式の通知メッセージのサイズと変換時間の比較
+ *
+ * <p>JMHを使わない簡易な計測のため、時間は目安としてログに出力するだけで検証はしない。
+ * 検証するのは1メッセージあたりのバイト数のみ。</p>
+ */
+@DisplayName("通知メッセージの送信形式の比較")
+class NotificationWireFormatBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationWireFormatBenchmarkTest.class);
+
+    private static final int MESSAGES = 1_000;
+    private static final int ROUNDS = 20;
+
+    @Test
+    @DisplayName("バイナリ形式はJSONより1メッセージあたりのバイト数が小さい")
+    void testCompactIsSmallerThanJson() {
+        // Given
+        List<WireFormatMessageConverterTest.Sample> samples = samples();
+        MessageConverter json = new Jackson2JsonMessageConverter();
+        MessageConverter compact = new CompactNotificationMessageConverter<>(WireFormatMessageConverterTest.Sample.class,
+            WireFormatMessageConverterTest.Sample::toFields, WireFormatMessageConverterTest.Sample::of);
+
+        // When
+        Result jsonResult = measure(json, samples);
+        Result compactResult = measure(compact, samples);
+
+        // Then
+        logger.info("JSON: {} bytes/msg, {} ns/op", jsonResult.bytesPerMessage(), jsonResult.nanosPerOperation());
+        logger.info("compact: {} bytes/msg, {} ns/op", compactResult.bytesPerMessage(), compactResult.nanosPerOperation());
+        assertTrue(compactResult.bytesPerMessage() < jsonResult.bytesPerMessage(),
+            () -> "compact=" + compactResult.bytesPerMessage() + ", json=" + jsonResult.bytesPerMessage());
+    }
+
+    /**
+     * 送信と受信の変換を繰り返し、最後の半分のラウンドの平均を計測値とする（前半はウォームアップ）
+     */
+    private static Result measure(MessageConverter converter, List<WireFormatMessageConverterTest.Sample> samples) {
+        long bytes = 0;
+        long nanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long roundBytes = 0;
+            long start = System.nanoTime();
+            for (WireFormatMessageConverterTest.Sample sample : samples) {
+                Message message = converter.toMessage(sample, new MessageProperties());
+                roundBytes += message.getBody().length;
+                assertEquals(sample, converter.fromMessage(message));
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= ROUNDS / 2) {
+                bytes += roundBytes;
+                nanos += elapsed;
+            }
+        }
+        long operations = (long) samples.size() * (ROUNDS - ROUNDS / 2);
+        return new Result(bytes / operations, nanos / operations);
+    }
+
+    private static List<WireFormatMessageConverterTest.Sample> samples() {
+        String[] types = {"TEAM_SPLIT", "TEAM_MERGED", "MONITORING_REQUIRED", "MERGE_FAILURE"};
+        List<WireFormatMessageConverterTest.Sample> samples = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            samples.add(new WireFormatMessageConverterTest.Sample(
+                UUID.randomUUID().toString(), types[i % types.length], "チーム" + i + "の人数が2名になりました",
+                "team-" + i, "チーム" + i, "member-" + i, "参加者" + i, 1_760_000_000_000L + i));
+        }
+        return samples;
+    }
+
+    private record Result(long bytesPerMessage, long nanosPerOperation) {}
+}
@@ -0,0 +1,89 @@
+package com.ddd.praha.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WireFormatMessageConverter のテスト")
+class WireFormatMessageConverterTest {
+
+    private final Sample sample = new Sample(
+        "3f2b8c1e-4d5a-4b6c-9e7f-0a1b2c3d4e5f", "MONITORING_REQUIRED", "チーム1の人数が2名になりました",
+        "team-1", "チーム1", "member-1", "山田太郎", 1_760_000_000_000L);
+
+    @Test
+    @DisplayName("有効にした場合のみバイナリ形式で送信する")
+    void testSendsCompactOnlyWhenEnabled() {
+        // When
+        Message json = converter(false).toMessage(sample, new MessageProperties());
+        Message compact = converter(true).toMessage(sample, new MessageProperties());
+
+        // Then
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, json.getMessageProperties().getContentType());
+        assertEquals(CompactNotificationMessageConverter.CONTENT_TYPE, compact.getMessageProperties().getContentType());
+        assertTrue(compact.getBody().length < json.getBody().length);
+    }
+
+    @Test
+    @DisplayName("受信時はコンテンツタイプでJSONとバイナリ形式を判別する")
+    void testReceivesBothFormats() {
+        // Given
+        WireFormatMessageConverter receiver = converter(false);
+        Message json = converter(false).toMessage(sample, new MessageProperties());
+        Message compact = converter(true).toMessage(sample, new MessageProperties());
+
+        // When & Then
+        assertEquals(sample, receiver.fromMessage(json));
+        assertEquals(sample, receiver.fromMessage(compact));
+    }
+
+    @Test
+    @DisplayName("通知メッセージ以外はバイナリ形式を有効にしてもJSONで送信する")
+    void testSendsOtherObjectsAsJson() {
+        // When
+        Message message = converter(true).toMessage(Map.of("key", "value"), new MessageProperties());
+
+        // Then
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+    }
+
+    @Test
+    @DisplayName("不正なバイナリ形式は変換エラーになる")
+    void testRejectsBrokenCompactMessage() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(CompactNotificationMessageConverter.CONTENT_TYPE);
+        Message broken = new Message(new byte[] {9, 9, 9}, properties);
+
+        // When & Then
+        assertThrows(MessageConversionException.class, () -> converter(false).fromMessage(broken));
+    }
+
+    private static WireFormatMessageConverter converter(boolean sendCompact) {
+        return new WireFormatMessageConverter(new Jackson2JsonMessageConverter(),
+            new CompactNotificationMessageConverter<>(Sample.class, Sample::toFields, Sample::of), sendCompact);
+    }
+
+    /**
+     * 各アプリケーションの通知メッセージに相当するレコード
+     */
+    record Sample(String eventId, String type, String message, String teamId, String teamName,
+                  String memberId, String memberName, long timestamp) {
+
+        static Sample of(NotificationFields fields) {
+            return new Sample(fields.eventId(), fields.type(), fields.message(), fields.teamId(), fields.teamName(),
+                fields.memberId(), fields.memberName(), fields.timestamp());
+        }
+
+        NotificationFields toFields() {
+            return new NotificationFields(eventId, type, message, teamId, teamName, memberId, memberName, timestamp);
+        }
+    }
+}
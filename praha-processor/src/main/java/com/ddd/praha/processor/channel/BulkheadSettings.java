@@ -0,0 +1,34 @@
+package com.ddd.praha.processor.channel;
+
+import java.time.Duration;
+
+/**
+ * 送信先ごとのバルクヘッドの設定
+ * @param threads 送信に使うスレッド数
+ * @param queueCapacity 送信待ちの上限（超えた送信は失敗とする）
+ * @param timeout 1回の送信のタイムアウト
+ * @param maxAttempts 1件あたりの最大試行回数（初回を含む）
+ * @param retryBackoff 再送までの待ち時間
+ * @param retryRatio 成功1回あたりに積み立てる再送の回数
+ * @param maxRetryTokens 積み立てられる再送の上限
+ * @param failureThreshold サーキットブレーカーが開く連続失敗回数
+ * @param openDuration サーキットブレーカーが開いている時間
+ */
+public record BulkheadSettings(
+    int threads,
+    int queueCapacity,
+    Duration timeout,
+    int maxAttempts,
+    Duration retryBackoff,
+    double retryRatio,
+    int maxRetryTokens,
+    int failureThreshold,
+    Duration openDuration
+) {
+
+    public BulkheadSettings {
+        if (threads <= 0 || queueCapacity <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("スレッド数・送信待ちの上限・最大試行回数は1以上である必要があります");
+        }
+    }
+}
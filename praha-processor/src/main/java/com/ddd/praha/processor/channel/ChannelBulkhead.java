@@ -0,0 +1,111 @@
+package com.ddd.praha.processor.channel;
+
+import java.time.Clock;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 1つの送信先を、専用のスレッドプール・タイムアウト・サーキットブレーカー・リトライ予算で隔離する
+ *
+ * <p>送信先が遅延・停止しても、影響はその送信先のスレッドと送信待ちの枠に留まり、
+ * 他の送信先やメッセージの受信スレッドは止まらない。</p>
+ */
+class ChannelBulkhead {
+
+    private final NotificationChannel channel;
+    private final BulkheadSettings settings;
+    private final ThreadPoolExecutor executor;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+
+    ChannelBulkhead(NotificationChannel channel, BulkheadSettings settings, Clock clock) {
+        this.channel = channel;
+        this.settings = settings;
+        this.executor = new ThreadPoolExecutor(settings.threads(), settings.threads(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(settings.queueCapacity()), threadFactory(channel.name()));
+        this.circuitBreaker = new CircuitBreaker(settings.failureThreshold(), settings.openDuration(), clock);
+        this.retryBudget = new RetryBudget(settings.retryRatio(), settings.maxRetryTokens());
+    }
+
+    /**
+     * 通知を送信する（失敗した場合は試行回数と再送の予算の範囲で再送する）
+     * @param message 送信する通知
+     * @return 送信の完了（再送しても失敗した場合は例外で完了する）
+     */
+    CompletableFuture<Void> submit(ChannelMessage message) {
+        return attempt(message, 1);
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private CompletableFuture<Void> attempt(ChannelMessage message, int attempt) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                new IllegalStateException("サーキットブレーカーが開いているため送信しません: " + channel.name()));
+        }
+        return call(message).handle((result, error) -> error).thenCompose(error -> {
+            if (error == null) {
+                circuitBreaker.onSuccess();
+                retryBudget.onSuccess();
+                return CompletableFuture.completedFuture(null);
+            }
+            circuitBreaker.onFailure();
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (attempt >= settings.maxAttempts() || cause instanceof RejectedExecutionException || !retryBudget.tryRetry()) {
+                return CompletableFuture.failedFuture(cause);
+            }
+            return CompletableFuture.runAsync(() -> {},
+                    CompletableFuture.delayedExecutor(settings.retryBackoff().toMillis(), TimeUnit.MILLISECONDS))
+                .thenCompose(ignored -> attempt(message, attempt + 1));
+        });
+    }
+
+    /**
+     * 専用のスレッドで1回送信する（タイムアウトした場合は送信中のスレッドに割り込む）
+     */
+    private CompletableFuture<Void> call(ChannelMessage message) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    channel.send(message);
+                    result.complete(null);
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.orTimeout(settings.timeout().toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((ignored, error) -> {
+                if (error instanceof TimeoutException) {
+                    task.cancel(true);
+                }
+            });
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "channel-" + name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.ddd.praha.processor.channel;
+
+/**
+ * 送信先と通知の組
+ * @param channel 送信先の名前
+ * @param message 送信する通知
+ */
+public record ChannelDelivery(String channel, ChannelMessage message) {}
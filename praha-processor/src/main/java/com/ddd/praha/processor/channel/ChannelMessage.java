@@ -0,0 +1,9 @@
+package com.ddd.praha.processor.channel;
+
+/**
+ * 送信先に送る通知
+ * @param destination 宛先（メールアドレス、Slackチャンネル、チームIDなど送信先ごとの意味を持つ）
+ * @param subject 件名（件名のない送信先ではnull）
+ * @param body 本文
+ */
+public record ChannelMessage(String destination, String subject, String body) {}
@@ -0,0 +1,30 @@
+package com.ddd.praha.processor.channel;
+
+/**
+ * チーム通知で使用する送信先の名前
+ */
+public final class ChannelNames {
+
+    /**
+     * メール
+     */
+    public static final String EMAIL = "email";
+
+    /**
+     * 管理者への緊急アラート
+     */
+    public static final String URGENT_ALERT = "urgent-alert";
+
+    /**
+     * Slack
+     */
+    public static final String SLACK = "slack";
+
+    /**
+     * インシデント管理システム
+     */
+    public static final String INCIDENT = "incident";
+
+    private ChannelNames() {
+    }
+}
@@ -0,0 +1,91 @@
+package com.ddd.praha.processor.channel;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 連続した失敗で送信先への呼び出しを一時的に止めるサーキットブレーカー
+ *
+ * <p>連続して {@code failureThreshold} 回失敗すると開き、{@code openDuration} の間は呼び出しを拒否する。
+ * その後は1回だけ試行を許可し（半開）、成功すれば閉じ、失敗すれば再び開く。</p>
+ */
+public class CircuitBreaker {
+
+    /**
+     * サーキットブレーカーの状態
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInProgress;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("失敗回数のしきい値は1以上である必要があります: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * 呼び出してよいかどうか（半開の場合は1回の試行のみ許可する）
+     * @return 呼び出してよい場合はtrue
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            trialInProgress = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInProgress) {
+                    yield false;
+                }
+                trialInProgress = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * 呼び出しの成功を記録する
+     */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInProgress = false;
+    }
+
+    /**
+     * 呼び出しの失敗を記録する
+     */
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            trialInProgress = false;
+        }
+    }
+
+    /**
+     * 現在の状態
+     * @return 状態
+     */
+    public synchronized State state() {
+        return state;
+    }
+}
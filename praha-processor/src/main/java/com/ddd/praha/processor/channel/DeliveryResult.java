@@ -0,0 +1,17 @@
+package com.ddd.praha.processor.channel;
+
+/**
+ * 送信の結果
+ * @param delivery 送信先と通知
+ * @param error 失敗の原因（成功した場合はnull）
+ */
+public record DeliveryResult(ChannelDelivery delivery, Throwable error) {
+
+    /**
+     * 送信に成功したかどうか
+     * @return 成功した場合はtrue
+     */
+    public boolean succeeded() {
+        return error == null;
+    }
+}
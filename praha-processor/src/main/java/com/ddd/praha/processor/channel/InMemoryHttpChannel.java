@@ -0,0 +1,85 @@
+package com.ddd.praha.processor.channel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 送信したHTTPリクエストをメモリに記録するWebhookの代替実装
+ *
+ * <p>Slackやインシデント管理システムなど、HTTPで通知を受け付ける送信先の代わりに使う。
+ * 設定した遅延で応答時間を、失敗率で送信エラーを模擬する。
+ * 記録するのは直近の {@code maxRetained} 件のみで、古いリクエストから捨てる。</p>
+ */
+public class InMemoryHttpChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryHttpChannel.class);
+
+    /**
+     * 記録したHTTPリクエスト
+     * @param uri リクエスト先
+     * @param message 送信した通知
+     */
+    public record RecordedRequest(URI uri, ChannelMessage message) {}
+
+    private final String name;
+    private final URI endpoint;
+    private final SimulatedLatency latency;
+    private final int maxRetained;
+    private final Deque<RecordedRequest> requests = new ArrayDeque<>();
+
+    public InMemoryHttpChannel(String name, URI endpoint, Duration latency, double failureRate) {
+        this(name, endpoint, latency, failureRate, InMemorySmtpChannel.DEFAULT_MAX_RETAINED);
+    }
+
+    public InMemoryHttpChannel(String name, URI endpoint, Duration latency, double failureRate, int maxRetained) {
+        if (maxRetained <= 0) {
+            throw new IllegalArgumentException("記録する件数の上限は1以上である必要があります: " + maxRetained);
+        }
+        this.name = name;
+        this.endpoint = endpoint;
+        this.latency = new SimulatedLatency(latency, failureRate);
+        this.maxRetained = maxRetained;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void send(ChannelMessage message) throws Exception {
+        latency.simulate();
+        synchronized (requests) {
+            if (requests.size() >= maxRetained) {
+                requests.removeFirst();
+            }
+            requests.addLast(new RecordedRequest(endpoint, message));
+        }
+        logger.info("HTTP通知送信: 送信先={}, URI={}, 宛先={}", name, endpoint, message.destination());
+    }
+
+    /**
+     * 送信したHTTPリクエスト
+     * @return 直近に送信したリクエスト（送信順）
+     */
+    public List<RecordedRequest> requests() {
+        synchronized (requests) {
+            return List.copyOf(requests);
+        }
+    }
+
+    /**
+     * 記録したリクエストを消去する
+     */
+    public void clear() {
+        synchronized (requests) {
+            requests.clear();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ddd.praha.processor.channel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 送信したメールをメモリに記録するSMTPの代替実装
+ *
+ * <p>外部のメールサーバーなしで処理全体を動かし、負荷試験を行うための実装。
+ * 設定した遅延で送信時間を、失敗率で送信エラーを模擬する。
+ * 記録するのは直近の {@code maxRetained} 件のみで、古いメールから捨てる。</p>
+ */
+public class InMemorySmtpChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemorySmtpChannel.class);
+
+    /**
+     * 記録するメールの件数の既定の上限
+     */
+    public static final int DEFAULT_MAX_RETAINED = 1000;
+
+    private final String name;
+    private final SimulatedLatency latency;
+    private final int maxRetained;
+    private final Deque<ChannelMessage> mailbox = new ArrayDeque<>();
+
+    public InMemorySmtpChannel(String name, Duration latency, double failureRate) {
+        this(name, latency, failureRate, DEFAULT_MAX_RETAINED);
+    }
+
+    public InMemorySmtpChannel(String name, Duration latency, double failureRate, int maxRetained) {
+        if (maxRetained <= 0) {
+            throw new IllegalArgumentException("記録する件数の上限は1以上である必要があります: " + maxRetained);
+        }
+        this.name = name;
+        this.latency = new SimulatedLatency(latency, failureRate);
+        this.maxRetained = maxRetained;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void send(ChannelMessage message) throws Exception {
+        latency.simulate();
+        synchronized (mailbox) {
+            if (mailbox.size() >= maxRetained) {
+                mailbox.removeFirst();
+            }
+            mailbox.addLast(message);
+        }
+        logger.info("メール送信: 送信先={}, 宛先={}, 件名={}", name, message.destination(), message.subject());
+    }
+
+    /**
+     * 送信したメール
+     * @return 直近に送信したメール（送信順）
+     */
+    public List<ChannelMessage> sent() {
+        synchronized (mailbox) {
+            return List.copyOf(mailbox);
+        }
+    }
+
+    /**
+     * 記録したメールを消去する
+     */
+    public void clear() {
+        synchronized (mailbox) {
+            mailbox.clear();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ddd.praha.processor.channel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 送信内容をログに出力するだけの送信先
+ *
+ * <p>実際の送信先が登録されていない環境での既定の実装。
+ * 通知は届けないが送信は常に成功させ、メッセージを再試行キューに滞留させない。</p>
+ */
+public class LoggingNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingNotificationChannel.class);
+
+    private final String name;
+
+    public LoggingNotificationChannel(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void send(ChannelMessage message) {
+        logger.info("通知送信（ログ出力のみ）: 送信先={}, 宛先={}, 件名={}, 本文={}",
+            name, message.destination(), message.subject(), message.body());
+    }
+}
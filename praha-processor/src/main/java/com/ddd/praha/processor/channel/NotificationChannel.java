@@ -0,0 +1,24 @@
+package com.ddd.praha.processor.channel;
+
+/**
+ * 通知の送信先（メール、Slack、インシデント管理など）
+ *
+ * <p>Spring Beanとして登録した実装は {@link NotificationFanout} が {@link #name()} で識別し、
+ * 送信先ごとに専用のスレッドプール・タイムアウト・サーキットブレーカー・リトライ予算を割り当てる。
+ * 実装は送信が完了するまでブロックしてよい。</p>
+ */
+public interface NotificationChannel {
+
+    /**
+     * 送信先の名前
+     * @return 送信先の名前（{@link NotificationFanout} 内で一意）
+     */
+    String name();
+
+    /**
+     * 通知を送信する
+     * @param message 送信する通知
+     * @throws Exception 送信に失敗した場合
+     */
+    void send(ChannelMessage message) throws Exception;
+}
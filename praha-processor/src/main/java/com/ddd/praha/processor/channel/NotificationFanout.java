@@ -0,0 +1,95 @@
+package com.ddd.praha.processor.channel;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 通知を複数の送信先に並行して送信する
+ *
+ * <p>Spring Beanとして登録された {@link NotificationChannel} ごとに {@link ChannelBulkhead} を作成し、
+ * 送信先ごとに隔離して送信する。全ての送信の完了（成功・失敗）をまとめて待てる。</p>
+ */
+@Component
+public class NotificationFanout {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationFanout.class);
+
+    private final Map<String, ChannelBulkhead> bulkheads = new LinkedHashMap<>();
+
+    @Autowired
+    public NotificationFanout(List<NotificationChannel> channels,
+                              @Value("${praha.processor.channels.threads:4}") int threads,
+                              @Value("${praha.processor.channels.queue-capacity:100}") int queueCapacity,
+                              @Value("${praha.processor.channels.timeout:5s}") Duration timeout,
+                              @Value("${praha.processor.channels.max-attempts:3}") int maxAttempts,
+                              @Value("${praha.processor.channels.retry-backoff:200ms}") Duration retryBackoff,
+                              @Value("${praha.processor.channels.retry-ratio:0.2}") double retryRatio,
+                              @Value("${praha.processor.channels.max-retry-tokens:10}") int maxRetryTokens,
+                              @Value("${praha.processor.channels.failure-threshold:5}") int failureThreshold,
+                              @Value("${praha.processor.channels.open-duration:30s}") Duration openDuration) {
+        this(channels, new BulkheadSettings(threads, queueCapacity, timeout, maxAttempts, retryBackoff,
+            retryRatio, maxRetryTokens, failureThreshold, openDuration), Clock.systemUTC());
+    }
+
+    public NotificationFanout(List<NotificationChannel> channels, BulkheadSettings settings, Clock clock) {
+        for (NotificationChannel channel : channels) {
+            if (bulkheads.putIfAbsent(channel.name(), new ChannelBulkhead(channel, settings, clock)) != null) {
+                throw new IllegalStateException("送信先の名前が重複しています: " + channel.name());
+            }
+        }
+        if (bulkheads.isEmpty()) {
+            logger.warn("通知の送信先が登録されていません。全ての通知の送信が失敗します"
+                + "（開発環境では praha.processor.channels.in-memory.enabled=true で代替実装を使えます）");
+        }
+    }
+
+    /**
+     * 通知を各送信先に並行して送信する
+     * @param deliveries 送信先と通知のリスト
+     * @return 全ての送信の結果（指定した順）。送信の失敗では例外にならない
+     */
+    public CompletableFuture<List<DeliveryResult>> dispatch(List<ChannelDelivery> deliveries) {
+        List<CompletableFuture<DeliveryResult>> results = deliveries.stream()
+            .map(delivery -> send(delivery).handle((ignored, error) -> new DeliveryResult(delivery, error)))
+            .toList();
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * 送信先のサーキットブレーカーの状態
+     * @param channel 送信先の名前
+     * @return 状態（未登録の送信先の場合はEmpty）
+     */
+    public Optional<CircuitBreaker.State> circuitState(String channel) {
+        return Optional.ofNullable(bulkheads.get(channel)).map(ChannelBulkhead::circuitState);
+    }
+
+    private CompletableFuture<Void> send(ChannelDelivery delivery) {
+        ChannelBulkhead bulkhead = bulkheads.get(delivery.channel());
+        if (bulkhead == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("未登録の送信先です: " + delivery.channel()));
+        }
+        return bulkhead.submit(delivery.message());
+    }
+
+    /**
+     * 各送信先のスレッドプールを停止する
+     */
+    @PreDestroy
+    public void shutdown() {
+        bulkheads.values().forEach(ChannelBulkhead::shutdown);
+    }
+}
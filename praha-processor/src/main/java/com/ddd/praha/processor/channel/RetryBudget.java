@@ -0,0 +1,40 @@
+package com.ddd.praha.processor.channel;
+
+/**
+ * 送信先ごとの再送の予算
+ *
+ * <p>成功した呼び出し1回ごとに {@code ratio} 回分の再送を積み立て、再送のたびに1回分を使う。
+ * 障害時に再送が呼び出し量を何倍にも増やさないよう、再送を成功量の一定割合までに抑える。
+ * 積み立ての上限は {@code maxTokens} で、起動直後も上限まで再送できる。</p>
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * 成功した呼び出しを記録して再送の予算を積み立てる
+     */
+    public synchronized void onSuccess() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * 再送してよいかどうか（よい場合は予算を1回分使う）
+     * @return 再送してよい場合はtrue
+     */
+    public synchronized boolean tryRetry() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
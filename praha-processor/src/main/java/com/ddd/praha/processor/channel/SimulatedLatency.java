@@ -0,0 +1,22 @@
+package com.ddd.praha.processor.channel;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 代替実装の送信時間と送信エラーを模擬する
+ * @param latency 送信にかかる時間
+ * @param failureRate 送信に失敗する確率（0〜1）
+ */
+record SimulatedLatency(Duration latency, double failureRate) {
+
+    void simulate() throws IOException, InterruptedException {
+        if (!latency.isZero()) {
+            Thread.sleep(latency);
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IOException("模擬的な送信エラー");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ddd.praha.processor.config;
+
+import com.ddd.praha.processor.channel.ChannelNames;
+import com.ddd.praha.processor.channel.LoggingNotificationChannel;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 通知の送信先の既定の設定
+ * <p>同じBean名の送信先（{@link NotificationChannelConfig} の代替実装や本番の実装）が登録されていない
+ * 送信先ごとに、送信内容をログに出力するだけの実装を登録する。
+ * アプリケーションの設定を読み込んだ後に条件を評価するため、自動設定として登録している。</p>
+ */
+@AutoConfiguration
+public class FallbackNotificationChannelConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(name = "emailChannel")
+    public LoggingNotificationChannel emailChannel() {
+        return new LoggingNotificationChannel(ChannelNames.EMAIL);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "urgentAlertChannel")
+    public LoggingNotificationChannel urgentAlertChannel() {
+        return new LoggingNotificationChannel(ChannelNames.URGENT_ALERT);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "slackChannel")
+    public LoggingNotificationChannel slackChannel() {
+        return new LoggingNotificationChannel(ChannelNames.SLACK);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "incidentChannel")
+    public LoggingNotificationChannel incidentChannel() {
+        return new LoggingNotificationChannel(ChannelNames.INCIDENT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ddd.praha.processor.config;
+
+import com.ddd.praha.processor.channel.ChannelNames;
+import com.ddd.praha.processor.channel.InMemoryHttpChannel;
+import com.ddd.praha.processor.channel.InMemorySmtpChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 通知の送信先の設定
+ * <p>開発・負荷試験用に、送信内容をメモリに記録する代替実装を登録する。
+ * 送信した通知を実際には届けないため、{@code praha.processor.channels.in-memory.enabled=true} を指定した場合
+ * （devプロファイルなど）のみ有効にする。本番では同じBean名で {@link com.ddd.praha.processor.channel.NotificationChannel} を
+ * 登録する。どちらも登録されていない送信先には {@link FallbackNotificationChannelConfig} がログ出力のみの実装を登録する。</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "praha.processor.channels.in-memory.enabled", havingValue = "true")
+public class NotificationChannelConfig {
+
+    private final Duration latency;
+    private final double failureRate;
+    private final int maxRetained;
+
+    public NotificationChannelConfig(@Value("${praha.processor.channels.in-memory.latency:0ms}") Duration latency,
+                                     @Value("${praha.processor.channels.in-memory.failure-rate:0}") double failureRate,
+                                     @Value("${praha.processor.channels.in-memory.max-retained:1000}") int maxRetained) {
+        this.latency = latency;
+        this.failureRate = failureRate;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * メールの送信先
+     * @return メモリに記録するSMTPの代替実装
+     */
+    @Bean
+    public InMemorySmtpChannel emailChannel() {
+        return new InMemorySmtpChannel(ChannelNames.EMAIL, latency, failureRate, maxRetained);
+    }
+
+    /**
+     * 緊急アラートの送信先
+     * @return メモリに記録するSMTPの代替実装
+     */
+    @Bean
+    public InMemorySmtpChannel urgentAlertChannel() {
+        return new InMemorySmtpChannel(ChannelNames.URGENT_ALERT, latency, failureRate, maxRetained);
+    }
+
+    /**
+     * Slackの送信先
+     * @return メモリに記録するWebhookの代替実装
+     */
+    @Bean
+    public InMemoryHttpChannel slackChannel() {
+        return new InMemoryHttpChannel(ChannelNames.SLACK, URI.create("http://localhost/slack/webhook"), latency, failureRate, maxRetained);
+    }
+
+    /**
+     * インシデント管理システムの送信先
+     * @return メモリに記録するWebhookの代替実装
+     */
+    @Bean
+    public InMemoryHttpChannel incidentChannel() {
+        return new InMemoryHttpChannel(ChannelNames.INCIDENT, URI.create("http://localhost/incidents"), latency, failureRate, maxRetained);
+    }
+}
@@ -1,13 +1,22 @@
 package com.ddd.praha.processor.config;
 
-import org.springframework.amqp.core.Queue;
-import org.springframework.amqp.core.QueueBuilder;
+import com.ddd.praha.messaging.CompactNotificationMessageConverter;
+import com.ddd.praha.messaging.NotificationFields;
+import com.ddd.praha.messaging.NotificationTopology;
+import com.ddd.praha.messaging.WireFormatMessageConverter;
+import com.ddd.praha.processor.team.TeamNotificationMessage;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.Duration;
 
 /**
  * RabbitMQリスナー設定
@@ -19,26 +28,43 @@ public class RabbitMQListenerConfig {
     /**
      * チーム関連の通知用キュー名
      */
-    public static final String TEAM_NOTIFICATION_QUEUE = "team.notification.queue";
+    public static final String TEAM_NOTIFICATION_QUEUE = NotificationTopology.TEAM_NOTIFICATION_QUEUE;
+
+    /**
+     * バッチ受信用のリスナーコンテナファクトリーのBean名
+     */
+    public static final String BATCH_CONTAINER_FACTORY = "batchRabbitListenerContainerFactory";
+
+    /**
+     * 仮想スレッドで処理するリスナーコンテナファクトリーのBean名
+     */
+    public static final String VIRTUAL_THREAD_CONTAINER_FACTORY = "virtualThreadRabbitListenerContainerFactory";
 
     /**
-     * チーム通知用キューを定義
-     * @return キュー設定
+     * チーム通知用のキュー・デッドレター・遅延キューを定義
+     * <p>送信側（praha-web）と共通の {@link NotificationTopology} で宣言する。</p>
+     * @return キュー・エクスチェンジ・バインディング
      */
     @Bean
-    public Queue teamNotificationQueue() {
-        return QueueBuilder.durable(TEAM_NOTIFICATION_QUEUE)
-                .withArgument("x-message-ttl", 300000) // 5分のTTL
-                .build();
+    public Declarables notificationTopology() {
+        return NotificationTopology.declarables();
     }
 
     /**
-     * JSONメッセージコンバーターを設定
-     * @return JSONコンバーター
+     * メッセージコンバーターを設定
+     * <p>送信側の設定（{@code praha.messaging.wire-format}）にかかわらず受信できるよう、
+     * JSONとバイナリ形式の両方をコンテンツタイプで判別して変換する。</p>
+     * @return メッセージコンバーター
      */
     @Bean
-    public Jackson2JsonMessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public WireFormatMessageConverter messageConverter() {
+        CompactNotificationMessageConverter<TeamNotificationMessage> compact = new CompactNotificationMessageConverter<>(
+            TeamNotificationMessage.class,
+            message -> new NotificationFields(message.eventId(), message.type(), message.message(), message.teamId(),
+                message.teamName(), message.memberId(), message.memberName(), message.timestamp()),
+            fields -> new TeamNotificationMessage(fields.eventId(), fields.type(), fields.message(), fields.teamId(),
+                fields.teamName(), fields.memberId(), fields.memberName(), fields.timestamp()));
+        return new WireFormatMessageConverter(new Jackson2JsonMessageConverter(), compact, false);
     }
 
     /**
@@ -49,11 +75,61 @@ public class RabbitMQListenerConfig {
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory) {
+        return createContainerFactory(connectionFactory);
+    }
+
+    /**
+     * 複数のメッセージをまとめて受信するリスナーコンテナファクトリーを設定
+     * <p>{@code batch-size} 件がそろうか、{@code receive-timeout} の間次のメッセージが届かなくなるまでまとめて
+     * リスナーに渡す。確認応答はリスナーがバッチ単位（不正なメッセージは1件ずつ）で手動で行う。</p>
+     * @param connectionFactory 接続ファクトリー
+     * @param batchSize 1回に受け取るメッセージの最大件数
+     * @param receiveTimeout 次のメッセージを待つ時間
+     * @return リスナーコンテナファクトリー
+     */
+    @Bean(BATCH_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${praha.processor.listener.batch-size:100}") int batchSize,
+            @Value("${praha.processor.listener.receive-timeout:1s}") Duration receiveTimeout) {
+        SimpleRabbitListenerContainerFactory factory = createContainerFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        // 1バッチ分をまとめて配送してもらえるよう、先読み件数をバッチサイズに合わせる
+        factory.setPrefetchCount(batchSize);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * 受信したメッセージを仮想スレッドで処理するリスナーコンテナファクトリーを設定
+     * <p>コンシューマー自体も仮想スレッドで動かす。処理の完了前に次のメッセージを受信できるよう、
+     * 確認応答は処理の完了時にリスナーが手動で行い、未確認のまま受信できる件数を同時処理の上限に合わせる。</p>
+     * @param connectionFactory 接続ファクトリー
+     * @param maxInFlight 同時に処理する通知の上限
+     * @return リスナーコンテナファクトリー
+     */
+    @Bean(VIRTUAL_THREAD_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory virtualThreadRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${praha.processor.listener.virtual-threads.max-in-flight:1000}") int maxInFlight) {
+        SimpleRabbitListenerContainerFactory factory = createContainerFactory(connectionFactory);
+        factory.setTaskExecutor(new VirtualThreadTaskExecutor("team-notification-consumer-"));
+        factory.setPrefetchCount(maxInFlight);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    private SimpleRabbitListenerContainerFactory createContainerFactory(ConnectionFactory connectionFactory) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter());
         factory.setConcurrentConsumers(2);
         factory.setMaxConcurrentConsumers(5);
+        // 想定外の例外でも再キューせずにパーキングロットに送り、同じメッセージの受信を繰り返さない
+        factory.setDefaultRequeueRejected(false);
         return factory;
     }
-}
\ No newline at end of file
+}
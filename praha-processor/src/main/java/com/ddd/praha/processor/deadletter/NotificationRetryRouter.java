@@ -0,0 +1,85 @@
+package com.ddd.praha.processor.deadletter;
+
+import com.ddd.praha.messaging.NotificationTopology;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 処理に失敗したメッセージを遅延キューに送り、時間をおいて再処理させる
+ *
+ * <p>失敗したメッセージは再キューせず、再送の回数に応じた遅延キュー（{@link NotificationTopology#RETRY_DELAYS}）に送る。
+ * 遅延キューは消費者を持たないため、待ち時間の間は受信と失敗が繰り返されることはない。
+ * 再送の回数を使い切ったメッセージや不正なメッセージは、呼び出し側で再キューせずに否定応答し、
+ * デッドレター経由でパーキングロットに移す。</p>
+ */
+@Component
+public class NotificationRetryRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetryRouter.class);
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public NotificationRetryRouter(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    /**
+     * 失敗したメッセージを次の遅延キューに送る
+     * @param message 受信したメッセージ
+     * @param error 処理の失敗の原因
+     * @return 遅延キューに送った場合はtrue（呼び出し側は元のメッセージを確認応答する）。
+     *         再送しない場合はfalse（呼び出し側は再キューせずに否定応答する）
+     */
+    public boolean scheduleRetry(Message message, Throwable error) {
+        int retryCount = retryCountOf(message) + 1;
+        if (!isRetryable(error)) {
+            logger.error("再送しても処理できないメッセージのため、パーキングロットに移します", error);
+            return false;
+        }
+        if (retryCount > NotificationTopology.maxRetries()) {
+            logger.error("再送の回数を使い切ったため、パーキングロットに移します: 再送回数={}", retryCount - 1, error);
+            return false;
+        }
+
+        String retryQueue = NotificationTopology.retryQueue(retryCount);
+        Message retry = MessageBuilder.fromClone(message)
+            .setHeader(NotificationTopology.RETRY_COUNT_HEADER, retryCount)
+            .build();
+        try {
+            rabbitTemplate.send("", retryQueue, retry);
+        } catch (AmqpException e) {
+            logger.error("遅延キューに送信できなかったため、パーキングロットに移します: {}", retryQueue, e);
+            return false;
+        }
+        logger.warn("処理に失敗したメッセージを{}後に再送します: 再送回数={}",
+            NotificationTopology.RETRY_DELAYS.get(retryCount - 1), retryCount, error);
+        return true;
+    }
+
+    /**
+     * メッセージのこれまでの再送回数
+     * @param message 受信したメッセージ
+     * @return 再送回数（初回の配送は0）
+     */
+    static int retryCountOf(Message message) {
+        Object header = message.getMessageProperties().getHeader(NotificationTopology.RETRY_COUNT_HEADER);
+        return header instanceof Number count ? count.intValue() : 0;
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof IllegalArgumentException || cause instanceof MessageConversionException) {
+                return false;
+            }
+            cause = cause.getCause();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ddd.praha.processor.deadletter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * パーキングロットの運用API
+ *
+ * <ul>
+ *   <li>GET /api/parking-lot - パーキングロットにあるメッセージの件数</li>
+ *   <li>POST /api/parking-lot/replay?limit=100 - メッセージを通知キューにまとめて再投入</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/parking-lot")
+public class ParkingLotController {
+
+    private final ParkingLotService parkingLotService;
+
+    public ParkingLotController(ParkingLotService parkingLotService) {
+        this.parkingLotService = parkingLotService;
+    }
+
+    /**
+     * パーキングロットの状態を取得する
+     * @return メッセージの件数
+     */
+    @GetMapping
+    public ParkingLotResponse status() {
+        return new ParkingLotResponse(parkingLotService.count());
+    }
+
+    /**
+     * パーキングロットのメッセージを通知キューに再投入する
+     * @param limit 再投入する最大件数
+     * @return 再投入した件数
+     */
+    @PostMapping("/replay")
+    public ReplayResponse replay(@RequestParam(defaultValue = "100") int limit) {
+        return new ReplayResponse(parkingLotService.replay(limit));
+    }
+
+    /**
+     * 不正なパラメータを400として返す
+     * @param e 例外
+     * @return エラーメッセージ
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleIllegalArgument(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+
+    /**
+     * パーキングロットの状態
+     * @param messageCount メッセージの件数
+     */
+    public record ParkingLotResponse(long messageCount) {}
+
+    /**
+     * 再投入の結果
+     * @param replayed 再投入した件数
+     */
+    public record ReplayResponse(int replayed) {}
+}
@@ -0,0 +1,87 @@
+package com.ddd.praha.processor.deadletter;
+
+import com.ddd.praha.messaging.NotificationTopology;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * パーキングロットに移されたメッセージの確認と再投入
+ */
+@Service
+public class ParkingLotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParkingLotService.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Duration confirmTimeout;
+
+    public ParkingLotService(RabbitTemplate rabbitTemplate,
+                             @Value("${praha.processor.parking-lot.confirm-timeout:10s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    /**
+     * パーキングロットにあるメッセージの件数
+     * @return 件数
+     */
+    public long count() {
+        return rabbitTemplate.execute(channel ->
+            (long) channel.queueDeclarePassive(NotificationTopology.PARKING_LOT_QUEUE).getMessageCount());
+    }
+
+    /**
+     * パーキングロットのメッセージを通知キューに再投入する
+     *
+     * <p>再送の回数をリセットして、取り出した順に通知キューに送信する。
+     * ブローカーが受け付けたことを確認してから、まとめてパーキングロットから削除するため、
+     * 途中で失敗してもメッセージは失われない（重複して再投入されたものは受信側でイベントIDにより読み飛ばされる）。</p>
+     *
+     * @param limit 再投入する最大件数
+     * @return 再投入した件数
+     */
+    public int replay(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("再投入する件数は1以上である必要があります: " + limit);
+        }
+        int replayed = rabbitTemplate.execute(channel -> {
+            channel.confirmSelect();
+            int count = 0;
+            long lastDeliveryTag = 0;
+            while (count < limit) {
+                GetResponse response = channel.basicGet(NotificationTopology.PARKING_LOT_QUEUE, false);
+                if (response == null) {
+                    break;
+                }
+                channel.basicPublish("", NotificationTopology.TEAM_NOTIFICATION_QUEUE, resetRetryCount(response.getProps()),
+                    response.getBody());
+                lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                count++;
+            }
+            if (count > 0) {
+                channel.waitForConfirmsOrDie(confirmTimeout.toMillis());
+                channel.basicAck(lastDeliveryTag, true);
+            }
+            return count;
+        });
+        logger.info("パーキングロットのメッセージを再投入しました: {}件", replayed);
+        return replayed;
+    }
+
+    private static AMQP.BasicProperties resetRetryCount(AMQP.BasicProperties properties) {
+        Map<String, Object> headers = properties.getHeaders() != null
+            ? new HashMap<>(properties.getHeaders())
+            : new HashMap<>();
+        headers.remove(NotificationTopology.RETRY_COUNT_HEADER);
+        return properties.builder().headers(headers).build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.ddd.praha.processor.dedup;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 文字列の集合を固定サイズのビット配列で近似的に表すブルームフィルター
+ *
+ * <p>追加した値は必ず「含まれる」と判定される。追加していない値も、
+ * 想定件数まで追加した状態で {@code falsePositiveRate} 程度の確率で「含まれる」と判定される。
+ * ハッシュは64ビットのFNV-1aを混合した2つの値から、ダブルハッシングで {@code hashCount} 個を導出する。</p>
+ */
+public class BloomFilter {
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * 想定件数と偽陽性率から最適なサイズのフィルターを作成する
+     * @param expectedInsertions 想定する追加件数
+     * @param falsePositiveRate 想定件数での偽陽性率（0より大きく1未満）
+     * @return 空のフィルター
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("想定件数は1以上である必要があります: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("偽陽性率は0より大きく1未満である必要があります: " + falsePositiveRate);
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(new long[Math.toIntExact((bits + 63) / 64)], hashes);
+    }
+
+    private BloomFilter(long[] words, int hashCount) {
+        this.words = words;
+        this.bitCount = (long) words.length * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 値を追加する
+     * @param value 追加する値
+     */
+    public void put(String value) {
+        long hash = fnv1a(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * 値が含まれる可能性があるかどうか
+     * @param value 判定する値
+     * @return 含まれる可能性がある場合はtrue（falseの場合は確実に含まれない）
+     */
+    public boolean mightContain(String value) {
+        long hash = fnv1a(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * フィルターの内容を書き出す
+     * @param out 出力先
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(hashCount);
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    /**
+     * {@link #writeTo(DataOutput)} で書き出した内容からフィルターを復元する
+     * @param in 入力元
+     * @return 復元したフィルター
+     * @throws IOException 読み込みに失敗した場合
+     */
+    public static BloomFilter readFrom(DataInput in) throws IOException {
+        int hashCount = in.readInt();
+        int length = in.readInt();
+        if (hashCount <= 0 || length <= 0) {
+            throw new IOException("ブルームフィルターの形式が不正です");
+        }
+        long[] words = new long[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = in.readLong();
+        }
+        return new BloomFilter(words, hashCount);
+    }
+
+    /**
+     * 同じサイズの空のフィルターを作成する
+     * @return 空のフィルター
+     */
+    public BloomFilter emptyCopy() {
+        return new BloomFilter(new long[words.length], hashCount);
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 64ビット値のビットを拡散させる（SplitMix64の最終段）
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,156 @@
+package com.ddd.praha.processor.dedup;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 処理済みの通知のイベントIDを記録し、再配信された通知を判定する
+ *
+ * <p>直近に処理したイベントIDを、件数（{@code praha.processor.dedup.max-entries}）と
+ * 期間（{@code praha.processor.dedup.window}）の上限つきでメモリに保持する。
+ * 上限を超えた場合は古いものから忘れる。</p>
+ *
+ * <p>{@code praha.processor.dedup.bloom.enabled=true} の場合は、{@link PersistentBloomFilter} にも記録してファイルに保存し、
+ * 再起動後やメモリから忘れた後の再配信も判定する。ブルームフィルターは偽陽性があるため、
+ * 偽陽性率（{@code praha.processor.dedup.bloom.false-positive-rate}）の確率で新しい通知を重複とみなす点に注意すること。</p>
+ */
+@Component
+public class EventIdDeduplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventIdDeduplicator.class);
+
+    private final int maxEntries;
+    private final Duration window;
+    private final Clock clock;
+    private final Optional<PersistentBloomFilter> bloomFilter;
+    private final ScheduledExecutorService saver;
+    private final LinkedHashMap<String, Instant> processed = new LinkedHashMap<>();
+
+    @Autowired
+    public EventIdDeduplicator(@Value("${praha.processor.dedup.max-entries:100000}") int maxEntries,
+                               @Value("${praha.processor.dedup.window:24h}") Duration window,
+                               @Value("${praha.processor.dedup.bloom.enabled:false}") boolean bloomEnabled,
+                               @Value("${praha.processor.dedup.bloom.path:./data/processor-dedup.bloom}") Path bloomPath,
+                               @Value("${praha.processor.dedup.bloom.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${praha.processor.dedup.bloom.false-positive-rate:0.000001}") double falsePositiveRate,
+                               @Value("${praha.processor.dedup.bloom.save-interval:1m}") Duration saveInterval) {
+        this(maxEntries, window, bloomEnabled
+                ? new PersistentBloomFilter(bloomPath, window, expectedInsertions, falsePositiveRate, Clock.systemUTC())
+                : null,
+            saveInterval, Clock.systemUTC());
+    }
+
+    EventIdDeduplicator(int maxEntries, Duration window, PersistentBloomFilter bloomFilter, Duration saveInterval,
+                        Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("記録するイベントIDの上限は1以上である必要があります: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.window = window;
+        this.clock = clock;
+        this.bloomFilter = Optional.ofNullable(bloomFilter);
+        if (bloomFilter != null) {
+            this.saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dedup-bloom-saver");
+                thread.setDaemon(true);
+                return thread;
+            });
+            saver.scheduleWithFixedDelay(this::save, saveInterval.toMillis(), saveInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.saver = null;
+        }
+    }
+
+    /**
+     * 処理済みのイベントIDかどうか
+     * @param eventId イベントID（nullの場合は常にfalse）
+     * @return 処理済みの場合はtrue
+     */
+    public boolean isDuplicate(String eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        synchronized (this) {
+            evictExpired();
+            if (processed.containsKey(eventId)) {
+                return true;
+            }
+        }
+        return bloomFilter.map(filter -> filter.mightContain(eventId)).orElse(false);
+    }
+
+    /**
+     * イベントIDを処理済みとして記録する
+     * @param eventId イベントID（nullの場合は何もしない）
+     */
+    public void markProcessed(String eventId) {
+        if (eventId == null) {
+            return;
+        }
+        synchronized (this) {
+            processed.remove(eventId);
+            processed.put(eventId, clock.instant());
+            evictExpired();
+            while (processed.size() > maxEntries) {
+                processed.pollFirstEntry();
+            }
+        }
+        bloomFilter.ifPresent(filter -> filter.put(eventId));
+    }
+
+    /**
+     * メモリに記録しているイベントIDの件数
+     * @return 件数
+     */
+    public synchronized int size() {
+        return processed.size();
+    }
+
+    /**
+     * ブルームフィルターをファイルに保存して停止する
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (saver != null) {
+            saver.shutdownNow();
+        }
+        save();
+    }
+
+    private void save() {
+        bloomFilter.ifPresent(filter -> {
+            try {
+                filter.save();
+            } catch (RuntimeException e) {
+                logger.warn("重複判定の記録を保存できませんでした", e);
+            }
+        });
+    }
+
+    /**
+     * 期間を過ぎたイベントIDを古いものから取り除く（記録は処理順のため、先頭から期限切れを調べればよい）
+     */
+    private void evictExpired() {
+        Instant threshold = clock.instant().minus(window);
+        Iterator<Map.Entry<String, Instant>> iterator = processed.entrySet().iterator();
+        while (iterator.hasNext() && iterator.next().getValue().isBefore(threshold)) {
+            iterator.remove();
+        }
+    }
+}
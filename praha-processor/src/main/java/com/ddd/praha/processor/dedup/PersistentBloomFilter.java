@@ -0,0 +1,126 @@
+package com.ddd.praha.processor.dedup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 一定時間ごとに世代を切り替え、ファイルに保存できるブルームフィルター
+ *
+ * <p>ブルームフィルターは値を削除できないため、現在の世代と1つ前の世代の2つを持ち、
+ * {@code window} ごとに現在の世代を1つ前の世代にして新しい世代を始める。
+ * 判定は両方の世代で行うため、追加した値は少なくとも {@code window} の間は「含まれる」と判定される。</p>
+ *
+ * <p>{@link #save()} でファイルに保存し、作成時にファイルがあれば読み込むことで、再起動後も判定を引き継ぐ。
+ * ファイルは一時ファイルに書き込んでから置き換えるため、保存中に停止しても壊れたファイルは残らない。</p>
+ */
+public class PersistentBloomFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentBloomFilter.class);
+    private static final int MAGIC = 0x50524442;
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final Duration window;
+    private final Clock clock;
+    private BloomFilter current;
+    private BloomFilter previous;
+    private Instant generationStartedAt;
+
+    public PersistentBloomFilter(Path path, Duration window, long expectedInsertions, double falsePositiveRate,
+                                 Clock clock) {
+        this.path = path;
+        this.window = window;
+        this.clock = clock;
+        this.current = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.previous = current.emptyCopy();
+        this.generationStartedAt = clock.instant();
+        load();
+    }
+
+    /**
+     * 値を追加する
+     * @param value 追加する値
+     */
+    public synchronized void put(String value) {
+        rotateIfExpired();
+        current.put(value);
+    }
+
+    /**
+     * 値が含まれる可能性があるかどうか
+     * @param value 判定する値
+     * @return 含まれる可能性がある場合はtrue
+     */
+    public synchronized boolean mightContain(String value) {
+        rotateIfExpired();
+        return current.mightContain(value) || previous.mightContain(value);
+    }
+
+    /**
+     * 現在の内容をファイルに保存する
+     * @throws UncheckedIOException 書き込みに失敗した場合
+     */
+    public synchronized void save() {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(generationStartedAt.toEpochMilli());
+                current.writeTo(out);
+                previous.writeTo(out);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("重複判定のブルームフィルターを保存できませんでした: " + path, e);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                logger.warn("重複判定のブルームフィルターの形式が異なるため読み込みません: {}", path);
+                return;
+            }
+            Instant startedAt = Instant.ofEpochMilli(in.readLong());
+            BloomFilter loadedCurrent = BloomFilter.readFrom(in);
+            BloomFilter loadedPrevious = BloomFilter.readFrom(in);
+            current = loadedCurrent;
+            previous = loadedPrevious;
+            generationStartedAt = startedAt;
+            rotateIfExpired();
+            logger.info("重複判定のブルームフィルターを読み込みました: {}", path);
+        } catch (IOException e) {
+            // 読み込めない場合は空の状態から始める（重複の読み飛ばしが効かなくなるだけで、通知は失われない）
+            logger.warn("重複判定のブルームフィルターを読み込めませんでした: {}", path, e);
+        }
+    }
+
+    private void rotateIfExpired() {
+        Instant now = clock.instant();
+        if (now.isBefore(generationStartedAt.plus(window))) {
+            return;
+        }
+        previous = now.isBefore(generationStartedAt.plus(window).plus(window)) ? current : current.emptyCopy();
+        current = current.emptyCopy();
+        generationStartedAt = now;
+    }
+}
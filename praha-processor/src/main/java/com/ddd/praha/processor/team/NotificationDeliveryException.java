@@ -0,0 +1,26 @@
+package com.ddd.praha.processor.team;
+
+import java.util.List;
+
+/**
+ * 送信できなかった通知がある場合の例外
+ * <p>まとめて処理したメッセージのうち、送信できなかった通知の元になったメッセージを保持する。
+ * それ以外のメッセージは送信済み・処理済みのため、呼び出し元は保持するメッセージのみを再処理する。</p>
+ */
+public class NotificationDeliveryException extends IllegalStateException {
+
+    private final transient List<TeamNotificationMessage> failedMessages;
+
+    NotificationDeliveryException(int failures, List<TeamNotificationMessage> failedMessages) {
+        super("通知の送信に失敗しました: " + failures + "件");
+        this.failedMessages = List.copyOf(failedMessages);
+    }
+
+    /**
+     * 送信できなかった通知の元になったメッセージ
+     * @return メッセージのリスト（受け取った順）
+     */
+    public List<TeamNotificationMessage> failedMessages() {
+        return failedMessages;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ddd.praha.processor.team;
+
+import com.ddd.praha.processor.channel.ChannelDelivery;
+import com.ddd.praha.processor.channel.ChannelMessage;
+import com.ddd.praha.processor.channel.ChannelNames;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 送信先・宛先ごとにまとめた送信予定の通知
+ * <p>同じ宛先・件名への複数の通知は、本文を改行で連結して1回で送信する。
+ * インシデントはチーム・種別ごとに1件にまとめて作成する。
+ * 番号を付けて取り込んだ通知は、まとめた後の通知ごとに元の番号を記録し、送信できなかった通知の元を特定できる。</p>
+ */
+class NotificationDigest {
+
+    private final Map<Recipient, Entry> emails = new LinkedHashMap<>();
+    private final Map<Recipient, Entry> urgentAlerts = new LinkedHashMap<>();
+    private final Map<String, Entry> slackMessages = new LinkedHashMap<>();
+    private final Map<Incident, Entry> incidents = new LinkedHashMap<>();
+    private int size;
+
+    void email(String to, String subject, String body) {
+        add(emails, new Recipient(to, subject), List.of(body), Set.of());
+    }
+
+    void urgentAlert(String to, String subject, String body) {
+        add(urgentAlerts, new Recipient(to, subject), List.of(body), Set.of());
+    }
+
+    void slack(String channel, String message) {
+        add(slackMessages, channel, List.of(message), Set.of());
+    }
+
+    void incident(String type, String teamId, String description) {
+        add(incidents, new Incident(type, teamId), List.of(description), Set.of());
+    }
+
+    /**
+     * 別の送信予定の通知を取り込む
+     * @param other 取り込む通知
+     */
+    void addAll(NotificationDigest other) {
+        other.emails.forEach((key, entry) -> add(emails, key, entry.bodies(), entry.sources()));
+        other.urgentAlerts.forEach((key, entry) -> add(urgentAlerts, key, entry.bodies(), entry.sources()));
+        other.slackMessages.forEach((key, entry) -> add(slackMessages, key, entry.bodies(), entry.sources()));
+        other.incidents.forEach((key, entry) -> add(incidents, key, entry.bodies(), entry.sources()));
+    }
+
+    /**
+     * 別の送信予定の通知を、元の番号を付けて取り込む
+     * @param other 取り込む通知
+     * @param source 元の番号
+     */
+    void addAll(NotificationDigest other, int source) {
+        Set<Integer> sources = Set.of(source);
+        other.emails.forEach((key, entry) -> add(emails, key, entry.bodies(), sources));
+        other.urgentAlerts.forEach((key, entry) -> add(urgentAlerts, key, entry.bodies(), sources));
+        other.slackMessages.forEach((key, entry) -> add(slackMessages, key, entry.bodies(), sources));
+        other.incidents.forEach((key, entry) -> add(incidents, key, entry.bodies(), sources));
+    }
+
+    /**
+     * まとめる前の通知の件数
+     * @return 件数
+     */
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 送信先・宛先ごとに1件にまとめた通知に変換する
+     * @return 送信する通知のリスト
+     */
+    List<ChannelDelivery> toDeliveries() {
+        List<ChannelDelivery> deliveries = new ArrayList<>();
+        forEachDelivery((delivery, sources) -> deliveries.add(delivery));
+        return deliveries;
+    }
+
+    /**
+     * まとめた後の通知の元の番号
+     * @param deliveries {@link #toDeliveries()} で変換した通知
+     * @return 指定した通知のいずれかにまとめた通知の、取り込み時に付けた番号
+     */
+    Set<Integer> sourcesOf(Collection<ChannelDelivery> deliveries) {
+        Set<Integer> result = new HashSet<>();
+        forEachDelivery((delivery, sources) -> {
+            if (deliveries.contains(delivery)) {
+                result.addAll(sources);
+            }
+        });
+        return result;
+    }
+
+    private void forEachDelivery(BiConsumer<ChannelDelivery, Set<Integer>> action) {
+        emails.forEach((recipient, entry) -> action.accept(new ChannelDelivery(ChannelNames.EMAIL,
+            new ChannelMessage(recipient.to(), subjectOf(recipient.subject(), entry.bodies()), entry.joined())),
+            entry.sources()));
+        urgentAlerts.forEach((recipient, entry) -> action.accept(new ChannelDelivery(ChannelNames.URGENT_ALERT,
+            new ChannelMessage(recipient.to(), subjectOf(recipient.subject(), entry.bodies()), entry.joined())),
+            entry.sources()));
+        slackMessages.forEach((channel, entry) -> action.accept(new ChannelDelivery(ChannelNames.SLACK,
+            new ChannelMessage(channel, null, entry.joined())), entry.sources()));
+        incidents.forEach((incident, entry) -> action.accept(new ChannelDelivery(ChannelNames.INCIDENT,
+            new ChannelMessage(incident.teamId(), incident.type(), entry.joined())), entry.sources()));
+    }
+
+    private <K> void add(Map<K, Entry> target, K key, List<String> bodies, Set<Integer> sources) {
+        Entry entry = target.computeIfAbsent(key, ignored -> new Entry(new ArrayList<>(), new HashSet<>()));
+        entry.bodies().addAll(bodies);
+        entry.sources().addAll(sources);
+        size += bodies.size();
+    }
+
+    private static String subjectOf(String subject, List<String> bodies) {
+        return bodies.size() > 1 ? subject + "（" + bodies.size() + "件）" : subject;
+    }
+
+    private record Recipient(String to, String subject) {}
+
+    private record Incident(String type, String teamId) {}
+
+    /**
+     * 1件にまとめる通知の本文と、元の番号
+     */
+    private record Entry(List<String> bodies, Set<Integer> sources) {
+
+        String joined() {
+            return String.join("\n", bodies);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ddd.praha.processor.team;
+
+import com.ddd.praha.processor.config.RabbitMQListenerConfig;
+import com.ddd.praha.processor.deadletter.NotificationRetryRouter;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * チーム通知メッセージをまとめて受信するリスナー
+ *
+ * <p>{@code praha.processor.listener.batch-enabled} がtrueの場合に、{@link TeamNotificationListener} の代わりに使用する。
+ * 受信したメッセージをまとめて {@link TeamNotificationProcessorService#processNotifications(List)} に渡し、
+ * 処理できたらバッチ全体をまとめて確認応答する。</p>
+ *
+ * <p>変換できないメッセージは、その1件のみ再キューせずに否定応答する（パーキングロットに移る）。
+ * 送信できなかった通知がある場合は、その元になったメッセージのみを {@link NotificationRetryRouter} で
+ * 遅延キューに送り（再送しない場合は否定応答する）、送信できたメッセージは確認応答する。
+ * それ以外の理由でバッチの処理に失敗した場合は1件ずつ処理し直し、失敗したメッセージのみを遅延キューに送る。</p>
+ */
+@Component
+@ConditionalOnProperty(name = "praha.processor.listener.batch-enabled", havingValue = "true")
+public class TeamNotificationBatchListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamNotificationBatchListener.class);
+    private static final ParameterizedTypeReference<TeamNotificationMessage> MESSAGE_TYPE =
+        new ParameterizedTypeReference<>() {};
+
+    private final TeamNotificationProcessorService processorService;
+    private final SmartMessageConverter messageConverter;
+    private final NotificationRetryRouter retryRouter;
+
+    public TeamNotificationBatchListener(TeamNotificationProcessorService processorService,
+                                         SmartMessageConverter messageConverter,
+                                         NotificationRetryRouter retryRouter) {
+        this.processorService = processorService;
+        this.messageConverter = messageConverter;
+        this.retryRouter = retryRouter;
+    }
+
+    /**
+     * チーム通知キューからまとめて受信したメッセージを処理
+     * @param messages 受信したメッセージ
+     * @param channel 確認応答に使うチャネル
+     * @throws IOException 確認応答に失敗した場合
+     */
+    @RabbitListener(queues = RabbitMQListenerConfig.TEAM_NOTIFICATION_QUEUE,
+        containerFactory = RabbitMQListenerConfig.BATCH_CONTAINER_FACTORY)
+    public void handleTeamNotifications(List<Message> messages, Channel channel) throws IOException {
+        List<Received> received = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                TeamNotificationMessage converted =
+                    (TeamNotificationMessage) messageConverter.fromMessage(message, MESSAGE_TYPE);
+                received.add(new Received(deliveryTag, message, converted));
+            } catch (MessageConversionException e) {
+                logger.error("変換できないメッセージをパーキングロットに移します: deliveryTag={}", deliveryTag, e);
+                channel.basicNack(deliveryTag, false, false);
+            }
+        }
+        if (received.isEmpty()) {
+            return;
+        }
+        logger.info("チーム通知メッセージをまとめて受信しました: {}件", received.size());
+
+        try {
+            processorService.processNotifications(received.stream().map(Received::message).toList());
+            // バッチ内の最後の配送タグまでをまとめて確認応答する（否定応答済みのものは含まれない）
+            channel.basicAck(received.getLast().deliveryTag(), true);
+            logger.info("メッセージの処理が完了しました: {}件", received.size());
+        } catch (NotificationDeliveryException e) {
+            // 送信できたメッセージは処理済みとして記録されているため、送信できなかったメッセージのみ再処理させる
+            logger.warn("送信できなかったメッセージのみ再処理します: {}件/{}件", e.failedMessages().size(), received.size(), e);
+            for (Received item : received) {
+                if (e.failedMessages().contains(item.message())) {
+                    retryOrReject(item, e, channel);
+                } else {
+                    channel.basicAck(item.deliveryTag(), false);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("バッチの処理に失敗したため1件ずつ処理します: {}件", received.size(), e);
+            processIndividually(received, channel);
+        }
+    }
+
+    private void processIndividually(List<Received> received, Channel channel) throws IOException {
+        for (Received item : received) {
+            try {
+                processorService.processNotification(item.message());
+                channel.basicAck(item.deliveryTag(), false);
+            } catch (RuntimeException e) {
+                logger.error("メッセージ処理中にエラーが発生しました: Type={}", item.message().type(), e);
+                retryOrReject(item, e, channel);
+            }
+        }
+    }
+
+    private void retryOrReject(Received item, RuntimeException error, Channel channel) throws IOException {
+        if (retryRouter.scheduleRetry(item.amqpMessage(), error)) {
+            channel.basicAck(item.deliveryTag(), false);
+        } else {
+            channel.basicNack(item.deliveryTag(), false, false);
+        }
+    }
+
+    private record Received(long deliveryTag, Message amqpMessage, TeamNotificationMessage message) {}
+}
@@ -0,0 +1,225 @@
+package com.ddd.praha.processor.team;
+
+import com.ddd.praha.processor.channel.ChannelDelivery;
+import com.ddd.praha.processor.channel.DeliveryResult;
+import com.ddd.praha.processor.channel.NotificationFanout;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一定時間内の通知を宛先ごとにまとめて（ダイジェストにして）送信する
+ *
+ * <p>チームの一括編成では、分割・合流・監視必要の通知が短時間に続けて発生する。
+ * {@code praha.processor.digest.window} の間に受け取った通知を送信先・宛先ごとに1件にまとめ、
+ * 最初の通知からこの時間が経過した時点で送信する。0の場合はまとめずにすぐ送信する。</p>
+ *
+ * <p>まとめている通知が {@code praha.processor.digest.max-pending} 件に達した場合は、
+ * 時間を待たずに受信したスレッドで送信し、メモリの使用量を抑える。
+ * アプリケーションの停止時には、まとめている通知を送信してから停止する。</p>
+ *
+ * <p>まとめない場合（0の場合）は、再送しても送信できなかった通知を呼び出し元に返し、
+ * その元になったメッセージのみを遅延キューに送って再処理させる（同じメッセージの送信に成功した送信先にも再び送信される）。
+ * まとめる場合はメッセージがまとめた時点で処理済み（ACK）となるため、送信できなかった通知は次の送信にまとめて
+ * {@code praha.processor.digest.max-redeliveries} 回まで再送し、それでも送信できない場合は内容をログに記録する。
+ * 停止処理を経ずにプロセスが終了した場合は、まとめている間の通知は失われる。</p>
+ */
+@Component
+public class TeamNotificationCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamNotificationCoalescer.class);
+
+    private final NotificationFanout fanout;
+    private final Duration window;
+    private final int maxPending;
+    private final int maxRedeliveries;
+    private final ScheduledExecutorService scheduler;
+    private NotificationDigest pending = new NotificationDigest();
+    private List<Redelivery> redeliveries = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    @Autowired
+    public TeamNotificationCoalescer(NotificationFanout fanout,
+                                     @Value("${praha.processor.digest.window:0s}") Duration window,
+                                     @Value("${praha.processor.digest.max-pending:1000}") int maxPending,
+                                     @Value("${praha.processor.digest.max-redeliveries:3}") int maxRedeliveries) {
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("まとめる通知の上限は1以上である必要があります: " + maxPending);
+        }
+        if (maxRedeliveries < 0) {
+            throw new IllegalArgumentException("再送の回数は0以上である必要があります: " + maxRedeliveries);
+        }
+        this.fanout = fanout;
+        this.window = window;
+        this.maxPending = maxPending;
+        this.maxRedeliveries = maxRedeliveries;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-digest");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 通知を送信する（まとめる時間が設定されている場合は送信を遅らせてまとめる）
+     * @param digest 送信する通知
+     * @return まとめずに送信し、送信できなかった通知（まとめる場合は常に空）
+     */
+    List<ChannelDelivery> submit(NotificationDigest digest) {
+        if (digest.isEmpty()) {
+            return List.of();
+        }
+        if (window.isZero()) {
+            List<DeliveryResult> failures = send(digest.toDeliveries());
+            failures.forEach(TeamNotificationCoalescer::logFailure);
+            return failures.stream().map(DeliveryResult::delivery).toList();
+        }
+
+        Batch full = null;
+        synchronized (this) {
+            pending.addAll(digest);
+            if (pending.size() >= maxPending) {
+                full = takePending();
+            } else {
+                scheduleFlush();
+            }
+        }
+        if (full != null) {
+            logger.info("まとめている通知が上限に達したため送信します: {}件", full.digest().size());
+            send(full);
+        }
+        return List.of();
+    }
+
+    /**
+     * まとめている通知と、再送を待っている通知をすぐに送信する
+     */
+    public void flush() {
+        Batch batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    /**
+     * まとめている通知の件数
+     * @return まとめる前の通知の件数
+     */
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 送信できずに再送を待っている通知の件数
+     * @return まとめた後の通知の件数
+     */
+    public synchronized int redeliveryCount() {
+        return redeliveries.size();
+    }
+
+    /**
+     * まとめている通知を送信してから停止する
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    private Batch takePending() {
+        Batch batch = new Batch(pending, redeliveries);
+        pending = new NotificationDigest();
+        redeliveries = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void scheduleFlush() {
+        if (scheduledFlush == null) {
+            scheduledFlush = scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * まとめた通知を送信し、送信できなかった通知を次の送信で再送する
+     * <p>再送の回数を使い切った通知と、停止後に送信できなかった通知は、内容をログに記録する。</p>
+     */
+    private void send(Batch batch) {
+        List<ChannelDelivery> deliveries = new ArrayList<>();
+        batch.redeliveries().forEach(redelivery -> deliveries.add(redelivery.delivery()));
+        deliveries.addAll(batch.digest().toDeliveries());
+
+        // 結果は指定した順で返るため、先頭の再送分からこれまでの再送の回数を引き継ぐ
+        List<DeliveryResult> results = fanout.dispatch(deliveries).join();
+        synchronized (this) {
+            for (int i = 0; i < results.size(); i++) {
+                DeliveryResult result = results.get(i);
+                if (result.succeeded()) {
+                    continue;
+                }
+                int attempt = (i < batch.redeliveries().size() ? batch.redeliveries().get(i).attempts() : 0) + 1;
+                if (attempt > maxRedeliveries || scheduler.isShutdown()) {
+                    logFailure(result);
+                    continue;
+                }
+                logger.warn("送信できなかった通知を次の送信で再送します: 送信先={}, 宛先={}, 再送回数={}",
+                    result.delivery().channel(), result.delivery().message().destination(), attempt, result.error());
+                redeliveries.add(new Redelivery(result.delivery(), attempt));
+            }
+            if (!redeliveries.isEmpty()) {
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * 各送信先に並行して送信し、全ての送信の完了を待つ
+     * @return 再送しても送信できなかった通知の結果
+     */
+    private List<DeliveryResult> send(List<ChannelDelivery> deliveries) {
+        return fanout.dispatch(deliveries).join().stream()
+            .filter(result -> !result.succeeded())
+            .toList();
+    }
+
+    private static void logFailure(DeliveryResult result) {
+        logger.error("通知の送信に失敗しました: 送信先={}, 宛先={}",
+            result.delivery().channel(), result.delivery().message().destination(), result.error());
+        // フォールバックとしてログに記録
+        logger.error("フォールバック - 通知メッセージ: {}", result.delivery().message().body());
+    }
+
+    /**
+     * 1回の送信にまとめる、まとめている通知と再送を待っている通知
+     */
+    private record Batch(NotificationDigest digest, List<Redelivery> redeliveries) {
+
+        boolean isEmpty() {
+            return digest.isEmpty() && redeliveries.isEmpty();
+        }
+    }
+
+    /**
+     * 再送を待っている通知
+     * @param delivery 送信先と通知
+     * @param attempts これまでの再送の回数（初回の失敗後は1）
+     */
+    private record Redelivery(ChannelDelivery delivery, int attempts) {}
+}
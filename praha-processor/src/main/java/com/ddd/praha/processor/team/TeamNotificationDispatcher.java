@@ -0,0 +1,98 @@
+package com.ddd.praha.processor.team;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 通知の処理を仮想スレッドで実行するディスパッチャー
+ *
+ * <p>通知ごとに仮想スレッドで処理するため、送信先のI/O待ちの間もプラットフォームスレッドを占有しない。
+ * 同じチームの通知は受信順に1件ずつ処理し、異なるチームの通知は並行して処理する。
+ * 同時に処理する通知の数はセマフォで {@code max-in-flight} 件までに制限する。</p>
+ */
+@Component
+@ConditionalOnProperty(name = "praha.processor.listener.virtual-threads.enabled", havingValue = "true")
+public class TeamNotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamNotificationDispatcher.class);
+
+    /**
+     * チームIDがない通知をまとめて順序付けるためのキー
+     */
+    private static final String NO_TEAM = "";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public TeamNotificationDispatcher(
+            @Value("${praha.processor.listener.virtual-threads.max-in-flight:1000}") int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("同時に処理する通知の上限は1以上である必要があります: " + maxInFlight);
+        }
+        this.permits = new Semaphore(maxInFlight, true);
+    }
+
+    /**
+     * 通知の処理を仮想スレッドで実行する
+     * <p>同じチームの先行する処理が完了（失敗を含む）してから実行する。</p>
+     * @param teamId チームID（nullの場合はチームIDのない通知同士で順序付ける）
+     * @param task 通知の処理
+     * @return 処理の完了
+     */
+    public CompletableFuture<Void> dispatch(String teamId, Runnable task) {
+        String key = teamId != null ? teamId : NO_TEAM;
+        CompletableFuture<Void> next = tails.compute(key, (k, tail) ->
+            (tail != null ? tail.exceptionally(e -> null) : CompletableFuture.<Void>completedFuture(null))
+                .thenRunAsync(() -> runWithPermit(task), executor));
+        // 後続がなければ完了時にチームのエントリを削除し、チーム数に比例してメモリが増えないようにする
+        next.whenComplete((result, e) -> tails.remove(key, next));
+        return next;
+    }
+
+    /**
+     * 処理中または処理待ちの通知があるチームの数
+     * @return チームの数
+     */
+    public int activeTeams() {
+        return tails.size();
+    }
+
+    private void runWithPermit(Runnable task) {
+        permits.acquireUninterruptibly();
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 処理中の通知の完了を待って停止する
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("処理中の通知が完了しないまま停止します: {}チーム", tails.size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
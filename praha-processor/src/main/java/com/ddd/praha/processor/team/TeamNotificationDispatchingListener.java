@@ -0,0 +1,74 @@
+package com.ddd.praha.processor.team;
+
+import com.ddd.praha.processor.config.RabbitMQListenerConfig;
+import com.ddd.praha.processor.deadletter.NotificationRetryRouter;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * チーム通知を仮想スレッドに振り分けて処理するリスナー
+ *
+ * <p>{@code praha.processor.listener.virtual-threads.enabled} がtrueの場合に、{@link TeamNotificationListener} の代わりに使用する
+ * （{@code batch-enabled} もtrueの場合は {@link TeamNotificationBatchListener} を優先する）。
+ * 受信したメッセージは {@link TeamNotificationDispatcher} に渡してすぐに次のメッセージを受信し、
+ * 処理の完了時に確認応答する。失敗したメッセージは {@link NotificationRetryRouter} で遅延キューに送ってから確認応答し、
+ * 再送しないメッセージは再キューせずに否定応答してパーキングロットに移す。</p>
+ */
+@Component
+@ConditionalOnExpression("${praha.processor.listener.virtual-threads.enabled:false} && !${praha.processor.listener.batch-enabled:false}")
+public class TeamNotificationDispatchingListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamNotificationDispatchingListener.class);
+    private final TeamNotificationProcessorService processorService;
+    private final TeamNotificationDispatcher dispatcher;
+    private final NotificationRetryRouter retryRouter;
+
+    public TeamNotificationDispatchingListener(TeamNotificationProcessorService processorService,
+                                               TeamNotificationDispatcher dispatcher,
+                                               NotificationRetryRouter retryRouter) {
+        this.processorService = processorService;
+        this.dispatcher = dispatcher;
+        this.retryRouter = retryRouter;
+    }
+
+    /**
+     * チーム通知キューからメッセージを受信し、仮想スレッドでの処理を開始する
+     * @param message 受信した通知メッセージ
+     * @param amqpMessage 受信したメッセージ（再送に使う）
+     * @param channel 確認応答に使うチャネル
+     * @param deliveryTag 配送タグ
+     */
+    @RabbitListener(queues = RabbitMQListenerConfig.TEAM_NOTIFICATION_QUEUE,
+        containerFactory = RabbitMQListenerConfig.VIRTUAL_THREAD_CONTAINER_FACTORY)
+    public void handleTeamNotification(TeamNotificationMessage message, Message amqpMessage, Channel channel,
+                                       @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
+        dispatcher.dispatch(message.teamId(), () -> processorService.processNotification(message))
+            .whenComplete((result, e) -> {
+                try {
+                    if (e == null) {
+                        channel.basicAck(deliveryTag, false);
+                    } else {
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        logger.error("メッセージ処理中にエラーが発生しました: Type={}", message.type(), cause);
+                        if (retryRouter.scheduleRetry(amqpMessage, cause)) {
+                            channel.basicAck(deliveryTag, false);
+                        } else {
+                            channel.basicNack(deliveryTag, false, false);
+                        }
+                    }
+                } catch (IOException ioException) {
+                    // 確認応答できなかったメッセージはチャネルの切断後に再配送される
+                    logger.error("確認応答に失敗しました: deliveryTag={}", deliveryTag, ioException);
+                }
+            });
+    }
+}
@@ -1,30 +1,45 @@
 package com.ddd.praha.processor.team;
 
 import com.ddd.praha.processor.config.RabbitMQListenerConfig;
+import com.ddd.praha.processor.deadletter.NotificationRetryRouter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
 /**
  * チーム通知メッセージリスナー
+ * <p>まとめて受信する場合（{@code praha.processor.listener.batch-enabled=true}）は
+ * {@link TeamNotificationBatchListener} を、仮想スレッドで処理する場合
+ * （{@code praha.processor.listener.virtual-threads.enabled=true}）は
+ * {@link TeamNotificationDispatchingListener} を使用する。</p>
  */
 @Component
+@ConditionalOnExpression("!${praha.processor.listener.batch-enabled:false} && !${praha.processor.listener.virtual-threads.enabled:false}")
 public class TeamNotificationListener {
     
     private static final Logger logger = LoggerFactory.getLogger(TeamNotificationListener.class);
     private final TeamNotificationProcessorService processorService;
+    private final NotificationRetryRouter retryRouter;
     
-    public TeamNotificationListener(TeamNotificationProcessorService processorService) {
+    public TeamNotificationListener(TeamNotificationProcessorService processorService,
+                                    NotificationRetryRouter retryRouter) {
         this.processorService = processorService;
+        this.retryRouter = retryRouter;
     }
     
     /**
      * チーム通知キューからメッセージを受信して処理
+     * <p>処理に失敗した場合は遅延キューに送って時間をおいて再処理する。
+     * 再送しないメッセージは再キューせずに拒否し、パーキングロットに移す。</p>
      * @param message 受信した通知メッセージ
+     * @param amqpMessage 受信したメッセージ（再送に使う）
      */
     @RabbitListener(queues = RabbitMQListenerConfig.TEAM_NOTIFICATION_QUEUE)
-    public void handleTeamNotification(TeamNotificationMessage message) {
+    public void handleTeamNotification(TeamNotificationMessage message, Message amqpMessage) {
         logger.info("チーム通知メッセージを受信しました: Type={}, Timestamp={}", 
             message.type(), message.timestamp());
         
@@ -33,8 +48,9 @@ public class TeamNotificationListener {
             logger.info("メッセージの処理が完了しました: Type={}", message.type());
         } catch (Exception e) {
             logger.error("メッセージ処理中にエラーが発生しました: Type={}", message.type(), e);
-            // エラーハンドリング: 必要に応じてDLQへの転送やリトライ処理を実装
-            throw e; // RabbitMQに処理失敗を通知
+            if (!retryRouter.scheduleRetry(amqpMessage, e)) {
+                throw new AmqpRejectAndDontRequeueException("メッセージを処理できませんでした: Type=" + message.type(), e);
+            }
         }
     }
-}
\ No newline at end of file
+}
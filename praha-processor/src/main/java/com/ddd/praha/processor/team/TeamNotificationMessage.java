@@ -2,8 +2,10 @@ package com.ddd.praha.processor.team;
 
 /**
  * キューから受信する通知メッセージの構造化レコード
+ * <p>{@code eventId} は送信側で通知ごとに採番され、再送されても変わらない（古い送信側からの通知ではnull）。</p>
  */
 public record TeamNotificationMessage(
+    String eventId,
     String type,
     String message,
     String teamId,
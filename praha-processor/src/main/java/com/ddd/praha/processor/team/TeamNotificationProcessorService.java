@@ -1,9 +1,16 @@
 package com.ddd.praha.processor.team;
 
+import com.ddd.praha.processor.channel.ChannelDelivery;
+import com.ddd.praha.processor.dedup.EventIdDeduplicator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 通知メッセージ処理サービス
  */
@@ -11,45 +18,112 @@ import org.springframework.stereotype.Service;
 public class TeamNotificationProcessorService {
     
     private static final Logger logger = LoggerFactory.getLogger(TeamNotificationProcessorService.class);
+    private final TeamNotificationCoalescer coalescer;
+    private final EventIdDeduplicator deduplicator;
+
+    public TeamNotificationProcessorService(TeamNotificationCoalescer coalescer, EventIdDeduplicator deduplicator) {
+        this.coalescer = coalescer;
+        this.deduplicator = deduplicator;
+    }
     
     /**
      * 通知メッセージを処理
      * @param message 通知メッセージ
      */
     public void processNotification(TeamNotificationMessage message) {
-        if (message.message() == null || message.message().isBlank()) {
-            throw new IllegalArgumentException("通知メッセージが空になっています");
+        processNotifications(List.of(message));
+    }
+
+    /**
+     * 複数の通知メッセージをまとめて処理
+     * <p>メール・緊急アラート・Slack通知は宛先（と件名）ごとに1回にまとめ、各送信先に並行して送信する。
+     * 送信は {@link TeamNotificationCoalescer} を経由し、設定により一定時間の通知をさらにまとめる。
+     * 1件でも不正なメッセージがある場合は、何も送信せずに例外とする。
+     * 処理済みのイベントIDの通知（再配信）は、送信の前に読み飛ばす。
+     * まとめずに送信して送信できなかった通知がある場合は、その元になったメッセージのみを処理済みとせずに例外とし、再処理させる。
+     * 全ての通知を送信できたメッセージは、例外とする場合も処理済みとして記録する。</p>
+     * @param messages 通知メッセージのリスト
+     * @throws NotificationDeliveryException 送信できなかった通知がある場合
+     */
+    public void processNotifications(List<TeamNotificationMessage> messages) {
+        messages.forEach(TeamNotificationProcessorService::validate);
+
+        List<TeamNotificationMessage> unprocessed = removeDuplicates(messages);
+        if (unprocessed.isEmpty()) {
+            return;
         }
+        NotificationDigest pending = new NotificationDigest();
+        for (int i = 0; i < unprocessed.size(); i++) {
+            TeamNotificationMessage message = unprocessed.get(i);
+            logger.info("通知メッセージを受信しました: Type={}, TeamId={}, MemberId={}", 
+                message.type(), message.teamId(), message.memberId());
 
-        logger.info("通知メッセージを受信しました: Type={}, TeamId={}, MemberId={}", 
-            message.type(), message.teamId(), message.memberId());
-        
-        switch (message.type()) {
-            case "TEAM_SPLIT":
-                processTeamSplit(message);
-                break;
-            case "TEAM_MERGED":
-                processTeamMerged(message);
-                break;
-            case "MONITORING_REQUIRED":
-                processMonitoringRequired(message);
-                break;
-            case "MERGE_FAILURE":
-                processMergeFailure(message);
-                break;
-            default:
-                logger.warn("未知の通知タイプ: {}", message.type());
+            // 送信できなかった通知の元を特定できるよう、メッセージの番号を付けて取り込む
+            NotificationDigest notifications = new NotificationDigest();
+            switch (message.type()) {
+                case "TEAM_SPLIT":
+                    processTeamSplit(message, notifications);
+                    break;
+                case "TEAM_MERGED":
+                    processTeamMerged(message, notifications);
+                    break;
+                case "MONITORING_REQUIRED":
+                    processMonitoringRequired(message, notifications);
+                    break;
+                case "MERGE_FAILURE":
+                    processMergeFailure(message, notifications);
+                    break;
+                default:
+                    logger.warn("未知の通知タイプ: {}", message.type());
+            }
+            pending.addAll(notifications, i);
+        }
+        List<ChannelDelivery> failures = coalescer.submit(pending);
+        Set<Integer> failedSources = pending.sourcesOf(failures);
+        List<TeamNotificationMessage> failedMessages = new ArrayList<>();
+        for (int i = 0; i < unprocessed.size(); i++) {
+            if (failedSources.contains(i)) {
+                failedMessages.add(unprocessed.get(i));
+            } else {
+                deduplicator.markProcessed(unprocessed.get(i).eventId());
+            }
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new NotificationDeliveryException(failures.size(), failedMessages);
+        }
+    }
+
+    /**
+     * 処理済みのイベントIDの通知と、同じリスト内で重複したイベントIDの通知を取り除く
+     */
+    private List<TeamNotificationMessage> removeDuplicates(List<TeamNotificationMessage> messages) {
+        Set<String> seen = new HashSet<>();
+        List<TeamNotificationMessage> unprocessed = new ArrayList<>();
+        for (TeamNotificationMessage message : messages) {
+            String eventId = message.eventId();
+            if (eventId != null && (!seen.add(eventId) || deduplicator.isDuplicate(eventId))) {
+                logger.info("処理済みの通知のため読み飛ばします: EventId={}, Type={}", eventId, message.type());
+                continue;
+            }
+            unprocessed.add(message);
+        }
+        return unprocessed;
+    }
+
+    private static void validate(TeamNotificationMessage message) {
+        if (message.message() == null || message.message().isBlank()) {
+            throw new IllegalArgumentException("通知メッセージが空になっています");
         }
     }
     
     /**
      * チーム分割通知を処理
      */
-    private void processTeamSplit(TeamNotificationMessage message) {
+    private void processTeamSplit(TeamNotificationMessage message, NotificationDigest pending) {
         logger.info("チーム分割を処理中: {}", message.message());
         // TODO: チーム分割に関する処理を実装
         // 例: 関連するチームメンバーにメール通知
-        sendEmailNotification("team-split@example.com", 
+        pending.email("team-split@example.com", 
             "チーム分割通知", 
             message.message());
     }
@@ -57,11 +131,11 @@ public class TeamNotificationProcessorService {
     /**
      * チーム合流通知を処理
      */
-    private void processTeamMerged(TeamNotificationMessage message) {
+    private void processTeamMerged(TeamNotificationMessage message, NotificationDigest pending) {
         logger.info("チーム合流を処理中: {}", message.message());
         // TODO: チーム合流に関する処理を実装
         // 例: 新しいチームメンバーへのウェルカムメール
-        sendEmailNotification("team-merged@example.com", 
+        pending.email("team-merged@example.com", 
             "チーム合流通知", 
             message.message());
     }
@@ -69,64 +143,32 @@ public class TeamNotificationProcessorService {
     /**
      * 監視必要通知を処理
      */
-    private void processMonitoringRequired(TeamNotificationMessage message) {
+    private void processMonitoringRequired(TeamNotificationMessage message, NotificationDigest pending) {
         logger.warn("監視必要通知を処理中: {}", message.message());
         // TODO: 管理者への緊急通知処理を実装
         // 例: 管理者へのアラートメール、Slackへの通知
-        sendUrgentAlert("admin@example.com", 
+        pending.urgentAlert("admin@example.com", 
             "【緊急】チーム監視必要", 
             message.message());
         
         // Slack通知の例
-        sendSlackNotification("#team-alerts", 
+        pending.slack("#team-alerts", 
             String.format("⚠️ チーム %s が2名以下になりました", message.teamName()));
     }
     
     /**
      * 合流失敗通知を処理
      */
-    private void processMergeFailure(TeamNotificationMessage message) {
+    private void processMergeFailure(TeamNotificationMessage message, NotificationDigest pending) {
         logger.error("合流失敗通知を処理中: {}", message.message());
         // TODO: 管理者への緊急対応通知を実装
-        sendUrgentAlert("admin@example.com", 
+        pending.urgentAlert("admin@example.com", 
             "【エラー】チーム合流失敗", 
             message.message());
         
         // インシデント管理システムへの登録
-        createIncident("TEAM_MERGE_FAILURE", 
+        pending.incident("TEAM_MERGE_FAILURE", 
             message.teamId(), 
             message.message());
     }
-    
-    /**
-     * メール通知を送信（スタブ実装）
-     */
-    private void sendEmailNotification(String to, String subject, String body) {
-        logger.info("メール送信: 宛先={}, 件名={}", to, subject);
-        // TODO: 実際のメール送信実装
-    }
-    
-    /**
-     * 緊急アラートを送信（スタブ実装）
-     */
-    private void sendUrgentAlert(String to, String subject, String body) {
-        logger.error("緊急アラート送信: 宛先={}, 件名={}", to, subject);
-        // TODO: 実際の緊急アラート実装
-    }
-    
-    /**
-     * Slack通知を送信（スタブ実装）
-     */
-    private void sendSlackNotification(String channel, String message) {
-        logger.info("Slack通知送信: チャンネル={}, メッセージ={}", channel, message);
-        // TODO: 実際のSlack通知実装
-    }
-    
-    /**
-     * インシデントを作成（スタブ実装）
-     */
-    private void createIncident(String type, String teamId, String description) {
-        logger.error("インシデント作成: タイプ={}, チームID={}", type, teamId);
-        // TODO: 実際のインシデント管理システムとの連携
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package com.ddd.praha.processor.channel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker のテスト")
+class CircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(30), clock);
+
+    @Test
+    @DisplayName("連続した失敗がしきい値に達すると開き、呼び出しを拒否する")
+    void testOpensAfterConsecutiveFailures() {
+        // When
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+        circuitBreaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("成功すると連続失敗の回数がリセットされる")
+    void testSuccessResetsFailures() {
+        // When
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("開いている時間が過ぎると1回だけ試行を許可し、成功すれば閉じる")
+    void testHalfOpenAllowsSingleTrial() {
+        // Given
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+
+        // When & Then
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("半開での試行が失敗すると再び開く")
+    void testHalfOpenFailureReopens() {
+        // Given
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(circuitBreaker.tryAcquire());
+
+        // When
+        circuitBreaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
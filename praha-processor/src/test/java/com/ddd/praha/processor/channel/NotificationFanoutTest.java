@@ -0,0 +1,183 @@
+package com.ddd.praha.processor.channel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NotificationFanout のテスト")
+class NotificationFanoutTest {
+
+    private static final ChannelMessage MESSAGE = new ChannelMessage("admin@example.com", "件名", "本文");
+
+    private NotificationFanout fanout;
+
+    @AfterEach
+    void tearDown() {
+        fanout.shutdown();
+    }
+
+    @Test
+    @DisplayName("複数の送信先に送信し、結果を指定した順に返す")
+    void testDispatchToMultipleChannels() {
+        // Given
+        InMemorySmtpChannel email = new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 0);
+        InMemorySmtpChannel urgent = new InMemorySmtpChannel(ChannelNames.URGENT_ALERT, Duration.ZERO, 0);
+        fanout = new NotificationFanout(List.of(email, urgent), settings(1, 3), Clock.systemUTC());
+
+        // When
+        List<DeliveryResult> results = fanout.dispatch(List.of(
+            new ChannelDelivery(ChannelNames.EMAIL, MESSAGE),
+            new ChannelDelivery(ChannelNames.URGENT_ALERT, MESSAGE)
+        )).join();
+
+        // Then
+        assertEquals(List.of(ChannelNames.EMAIL, ChannelNames.URGENT_ALERT),
+            results.stream().map(result -> result.delivery().channel()).toList());
+        assertTrue(results.stream().allMatch(DeliveryResult::succeeded));
+        assertEquals(List.of(MESSAGE), email.sent());
+        assertEquals(List.of(MESSAGE), urgent.sent());
+    }
+
+    @Test
+    @DisplayName("応答しない送信先はタイムアウトし、他の送信先の送信を妨げない")
+    void testSlowChannelDoesNotBlockOthers() {
+        // Given
+        CountDownLatch never = new CountDownLatch(1);
+        NotificationChannel stalled = channel("stalled", message -> never.await());
+        InMemorySmtpChannel email = new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 0);
+        fanout = new NotificationFanout(List.of(stalled, email), settings(1, 1), Clock.systemUTC());
+
+        // When
+        List<DeliveryResult> results = fanout.dispatch(List.of(
+            new ChannelDelivery("stalled", MESSAGE),
+            new ChannelDelivery(ChannelNames.EMAIL, MESSAGE)
+        )).orTimeout(5, TimeUnit.SECONDS).join();
+
+        // Then
+        assertInstanceOf(TimeoutException.class, results.get(0).error());
+        assertTrue(results.get(1).succeeded());
+        assertEquals(List.of(MESSAGE), email.sent());
+    }
+
+    @Test
+    @DisplayName("一時的な失敗は再送して成功する")
+    void testRetrySucceeds() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        NotificationChannel flaky = channel("flaky", message -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("一時的なエラー");
+            }
+        });
+        fanout = new NotificationFanout(List.of(flaky), settings(5, 3), Clock.systemUTC());
+
+        // When
+        List<DeliveryResult> results = fanout.dispatch(List.of(new ChannelDelivery("flaky", MESSAGE))).join();
+
+        // Then
+        assertTrue(results.getFirst().succeeded());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("連続して失敗するとサーキットブレーカーが開き、送信先を呼び出さない")
+    void testCircuitOpensAfterFailures() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        NotificationChannel broken = channel("broken", message -> {
+            attempts.incrementAndGet();
+            throw new IOException("送信エラー");
+        });
+        fanout = new NotificationFanout(List.of(broken), settings(2, 1), Clock.systemUTC());
+        ChannelDelivery delivery = new ChannelDelivery("broken", MESSAGE);
+        fanout.dispatch(List.of(delivery)).join();
+        fanout.dispatch(List.of(delivery)).join();
+
+        // When
+        DeliveryResult result = fanout.dispatch(List.of(delivery)).join().getFirst();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, fanout.circuitState("broken").orElseThrow());
+        assertInstanceOf(IllegalStateException.class, result.error());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("未登録の送信先への送信は失敗として返す")
+    void testUnknownChannel() {
+        // Given
+        fanout = new NotificationFanout(List.of(), settings(5, 1), Clock.systemUTC());
+
+        // When
+        DeliveryResult result = fanout.dispatch(List.of(new ChannelDelivery("unknown", MESSAGE))).join().getFirst();
+
+        // Then
+        assertInstanceOf(IllegalArgumentException.class, result.error());
+        assertTrue(fanout.circuitState("unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("送信先の名前が重複している場合は例外とする")
+    void testDuplicateChannelName() {
+        // Given
+        List<NotificationChannel> channels = List.of(
+            new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 0),
+            new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 0)
+        );
+
+        // When & Then
+        fanout = new NotificationFanout(List.of(), settings(5, 1), Clock.systemUTC());
+        assertThrows(IllegalStateException.class, () -> new NotificationFanout(channels, settings(5, 1), Clock.systemUTC()));
+    }
+
+    @Test
+    @DisplayName("メモリに記録する代替実装は直近の上限件数のみ記録する")
+    void testInMemoryChannelRetainsLatest() throws Exception {
+        // Given
+        InMemorySmtpChannel email = new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 0, 2);
+        fanout = new NotificationFanout(List.of(email), settings(5, 1), Clock.systemUTC());
+
+        // When
+        for (int i = 1; i <= 3; i++) {
+            email.send(new ChannelMessage("admin@example.com", "件名", i + "件目"));
+        }
+
+        // Then
+        assertEquals(List.of("2件目", "3件目"), email.sent().stream().map(ChannelMessage::body).toList());
+    }
+
+    private static BulkheadSettings settings(int failureThreshold, int maxAttempts) {
+        return new BulkheadSettings(1, 10, Duration.ofMillis(200), maxAttempts, Duration.ofMillis(10),
+            1.0, 10, failureThreshold, Duration.ofMinutes(1));
+    }
+
+    private static NotificationChannel channel(String name, Sender sender) {
+        return new NotificationChannel() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void send(ChannelMessage message) throws Exception {
+                sender.send(message);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Sender {
+        void send(ChannelMessage message) throws Exception;
+    }
+}
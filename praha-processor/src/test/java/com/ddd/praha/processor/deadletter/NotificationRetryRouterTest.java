@@ -0,0 +1,108 @@
+package com.ddd.praha.processor.deadletter;
+
+import com.ddd.praha.messaging.NotificationTopology;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationRetryRouter のテスト")
+class NotificationRetryRouterTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private NotificationRetryRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new NotificationRetryRouter(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("初回の失敗は最初の遅延キューに再送回数を付けて送る")
+    void testFirstFailureGoesToFirstTier() {
+        // Given
+        Message message = message(null);
+
+        // When
+        boolean scheduled = router.scheduleRetry(message, new IllegalStateException("送信先に接続できません"));
+
+        // Then
+        assertTrue(scheduled);
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(""), eq("team.notification.queue.retry.1s"), captor.capture());
+        assertEquals(1, NotificationRetryRouter.retryCountOf(captor.getValue()));
+        assertArrayEquals(message.getBody(), captor.getValue().getBody());
+    }
+
+    @Test
+    @DisplayName("再送回数に応じて次の遅延キューに送る")
+    void testEscalatesToNextTier() {
+        // When
+        boolean scheduled = router.scheduleRetry(message(2), new IllegalStateException("送信先に接続できません"));
+
+        // Then
+        assertTrue(scheduled);
+        verify(rabbitTemplate).send(eq(""), eq("team.notification.queue.retry.60s"), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("再送回数を使い切ったメッセージは再送しない")
+    void testExhaustedRetries() {
+        // When
+        boolean scheduled = router.scheduleRetry(
+            message(NotificationTopology.maxRetries()), new IllegalStateException("送信先に接続できません"));
+
+        // Then
+        assertFalse(scheduled);
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("不正なメッセージや変換できないメッセージは再送しない")
+    void testNonRetryableErrors() {
+        // When & Then
+        assertFalse(router.scheduleRetry(message(null), new IllegalArgumentException("通知メッセージが空になっています")));
+        assertFalse(router.scheduleRetry(message(null), new MessageConversionException("変換できません")));
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("遅延キューに送信できない場合は再送しない")
+    void testPublishFailure() {
+        // Given
+        doThrow(new AmqpConnectException(new ConnectException("接続できません")))
+            .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+
+        // When
+        boolean scheduled = router.scheduleRetry(message(null), new IllegalStateException("送信先に接続できません"));
+
+        // Then
+        assertFalse(scheduled);
+    }
+
+    private static Message message(Integer retryCount) {
+        MessageProperties properties = new MessageProperties();
+        if (retryCount != null) {
+            properties.setHeader(NotificationTopology.RETRY_COUNT_HEADER, retryCount);
+        }
+        return new Message("{\"type\":\"TEAM_SPLIT\"}".getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,111 @@
+package com.ddd.praha.processor.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventIdDeduplicator のテスト")
+class EventIdDeduplicatorTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("処理済みとして記録したイベントIDは重複と判定する")
+    void testDetectsProcessedEvent() {
+        // Given
+        EventIdDeduplicator deduplicator = new EventIdDeduplicator(10, Duration.ofHours(1), null, Duration.ofMinutes(1), clock);
+
+        // When
+        deduplicator.markProcessed("event-1");
+
+        // Then
+        assertTrue(deduplicator.isDuplicate("event-1"));
+        assertFalse(deduplicator.isDuplicate("event-2"));
+        assertFalse(deduplicator.isDuplicate(null));
+    }
+
+    @Test
+    @DisplayName("件数の上限を超えると古いイベントIDから忘れる")
+    void testEvictsOldestWhenFull() {
+        // Given
+        EventIdDeduplicator deduplicator = new EventIdDeduplicator(2, Duration.ofHours(1), null, Duration.ofMinutes(1), clock);
+
+        // When
+        deduplicator.markProcessed("event-1");
+        deduplicator.markProcessed("event-2");
+        deduplicator.markProcessed("event-3");
+
+        // Then
+        assertEquals(2, deduplicator.size());
+        assertFalse(deduplicator.isDuplicate("event-1"));
+        assertTrue(deduplicator.isDuplicate("event-3"));
+    }
+
+    @Test
+    @DisplayName("期間を過ぎたイベントIDは忘れる")
+    void testExpiresAfterWindow() {
+        // Given
+        EventIdDeduplicator deduplicator = new EventIdDeduplicator(10, Duration.ofHours(1), null, Duration.ofMinutes(1), clock);
+        deduplicator.markProcessed("event-1");
+
+        // When
+        clock.advance(Duration.ofMinutes(61));
+
+        // Then
+        assertFalse(deduplicator.isDuplicate("event-1"));
+        assertEquals(0, deduplicator.size());
+    }
+
+    @Test
+    @DisplayName("ブルームフィルターを使う場合は再起動後も重複と判定する")
+    void testBloomFilterSurvivesRestart(@TempDir Path directory) {
+        // Given
+        Path path = directory.resolve("dedup.bloom");
+        EventIdDeduplicator before = new EventIdDeduplicator(10, Duration.ofHours(1),
+            new PersistentBloomFilter(path, Duration.ofHours(1), 1000, 0.0001, clock), Duration.ofMinutes(1), clock);
+        before.markProcessed("event-1");
+
+        // When
+        before.shutdown();
+        EventIdDeduplicator after = new EventIdDeduplicator(10, Duration.ofHours(1),
+            new PersistentBloomFilter(path, Duration.ofHours(1), 1000, 0.0001, clock), Duration.ofMinutes(1), clock);
+
+        // Then
+        assertEquals(0, after.size());
+        assertTrue(after.isDuplicate("event-1"));
+        assertFalse(after.isDuplicate("event-2"));
+        after.shutdown();
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ddd.praha.processor.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PersistentBloomFilter のテスト")
+class PersistentBloomFilterTest {
+
+    @TempDir
+    private Path directory;
+
+    private final EventIdDeduplicatorTest.MutableClock clock = new EventIdDeduplicatorTest.MutableClock();
+
+    @Test
+    @DisplayName("追加した値は1つ前の世代の間まで含まれると判定する")
+    void testKeepsValuesForOneMoreGeneration() {
+        // Given
+        PersistentBloomFilter filter = new PersistentBloomFilter(
+            directory.resolve("dedup.bloom"), Duration.ofHours(1), 1000, 0.0001, clock);
+        filter.put("event-1");
+
+        // When & Then
+        clock.advance(Duration.ofMinutes(90));
+        assertTrue(filter.mightContain("event-1"));
+        clock.advance(Duration.ofMinutes(60));
+        assertFalse(filter.mightContain("event-1"));
+    }
+
+    @Test
+    @DisplayName("想定件数まで追加しても偽陽性率はおおむね設定値に収まる")
+    void testFalsePositiveRate() {
+        // Given
+        PersistentBloomFilter filter = new PersistentBloomFilter(
+            directory.resolve("dedup.bloom"), Duration.ofHours(1), 10_000, 0.01, clock);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("event-" + i);
+        }
+
+        // When
+        long falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (filter.mightContain("event-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(filter.mightContain("event-0"));
+        assertTrue(falsePositives < 200, "偽陽性: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("形式の異なるファイルは読み込まずに空の状態から始める")
+    void testIgnoresInvalidFile() throws Exception {
+        // Given
+        Path path = directory.resolve("dedup.bloom");
+        Files.writeString(path, "invalid");
+
+        // When
+        PersistentBloomFilter filter = new PersistentBloomFilter(path, Duration.ofHours(1), 1000, 0.0001, clock);
+
+        // Then
+        assertFalse(filter.mightContain("event-1"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ddd.praha.processor.integration;
+
+import com.ddd.praha.processor.TestcontainersConfiguration;
+import com.ddd.praha.processor.channel.ChannelNames;
+import com.ddd.praha.processor.channel.LoggingNotificationChannel;
+import com.ddd.praha.processor.channel.NotificationChannel;
+import com.ddd.praha.processor.team.TeamNotificationMessage;
+import com.ddd.praha.processor.team.TeamNotificationProcessorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 既定のプロファイル（代替実装を有効にしない）での送信先のテスト
+ */
+@SpringBootTest(properties = {
+    "spring.rabbitmq.listener.simple.auto-startup=false",
+    "server.port=0"
+})
+@Import(TestcontainersConfiguration.class)
+@DisplayName("既定の送信先の統合テスト")
+class DefaultChannelIntegrationTest {
+
+    @Autowired
+    private List<NotificationChannel> channels;
+
+    @Autowired
+    private TeamNotificationProcessorService processorService;
+
+    @Test
+    @DisplayName("送信先ごとにログ出力のみの実装が登録される")
+    void registersLoggingChannelForEachName() {
+        // Then
+        assertEquals(
+            Set.of(ChannelNames.EMAIL, ChannelNames.URGENT_ALERT, ChannelNames.SLACK, ChannelNames.INCIDENT),
+            channels.stream().map(NotificationChannel::name).collect(Collectors.toSet()));
+        assertTrue(channels.stream().allMatch(LoggingNotificationChannel.class::isInstance));
+    }
+
+    @Test
+    @DisplayName("代替実装を有効にしなくても通知の処理が成功する")
+    void processesNotificationWithoutInMemoryChannels() {
+        // Given
+        String[] messageTypes = {"TEAM_SPLIT", "TEAM_MERGED", "MONITORING_REQUIRED", "MERGE_FAILURE"};
+
+        for (String type : messageTypes) {
+            TeamNotificationMessage message = new TeamNotificationMessage(
+                UUID.randomUUID().toString(),
+                type,
+                "既定の送信先のテスト: " + type,
+                "team-test-001",
+                "テストチーム",
+                "member-test-001",
+                "テストユーザー",
+                System.currentTimeMillis()
+            );
+
+            // When & Then
+            assertDoesNotThrow(() -> processorService.processNotification(message),
+                "メッセージタイプ " + type + " の処理でエラーが発生しました");
+        }
+    }
+}
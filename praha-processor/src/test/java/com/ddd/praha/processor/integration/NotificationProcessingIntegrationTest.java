@@ -10,6 +10,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -26,6 +28,7 @@ class NotificationProcessingIntegrationTest {
     void testNotificationProcessingInSpringContext() {
         // Given
         TeamNotificationMessage message = new TeamNotificationMessage(
+            UUID.randomUUID().toString(),
             "TEAM_SPLIT",
             "統合テスト用メッセージ",
             "team-test-001",
@@ -47,6 +50,7 @@ class NotificationProcessingIntegrationTest {
         
         for (String type : messageTypes) {
             TeamNotificationMessage message = new TeamNotificationMessage(
+                UUID.randomUUID().toString(),
                 type,
                 "統合テスト用メッセージ: " + type,
                 "team-test-001",
@@ -0,0 +1,88 @@
+package com.ddd.praha.processor.integration;
+
+import com.ddd.praha.messaging.NotificationTopology;
+import com.ddd.praha.processor.TestcontainersConfiguration;
+import com.ddd.praha.processor.deadletter.ParkingLotService;
+import com.rabbitmq.client.GetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("パーキングロットの統合テスト")
+class ParkingLotIntegrationTest {
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private ParkingLotService parkingLotService;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate.execute(channel -> {
+            channel.queuePurge(NotificationTopology.TEAM_NOTIFICATION_QUEUE);
+            channel.queuePurge(NotificationTopology.PARKING_LOT_QUEUE);
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("再キューせずに否定応答したメッセージはパーキングロットに移る")
+    void testRejectedMessageIsParked() throws Exception {
+        // Given
+        rabbitTemplate.send("", NotificationTopology.TEAM_NOTIFICATION_QUEUE, message("拒否されるメッセージ", 3));
+
+        // When
+        rabbitTemplate.execute(channel -> {
+            GetResponse response = channel.basicGet(NotificationTopology.TEAM_NOTIFICATION_QUEUE, false);
+            channel.basicNack(response.getEnvelope().getDeliveryTag(), false, false);
+            return null;
+        });
+
+        // Then
+        Message parked = rabbitTemplate.receive(NotificationTopology.PARKING_LOT_QUEUE, 5000);
+        assertNotNull(parked);
+        assertEquals("拒否されるメッセージ", new String(parked.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("パーキングロットのメッセージを再送回数をリセットして通知キューに再投入する")
+    void testReplay() {
+        // Given
+        rabbitTemplate.send("", NotificationTopology.PARKING_LOT_QUEUE, message("1件目", 3));
+        rabbitTemplate.send("", NotificationTopology.PARKING_LOT_QUEUE, message("2件目", 3));
+        rabbitTemplate.send("", NotificationTopology.PARKING_LOT_QUEUE, message("3件目", 3));
+
+        // When
+        int replayed = parkingLotService.replay(2);
+
+        // Then
+        assertEquals(2, replayed);
+        assertEquals(1, parkingLotService.count());
+        Message first = rabbitTemplate.receive(NotificationTopology.TEAM_NOTIFICATION_QUEUE, 5000);
+        assertEquals("1件目", new String(first.getBody(), StandardCharsets.UTF_8));
+        assertNull(first.getMessageProperties().getHeader(NotificationTopology.RETRY_COUNT_HEADER));
+        Message second = rabbitTemplate.receive(NotificationTopology.TEAM_NOTIFICATION_QUEUE, 5000);
+        assertEquals("2件目", new String(second.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private static Message message(String body, int retryCount) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(NotificationTopology.RETRY_COUNT_HEADER, retryCount);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,178 @@
+package com.ddd.praha.processor.team;
+
+import com.ddd.praha.processor.channel.BulkheadSettings;
+import com.ddd.praha.processor.channel.ChannelMessage;
+import com.ddd.praha.processor.channel.ChannelNames;
+import com.ddd.praha.processor.channel.InMemoryHttpChannel;
+import com.ddd.praha.processor.channel.InMemorySmtpChannel;
+import com.ddd.praha.processor.channel.NotificationFanout;
+import com.ddd.praha.processor.deadletter.NotificationRetryRouter;
+import com.ddd.praha.processor.dedup.EventIdDeduplicator;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeamNotificationBatchListener のテスト")
+class TeamNotificationBatchListenerTest {
+
+    @Mock
+    private TeamNotificationProcessorService processorService;
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private NotificationRetryRouter retryRouter;
+
+    private TeamNotificationBatchListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new TeamNotificationBatchListener(processorService, new Jackson2JsonMessageConverter(), retryRouter);
+    }
+
+    @Test
+    @DisplayName("まとめて受信したメッセージを一度に処理し、バッチ単位で確認応答する")
+    void testHandleBatch() throws Exception {
+        // Given
+        List<Message> messages = List.of(
+            jsonMessage(1, "TEAM_SPLIT", "チーム分割"),
+            jsonMessage(2, "TEAM_MERGED", "チーム合流"));
+
+        // When
+        listener.handleTeamNotifications(messages, channel);
+
+        // Then
+        verify(processorService).processNotifications(argThat(list ->
+            list.size() == 2 && list.get(0).type().equals("TEAM_SPLIT") && list.get(1).type().equals("TEAM_MERGED")));
+        verify(channel).basicAck(2, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("変換できないメッセージは再キューせずに否定応答し、残りを処理する")
+    void testPoisonMessageIsNacked() throws Exception {
+        // Given
+        Message poison = new Message("not json".getBytes(StandardCharsets.UTF_8), properties(2));
+        List<Message> messages = List.of(
+            jsonMessage(1, "TEAM_SPLIT", "チーム分割"),
+            poison,
+            jsonMessage(3, "TEAM_MERGED", "チーム合流"));
+
+        // When
+        listener.handleTeamNotifications(messages, channel);
+
+        // Then
+        verify(channel).basicNack(2, false, false);
+        verify(processorService).processNotifications(argThat(list -> list.size() == 2));
+        verify(channel).basicAck(3, true);
+    }
+
+    @Test
+    @DisplayName("バッチの処理に失敗した場合は1件ずつ処理し、再送しないメッセージのみ否定応答する")
+    void testFallbackToIndividualProcessing() throws Exception {
+        // Given
+        List<Message> messages = List.of(
+            jsonMessage(1, "TEAM_SPLIT", "チーム分割"),
+            jsonMessage(2, "TEAM_MERGED", " "),
+            jsonMessage(3, "MERGE_FAILURE", "合流失敗"));
+        doThrow(new IllegalArgumentException("通知メッセージが空になっています"))
+            .when(processorService).processNotifications(anyList());
+        doAnswer(invocation -> {
+            TeamNotificationMessage message = invocation.getArgument(0);
+            if (message.message().isBlank()) {
+                throw new IllegalArgumentException("通知メッセージが空になっています");
+            }
+            return null;
+        }).when(processorService).processNotification(any(TeamNotificationMessage.class));
+
+        // When
+        listener.handleTeamNotifications(messages, channel);
+
+        // Then
+        verify(processorService, times(3)).processNotification(any(TeamNotificationMessage.class));
+        verify(channel).basicAck(1, false);
+        verify(channel).basicNack(2, false, false);
+        verify(channel).basicAck(3, false);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("送信できなかったメッセージのみを再処理させ、送信できたメッセージは一度だけ送信する")
+    void testRetriesOnlyFailedMessages() throws Exception {
+        // Given（インシデントの登録だけが失敗する）
+        InMemorySmtpChannel emailChannel = new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 0);
+        InMemorySmtpChannel urgentAlertChannel = new InMemorySmtpChannel(ChannelNames.URGENT_ALERT, Duration.ZERO, 0);
+        InMemoryHttpChannel incidentChannel =
+            new InMemoryHttpChannel(ChannelNames.INCIDENT, URI.create("http://localhost/incidents"), Duration.ZERO, 1.0);
+        BulkheadSettings settings = new BulkheadSettings(
+            1, 10, Duration.ofSeconds(1), 1, Duration.ZERO, 0, 0, 5, Duration.ofSeconds(30));
+        NotificationFanout fanout = new NotificationFanout(
+            List.of(emailChannel, urgentAlertChannel, incidentChannel), settings, Clock.systemUTC());
+        TeamNotificationCoalescer coalescer = new TeamNotificationCoalescer(fanout, Duration.ZERO, 1000, 3);
+        EventIdDeduplicator deduplicator = new EventIdDeduplicator(
+            1000, Duration.ofHours(1), false, Path.of("unused"), 1, 0.01, Duration.ofMinutes(1));
+        listener = new TeamNotificationBatchListener(
+            new TeamNotificationProcessorService(coalescer, deduplicator), new Jackson2JsonMessageConverter(), retryRouter);
+        List<Message> messages = List.of(
+            jsonMessage(1, "TEAM_SPLIT", "チーム分割"),
+            jsonMessage(2, "MERGE_FAILURE", "合流失敗"),
+            jsonMessage(3, "TEAM_MERGED", "チーム合流"));
+        when(retryRouter.scheduleRetry(same(messages.get(1)), any(NotificationDeliveryException.class))).thenReturn(true);
+
+        try {
+            // When
+            listener.handleTeamNotifications(messages, channel);
+
+            // Then
+            assertEquals(List.of(
+                new ChannelMessage("team-split@example.com", "チーム分割通知", "チーム分割"),
+                new ChannelMessage("team-merged@example.com", "チーム合流通知", "チーム合流")
+            ), emailChannel.sent());
+            verify(retryRouter).scheduleRetry(any(Message.class), any());
+            verify(channel).basicAck(1, false);
+            verify(channel).basicAck(2, false);
+            verify(channel).basicAck(3, false);
+            verify(channel, never()).basicAck(anyLong(), eq(true));
+            assertTrue(deduplicator.isDuplicate("event-1"));
+            assertFalse(deduplicator.isDuplicate("event-2"));
+            assertTrue(deduplicator.isDuplicate("event-3"));
+        } finally {
+            coalescer.shutdown();
+            fanout.shutdown();
+        }
+    }
+
+    private Message jsonMessage(long deliveryTag, String type, String text) {
+        String json = """
+            {"eventId":"event-%d","type":"%s","message":"%s","teamId":"team-001","teamName":"チームA",\
+            "memberId":null,"memberName":null,"timestamp":1}""".formatted(deliveryTag, type, text);
+        return new Message(json.getBytes(StandardCharsets.UTF_8), properties(deliveryTag));
+    }
+
+    private MessageProperties properties(long deliveryTag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return properties;
+    }
+}
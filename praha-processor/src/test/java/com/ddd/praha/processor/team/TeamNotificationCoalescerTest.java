@@ -0,0 +1,205 @@
+package com.ddd.praha.processor.team;
+
+import com.ddd.praha.processor.channel.BulkheadSettings;
+import com.ddd.praha.processor.channel.ChannelDelivery;
+import com.ddd.praha.processor.channel.ChannelMessage;
+import com.ddd.praha.processor.channel.ChannelNames;
+import com.ddd.praha.processor.channel.InMemorySmtpChannel;
+import com.ddd.praha.processor.channel.NotificationChannel;
+import com.ddd.praha.processor.channel.NotificationFanout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TeamNotificationCoalescer のテスト")
+class TeamNotificationCoalescerTest {
+
+    private final InMemorySmtpChannel emailChannel = new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 0);
+
+    private NotificationFanout fanout;
+    private TeamNotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        fanout = new NotificationFanout(List.of(emailChannel), settings(), Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+        fanout.shutdown();
+    }
+
+    @Test
+    @DisplayName("まとめる時間が0の場合はすぐに送信する")
+    void testSendsImmediatelyWithoutWindow() {
+        // Given
+        coalescer = new TeamNotificationCoalescer(fanout, Duration.ZERO, 1000, 3);
+
+        // When
+        coalescer.submit(digest("team-split@example.com", "チーム分割通知", "チームAが分割されました"));
+
+        // Then
+        assertEquals(1, emailChannel.sent().size());
+        assertEquals(0, coalescer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("まとめる時間内の通知は宛先ごとに1件にまとめて送信する")
+    void testCoalescesWithinWindow() throws Exception {
+        // Given
+        coalescer = new TeamNotificationCoalescer(fanout, Duration.ofMillis(200), 1000, 3);
+
+        // When
+        coalescer.submit(digest("team-split@example.com", "チーム分割通知", "チームAが分割されました"));
+        coalescer.submit(digest("team-split@example.com", "チーム分割通知", "チームBが分割されました"));
+        coalescer.submit(digest("team-merged@example.com", "チーム合流通知", "チームCに合流しました"));
+
+        // Then
+        assertTrue(emailChannel.sent().isEmpty());
+        assertEquals(3, coalescer.pendingCount());
+        waitForSent(2);
+        assertEquals(List.of(
+            new ChannelMessage("team-split@example.com", "チーム分割通知（2件）",
+                "チームAが分割されました\nチームBが分割されました"),
+            new ChannelMessage("team-merged@example.com", "チーム合流通知", "チームCに合流しました")
+        ), emailChannel.sent());
+        assertEquals(0, coalescer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("まとめている通知が上限に達すると時間を待たずに送信する")
+    void testFlushesWhenFull() {
+        // Given
+        coalescer = new TeamNotificationCoalescer(fanout, Duration.ofMinutes(1), 2, 3);
+
+        // When
+        coalescer.submit(digest("admin@example.com", "通知", "1件目"));
+        coalescer.submit(digest("admin@example.com", "通知", "2件目"));
+
+        // Then
+        assertEquals(List.of(new ChannelMessage("admin@example.com", "通知（2件）", "1件目\n2件目")), emailChannel.sent());
+        assertEquals(0, coalescer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("停止時にまとめている通知を送信する")
+    void testFlushesOnShutdown() {
+        // Given
+        coalescer = new TeamNotificationCoalescer(fanout, Duration.ofMinutes(1), 1000, 3);
+        coalescer.submit(digest("admin@example.com", "通知", "停止前の通知"));
+
+        // When
+        coalescer.shutdown();
+
+        // Then
+        assertEquals(List.of(new ChannelMessage("admin@example.com", "通知", "停止前の通知")), emailChannel.sent());
+    }
+
+    @Test
+    @DisplayName("まとめる時間が0の場合は送信できなかった通知を返す")
+    void testReturnsFailuresWithoutWindow() {
+        // Given
+        fanout.shutdown();
+        fanout = new NotificationFanout(
+            List.of(new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 1.0)), settings(), Clock.systemUTC());
+        coalescer = new TeamNotificationCoalescer(fanout, Duration.ZERO, 1000, 3);
+
+        // When
+        List<ChannelDelivery> failures = coalescer.submit(digest("admin@example.com", "通知", "送信できない通知"));
+
+        // Then
+        assertEquals(List.of(new ChannelDelivery(ChannelNames.EMAIL,
+            new ChannelMessage("admin@example.com", "通知", "送信できない通知"))), failures);
+    }
+
+    @Test
+    @DisplayName("まとめて送信できなかった通知は次の送信で再送する")
+    void testRedeliversFailedDeliveries() throws Exception {
+        // Given
+        List<ChannelMessage> sent = new CopyOnWriteArrayList<>();
+        fanout.shutdown();
+        fanout = new NotificationFanout(List.of(flakyChannel(1, sent)), settings(), Clock.systemUTC());
+        coalescer = new TeamNotificationCoalescer(fanout, Duration.ofMillis(200), 1000, 3);
+
+        // When
+        coalescer.submit(digest("admin@example.com", "通知", "一度失敗する通知"));
+        coalescer.flush();
+
+        // Then
+        assertTrue(sent.isEmpty());
+        assertEquals(1, coalescer.redeliveryCount());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sent.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(new ChannelMessage("admin@example.com", "通知", "一度失敗する通知")), sent);
+        assertEquals(0, coalescer.redeliveryCount());
+    }
+
+    @Test
+    @DisplayName("再送の回数を使い切った通知は再送しない")
+    void testGivesUpAfterMaxRedeliveries() {
+        // Given
+        List<ChannelMessage> sent = new CopyOnWriteArrayList<>();
+        fanout.shutdown();
+        fanout = new NotificationFanout(List.of(flakyChannel(2, sent)), settings(), Clock.systemUTC());
+        coalescer = new TeamNotificationCoalescer(fanout, Duration.ofMinutes(1), 1000, 1);
+        coalescer.submit(digest("admin@example.com", "通知", "二度失敗する通知"));
+
+        // When
+        coalescer.flush();
+        coalescer.flush();
+
+        // Then
+        assertTrue(sent.isEmpty());
+        assertEquals(0, coalescer.redeliveryCount());
+    }
+
+    private static NotificationDigest digest(String to, String subject, String body) {
+        NotificationDigest digest = new NotificationDigest();
+        digest.email(to, subject, body);
+        return digest;
+    }
+
+    private void waitForSent(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (emailChannel.sent().size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static BulkheadSettings settings() {
+        return new BulkheadSettings(1, 10, Duration.ofSeconds(1), 1, Duration.ZERO, 0, 0, 5, Duration.ofSeconds(30));
+    }
+
+    /**
+     * 最初の指定した回数だけ送信に失敗するメールの送信先
+     */
+    private static NotificationChannel flakyChannel(int failures, List<ChannelMessage> sent) {
+        AtomicInteger attempts = new AtomicInteger();
+        return new NotificationChannel() {
+            @Override
+            public String name() {
+                return ChannelNames.EMAIL;
+            }
+
+            @Override
+            public void send(ChannelMessage message) throws Exception {
+                if (attempts.incrementAndGet() <= failures) {
+                    throw new IllegalStateException("模擬的な送信エラー");
+                }
+                sent.add(message);
+            }
+        };
+    }
+}
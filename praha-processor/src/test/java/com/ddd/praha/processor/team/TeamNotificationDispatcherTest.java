@@ -0,0 +1,128 @@
+package com.ddd.praha.processor.team;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TeamNotificationDispatcher のテスト")
+class TeamNotificationDispatcherTest {
+
+    private TeamNotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("同じチームの通知は受信順に1件ずつ処理される")
+    void testSameTeamIsSerialized() throws Exception {
+        // Given
+        dispatcher = new TeamNotificationDispatcher(100);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        // When
+        CompletableFuture<Void> first = dispatcher.dispatch("team-001", () -> {
+            await(release);
+            order.add("first");
+        });
+        CompletableFuture<Void> second = dispatcher.dispatch("team-001", () -> order.add("second"));
+
+        // Then
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertTrue(order.isEmpty(), "先行する処理が完了するまで後続は実行されない");
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+        assertEquals(List.of("first", "second"), order);
+        assertEquals(0, dispatcher.activeTeams());
+    }
+
+    @Test
+    @DisplayName("異なるチームの通知は並行して処理される")
+    void testDifferentTeamsRunConcurrently() throws Exception {
+        // Given
+        dispatcher = new TeamNotificationDispatcher(100);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        CompletableFuture<Void> teamA = dispatcher.dispatch("team-001", () -> {
+            bothStarted.countDown();
+            await(bothStarted);
+        });
+        CompletableFuture<Void> teamB = dispatcher.dispatch("team-002", () -> {
+            bothStarted.countDown();
+            await(bothStarted);
+        });
+
+        // Then
+        assertDoesNotThrow(() -> CompletableFuture.allOf(teamA, teamB).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("同時に処理する通知の数は上限までに制限される")
+    void testInFlightIsCapped() throws Exception {
+        // Given
+        dispatcher = new TeamNotificationDispatcher(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[10];
+
+        // When
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = dispatcher.dispatch("team-" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+            });
+        }
+        CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(maxRunning.get() <= 2, "同時実行数: " + maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("先行する処理が失敗しても同じチームの後続は処理される")
+    void testFailureDoesNotBlockTeam() throws Exception {
+        // Given
+        dispatcher = new TeamNotificationDispatcher(100);
+        AtomicInteger processed = new AtomicInteger();
+
+        // When
+        CompletableFuture<Void> failed = dispatcher.dispatch("team-001", () -> {
+            throw new IllegalStateException("送信失敗");
+        });
+        CompletableFuture<Void> next = dispatcher.dispatch("team-001", processed::incrementAndGet);
+
+        // Then
+        next.get(1, TimeUnit.SECONDS);
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(1, processed.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
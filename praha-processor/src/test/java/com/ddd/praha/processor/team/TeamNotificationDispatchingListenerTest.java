@@ -0,0 +1,99 @@
+package com.ddd.praha.processor.team;
+
+import com.ddd.praha.processor.deadletter.NotificationRetryRouter;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeamNotificationDispatchingListener のテスト")
+class TeamNotificationDispatchingListenerTest {
+
+    @Mock
+    private TeamNotificationProcessorService processorService;
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private NotificationRetryRouter retryRouter;
+
+    private final Message amqpMessage = new Message(new byte[0], new MessageProperties());
+
+    private TeamNotificationDispatcher dispatcher;
+
+    private TeamNotificationDispatchingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new TeamNotificationDispatcher(10);
+        listener = new TeamNotificationDispatchingListener(processorService, dispatcher, retryRouter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("処理が完了したら確認応答する")
+    void testAckOnCompletion() throws Exception {
+        // Given
+        TeamNotificationMessage message = createTestMessage("チーム分割");
+
+        // When
+        listener.handleTeamNotification(message, amqpMessage, channel, 1L);
+
+        // Then
+        verify(channel, timeout(1000)).basicAck(1L, false);
+        verify(processorService).processNotification(message);
+    }
+
+    @Test
+    @DisplayName("再送しないメッセージは再キューせずに否定応答する")
+    void testNackInvalidMessageWithoutRequeue() throws Exception {
+        // Given
+        TeamNotificationMessage message = createTestMessage("");
+        doThrow(new IllegalArgumentException("通知メッセージが空になっています"))
+            .when(processorService).processNotification(message);
+
+        // When
+        listener.handleTeamNotification(message, amqpMessage, channel, 2L);
+
+        // Then
+        verify(channel, timeout(1000)).basicNack(2L, false, false);
+    }
+
+    @Test
+    @DisplayName("処理中のエラーは遅延キューに送ってから確認応答する")
+    void testAckAfterScheduledRetry() throws Exception {
+        // Given
+        TeamNotificationMessage message = createTestMessage("チーム分割");
+        IllegalStateException error = new IllegalStateException("送信先に接続できません");
+        doThrow(error).when(processorService).processNotification(message);
+        when(retryRouter.scheduleRetry(amqpMessage, error)).thenReturn(true);
+
+        // When
+        listener.handleTeamNotification(message, amqpMessage, channel, 3L);
+
+        // Then
+        verify(channel, timeout(1000)).basicAck(3L, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    private TeamNotificationMessage createTestMessage(String text) {
+        return new TeamNotificationMessage(UUID.randomUUID().toString(), "TEAM_SPLIT", text, "team-001", "チームA",
+            null, null, System.currentTimeMillis());
+    }
+}
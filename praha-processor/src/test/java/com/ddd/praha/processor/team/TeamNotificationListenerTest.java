@@ -1,11 +1,17 @@
 package com.ddd.praha.processor.team;
 
+import com.ddd.praha.processor.deadletter.NotificationRetryRouter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -17,11 +23,17 @@ class TeamNotificationListenerTest {
     @Mock
     private TeamNotificationProcessorService processorService;
 
+    @Mock
+    private NotificationRetryRouter retryRouter;
+
+    private final Message amqpMessage = new Message(new byte[0], new MessageProperties());
+
     @InjectMocks
     private TeamNotificationListener listener;
 
     private TeamNotificationMessage createTestMessage(String type, String message) {
         return new TeamNotificationMessage(
+            UUID.randomUUID().toString(),
             type,
             message,
             "team-001",
@@ -40,24 +52,39 @@ class TeamNotificationListenerTest {
         doNothing().when(processorService).processNotification(message);
 
         // When & Then
-        assertDoesNotThrow(() -> listener.handleTeamNotification(message));
+        assertDoesNotThrow(() -> listener.handleTeamNotification(message, amqpMessage));
         verify(processorService, times(1)).processNotification(message);
     }
 
     @Test
-    @DisplayName("プロセッサーでエラーが発生した場合、例外が再スローされる")
+    @DisplayName("プロセッサーでエラーが発生した場合、遅延キューに送って正常に終了する")
     void testHandleTeamNotificationWithProcessorError() {
         // Given
         TeamNotificationMessage message = createTestMessage("TEAM_SPLIT", "チーム分割メッセージ");
         RuntimeException processorException = new RuntimeException("プロセッサーエラー");
         doThrow(processorException).when(processorService).processNotification(message);
+        when(retryRouter.scheduleRetry(amqpMessage, processorException)).thenReturn(true);
+
+        // When & Then
+        assertDoesNotThrow(() -> listener.handleTeamNotification(message, amqpMessage));
+        verify(retryRouter).scheduleRetry(amqpMessage, processorException);
+    }
+
+    @Test
+    @DisplayName("再送しないメッセージは再キューせずに拒否する")
+    void testHandleTeamNotificationRejectedWithoutRetry() {
+        // Given
+        TeamNotificationMessage message = createTestMessage("TEAM_SPLIT", "チーム分割メッセージ");
+        RuntimeException processorException = new RuntimeException("プロセッサーエラー");
+        doThrow(processorException).when(processorService).processNotification(message);
+        when(retryRouter.scheduleRetry(amqpMessage, processorException)).thenReturn(false);
 
         // When & Then
-        RuntimeException exception = assertThrows(
-            RuntimeException.class,
-            () -> listener.handleTeamNotification(message)
+        AmqpRejectAndDontRequeueException exception = assertThrows(
+            AmqpRejectAndDontRequeueException.class,
+            () -> listener.handleTeamNotification(message, amqpMessage)
         );
-        assertEquals("プロセッサーエラー", exception.getMessage());
+        assertSame(processorException, exception.getCause());
         verify(processorService, times(1)).processNotification(message);
     }
 
@@ -74,10 +101,10 @@ class TeamNotificationListenerTest {
 
         // When & Then
         assertDoesNotThrow(() -> {
-            listener.handleTeamNotification(teamSplitMessage);
-            listener.handleTeamNotification(teamMergedMessage);
-            listener.handleTeamNotification(monitoringMessage);
-            listener.handleTeamNotification(mergeFailureMessage);
+            listener.handleTeamNotification(teamSplitMessage, amqpMessage);
+            listener.handleTeamNotification(teamMergedMessage, amqpMessage);
+            listener.handleTeamNotification(monitoringMessage, amqpMessage);
+            listener.handleTeamNotification(mergeFailureMessage, amqpMessage);
         });
 
         verify(processorService, times(4)).processNotification(any(TeamNotificationMessage.class));
@@ -88,12 +115,12 @@ class TeamNotificationListenerTest {
     void testHandleNullMessage() {
         // Given
         TeamNotificationMessage nullMessage = new TeamNotificationMessage(
-            null, null, null, null, null, null, 0L
+            null, null, null, null, null, null, null, 0L
         );
         doNothing().when(processorService).processNotification(nullMessage);
 
         // When & Then
-        assertDoesNotThrow(() -> listener.handleTeamNotification(nullMessage));
+        assertDoesNotThrow(() -> listener.handleTeamNotification(nullMessage, amqpMessage));
         verify(processorService, times(1)).processNotification(nullMessage);
     }
 
@@ -108,9 +135,9 @@ class TeamNotificationListenerTest {
         doNothing().when(processorService).processNotification(any(TeamNotificationMessage.class));
 
         // When
-        listener.handleTeamNotification(message1);
-        listener.handleTeamNotification(message2);
-        listener.handleTeamNotification(message3);
+        listener.handleTeamNotification(message1, amqpMessage);
+        listener.handleTeamNotification(message2, amqpMessage);
+        listener.handleTeamNotification(message3, amqpMessage);
 
         // Then
         verify(processorService, times(1)).processNotification(message1);
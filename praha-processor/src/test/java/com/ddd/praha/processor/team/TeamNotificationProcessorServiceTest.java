@@ -1,22 +1,65 @@
 package com.ddd.praha.processor.team;
 
+import com.ddd.praha.processor.channel.BulkheadSettings;
+import com.ddd.praha.processor.channel.ChannelMessage;
+import com.ddd.praha.processor.channel.ChannelNames;
+import com.ddd.praha.processor.channel.InMemoryHttpChannel;
+import com.ddd.praha.processor.channel.InMemorySmtpChannel;
+import com.ddd.praha.processor.channel.NotificationFanout;
+import com.ddd.praha.processor.dedup.EventIdDeduplicator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("NotificationProcessorService のテスト")
 class TeamNotificationProcessorServiceTest {
 
-    @InjectMocks
+    private final InMemorySmtpChannel emailChannel = new InMemorySmtpChannel(ChannelNames.EMAIL, Duration.ZERO, 0);
+    private final InMemorySmtpChannel urgentAlertChannel = new InMemorySmtpChannel(ChannelNames.URGENT_ALERT, Duration.ZERO, 0);
+    private final InMemoryHttpChannel slackChannel =
+        new InMemoryHttpChannel(ChannelNames.SLACK, URI.create("http://localhost/slack/webhook"), Duration.ZERO, 0);
+    private final InMemoryHttpChannel incidentChannel =
+        new InMemoryHttpChannel(ChannelNames.INCIDENT, URI.create("http://localhost/incidents"), Duration.ZERO, 0);
+
+    private NotificationFanout fanout;
+    private TeamNotificationCoalescer coalescer;
     private TeamNotificationProcessorService service;
 
+    @BeforeEach
+    void setUp() {
+        BulkheadSettings settings = new BulkheadSettings(
+            1, 10, Duration.ofSeconds(1), 1, Duration.ZERO, 0, 0, 5, Duration.ofSeconds(30));
+        fanout = new NotificationFanout(
+            List.of(emailChannel, urgentAlertChannel, slackChannel, incidentChannel), settings, Clock.systemUTC());
+        coalescer = new TeamNotificationCoalescer(fanout, Duration.ZERO, 1000, 3);
+        EventIdDeduplicator deduplicator = new EventIdDeduplicator(
+            1000, Duration.ofHours(1), false, Path.of("unused"), 1, 0.01, Duration.ofMinutes(1));
+        service = new TeamNotificationProcessorService(coalescer, deduplicator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+        fanout.shutdown();
+    }
+
     private TeamNotificationMessage createTestMessage(String type, String message, String teamId, String teamName, String memberId, String memberName) {
         return new TeamNotificationMessage(
+            UUID.randomUUID().toString(),
             type,
             message,
             teamId,
@@ -135,6 +178,7 @@ class TeamNotificationProcessorServiceTest {
         // Given
         long timestamp = System.currentTimeMillis();
         TeamNotificationMessage message = new TeamNotificationMessage(
+            "event-001",
             "TEAM_SPLIT",
             "テストメッセージ",
             "team-001",
@@ -145,6 +189,7 @@ class TeamNotificationProcessorServiceTest {
         );
 
         // When & Then
+        assertEquals("event-001", message.eventId());
         assertEquals("TEAM_SPLIT", message.type());
         assertEquals("テストメッセージ", message.message());
         assertEquals("team-001", message.teamId());
@@ -153,4 +198,71 @@ class TeamNotificationProcessorServiceTest {
         assertEquals("田中太郎", message.memberName());
         assertEquals(timestamp, message.timestamp());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("複数のメッセージをまとめて処理できる")
+    void testProcessNotifications() {
+        // Given
+        List<TeamNotificationMessage> messages = List.of(
+            createTestMessage("MONITORING_REQUIRED", "チームAが2名以下になりました", "team-001", "チームA", "member-001", "田中太郎"),
+            createTestMessage("MONITORING_REQUIRED", "チームBが2名以下になりました", "team-002", "チームB", "member-002", "鈴木花子"),
+            createTestMessage("MERGE_FAILURE", "合流先のチームがありません", "team-003", "チームC", "member-003", "佐藤次郎")
+        );
+
+        // When & Then
+        assertDoesNotThrow(() -> service.processNotifications(messages));
+    }
+
+    @Test
+    @DisplayName("不正なメッセージが含まれる場合はまとめて処理せずに例外とする")
+    void testProcessNotificationsWithInvalidMessage() {
+        // Given
+        List<TeamNotificationMessage> messages = List.of(
+            createTestMessage("TEAM_SPLIT", "チーム分割", "team-001", "チームA", null, null),
+            createTestMessage("TEAM_MERGED", "", "team-002", "チームB", null, null)
+        );
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> service.processNotifications(messages));
+    }
+
+    @Test
+    @DisplayName("まとめて処理した通知は送信先・宛先ごとに1回で送信される")
+    void testProcessNotificationsSendsGroupedDeliveries() {
+        // Given
+        List<TeamNotificationMessage> messages = List.of(
+            createTestMessage("MONITORING_REQUIRED", "チームAが2名以下になりました", "team-001", "チームA", "member-001", "田中太郎"),
+            createTestMessage("MONITORING_REQUIRED", "チームBが2名以下になりました", "team-002", "チームB", "member-002", "鈴木花子"),
+            createTestMessage("MERGE_FAILURE", "合流先のチームがありません", "team-003", "チームC", "member-003", "佐藤次郎")
+        );
+
+        // When
+        service.processNotifications(messages);
+
+        // Then
+        assertTrue(emailChannel.sent().isEmpty());
+        assertEquals(Set.of(
+            new ChannelMessage("admin@example.com", "【緊急】チーム監視必要（2件）",
+                "チームAが2名以下になりました\nチームBが2名以下になりました"),
+            new ChannelMessage("admin@example.com", "【エラー】チーム合流失敗", "合流先のチームがありません")
+        ), Set.copyOf(urgentAlertChannel.sent()));
+        assertEquals(1, slackChannel.requests().size());
+        assertEquals(List.of(new ChannelMessage("team-003", "TEAM_MERGE_FAILURE", "合流先のチームがありません")),
+            incidentChannel.requests().stream().map(InMemoryHttpChannel.RecordedRequest::message).toList());
+    }
+
+    @Test
+    @DisplayName("処理済みのイベントIDの通知は送信せずに読み飛ばす")
+    void testSkipsDuplicateEvents() {
+        // Given
+        TeamNotificationMessage message = new TeamNotificationMessage("event-dup", "TEAM_SPLIT", "チームAが分割されました",
+            "team-001", "チームA", null, null, System.currentTimeMillis());
+        service.processNotification(message);
+
+        // When
+        service.processNotifications(List.of(message, message));
+
+        // Then
+        assertEquals(1, emailChannel.sent().size());
+    }
+}
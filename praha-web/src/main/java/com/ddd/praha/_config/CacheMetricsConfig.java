@@ -0,0 +1,76 @@
+package com.ddd.praha._config;
+
+import com.ddd.praha.infrastructure.MemberSnapshotCache;
+import com.ddd.praha.infrastructure.TeamSnapshotCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * アプリケーション内キャッシュのメトリクス設定クラス
+ * <p>Micrometerのキャッシュのメトリクスと同じ名前（{@code cache.gets} など）で、{@code cache} タグにキャッシュ名を付けて公開する。</p>
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    /**
+     * チームのキャッシュのヒット・ミス・追い出しの件数とエントリ数を公開する
+     * @param cache チームのキャッシュ
+     * @return メトリクスのバインダー
+     */
+    @Bean
+    public MeterBinder teamSnapshotCacheMetrics(TeamSnapshotCache cache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", cache, TeamSnapshotCache::hitCount)
+                .description("キャッシュから取得できた回数")
+                .tags("cache", "teams", "result", "hit")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", cache, TeamSnapshotCache::missCount)
+                .description("キャッシュになくデータベースから読み込んだ回数")
+                .tags("cache", "teams", "result", "miss")
+                .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, TeamSnapshotCache::evictionCount)
+                .description("上限を超えたため追い出した件数")
+                .tags("cache", "teams")
+                .register(registry);
+            Gauge.builder("cache.size", cache, TeamSnapshotCache::size)
+                .description("キャッシュしているチーム数")
+                .tags("cache", "teams")
+                .register(registry);
+        };
+    }
+
+    /**
+     * 参加者のキャッシュのヒット・ミス・追い出しの件数とエントリ数・概算のメモリ使用量を公開する
+     * @param cache 参加者のキャッシュ
+     * @return メトリクスのバインダー
+     */
+    @Bean
+    public MeterBinder memberSnapshotCacheMetrics(MemberSnapshotCache cache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", cache, MemberSnapshotCache::hitCount)
+                .description("キャッシュから取得できた回数")
+                .tags("cache", "members", "result", "hit")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", cache, MemberSnapshotCache::missCount)
+                .description("キャッシュになくデータベースから読み込んだ回数")
+                .tags("cache", "members", "result", "miss")
+                .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, MemberSnapshotCache::evictionCount)
+                .description("上限を超えたため追い出した件数")
+                .tags("cache", "members")
+                .register(registry);
+            Gauge.builder("cache.size", cache, MemberSnapshotCache::size)
+                .description("キャッシュしている参加者数")
+                .tags("cache", "members")
+                .register(registry);
+            Gauge.builder("cache.weight", cache, MemberSnapshotCache::weight)
+                .description("キャッシュしている参加者の概算のメモリ使用量")
+                .tags("cache", "members")
+                .baseUnit("bytes")
+                .register(registry);
+        };
+    }
+}
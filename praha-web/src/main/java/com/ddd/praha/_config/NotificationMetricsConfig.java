@@ -0,0 +1,91 @@
+package com.ddd.praha._config;
+
+import com.ddd.praha.infrastructure.CorrelatedConfirmPublisher;
+import com.ddd.praha.infrastructure.OutboxAsyncPublisher;
+import com.ddd.praha.infrastructure.PublishConfirmObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 通知送信のメトリクス設定クラス
+ * <p>インフラストラクチャ層はMicrometerに依存しないため、計測値の公開はここで行う。</p>
+ */
+@Configuration
+public class NotificationMetricsConfig {
+
+    /**
+     * アウトボックスの非同期送信バッファの深さと、送信・破棄・退避の件数を公開する
+     * @param publisher アウトボックスの非同期送信
+     * @return メトリクスのバインダー
+     */
+    @Bean
+    public MeterBinder outboxAsyncPublisherMetrics(OutboxAsyncPublisher publisher) {
+        return registry -> {
+            Gauge.builder("praha.outbox.async.depth", publisher, OutboxAsyncPublisher::depth)
+                .description("送信バッファに積まれているメッセージ数")
+                .register(registry);
+            FunctionCounter.builder("praha.outbox.async.published", publisher, OutboxAsyncPublisher::publishedCount)
+                .description("専用スレッドで送信したメッセージ数")
+                .register(registry);
+            FunctionCounter.builder("praha.outbox.async.dropped", publisher, OutboxAsyncPublisher::droppedCount)
+                .description("満杯のためバッファから外したメッセージ数")
+                .register(registry);
+            FunctionCounter.builder("praha.outbox.async.spilled", publisher, OutboxAsyncPublisher::spilledCount)
+                .description("満杯のためアウトボックスに退避したメッセージ数")
+                .register(registry);
+        };
+    }
+
+    /**
+     * パブリッシャーコンファームの確認までの時間を結果ごとのヒストグラムとして記録する
+     * @param registry メトリクスのレジストリ
+     * @return コンファームのオブザーバー
+     */
+    @Bean
+    public PublishConfirmObserver publishConfirmObserver(MeterRegistry registry) {
+        Map<PublishConfirmObserver.ConfirmResult, Timer> latencies = new EnumMap<>(PublishConfirmObserver.ConfirmResult.class);
+        for (PublishConfirmObserver.ConfirmResult result : PublishConfirmObserver.ConfirmResult.values()) {
+            latencies.put(result, Timer.builder("praha.amqp.confirm.latency")
+                .description("送信からパブリッシャーコンファームの確認までの時間")
+                .tag("result", result.name().toLowerCase())
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+        Counter retries = Counter.builder("praha.amqp.confirm.retries")
+            .description("受理されず再送したメッセージ数")
+            .register(registry);
+        return new PublishConfirmObserver() {
+            @Override
+            public void onConfirm(ConfirmResult result, Duration latency) {
+                latencies.get(result).record(latency);
+            }
+
+            @Override
+            public void onRetry(int count) {
+                retries.increment(count);
+            }
+        };
+    }
+
+    /**
+     * 確認待ちのメッセージ数を公開する
+     * @param publisher 相関付きコンファームの送信
+     * @return メトリクスのバインダー
+     */
+    @Bean
+    public MeterBinder correlatedConfirmPublisherMetrics(CorrelatedConfirmPublisher publisher) {
+        return registry -> Gauge.builder("praha.amqp.confirm.in-flight", publisher, CorrelatedConfirmPublisher::inFlightCount)
+            .description("確認待ちのメッセージ数")
+            .register(registry);
+    }
+}
@@ -1,10 +1,22 @@
 package com.ddd.praha._config;
 
-import org.springframework.amqp.core.Queue;
-import org.springframework.amqp.core.QueueBuilder;
+import com.ddd.praha.infrastructure.CacheInvalidationBus;
+import com.ddd.praha.infrastructure.NotificationMessage;
+import com.ddd.praha.messaging.CompactNotificationMessageConverter;
+import com.ddd.praha.messaging.NotificationFields;
+import com.ddd.praha.messaging.NotificationTopology;
+import com.ddd.praha.messaging.WireFormatMessageConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,40 +26,77 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class RabbitMQConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(RabbitMQConfig.class);
+
     /**
      * チーム関連の通知用キュー名
      */
-    public static final String TEAM_NOTIFICATION_QUEUE = "team.notification.queue";
+    public static final String TEAM_NOTIFICATION_QUEUE = NotificationTopology.TEAM_NOTIFICATION_QUEUE;
+
+    /**
+     * チーム通知用のキュー・デッドレター・遅延キューを定義
+     * <p>受信側（praha-processor）と共通の {@link NotificationTopology} で宣言する。</p>
+     * @return キュー・エクスチェンジ・バインディング
+     */
+    @Bean
+    public Declarables notificationTopology() {
+        return NotificationTopology.declarables();
+    }
 
     /**
-     * チーム通知用キューを定義
-     * @return キュー設定
+     * キャッシュの無効化を通知するファンアウトエクスチェンジと、このノード専用のキューを定義
+     * <p>キューは永続化せず、ノードの停止（接続の切断）とともに削除する。</p>
+     * @param cacheInvalidationBus キャッシュの無効化のバス
+     * @return キュー・エクスチェンジ・バインディング
      */
     @Bean
-    public Queue teamNotificationQueue() {
-        return QueueBuilder.durable(TEAM_NOTIFICATION_QUEUE)
-                .withArgument("x-message-ttl", 300000) // 5分のTTL
-                .build();
+    public Declarables cacheInvalidationTopology(CacheInvalidationBus cacheInvalidationBus) {
+        FanoutExchange exchange = new FanoutExchange(CacheInvalidationBus.EXCHANGE);
+        AnonymousQueue queue = new AnonymousQueue(cacheInvalidationBus::queueName);
+        return new Declarables(exchange, queue, BindingBuilder.bind(queue).to(exchange));
     }
 
     /**
-     * JSONメッセージコンバーターを設定
-     * @return JSONコンバーター
+     * メッセージコンバーターを設定
+     * <p>通知メッセージは {@code praha.messaging.wire-format} が {@code compact} の場合にバイナリ形式、
+     * それ以外はJSONで送信する。受信側が両方の形式に対応してから {@code compact} に切り替えること。</p>
+     * @param wireFormat 通知メッセージの送信形式（json または compact）
+     * @return メッセージコンバーター
      */
     @Bean
-    public Jackson2JsonMessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public WireFormatMessageConverter messageConverter(@Value("${praha.messaging.wire-format:json}") String wireFormat) {
+        CompactNotificationMessageConverter<NotificationMessage> compact = new CompactNotificationMessageConverter<>(
+            NotificationMessage.class,
+            message -> new NotificationFields(message.eventId(), message.type(), message.message(), message.teamId(),
+                message.teamName(), message.memberId(), message.memberName(), message.timestamp()),
+            fields -> new NotificationMessage(fields.eventId(), fields.type(), fields.message(), fields.teamId(),
+                fields.teamName(), fields.memberId(), fields.memberName(), fields.timestamp()));
+        return new WireFormatMessageConverter(new Jackson2JsonMessageConverter(), compact, isCompact(wireFormat));
     }
 
     /**
-     * RabbitTemplateにJSONコンバーターを設定
+     * RabbitTemplateにメッセージコンバーターを設定
+     * <p>配送先のキューがないメッセージを黙って破棄させないよう mandatory で送信し、返送されたメッセージを記録する。
+     * 返送の結果は相関付きのコンファームでも参照される。</p>
      * @param connectionFactory 接続ファクトリー
+     * @param messageConverter メッセージコンバーター
      * @return 設定済みRabbitTemplate
      */
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(messageConverter());
+        template.setMessageConverter(messageConverter);
+        template.setMandatory(true);
+        template.setReturnsCallback(returned -> logger.error("メッセージが配送できず返送されました: {} {} (routingKey={})",
+            returned.getReplyCode(), returned.getReplyText(), returned.getRoutingKey()));
         return template;
     }
-}
\ No newline at end of file
+
+    private static boolean isCompact(String wireFormat) {
+        return switch (wireFormat) {
+            case "json" -> false;
+            case "compact" -> true;
+            default -> throw new IllegalArgumentException("未対応の送信形式です: " + wireFormat);
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.ddd.praha._config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定期実行処理の設定クラス
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
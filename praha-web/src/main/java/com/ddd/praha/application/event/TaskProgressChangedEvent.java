@@ -0,0 +1,40 @@
+package com.ddd.praha.application.event;
+
+import com.ddd.praha.domain.model.MemberId;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 参加者の課題の進捗ステータスが変わったことを表すイベント
+ * <p>トランザクション内の変更はコミット後に発行される。</p>
+ * <p>他のノードでの変更を受信した場合も発行する。通知を取りこぼした可能性がある場合は、全ての参加者を変更の対象とする。</p>
+ * @param memberIds 進捗ステータスが変わった参加者のID
+ * @param all 全ての参加者が変更の対象の場合はtrue
+ * @param remote 他のノードでの変更の場合はtrue
+ */
+public record TaskProgressChangedEvent(Set<MemberId> memberIds, boolean all, boolean remote) {
+
+    public TaskProgressChangedEvent {
+        memberIds = Set.copyOf(memberIds);
+    }
+
+    /**
+     * 参加者の進捗ステータスの変更を表すイベントを作成する
+     * @param memberIds 参加者ID
+     * @return イベント
+     */
+    public static TaskProgressChangedEvent ofMembers(Collection<MemberId> memberIds) {
+        return new TaskProgressChangedEvent(Set.copyOf(memberIds), false, false);
+    }
+
+    /**
+     * 他のノードでの変更を表すイベントを作成する
+     * @param memberIds 進捗ステータスが変わった参加者のID
+     * @param all 全ての参加者が変更の対象の場合はtrue
+     * @return イベント
+     */
+    public static TaskProgressChangedEvent ofRemote(Set<MemberId> memberIds, boolean all) {
+        return new TaskProgressChangedEvent(memberIds, all, true);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ddd.praha.application.event;
+
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TeamId;
+
+import java.util.Set;
+
+/**
+ * チームの構成が変わったことを表すイベント
+ * <p>チームの作成・削除・メンバーの追加・削除ではチームID、参加者の情報の更新では参加者IDで、変更の対象を表す。
+ * トランザクション内の変更はコミット後に発行される。</p>
+ * <p>他のノードでの変更を受信した場合も発行する。通知を取りこぼした可能性がある場合は、全てのチームを変更の対象とする。</p>
+ * @param teamIds 変更されたチームのID
+ * @param memberIds 情報が更新された参加者のID（所属するチームが変更の対象）
+ * @param all 全てのチームが変更の対象の場合はtrue
+ * @param remote 他のノードでの変更の場合はtrue
+ */
+public record TeamsChangedEvent(Set<TeamId> teamIds, Set<MemberId> memberIds, boolean all, boolean remote) {
+
+    public TeamsChangedEvent {
+        teamIds = Set.copyOf(teamIds);
+        memberIds = Set.copyOf(memberIds);
+    }
+
+    /**
+     * チームの変更を表すイベントを作成する
+     * @param teamId チームID
+     * @return イベント
+     */
+    public static TeamsChangedEvent ofTeam(TeamId teamId) {
+        return new TeamsChangedEvent(Set.of(teamId), Set.of(), false, false);
+    }
+
+    /**
+     * 参加者の情報の更新を表すイベントを作成する
+     * @param memberId 参加者ID
+     * @return イベント
+     */
+    public static TeamsChangedEvent ofMember(MemberId memberId) {
+        return new TeamsChangedEvent(Set.of(), Set.of(memberId), false, false);
+    }
+
+    /**
+     * 他のノードでの変更を表すイベントを作成する
+     * @param teamIds 変更されたチームのID
+     * @param memberIds 情報が更新された参加者のID
+     * @param all 全てのチームが変更の対象の場合はtrue
+     * @return イベント
+     */
+    public static TeamsChangedEvent ofRemote(Set<TeamId> teamIds, Set<MemberId> memberIds, boolean all) {
+        return new TeamsChangedEvent(teamIds, memberIds, all, true);
+    }
+}
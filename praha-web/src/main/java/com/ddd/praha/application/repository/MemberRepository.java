@@ -3,8 +3,10 @@ package com.ddd.praha.application.repository;
 import com.ddd.praha.domain.entity.Member;
 import com.ddd.praha.domain.model.EnrollmentStatus;
 import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberSearchResult;
 import com.ddd.praha.domain.model.TaskId;
 import com.ddd.praha.domain.model.TaskStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,13 @@ public interface MemberRepository {
      * @return 参加者のリスト
      */
     List<Member> getAll();
+
+    /**
+     * IDのコレクションで参加者をまとめて取得する
+     * @param ids 参加者IDのコレクション
+     * @return 見つかった参加者のリスト（順不同、存在しないIDの参加者は含まない）
+     */
+    List<Member> getAll(Collection<MemberId> ids);
     
     /**
      * IDで参加者を検索する
@@ -41,8 +50,28 @@ public interface MemberRepository {
      * @param statuses ステータスのリスト
      * @param page ページ番号（0から開始）
      * @param size ページサイズ
-     * @return 条件に合致する参加者のリスト
+     * @return 条件に合致する参加者のページと、条件に合致する全件数
+     */
+    MemberSearchResult findMembersByTaskNamesAndStatuses(List<String> taskNames, List<TaskStatus> statuses, int page, int size);
+
+    /**
+     * 指定した全ての課題名について、いずれかのステータスになっている参加者をページングして取得する
+     * @param taskNames 課題名のリスト（完全一致検索、全てを満たす参加者のみ対象）
+     * @param statuses ステータスのリスト
+     * @param page ページ番号（0から開始）
+     * @param size ページサイズ
+     * @return 検索結果（参加者IDの昇順）
+     */
+    MemberSearchResult findMembersMatchingAllTasks(List<String> taskNames, List<TaskStatus> statuses, int page, int size);
+
+    /**
+     * 課題名のリストで検索し、指定された参加者IDより後ろの参加者をID順に取得する（キーセットページング）
+     * @param taskNames 課題名のリスト（完全一致検索）
+     * @param statuses ステータスのリスト
+     * @param after この参加者IDより大きいIDの参加者のみを対象とする（nullの場合は先頭から）
+     * @param limit 取得件数
+     * @return 条件に合致する参加者のリスト（参加者IDの昇順）
      */
-    List<Member> findMembersByTaskNamesAndStatuses(List<String> taskNames, List<TaskStatus> statuses, int page, int size);
+    List<Member> findMembersByTaskNamesAndStatusesAfter(List<String> taskNames, List<TaskStatus> statuses, MemberId after, int limit);
 
 }
\ No newline at end of file
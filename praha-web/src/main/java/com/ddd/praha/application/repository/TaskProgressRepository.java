@@ -3,6 +3,15 @@ package com.ddd.praha.application.repository;
 import com.ddd.praha.domain.entity.Member;
 import com.ddd.praha.domain.entity.TaskProgress;
 import com.ddd.praha.domain.entity.Task;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TaskId;
+import com.ddd.praha.domain.model.TaskProgressKey;
+import com.ddd.praha.domain.model.TaskStatus;
+import com.ddd.praha.domain.model.TaskStatusChange;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * 参加者課題リポジトリインターフェース
@@ -17,10 +26,51 @@ public interface TaskProgressRepository {
      */
     TaskProgress findByMemberAndTask(Member member, Task task);
     
+    /**
+     * 参加者の全ての課題の進捗をまとめて取得する
+     * @param memberId 参加者ID
+     * @return 参加者課題（参加者が存在しない場合はEmpty）
+     */
+    Optional<TaskProgress> findByMember(MemberId memberId);
+
+    /**
+     * 複数の参加者の全ての課題の進捗をまとめて取得する
+     * @param memberIds 参加者IDのリスト
+     * @return 参加者IDと参加者課題のマップ（存在しない参加者は含まれない）
+     */
+    Map<MemberId, TaskProgress> findByMembers(Collection<MemberId> memberIds);
+
     /**
      * 参加者課題を保存する
      * @param taskProgress 参加者課題
      * @param task 更新対象の課題
      */
     void save(TaskProgress taskProgress, Task task);
+
+    /**
+     * 参加者に全ての課題を「未着手」で割り当てる（割り当て済みの課題はそのまま）
+     * @param memberId 参加者ID
+     */
+    void provisionForMember(MemberId memberId);
+
+    /**
+     * 全ての参加者に課題を「未着手」で割り当てる（割り当て済みの参加者はそのまま）
+     * @param taskId 課題ID
+     */
+    void provisionForTask(TaskId taskId);
+
+    /**
+     * 複数の参加者課題の現在の進捗ステータスをまとめて取得する
+     * @param keys 参加者課題のキー
+     * @return キーと進捗ステータスのマップ（存在しない参加者課題は含まれない）
+     */
+    Map<TaskProgressKey, TaskStatus> findStatuses(Collection<TaskProgressKey> keys);
+
+    /**
+     * 複数の参加者課題の進捗ステータスをまとめて更新する
+     * <p>同じ参加者課題への変更が複数ある場合は、リスト順に適用される。
+     * 遷移ルールの検証は呼び出し側で行うこと。</p>
+     * @param changes 進捗ステータスの変更
+     */
+    void saveAll(List<TaskStatusChange> changes);
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package com.ddd.praha.application.repository;
 
 import com.ddd.praha.domain.entity.Team;
 import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TeamCandidates;
 import com.ddd.praha.domain.model.TeamId;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * チームリポジトリインターフェース
@@ -22,6 +24,35 @@ public interface TeamRepository {
      */
     Team get(TeamId id);
 
+    /**
+     * IDでチームを検索する（存在しない場合に例外とせずEmptyを返す）
+     * @param id チームID
+     * @return チーム（存在しない場合はEmpty）
+     */
+    Optional<Team> findById(TeamId id);
+
+    /**
+     * メンバーが所属しているチームを検索する
+     * @param memberId メンバーID
+     * @return チーム（所属していない場合はEmpty）
+     */
+    Optional<Team> findByMemberId(MemberId memberId);
+
+    /**
+     * 合流先の候補となるチームを取得する
+     * <p>4名未満のチームのうち、最小人数のチームのみを返す。</p>
+     * @param excludeTeamId 候補から除外するチーム（合流元のチーム）
+     * @return 候補チーム（存在しない場合は空）
+     */
+    TeamCandidates findMergeCandidates(TeamId excludeTeamId);
+
+    /**
+     * 復帰メンバーの割り当て先の候補となるチームを取得する
+     * <p>4名未満のチームのうち最小人数のチームを返す。
+     * 4名未満のチームが存在しない場合は、全チームのうち最小人数のチームを返す（分割前提）。</p>
+     * @return 候補チーム（チームが存在しない場合は空）
+     */
+    TeamCandidates findAssignmentCandidates();
 
     /**
      * チームを保存する（新規追加または更新）
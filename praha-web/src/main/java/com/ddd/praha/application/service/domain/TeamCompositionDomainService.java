@@ -87,6 +87,21 @@ public class TeamCompositionDomainService {
     return TeamRedistributionResult.normal(noChangeComposition, removedMember);
   }
 
+  /**
+   * チームからメンバーを削除し、絞り込み済みの候補チームを使って再編成を実行する。
+   *
+   * <p>{@link #executeRedistribution(Team, Member, List)} と同じルールを適用するが、
+   * 合流先の探索は全チームではなくリポジトリで絞り込まれた候補チームに対して行う。</p>
+   *
+   * @param team メンバーを削除するチーム
+   * @param removedMember 削除されるメンバー
+   * @param candidates 合流先候補（4名未満かつ最小人数のチーム）
+   * @return チーム再編成結果（監視・合流・失敗の状態を含む）
+   */
+  public TeamRedistributionResult executeRedistribution(Team team, Member removedMember, TeamCandidates candidates) {
+    return executeRedistribution(team, removedMember, candidates.teams());
+  }
+
   /**
    * 復帰したメンバーを最適なチームに割り当てる。
    * 
@@ -110,4 +125,18 @@ public class TeamCompositionDomainService {
     
     return TeamCompositionResult.normal(composition);
   }
-}
\ No newline at end of file
+
+  /**
+   * 復帰したメンバーを、絞り込み済みの候補チームのいずれかに割り当てる。
+   *
+   * <p>候補チームは既に最小人数のものだけに絞り込まれているため、
+   * その中からランダムに1チームを選択してメンバーを追加する。</p>
+   *
+   * @param member 復帰するメンバー
+   * @param candidates 割り当て候補（最小人数のチーム）
+   * @return チーム編成結果（分割の有無を含む）
+   */
+  public TeamCompositionResult assignMemberToTeam(Member member, TeamCandidates candidates) {
+    return assignMemberToTeam(member, candidates.teams());
+  }
+}
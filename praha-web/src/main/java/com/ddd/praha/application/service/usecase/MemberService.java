@@ -1,12 +1,15 @@
 package com.ddd.praha.application.service.usecase;
 
 import com.ddd.praha.application.repository.MemberRepository;
+import com.ddd.praha.application.repository.TaskProgressRepository;
 import com.ddd.praha.application.repository.TeamRepository;
 import com.ddd.praha.domain.entity.*;
 import com.ddd.praha.domain.model.*;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +31,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final TeamRepository teamRepository;
     private final TeamOrchestrationService teamOrchestrationService;
+    private final TaskProgressRepository taskProgressRepository;
     
     /**
      * MemberServiceのコンストラクタ。
@@ -35,13 +39,16 @@ public class MemberService {
      * @param memberRepository 参加者リポジトリ
      * @param teamRepository チームリポジトリ
      * @param teamOrchestrationService チーム編成オーケストレーションサービス
+     * @param taskProgressRepository 課題進捗リポジトリ
      */
     public MemberService(MemberRepository memberRepository, 
                         TeamRepository teamRepository,
-                        TeamOrchestrationService teamOrchestrationService) {
+                        TeamOrchestrationService teamOrchestrationService,
+                        TaskProgressRepository taskProgressRepository) {
         this.memberRepository = memberRepository;
         this.teamRepository = teamRepository;
         this.teamOrchestrationService = teamOrchestrationService;
+        this.taskProgressRepository = taskProgressRepository;
     }
 
     /**
@@ -62,6 +69,15 @@ public class MemberService {
     public List<Member> getAll() {
         return memberRepository.getAll();
     }
+
+    /**
+     * 指定されたIDの参加者をまとめて取得する
+     * @param memberIds 参加者IDのコレクション
+     * @return 見つかった参加者のリスト（順不同、存在しないIDの参加者は含まない）
+     */
+    public List<Member> getAll(Collection<MemberId> memberIds) {
+        return memberRepository.getAll(memberIds);
+    }
     
     /**
      * IDで参加者を検索する
@@ -72,15 +88,27 @@ public class MemberService {
         return memberRepository.findById(id);
     }
     
+    /**
+     * 参加者の全ての課題の進捗を取得する
+     * @param id 参加者ID
+     * @return 課題進捗（参加者が存在しない場合はEmpty）
+     */
+    public Optional<TaskProgress> findTaskProgress(MemberId id) {
+        return taskProgressRepository.findByMember(id);
+    }
+    
     /**
      * 新しい参加者を追加する
+     * <p>追加した参加者には、全ての課題が「未着手」で割り当てられる。</p>
      * @param name 参加者名
      * @param email メールアドレス
      * @param status 在籍ステータス
      */
+    @Transactional
     public void addMember(MemberName name, Email email, EnrollmentStatus status) {
         Member newMember = new Member(name, email, status);
         memberRepository.save(newMember);
+        taskProgressRepository.provisionForMember(newMember.getId());
     }
     
     /**
@@ -124,11 +152,7 @@ public class MemberService {
      * メンバーが所属しているチームを探す
      */
     private Optional<Team> findMemberTeam(MemberId memberId) {
-        List<Team> allTeams = teamRepository.getAll();
-        return allTeams.stream()
-            .filter(team -> team.getMembers().stream()
-                .anyMatch(member -> member.getId().equals(memberId)))
-            .findFirst();
+        return teamRepository.findByMemberId(memberId);
     }
 
     /**
@@ -144,7 +168,44 @@ public class MemberService {
             List<TaskStatus> statuses,
             int page,
             int size) {
-        List<Member> members = memberRepository.findMembersByTaskNamesAndStatuses(taskNames, statuses, page, size);
-        return new MemberSearchResult(members, page, size, members.size());
+        return memberRepository.findMembersByTaskNamesAndStatuses(taskNames, statuses, page, size);
+    }
+
+    /**
+     * 指定した全ての課題が特定のステータスになっている参加者を、ページングして取得する
+     * <p>例：「設計原則（SOLID）」と「DBモデリング1」の両方を「完了」している参加者</p>
+     * @param taskNames 課題名のリスト（完全一致検索）
+     * @param statuses ステータスのリスト
+     * @param page ページ番号（0から開始）
+     * @param size ページサイズ
+     * @return 検索結果
+     */
+    public MemberSearchResult searchMembersMatchingAllTasks(
+            List<String> taskNames,
+            List<TaskStatus> statuses,
+            int page,
+            int size) {
+        return memberRepository.findMembersMatchingAllTasks(taskNames, statuses, page, size);
+    }
+
+    /**
+     * 課題名のリストで検索し、特定のステータスになっている参加者をカーソル方式で取得する
+     * <p>参加者IDの昇順で、指定された参加者IDより後ろの参加者を最大size件取得する。
+     * ページ位置に関係なく一定のコストで取得できるため、全件を順に読み進める用途に向く。</p>
+     * @param taskNames 課題名のリスト（完全一致検索）
+     * @param statuses ステータスのリスト
+     * @param after 前のページ末尾の参加者ID（nullの場合は先頭から）
+     * @param size ページサイズ
+     * @return 検索結果
+     */
+    public MemberSearchSlice searchMembersByTaskNamesAndStatusesAfter(
+            List<String> taskNames,
+            List<TaskStatus> statuses,
+            MemberId after,
+            int size) {
+        // 続きの有無を判定するため1件多く取得する
+        List<Member> members = memberRepository.findMembersByTaskNamesAndStatusesAfter(taskNames, statuses, after, size + 1);
+        boolean hasNext = members.size() > size;
+        return new MemberSearchSlice(hasNext ? members.subList(0, size) : members, size, hasNext);
     }
 }
\ No newline at end of file
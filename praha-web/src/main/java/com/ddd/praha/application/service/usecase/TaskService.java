@@ -5,8 +5,12 @@ import com.ddd.praha.application.repository.TaskRepository;
 import com.ddd.praha.domain.entity.*;
 import com.ddd.praha.domain.model.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 課題管理のアプリケーションサービス。
@@ -64,13 +68,16 @@ public class TaskService {
     /**
      * 新しい課題を作成して保存する。
      * 
-     * <p>課題IDは自動生成され、リポジトリに保存される。</p>
+     * <p>課題IDは自動生成され、リポジトリに保存される。
+     * 作成した課題は、全ての参加者に「未着手」で割り当てられる。</p>
      * 
      * @param name 課題名
      */
+    @Transactional
     public void addTask(TaskName name) {
         Task newTask = new Task(name);
         taskRepository.save(newTask);
+        taskProgressRepository.provisionForTask(newTask.getId());
     }
 
     /**
@@ -106,4 +113,41 @@ public class TaskService {
         taskProgressRepository.save(taskProgress, task);
     }
 
+    /**
+     * 複数の参加者課題の進捗ステータスをまとめて更新する。
+     *
+     * <p>外部の学習管理システムとの同期など、大量の進捗変更を取り込むために使用する。
+     * 対象の参加者課題を1回の問い合わせでまとめて取得し、1件ずつステータス遷移ルールを検証したうえで、
+     * 検証を通過した変更のみをまとめて保存する。</p>
+     *
+     * <p>同じ参加者課題への変更が複数含まれる場合は、リスト順に前の変更を適用した後のステータスから検証する。</p>
+     *
+     * @param changes 進捗ステータスの変更のリスト
+     * @return 変更ごとの処理結果（変更のリストと同じ順序）
+     */
+    @Transactional
+    public List<TaskStatusChangeResult> updateTaskStatuses(List<TaskStatusChange> changes) {
+        Map<TaskProgressKey, TaskStatus> statuses = new HashMap<>(
+            taskProgressRepository.findStatuses(changes.stream().map(TaskStatusChange::key).toList()));
+        TaskStatusTransition transition = new TaskStatusTransition();
+
+        List<TaskStatusChangeResult> results = new ArrayList<>(changes.size());
+        List<TaskStatusChange> accepted = new ArrayList<>();
+        for (TaskStatusChange change : changes) {
+            TaskStatus current = statuses.get(change.key());
+            if (current == null) {
+                results.add(TaskStatusChangeResult.failure(change, "指定された課題が見つかりません"));
+            } else if (!transition.canTransit(current, change.status())) {
+                results.add(TaskStatusChangeResult.failure(change, "このステータス変更は許可されていません"));
+            } else {
+                statuses.put(change.key(), change.status());
+                accepted.add(change);
+                results.add(TaskStatusChangeResult.success(change));
+            }
+        }
+
+        taskProgressRepository.saveAll(accepted);
+        return results;
+    }
+
 }
\ No newline at end of file
@@ -9,8 +9,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * チーム編成オーケストレーションサービス。
  * 
@@ -93,9 +91,9 @@ public class TeamOrchestrationService {
 
     public Team removeMemberFromTeam(TeamId teamId, Member member) {
         Team team = teamRepository.get(teamId);
-        List<Team> allTeams = teamRepository.getAll();
+        TeamCandidates candidates = teamRepository.findMergeCandidates(teamId);
 
-        TeamRedistributionResult result = domainService.executeRedistribution(team, member, allTeams);
+        TeamRedistributionResult result = domainService.executeRedistribution(team, member, candidates);
 
         // 監視が必要な場合
         if (result.requiresMonitoring()) {
@@ -131,9 +129,9 @@ public class TeamOrchestrationService {
      * @param member 復帰するメンバー
      */
     public void assignMemberToTeam(Member member) {
-        List<Team> allTeams = teamRepository.getAll();
+        TeamCandidates candidates = teamRepository.findAssignmentCandidates();
         
-        TeamCompositionResult result = domainService.assignMemberToTeam(member, allTeams);
+        TeamCompositionResult result = domainService.assignMemberToTeam(member, candidates);
         
         // チーム分割が必要な場合
         if (result.requiresSplit()) {
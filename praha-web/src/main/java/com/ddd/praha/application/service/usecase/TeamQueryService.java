@@ -6,6 +6,7 @@ import com.ddd.praha.domain.model.*;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * チーム照会専用サービス
@@ -34,4 +35,13 @@ public class TeamQueryService {
     public Team get(TeamId id) {
         return teamRepository.get(id);
     }
+
+    /**
+     * IDでチームを検索する
+     * @param id チームID
+     * @return チーム（存在しない場合はEmpty）
+     */
+    public Optional<Team> find(TeamId id) {
+        return teamRepository.findById(id);
+    }
 }
\ No newline at end of file
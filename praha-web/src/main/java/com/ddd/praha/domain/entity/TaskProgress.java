@@ -1,6 +1,9 @@
 package com.ddd.praha.domain.entity;
 
 import com.ddd.praha.domain.model.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -85,4 +88,30 @@ public class TaskProgress {
     return map.get(Task);
   }
 
+  /**
+   * 全ての課題と進捗ステータスを取得する。
+   * 
+   * @return 課題と進捗ステータスのマッピング（変更不可）
+   */
+  public Map<Task, TaskStatus> getTaskStatuses() {
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * 課題を進捗ステータスごとに分類する。
+   * 
+   * <p>全てのステータスをキーに持ち、該当する課題がないステータスは空のリストになる。
+   * 各リスト内の課題の順序は、課題進捗が保持している順序に従う。</p>
+   * 
+   * @return ステータスごとの課題リスト
+   */
+  public Map<TaskStatus, List<Task>> groupByStatus() {
+    Map<TaskStatus, List<Task>> grouped = new EnumMap<>(TaskStatus.class);
+    for (TaskStatus status : TaskStatus.values()) {
+      grouped.put(status, new ArrayList<>());
+    }
+    map.forEach((task, status) -> grouped.get(status).add(task));
+    return grouped;
+  }
+
 }
@@ -237,13 +237,13 @@ public class Team {
     
     // 最小人数を見つける
     int minSize = candidateTeams.stream()
-        .mapToInt(t -> t.getMembers().size())
+        .mapToInt(t -> t.list.size())
         .min()
         .orElse(Integer.MAX_VALUE);
     
     // 最小人数のチームを全て取得
     List<Team> smallestTeams = candidateTeams.stream()
-        .filter(t -> t.getMembers().size() == minSize)
+        .filter(t -> t.list.size() == minSize)
         .toList();
     
     // 同じ人数の場合はランダムに選択
@@ -279,13 +279,13 @@ public class Team {
     
     // 最小人数を見つける
     int minSize = candidateTeams.stream()
-        .mapToInt(t -> t.getMembers().size())
+        .mapToInt(t -> t.list.size())
         .min()
         .orElse(Integer.MAX_VALUE);
     
     // 最小人数のチームを全て取得
     List<Team> smallestTeams = candidateTeams.stream()
-        .filter(t -> t.getMembers().size() == minSize)
+        .filter(t -> t.list.size() == minSize)
         .toList();
     
     // 同じ人数の場合はランダムに選択
@@ -0,0 +1,44 @@
+package com.ddd.praha.domain.model;
+
+import com.ddd.praha.domain.entity.Member;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * カーソル（キーセット）方式のメンバー検索結果
+ * 参加者IDの昇順で取得した1ページ分のメンバーと、続きがあるかどうかを保持する
+ */
+public class MemberSearchSlice {
+    private final List<Member> members;
+    private final int size;
+    private final boolean hasNext;
+
+    public MemberSearchSlice(List<Member> members, int size, boolean hasNext) {
+        this.members = members;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * 次のページを取得するための基準となる参加者ID
+     * @return ページ末尾の参加者ID（続きがない場合はEmpty）
+     */
+    public Optional<MemberId> nextAfter() {
+        if (!hasNext || members.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(members.getLast().getId());
+    }
+}
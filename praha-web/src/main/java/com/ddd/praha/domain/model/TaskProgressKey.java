@@ -0,0 +1,17 @@
+package com.ddd.praha.domain.model;
+
+import java.util.Objects;
+
+/**
+ * 参加者課題（参加者と課題の組）を識別する値オブジェクト。
+ *
+ * @param memberId 参加者ID
+ * @param taskId 課題ID
+ * @throws NullPointerException いずれかの引数がnullの場合
+ */
+public record TaskProgressKey(MemberId memberId, TaskId taskId) {
+  public TaskProgressKey {
+    Objects.requireNonNull(memberId, "参加者IDは必須です");
+    Objects.requireNonNull(taskId, "課題IDは必須です");
+  }
+}
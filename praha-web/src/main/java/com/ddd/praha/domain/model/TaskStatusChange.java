@@ -0,0 +1,30 @@
+package com.ddd.praha.domain.model;
+
+import java.util.Objects;
+
+/**
+ * 参加者課題の進捗ステータスの変更要求を表す値オブジェクト。
+ *
+ * <p>一括更新で、参加者・課題・変更後のステータスの組を1件ずつ表現する。</p>
+ *
+ * @param memberId 参加者ID
+ * @param taskId 課題ID
+ * @param status 変更後の進捗ステータス
+ * @throws NullPointerException いずれかの引数がnullの場合
+ */
+public record TaskStatusChange(MemberId memberId, TaskId taskId, TaskStatus status) {
+  public TaskStatusChange {
+    Objects.requireNonNull(memberId, "参加者IDは必須です");
+    Objects.requireNonNull(taskId, "課題IDは必須です");
+    Objects.requireNonNull(status, "ステータスは必須です");
+  }
+
+  /**
+   * 変更対象の参加者課題を取得する。
+   *
+   * @return 参加者課題のキー
+   */
+  public TaskProgressKey key() {
+    return new TaskProgressKey(memberId, taskId);
+  }
+}
@@ -0,0 +1,38 @@
+package com.ddd.praha.domain.model;
+
+import java.util.Objects;
+
+/**
+ * 進捗ステータスの変更要求1件ごとの処理結果を表す値オブジェクト。
+ *
+ * @param change 変更要求
+ * @param succeeded 変更が適用された場合はtrue
+ * @param errorMessage 変更が適用されなかった理由（成功時はnull）
+ * @throws NullPointerException changeがnullの場合
+ */
+public record TaskStatusChangeResult(TaskStatusChange change, boolean succeeded, String errorMessage) {
+  public TaskStatusChangeResult {
+    Objects.requireNonNull(change, "変更要求は必須です");
+  }
+
+  /**
+   * 変更が適用された結果を作成する。
+   *
+   * @param change 変更要求
+   * @return 成功の結果
+   */
+  public static TaskStatusChangeResult success(TaskStatusChange change) {
+    return new TaskStatusChangeResult(change, true, null);
+  }
+
+  /**
+   * 変更が適用されなかった結果を作成する。
+   *
+   * @param change 変更要求
+   * @param errorMessage 適用されなかった理由
+   * @return 失敗の結果
+   */
+  public static TaskStatusChangeResult failure(TaskStatusChange change, String errorMessage) {
+    return new TaskStatusChangeResult(change, false, errorMessage);
+  }
+}
@@ -0,0 +1,30 @@
+package com.ddd.praha.domain.model;
+
+import com.ddd.praha.domain.entity.Team;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 合流先・割り当て先の候補チームを表す値オブジェクト。
+ *
+ * <p>全チームではなく、リポジトリで「4名未満かつ最小人数」に絞り込まれたチームのみを保持する。
+ * 候補が空の場合は合流先が存在しないことを意味する。</p>
+ *
+ * @param teams 候補チームのリスト
+ * @throws NullPointerException teamsがnullの場合
+ */
+public record TeamCandidates(List<Team> teams) {
+  public TeamCandidates {
+    Objects.requireNonNull(teams, "候補チームリストは必須です");
+    teams = List.copyOf(teams);
+  }
+
+  /**
+   * 候補チームが存在しないかどうかを判定する。
+   *
+   * @return 候補が空の場合はtrue
+   */
+  public boolean isEmpty() {
+    return teams.isEmpty();
+  }
+}
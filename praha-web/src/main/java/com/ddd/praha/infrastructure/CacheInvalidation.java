@@ -0,0 +1,109 @@
+package com.ddd.praha.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 他のノードに通知するキャッシュの無効化1件分
+ *
+ * <p>複数件をまとめて1つのメッセージで送信する。メッセージの本文は1件を1行で表すUTF-8のテキストで、
+ * 各行は種別の1文字・版数・IDを空白で区切ったもの（例: {@code T 42 team-id}）。</p>
+ *
+ * @param kind 無効化の種別
+ * @param version 送信元のノードで送信順に増える版数（送信前は0）
+ * @param id 無効化するエンティティのID（{@link Kind#ALL} の場合は空文字）
+ */
+record CacheInvalidation(Kind kind, long version, String id) {
+
+    /**
+     * メッセージのContent-Type
+     */
+    static final String CONTENT_TYPE = "application/vnd.praha.cache-invalidation.v1+text";
+
+    /**
+     * 無効化の種別
+     */
+    enum Kind {
+        /**
+         * チーム（チームの一覧も無効化する）
+         */
+        TEAM('T'),
+        /**
+         * 参加者（所属するチームも無効化する）
+         */
+        MEMBER('M'),
+        /**
+         * 参加者の課題の進捗（課題進捗インデックスの参加者を読み直す）
+         */
+        TASK_PROGRESS('P'),
+        /**
+         * 全てのキャッシュ（通知を取りこぼした可能性がある場合）
+         */
+        ALL('A');
+
+        private final char code;
+
+        Kind(char code) {
+            this.code = code;
+        }
+
+        static Kind of(char code) {
+            for (Kind kind : values()) {
+                if (kind.code == code) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("未対応の無効化の種別です: " + code);
+        }
+    }
+
+    CacheInvalidation {
+        if (id.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("IDに改行を含めることはできません: " + id);
+        }
+    }
+
+    static CacheInvalidation all(long version) {
+        return new CacheInvalidation(Kind.ALL, version, "");
+    }
+
+    CacheInvalidation withVersion(long version) {
+        return new CacheInvalidation(kind, version, id);
+    }
+
+    /**
+     * 無効化をメッセージの本文に変換する
+     * @param invalidations 無効化
+     * @return メッセージの本文
+     */
+    static byte[] encode(List<CacheInvalidation> invalidations) {
+        StringBuilder body = new StringBuilder(invalidations.size() * 48);
+        for (CacheInvalidation invalidation : invalidations) {
+            body.append(invalidation.kind().code).append(' ')
+                .append(invalidation.version()).append(' ')
+                .append(invalidation.id()).append('\n');
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * メッセージの本文から無効化を復元する
+     * @param body メッセージの本文
+     * @return 無効化
+     */
+    static List<CacheInvalidation> decode(byte[] body) {
+        List<CacheInvalidation> invalidations = new ArrayList<>();
+        for (String line : new String(body, StandardCharsets.UTF_8).split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(" ", 3);
+            if (fields.length != 3 || fields[0].length() != 1) {
+                throw new IllegalArgumentException("無効化の形式が不正です: " + line);
+            }
+            invalidations.add(new CacheInvalidation(Kind.of(fields[0].charAt(0)), Long.parseLong(fields[1]), fields[2]));
+        }
+        return invalidations;
+    }
+}
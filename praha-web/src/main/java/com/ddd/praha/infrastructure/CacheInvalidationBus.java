@@ -0,0 +1,407 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.application.event.TaskProgressChangedEvent;
+import com.ddd.praha.application.event.TeamsChangedEvent;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TeamId;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerRestartedEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * キャッシュの無効化をノード間で通知するバス。
+ *
+ * <p>このノードで無効化したチーム・参加者（{@link TeamsChangedEvent}）と、課題の進捗が変わった参加者
+ * （{@link TaskProgressChangedEvent}）を、種別・ID・版数の組として
+ * ファンアウトエクスチェンジに送信する。各ノードは自分専用の自動削除キューで受信し、
+ * {@link TeamSnapshotCache}・{@link MemberSnapshotCache} から該当するエントリを取り除く。自分が送信したメッセージは無視する。</p>
+ *
+ * <p>送信は専用スレッドで行い、最初の無効化から {@code linger} の間、または {@code batch-size} 件に達するまで
+ * まとめて1つのメッセージにする。版数はこのスレッドがメッセージを組み立てる時点で付けるため、
+ * 送信順（各ノードのキューへの到着順）と一致し、受信側は受信済みの版数以下を再配送として読み飛ばせる。
+ * 版数は起動ごとに1から数え直すため、起動ごとの識別子をメッセージに付け、受信側は送信元のノードと
+ * 起動ごとの識別子の組ごとに受信済みの版数を記録する（ノードの識別子を固定した場合も、再起動後の通知を読み飛ばさない）。</p>
+ *
+ * <p>ブローカーに接続できない間は、このノードのキャッシュの無効化のみを行う（書き込みは失敗させない）。
+ * 送信できなかった無効化や、送信バッファから溢れた無効化は個別には再送せず、接続が回復した時点で
+ * 全てのキャッシュの無効化（{@link CacheInvalidation.Kind#ALL}）を送信する。
+ * 受信側でも、受信が途切れた場合は通知を取りこぼした可能性があるため、このノードの全てのキャッシュを無効化する。</p>
+ *
+ * <p>受信した無効化は {@link TeamSnapshotCache} から {@link TeamsChangedEvent}（{@code remote}）として通知されるため、
+ * {@link TeamSizeIndex} などのノードごとのインデックスもこのイベントで読み直す。課題の進捗は
+ * {@link TaskProgressChangedEvent}（{@code remote}）として通知し、{@link TaskStatusMemberIndex} が読み直す。
+ * {@link MemberSearchCountCache} はTTLの間は古い件数を許容するキャッシュのため、ノード間では無効化しない。</p>
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    /**
+     * 無効化を通知するファンアウトエクスチェンジ名
+     */
+    public static final String EXCHANGE = "praha.cache.invalidation";
+
+    /**
+     * 送信元のノードを表すヘッダー名
+     */
+    static final String ORIGIN_HEADER = "x-praha-origin";
+
+    /**
+     * 送信元のノードの起動ごとの識別子を表すヘッダー名
+     */
+    static final String INCARNATION_HEADER = "x-praha-incarnation";
+
+    // 受信した版数を記録する送信元の数の上限（送信元は起動ごとに変わるため、古いものから捨てる）
+    private static final int MAX_TRACKED_ORIGINS = 1024;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final TeamSnapshotCache teamCache;
+    private final MemberSnapshotCache memberCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String nodeId;
+    private final String incarnation = UUID.randomUUID().toString();
+    private final BlockingQueue<CacheInvalidation> buffer;
+    private final Duration linger;
+    private final int batchSize;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicBoolean resyncRequired = new AtomicBoolean();
+    private final Map<String, Long> receivedVersions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_TRACKED_ORIGINS;
+        }
+    };
+    private volatile boolean brokerAvailable = true;
+    private volatile Thread publisherThread;
+
+    @Autowired
+    public CacheInvalidationBus(RabbitTemplate rabbitTemplate,
+                                TeamSnapshotCache teamCache,
+                                MemberSnapshotCache memberCache,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${praha.cache-bus.enabled:true}") boolean enabled,
+                                @Value("${praha.cache-bus.node-id:}") String nodeId,
+                                @Value("${praha.cache-bus.capacity:10000}") int capacity,
+                                @Value("${praha.cache-bus.linger:20ms}") Duration linger,
+                                @Value("${praha.cache-bus.batch-size:100}") int batchSize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("送信バッファの容量は1以上である必要があります: " + capacity);
+        }
+        this.rabbitTemplate = rabbitTemplate;
+        this.teamCache = teamCache;
+        this.memberCache = memberCache;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.linger = linger;
+        this.batchSize = batchSize;
+    }
+
+    CacheInvalidationBus(RabbitTemplate rabbitTemplate, TeamSnapshotCache teamCache, MemberSnapshotCache memberCache,
+                         ApplicationEventPublisher eventPublisher, String nodeId, int capacity) {
+        this(rabbitTemplate, teamCache, memberCache, eventPublisher, true, nodeId, capacity, Duration.ZERO, 100);
+    }
+
+    /**
+     * このノードの識別子
+     * @return ノードの識別子
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * このノードが受信に使うキュー名
+     * @return キュー名
+     */
+    public String queueName() {
+        return EXCHANGE + "." + nodeId;
+    }
+
+    /**
+     * 送信バッファに積まれている無効化の件数
+     * @return 件数
+     */
+    public int depth() {
+        return buffer.size();
+    }
+
+    /**
+     * このノードでの変更を送信バッファに積む
+     * <p>他のノードから受信した変更は送り返さない。バッファが満杯の場合は積まずに、
+     * 次の送信で全てのキャッシュの無効化を通知する。</p>
+     * @param event 変更のイベント
+     */
+    @EventListener
+    public void onTeamsChanged(TeamsChangedEvent event) {
+        if (!enabled || event.remote()) {
+            return;
+        }
+        if (event.all()) {
+            resyncRequired.set(true);
+            return;
+        }
+        // 版数は送信時に付ける
+        for (TeamId teamId : event.teamIds()) {
+            enqueue(new CacheInvalidation(CacheInvalidation.Kind.TEAM, 0, teamId.value()));
+        }
+        for (MemberId memberId : event.memberIds()) {
+            enqueue(new CacheInvalidation(CacheInvalidation.Kind.MEMBER, 0, memberId.value()));
+        }
+    }
+
+    /**
+     * このノードでの課題の進捗の変更を送信バッファに積む
+     * @param event 変更のイベント
+     */
+    @EventListener
+    public void onTaskProgressChanged(TaskProgressChangedEvent event) {
+        if (!enabled || event.remote()) {
+            return;
+        }
+        if (event.all()) {
+            resyncRequired.set(true);
+            return;
+        }
+        for (MemberId memberId : event.memberIds()) {
+            enqueue(new CacheInvalidation(CacheInvalidation.Kind.TASK_PROGRESS, 0, memberId.value()));
+        }
+    }
+
+    /**
+     * 他のノードから無効化を受信し、このノードのキャッシュから取り除く
+     * @param message 受信したメッセージ
+     */
+    @RabbitListener(id = "cacheInvalidation", queues = "#{__listener.queueName()}",
+        autoStartup = "${praha.cache-bus.enabled:true}")
+    public void onMessage(Message message) {
+        String origin = message.getMessageProperties().getHeader(ORIGIN_HEADER);
+        if (origin == null || origin.equals(nodeId)) {
+            return;
+        }
+        String incarnation = message.getMessageProperties().getHeader(INCARNATION_HEADER);
+        try {
+            apply(incarnation == null ? origin : origin + "/" + incarnation, CacheInvalidation.decode(message.getBody()));
+        } catch (IllegalArgumentException e) {
+            // 再配送しても解釈できないため破棄し、取りこぼしとして扱う
+            logger.warn("キャッシュの無効化を解釈できませんでした（送信元: {}）", origin, e);
+            evictAll();
+        }
+    }
+
+    /**
+     * 受信が途切れた間の通知を取りこぼした可能性があるため、このノードの全てのキャッシュを無効化する
+     * @param event 受信の失敗のイベント
+     */
+    @EventListener
+    public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+        if (isOwnContainer(event.getSource())) {
+            logger.warn("キャッシュの無効化の受信が途切れたため、このノードのキャッシュを全て無効化します: {}", event.getReason());
+            evictAll();
+        }
+    }
+
+    /**
+     * 受信を再開するまでの通知を取りこぼした可能性があるため、このノードの全てのキャッシュを無効化する
+     * @param event 受信の再開のイベント
+     */
+    @EventListener
+    public void onConsumerRestarted(AsyncConsumerRestartedEvent event) {
+        if (isOwnContainer(event.getSource())) {
+            logger.info("キャッシュの無効化の受信を再開したため、このノードのキャッシュを全て無効化します");
+            evictAll();
+        }
+    }
+
+    /**
+     * 専用の送信スレッドを開始する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || publisherThread != null) {
+            return;
+        }
+        publisherThread = Thread.ofPlatform()
+            .name("cache-invalidation-publisher")
+            .daemon(true)
+            .start(this::runLoop);
+        logger.info("キャッシュの無効化の通知を開始しました（ノード: {}）", nodeId);
+    }
+
+    /**
+     * 専用の送信スレッドを停止する
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        Thread thread = publisherThread;
+        if (thread == null) {
+            return;
+        }
+        publisherThread = null;
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        while (publisherThread != null) {
+            try {
+                publish(nextBatch());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 送信バッファから1バッチ分の無効化を取り出す
+     * <p>最初の1件が届いてから {@code linger} の間、または {@code batch-size} 件に達するまで待ってまとめる。
+     * 1秒待っても届かなければ空のバッチを返す（未送信の全件の無効化を再送する機会にする）。</p>
+     */
+    List<CacheInvalidation> nextBatch() throws InterruptedException {
+        CacheInvalidation first = buffer.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<CacheInvalidation> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + linger.toNanos();
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            CacheInvalidation next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * 無効化に版数を付け、1つのメッセージで他のノードに送信する
+     * <p>取りこぼしがある場合は、バッチの代わりに全てのキャッシュの無効化を送信する。
+     * 送信に失敗した場合は、接続の回復後に全てのキャッシュの無効化を送信する。
+     * 版数の順序が送信順と一致するよう、送信スレッドからのみ呼び出す。</p>
+     * @param batch 無効化
+     */
+    void publish(List<CacheInvalidation> batch) {
+        boolean resync = resyncRequired.getAndSet(false);
+        List<CacheInvalidation> invalidations = resync
+            ? List.of(CacheInvalidation.all(versions.incrementAndGet()))
+            : batch.stream().map(invalidation -> invalidation.withVersion(versions.incrementAndGet())).toList();
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        try {
+            Message message = MessageBuilder.withBody(CacheInvalidation.encode(invalidations))
+                .setContentType(CacheInvalidation.CONTENT_TYPE)
+                .setHeader(ORIGIN_HEADER, nodeId)
+                .setHeader(INCARNATION_HEADER, incarnation)
+                .build();
+            rabbitTemplate.send(EXCHANGE, "", message);
+            if (!brokerAvailable) {
+                brokerAvailable = true;
+                logger.info("キャッシュの無効化の通知を再開しました");
+            }
+        } catch (AmqpException e) {
+            resyncRequired.set(true);
+            if (brokerAvailable) {
+                brokerAvailable = false;
+                logger.warn("キャッシュの無効化を他のノードに通知できないため、このノードのキャッシュのみ無効化します", e);
+            }
+        }
+    }
+
+    private void enqueue(CacheInvalidation invalidation) {
+        if (!buffer.offer(invalidation)) {
+            resyncRequired.set(true);
+        }
+    }
+
+    /**
+     * 受信した無効化のうち、受信済みの版数より新しいものを適用する
+     * @param source 送信元（ノードと起動ごとの識別子の組）
+     */
+    private void apply(String source, List<CacheInvalidation> invalidations) {
+        Set<TeamId> teamIds = new HashSet<>();
+        Set<MemberId> memberIds = new HashSet<>();
+        Set<MemberId> progressMemberIds = new HashSet<>();
+        boolean all = false;
+        synchronized (receivedVersions) {
+            long received = receivedVersions.getOrDefault(source, 0L);
+            for (CacheInvalidation invalidation : invalidations) {
+                // 再配送などで受信済みの版数は適用しない
+                if (invalidation.version() <= received) {
+                    continue;
+                }
+                switch (invalidation.kind()) {
+                    case TEAM -> teamIds.add(new TeamId(invalidation.id()));
+                    case MEMBER -> memberIds.add(new MemberId(invalidation.id()));
+                    case TASK_PROGRESS -> progressMemberIds.add(new MemberId(invalidation.id()));
+                    case ALL -> all = true;
+                }
+                receivedVersions.merge(source, invalidation.version(), Math::max);
+            }
+        }
+        if (all || !memberIds.isEmpty()) {
+            memberCache.evictRemote(memberIds, all);
+        }
+        if (all || !teamIds.isEmpty() || !memberIds.isEmpty()) {
+            teamCache.evictRemote(teamIds, memberIds, all);
+        }
+        if (all || !progressMemberIds.isEmpty()) {
+            eventPublisher.publishEvent(TaskProgressChangedEvent.ofRemote(progressMemberIds, all));
+        }
+    }
+
+    private void evictAll() {
+        memberCache.evictRemote(Set.of(), true);
+        teamCache.evictRemote(Set.of(), Set.of(), true);
+        eventPublisher.publishEvent(TaskProgressChangedEvent.ofRemote(Set.of(), true));
+    }
+
+    private boolean isOwnContainer(Object source) {
+        return source instanceof AbstractMessageListenerContainer container
+            && Arrays.asList(container.getQueueNames()).contains(queueName());
+    }
+}
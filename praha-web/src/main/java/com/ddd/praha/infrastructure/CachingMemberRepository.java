@@ -0,0 +1,109 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.application.repository.MemberRepository;
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberSearchResult;
+import com.ddd.praha.domain.model.TaskStatus;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 参加者の読み取りを {@link MemberSnapshotCache} でキャッシュする参加者リポジトリ。
+ *
+ * <p>{@link #get}・{@link #findById}・IDを指定した {@link #getAll(Collection)} はキャッシュにない場合のみ {@link MemberRepositoryImpl} から読み込む。
+ * 書き込みは {@link MemberRepositoryImpl} に委譲したうえで、変更した参加者を無効化する。
+ * 全件の取得と検索は結果が大きく再利用されにくいため、キャッシュせずに委譲する。</p>
+ */
+@Repository
+@Primary
+public class CachingMemberRepository implements MemberRepository {
+
+    private final MemberRepositoryImpl delegate;
+    private final MemberSnapshotCache cache;
+
+    public CachingMemberRepository(MemberRepositoryImpl delegate, MemberSnapshotCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Member get(MemberId id) {
+        return cache.get(id).orElseGet(() -> {
+            long generation = cache.generation();
+            Member member = delegate.get(id);
+            cache.put(member, generation);
+            return member;
+        });
+    }
+
+    @Override
+    public List<Member> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<Member> getAll(Collection<MemberId> ids) {
+        List<Member> members = new ArrayList<>(ids.size());
+        List<MemberId> missing = new ArrayList<>();
+        for (MemberId id : new LinkedHashSet<>(ids)) {
+            cache.get(id).ifPresentOrElse(members::add, () -> missing.add(id));
+        }
+        if (missing.isEmpty()) {
+            return members;
+        }
+        // キャッシュにない参加者だけを1回の問い合わせでまとめて読み込む
+        long generation = cache.generation();
+        for (Member member : delegate.getAll(missing)) {
+            cache.put(member, generation);
+            members.add(member);
+        }
+        return members;
+    }
+
+    @Override
+    public Optional<Member> findById(MemberId id) {
+        Optional<Member> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = cache.generation();
+        Optional<Member> member = delegate.findById(id);
+        member.ifPresent(loaded -> cache.put(loaded, generation));
+        return member;
+    }
+
+    @Override
+    public void save(Member member) {
+        delegate.save(member);
+        cache.invalidate(member.getId());
+    }
+
+    @Override
+    public void updateStatus(MemberId id, EnrollmentStatus status) {
+        delegate.updateStatus(id, status);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public MemberSearchResult findMembersByTaskNamesAndStatuses(List<String> taskNames, List<TaskStatus> statuses, int page, int size) {
+        return delegate.findMembersByTaskNamesAndStatuses(taskNames, statuses, page, size);
+    }
+
+    @Override
+    public MemberSearchResult findMembersMatchingAllTasks(List<String> taskNames, List<TaskStatus> statuses, int page, int size) {
+        return delegate.findMembersMatchingAllTasks(taskNames, statuses, page, size);
+    }
+
+    @Override
+    public List<Member> findMembersByTaskNamesAndStatusesAfter(List<String> taskNames, List<TaskStatus> statuses, MemberId after, int limit) {
+        return delegate.findMembersByTaskNamesAndStatusesAfter(taskNames, statuses, after, limit);
+    }
+}
@@ -0,0 +1,103 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.application.repository.TeamRepository;
+import com.ddd.praha.domain.entity.Team;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TeamCandidates;
+import com.ddd.praha.domain.model.TeamId;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * チームの読み取りを {@link TeamSnapshotCache} でキャッシュするチームリポジトリ。
+ *
+ * <p>{@link #get}・{@link #findById}・{@link #getAll} はキャッシュにない場合のみ {@link TeamRepositoryImpl} から読み込む。
+ * 書き込みは {@link TeamRepositoryImpl} に委譲したうえで、変更したチームを無効化する。
+ * 候補チームの検索はチーム人数インデックスを使うため、キャッシュせずに委譲する。</p>
+ */
+@Repository
+@Primary
+public class CachingTeamRepository implements TeamRepository {
+
+    private final TeamRepositoryImpl delegate;
+    private final TeamSnapshotCache cache;
+
+    public CachingTeamRepository(TeamRepositoryImpl delegate, TeamSnapshotCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public List<Team> getAll() {
+        return cache.getAll().orElseGet(() -> {
+            long generation = cache.generation();
+            List<Team> teams = delegate.getAll();
+            cache.putAll(teams, generation);
+            return teams;
+        });
+    }
+
+    @Override
+    public Team get(TeamId id) {
+        return cache.get(id).orElseGet(() -> {
+            long generation = cache.generation();
+            Team team = delegate.get(id);
+            cache.put(team, generation);
+            return team;
+        });
+    }
+
+    @Override
+    public Optional<Team> findById(TeamId id) {
+        Optional<Team> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = cache.generation();
+        Optional<Team> team = delegate.findById(id);
+        team.ifPresent(loaded -> cache.put(loaded, generation));
+        return team;
+    }
+
+    @Override
+    public Optional<Team> findByMemberId(MemberId memberId) {
+        return delegate.findByMemberId(memberId);
+    }
+
+    @Override
+    public TeamCandidates findMergeCandidates(TeamId excludeTeamId) {
+        return delegate.findMergeCandidates(excludeTeamId);
+    }
+
+    @Override
+    public TeamCandidates findAssignmentCandidates() {
+        return delegate.findAssignmentCandidates();
+    }
+
+    @Override
+    public void create(Team team) {
+        delegate.create(team);
+        cache.invalidateWithList(team.getId());
+    }
+
+    @Override
+    public void addMember(TeamId teamId, MemberId memberId) {
+        delegate.addMember(teamId, memberId);
+        cache.invalidate(teamId);
+    }
+
+    @Override
+    public void removeMember(TeamId teamId, MemberId memberId) {
+        delegate.removeMember(teamId, memberId);
+        cache.invalidate(teamId);
+    }
+
+    @Override
+    public void delete(Team team) {
+        delegate.delete(team);
+        cache.invalidateWithList(team.getId());
+    }
+}
@@ -0,0 +1,147 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.infrastructure.PublishConfirmObserver.ConfirmResult;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 相関付きパブリッシャーコンファームでメッセージをまとめて送信する
+ *
+ * <p>メッセージごとに相関ID付きで送信し、確認を1件ずつ待たずに全件を送り切ってから、
+ * 非同期に届く確認をまとめて待つ。送信中のメッセージは相関IDをキーとした送信中マップで管理する。
+ * 拒否（nack）・返送・タイムアウトとなったメッセージはここでは再送せず、IDを呼び出し元に返す。
+ * 呼び出し元（{@link OutboxRelay}）はトランザクション内で行をロックしているため、ここで待って再送すると
+ * その間ロックを保持し続けることになる。失敗回数を記録してトランザクションを終え、次回のリレーで再送する。</p>
+ *
+ * <p>接続ファクトリーで相関付きのコンファーム（{@code publisher-confirm-type: correlated}）が
+ * 有効な場合のみ使用できる。</p>
+ */
+@Component
+public class CorrelatedConfirmPublisher {
+
+    /**
+     * 送信するメッセージ
+     * @param id メッセージID
+     * @param destination 送信先のキュー名
+     * @param payload 送信する内容
+     */
+    public record Outbound(long id, String destination, Object payload) {}
+
+    private record InFlight(Outbound outbound, CorrelationData correlation, long sentAt) {}
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PublishConfirmObserver observer;
+    private final Duration confirmTimeout;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    public CorrelatedConfirmPublisher(RabbitTemplate rabbitTemplate,
+                                      ObjectProvider<PublishConfirmObserver> observer,
+                                      @Value("${praha.outbox.confirm-timeout:5s}") Duration confirmTimeout) {
+        this(rabbitTemplate, observer.getIfAvailable(() -> PublishConfirmObserver.NOOP), confirmTimeout);
+    }
+
+    CorrelatedConfirmPublisher(RabbitTemplate rabbitTemplate, PublishConfirmObserver observer, Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.observer = observer;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    /**
+     * 相関付きのコンファームが使用できるかどうか
+     * @return 使用できる場合はtrue
+     */
+    public boolean isAvailable() {
+        ConnectionFactory connectionFactory = rabbitTemplate.getConnectionFactory();
+        return connectionFactory != null && connectionFactory.isPublisherConfirms();
+    }
+
+    /**
+     * 送信中（確認待ち）のメッセージの件数
+     * @return 件数
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * メッセージをまとめて送信し、ブローカーに受理されたことを確認する
+     * @param messages 送信するメッセージ
+     * @return 受理されなかったメッセージのID（全件受理された場合は空）。次回のリレーで再送する
+     * @throws org.springframework.amqp.AmqpException 送信自体に失敗した場合
+     */
+    public List<Long> publish(List<Outbound> messages) {
+        List<Long> rejected = new ArrayList<>();
+        Map<String, InFlight> sent = new LinkedHashMap<>();
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (Outbound outbound : messages) {
+                    // 前回のリレーで確認が届かなかった送信と取り違えないよう、送信ごとに相関IDを一意にする
+                    CorrelationData correlation = new CorrelationData(outbound.id() + "-" + sequence.getAndIncrement());
+                    InFlight entry = new InFlight(outbound, correlation, System.nanoTime());
+                    inFlight.put(correlation.getId(), entry);
+                    sent.put(correlation.getId(), entry);
+                    operations.convertAndSend(outbound.destination(), outbound.payload(), correlation);
+                }
+                return null;
+            });
+            awaitConfirms(sent.values());
+            sent.values().forEach(entry -> {
+                ConfirmResult result = resultOf(entry.correlation());
+                observer.onConfirm(result, Duration.ofNanos(System.nanoTime() - entry.sentAt()));
+                if (result != ConfirmResult.ACK) {
+                    rejected.add(entry.outbound().id());
+                }
+            });
+        } finally {
+            sent.keySet().forEach(inFlight::remove);
+        }
+        if (!rejected.isEmpty()) {
+            observer.onRetry(rejected.size());
+        }
+        return rejected;
+    }
+
+    private void awaitConfirms(Iterable<InFlight> entries) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        entries.forEach(entry -> futures.add(entry.correlation().getFuture()));
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .get(confirmTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 確認できなかったメッセージは結果の判定でタイムアウトとして扱う
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ConfirmResult resultOf(CorrelationData correlation) {
+        CompletableFuture<CorrelationData.Confirm> future = correlation.getFuture();
+        if (!future.isDone() || future.isCompletedExceptionally()) {
+            return ConfirmResult.TIMEOUT;
+        }
+        if (!future.join().isAck()) {
+            return ConfirmResult.NACK;
+        }
+        // 配送先のキューがない場合は受理（ack）の前に返送される
+        return correlation.getReturned() != null ? ConfirmResult.RETURNED : ConfirmResult.ACK;
+    }
+}
@@ -38,26 +38,165 @@ public interface MemberMapper {
     @Select("SELECT id, name, email, status FROM members WHERE email = #{email}")
     MemberRecord findByEmail(@Param("email") String email);
 
+    /**
+     * 課題名とステータスで参加者を検索する
+     * <p>課題名を課題IDに解決してから member_tasks への EXISTS で絞り込むため、
+     * 複数の課題が条件に合致しても参加者が重複せず、DISTINCT による並べ替えが不要になる。</p>
+     * <p>withTotalがtrueの場合、ウィンドウ関数で条件に合致する全件数を同じクエリで取得する。</p>
+     */
     @Select("""
-        SELECT DISTINCT m.id, m.name, m.email, m.status
+        <script>
+        SELECT
+            m.id,
+            m.name,
+            m.email,
+            m.status,
+            <choose>
+                <when test="withTotal">COUNT(*) OVER()</when>
+                <otherwise>CAST(NULL AS BIGINT)</otherwise>
+            </choose> AS total_count
         FROM members m
-        INNER JOIN member_tasks mt ON m.id = mt.member_id
-        INNER JOIN tasks t ON mt.task_id = t.id
-        WHERE t.name IN
-        <foreach item="taskName" collection="taskNames" open="(" separator="," close=")">
-            #{taskName}
-        </foreach>
-        AND mt.status IN
-        <foreach item="status" collection="statuses" open="(" separator="," close=")">
-            #{status}
-        </foreach>
+        WHERE EXISTS (
+            SELECT 1
+            FROM member_tasks mt
+            WHERE mt.member_id = m.id
+            AND mt.task_id IN (
+                SELECT t.id FROM tasks t
+                WHERE t.name IN
+                <foreach item="taskName" collection="taskNames" open="(" separator="," close=")">
+                    #{taskName}
+                </foreach>
+            )
+            AND mt.status IN
+            <foreach item="status" collection="statuses" open="(" separator="," close=")">
+                #{status}
+            </foreach>
+        )
+        ORDER BY m.id
+        LIMIT #{limit} OFFSET #{offset}
+        </script>
+    """)
+    List<MemberSearchRecord> findMembersByTaskNamesAndStatuses(
+        @Param("taskNames") List<String> taskNames,
+        @Param("statuses") List<TaskStatus> statuses,
+        @Param("offset") int offset,
+        @Param("limit") int limit,
+        @Param("withTotal") boolean withTotal
+    );
+
+    /**
+     * 指定した全ての課題名について、いずれかのステータスになっている参加者を検索する
+     * <p>課題進捗インデックスが使えない場合の代替として、member_tasks を参加者ごとに集計して判定する。</p>
+     */
+    @Select("""
+        <script>
+        SELECT m.id, m.name, m.email, m.status, COUNT(*) OVER() AS total_count
+        FROM members m
+        INNER JOIN (
+            SELECT mt.member_id
+            FROM member_tasks mt
+            INNER JOIN tasks t ON mt.task_id = t.id
+            WHERE t.name IN
+            <foreach item="taskName" collection="taskNames" open="(" separator="," close=")">
+                #{taskName}
+            </foreach>
+            AND mt.status IN
+            <foreach item="status" collection="statuses" open="(" separator="," close=")">
+                #{status}
+            </foreach>
+            GROUP BY mt.member_id
+            HAVING COUNT(DISTINCT t.name) = #{taskNameCount}
+        ) matched ON matched.member_id = m.id
         ORDER BY m.id
         LIMIT #{limit} OFFSET #{offset}
+        </script>
     """)
-    List<MemberRecord> findMembersByTaskNamesAndStatuses(
+    List<MemberSearchRecord> findMembersMatchingAllTaskNamesAndStatuses(
         @Param("taskNames") List<String> taskNames,
+        @Param("taskNameCount") int taskNameCount,
         @Param("statuses") List<TaskStatus> statuses,
         @Param("offset") int offset,
         @Param("limit") int limit
     );
+
+    /**
+     * IDの配列で参加者を取得する
+     * <p>IDを1つの配列パラメータとして {@code = ANY} に渡すため、IDの件数によらず同じSQLになり、空の配列も渡せる。</p>
+     * @param ids 参加者IDの配列
+     * @return 参加者レコードのリスト（順不同、存在しないIDは含まない）
+     */
+    @Select("""
+        SELECT id, name, email, status FROM members
+        WHERE id = ANY(#{ids, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})
+    """)
+    List<MemberRecord> findByIds(@Param("ids") String[] ids);
+
+    /**
+     * 課題名とステータスで参加者を検索し、指定IDより後ろの参加者をID順に取得する
+     * <p>OFFSETを使わず主キーで読み進めるため、ページ位置に関係なく一定のコストで取得できる。</p>
+     */
+    @Select("""
+        <script>
+        SELECT m.id, m.name, m.email, m.status
+        FROM members m
+        WHERE EXISTS (
+            SELECT 1
+            FROM member_tasks mt
+            WHERE mt.member_id = m.id
+            AND mt.task_id IN (
+                SELECT t.id FROM tasks t
+                WHERE t.name IN
+                <foreach item="taskName" collection="taskNames" open="(" separator="," close=")">
+                    #{taskName}
+                </foreach>
+            )
+            AND mt.status IN
+            <foreach item="status" collection="statuses" open="(" separator="," close=")">
+                #{status}
+            </foreach>
+        )
+        <if test="after != null">
+            AND m.id &gt; #{after.value}
+        </if>
+        ORDER BY m.id
+        LIMIT #{limit}
+        </script>
+    """)
+    List<MemberRecord> findMembersByTaskNamesAndStatusesAfter(
+        @Param("taskNames") List<String> taskNames,
+        @Param("statuses") List<TaskStatus> statuses,
+        @Param("after") MemberId after,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 課題名とステータスで検索した参加者の件数を数える
+     * <p>ページが範囲外でウィンドウ関数から件数を得られない場合に使用する。</p>
+     */
+    @Select("""
+        <script>
+        SELECT COUNT(*)
+        FROM members m
+        WHERE EXISTS (
+            SELECT 1
+            FROM member_tasks mt
+            WHERE mt.member_id = m.id
+            AND mt.task_id IN (
+                SELECT t.id FROM tasks t
+                WHERE t.name IN
+                <foreach item="taskName" collection="taskNames" open="(" separator="," close=")">
+                    #{taskName}
+                </foreach>
+            )
+            AND mt.status IN
+            <foreach item="status" collection="statuses" open="(" separator="," close=")">
+                #{status}
+            </foreach>
+        )
+        </script>
+    """)
+    long countMembersByTaskNamesAndStatuses(
+        @Param("taskNames") List<String> taskNames,
+        @Param("statuses") List<TaskStatus> statuses
+    );
 }
@@ -4,33 +4,78 @@ import com.ddd.praha.application.repository.MemberRepository;
 import com.ddd.praha.domain.entity.Member;
 import com.ddd.praha.domain.model.EnrollmentStatus;
 import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberSearchResult;
 import com.ddd.praha.domain.model.TaskId;
 import com.ddd.praha.domain.model.TaskStatus;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * メンバーリポジトリのMyBatis実装
  */
 @Repository
 public class MemberRepositoryImpl implements MemberRepository {
+    /**
+     * メールアドレスの一意制約の名前（{@code members.email} の {@code UNIQUE} にPostgreSQLが付ける名前）
+     */
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "members_email_key";
+
     private final MemberMapper memberMapper;
+    private final TaskMapper taskMapper;
+    private final MemberSearchCountCache countCache;
+    private final TaskStatusMemberIndex taskStatusIndex;
+    private final TeamSnapshotCache teamCache;
+    private final MemberSnapshotCache memberCache;
 
-    public MemberRepositoryImpl(MemberMapper memberMapper) {
+    public MemberRepositoryImpl(MemberMapper memberMapper, TaskMapper taskMapper,
+                                MemberSearchCountCache countCache, TaskStatusMemberIndex taskStatusIndex,
+                                TeamSnapshotCache teamCache, MemberSnapshotCache memberCache) {
         this.memberMapper = memberMapper;
+        this.taskMapper = taskMapper;
+        this.countCache = countCache;
+        this.taskStatusIndex = taskStatusIndex;
+        this.teamCache = teamCache;
+        this.memberCache = memberCache;
     }
 
     @Override
     public void save(Member member) {
-        // メールアドレスの重複チェック
-        MemberRecord existingMember = memberMapper.findByEmail(member.getEmail().value());
-        if (existingMember != null && !existingMember.id().equals(member.getId().value())) {
+        // メールアドレスの重複チェック（キャッシュにある参加者との重複はデータベースに問い合わせずに検出し、
+        // それ以外はメールアドレスの一意制約で検出する）
+        Optional<MemberId> existingMemberId = memberCache.findIdByEmail(member.getEmail());
+        if (existingMemberId.isPresent() && !existingMemberId.get().equals(member.getId())) {
             throw new IllegalArgumentException("このメールアドレスは既に使用されています");
         }
-        
-        memberMapper.insert(member);
+
+        try {
+            memberMapper.insert(member);
+        } catch (DuplicateKeyException e) {
+            if (violates(e, EMAIL_UNIQUE_CONSTRAINT)) {
+                throw new IllegalArgumentException("このメールアドレスは既に使用されています", e);
+            }
+            // 参加者IDの重複など、メールアドレス以外の一意制約違反はそのまま伝える
+            throw e;
+        }
+    }
+
+    /**
+     * 一意制約違反の原因のいずれかのメッセージに、制約名が含まれているか判定する
+     * （PostgreSQLのメッセージは {@code duplicate key value violates unique constraint "members_email_key"} の形式）
+     */
+    private static boolean violates(DuplicateKeyException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -51,6 +96,16 @@ public class MemberRepositoryImpl implements MemberRepository {
         return membersRecord.stream().map(MemberRecord::toMember).toList();
     }
 
+    @Override
+    public List<Member> getAll(Collection<MemberId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return memberMapper.findByIds(toIdArray(ids)).stream()
+            .map(MemberRecord::toMember)
+            .toList();
+    }
+
     @Override
     public Optional<Member> findById(MemberId id) {
         return Optional.ofNullable(memberMapper.findById(id))
@@ -61,15 +116,100 @@ public class MemberRepositoryImpl implements MemberRepository {
     @Override
     public void updateStatus(MemberId id, EnrollmentStatus status) {
         memberMapper.updateStatus(id, status);
+        // キャッシュされたチームは参加者の在籍ステータスを含むため、所属するチームを無効化する
+        teamCache.invalidateMember(id);
     }
 
     @Override
-    public List<Member> findMembersByTaskNamesAndStatuses(List<String> taskNames, List<TaskStatus> statuses, int page, int size) {
+    public MemberSearchResult findMembersByTaskNamesAndStatuses(List<String> taskNames, List<TaskStatus> statuses, int page, int size) {
         int offset = page * size;
-        List<MemberRecord> records = memberMapper.findMembersByTaskNamesAndStatuses(taskNames, statuses, offset, size);
-        return records.stream()
+        Optional<Long> cachedTotal = countCache.get(taskNames, statuses);
+        List<MemberSearchRecord> records = memberMapper.findMembersByTaskNamesAndStatuses(
+            taskNames, statuses, offset, size, cachedTotal.isEmpty());
+
+        long totalElements = cachedTotal.orElseGet(() -> {
+            long total = countTotal(taskNames, statuses, offset, records);
+            countCache.put(taskNames, statuses, total);
+            return total;
+        });
+
+        List<Member> members = records.stream()
+            .map(MemberSearchRecord::toMember)
+            .toList();
+        return new MemberSearchResult(members, page, size, totalElements);
+    }
+
+    @Override
+    public MemberSearchResult findMembersMatchingAllTasks(List<String> taskNames, List<TaskStatus> statuses, int page, int size) {
+        List<String> distinctNames = taskNames.stream().distinct().toList();
+        if (!taskStatusIndex.isLoaded()) {
+            return findMembersMatchingAllTasksBySql(distinctNames, statuses, page, size);
+        }
+
+        // 同名の課題が複数ある場合はいずれかを満たせばよいため、課題名ごとに課題IDをまとめる
+        Map<String, List<TaskId>> taskGroups = taskMapper.findByNames(distinctNames).stream()
+            .collect(Collectors.groupingBy(TaskRecord::name,
+                Collectors.mapping(record -> new TaskId(record.id()), Collectors.toList())));
+        if (taskGroups.size() < distinctNames.size()) {
+            // 存在しない課題名が含まれる場合、全てを満たす参加者はいない
+            return new MemberSearchResult(List.of(), page, size, 0);
+        }
+
+        List<MemberId> matched = taskStatusIndex.findMembersMatchingAll(taskGroups.values(), statuses).stream()
+            .sorted(Comparator.comparing(MemberId::value))
+            .toList();
+        int from = Math.min(page * size, matched.size());
+        int to = Math.min(from + size, matched.size());
+        List<MemberId> pageIds = matched.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new MemberSearchResult(List.of(), page, size, matched.size());
+        }
+
+        List<Member> members = memberMapper.findByIds(toIdArray(pageIds)).stream()
+            .map(MemberRecord::toMember)
+            .sorted(Comparator.comparing(member -> member.getId().value()))
+            .toList();
+        return new MemberSearchResult(members, page, size, matched.size());
+    }
+
+    @Override
+    public List<Member> findMembersByTaskNamesAndStatusesAfter(List<String> taskNames, List<TaskStatus> statuses, MemberId after, int limit) {
+        return memberMapper.findMembersByTaskNamesAndStatusesAfter(taskNames, statuses, after, limit).stream()
             .map(MemberRecord::toMember)
             .toList();
     }
 
+    private MemberSearchResult findMembersMatchingAllTasksBySql(List<String> taskNames, List<TaskStatus> statuses, int page, int size) {
+        int offset = page * size;
+        List<MemberSearchRecord> records = memberMapper.findMembersMatchingAllTaskNamesAndStatuses(
+            taskNames, taskNames.size(), statuses, offset, size);
+        long totalElements;
+        if (!records.isEmpty()) {
+            totalElements = records.getFirst().totalCount();
+        } else if (offset == 0) {
+            totalElements = 0;
+        } else {
+            // 範囲外のページではウィンドウ関数の結果が得られないため、先頭の1件から件数を得る
+            totalElements = memberMapper.findMembersMatchingAllTaskNamesAndStatuses(taskNames, taskNames.size(), statuses, 0, 1)
+                .stream().findFirst().map(MemberSearchRecord::totalCount).orElse(0L);
+        }
+
+        List<Member> members = records.stream()
+            .map(MemberSearchRecord::toMember)
+            .toList();
+        return new MemberSearchResult(members, page, size, totalElements);
+    }
+
+    private static String[] toIdArray(Collection<MemberId> ids) {
+        return ids.stream().map(MemberId::value).distinct().toArray(String[]::new);
+    }
+
+    private long countTotal(List<String> taskNames, List<TaskStatus> statuses, int offset, List<MemberSearchRecord> records) {
+        if (!records.isEmpty()) {
+            return records.getFirst().totalCount();
+        }
+        // 範囲外のページではウィンドウ関数の結果が得られないため、件数のみ数え直す
+        return offset == 0 ? 0 : memberMapper.countMembersByTaskNamesAndStatuses(taskNames, statuses);
+    }
+
 }
\ No newline at end of file
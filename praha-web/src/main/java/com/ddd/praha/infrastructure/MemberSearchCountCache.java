@@ -0,0 +1,103 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.domain.model.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 参加者検索の全件数を短時間キャッシュする
+ *
+ * <p>同じ検索条件（課題名・ステータス）でページを進める際に、
+ * 毎回件数を数え直さないようにするためのキャッシュ。
+ * 課題進捗の更新では無効化しないため、TTLの間は件数が古い可能性がある。
+ * TTLが0の場合はキャッシュしない。</p>
+ */
+@Component
+public class MemberSearchCountCache {
+
+    /**
+     * 保持する検索条件の上限
+     */
+    private static final int MAX_ENTRIES = 1000;
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<CountKey, CountEntry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MemberSearchCountCache(@Value("${praha.member-search.count-cache-ttl:0s}") Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    MemberSearchCountCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * キャッシュされた全件数を取得する
+     * @param taskNames 課題名のリスト
+     * @param statuses ステータスのリスト
+     * @return 全件数（キャッシュがないか期限切れの場合はEmpty）
+     */
+    public Optional<Long> get(List<String> taskNames, List<TaskStatus> statuses) {
+        if (ttl.isZero()) {
+            return Optional.empty();
+        }
+        CountKey key = CountKey.of(taskNames, statuses);
+        CountEntry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.instant())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.totalCount());
+    }
+
+    /**
+     * 全件数をキャッシュする
+     * @param taskNames 課題名のリスト
+     * @param statuses ステータスのリスト
+     * @param totalCount 全件数
+     */
+    public void put(List<String> taskNames, List<TaskStatus> statuses, long totalCount) {
+        if (ttl.isZero()) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(CountKey.of(taskNames, statuses), new CountEntry(totalCount, now.plus(ttl)));
+    }
+
+    /**
+     * 検索条件のキー（指定順序に依存しないよう集合で保持する）
+     */
+    private record CountKey(Set<String> taskNames, Set<TaskStatus> statuses) {
+        static CountKey of(List<String> taskNames, List<TaskStatus> statuses) {
+            return new CountKey(Set.copyOf(taskNames), Set.copyOf(statuses));
+        }
+    }
+
+    private record CountEntry(long totalCount, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ddd.praha.infrastructure;
+
+
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.model.Email;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberName;
+
+/**
+ * 参加者検索結果のSQLマッピングレコード
+ * <p>ページ内の参加者情報に加えて、検索条件に合致する全件数を保持する。</p>
+ */
+public record MemberSearchRecord(
+    String id,
+    String name,
+    String email,
+    String status,
+    Long totalCount
+) {
+
+    /**
+     * ドメインのMemberオブジェクトに変換する
+     * @return Member
+     */
+    public Member toMember() {
+        return new Member(
+            new MemberId(id),
+            new MemberName(name),
+            new Email(email),
+            EnrollmentStatus.valueOf(status)
+        );
+    }
+}
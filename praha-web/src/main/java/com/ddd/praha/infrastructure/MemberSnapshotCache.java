@@ -0,0 +1,222 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.model.Email;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberName;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 参加者のスナップショットを保持するキャッシュ。
+ *
+ * <p>{@link CachingMemberRepository} が読み込んだ参加者を、参加者IDごとに変更できないスナップショットとして保持する。
+ * 最後に参照した順に並べ、概算のメモリ使用量が {@code maximum-weight} を超えた場合は最も長く参照されていない参加者から追い出す（LRU）。</p>
+ *
+ * <p>メールアドレスから参加者IDを引く副インデックスを持ち、{@link MemberRepositoryImpl#save} がデータベースに問い合わせずに
+ * メールアドレスの重複を検出できるようにする。参加者のメールアドレスは変更されず、参加者は削除されないため、
+ * キャッシュにある対応は常に正しい（キャッシュにない場合の重複はデータベースの一意制約で検出する）。</p>
+ *
+ * <p>参加者の追加・在籍ステータスの更新では、該当する参加者を直ちに無効化し、トランザクションの完了時にもう一度無効化する。
+ * 書き込みと並行して読み込んだ古い内容を格納しないよう、{@link TeamSnapshotCache} と同じく世代で判定する。
+ * 他のノードでの更新は {@link CacheInvalidationBus} から受け取り、{@link #evictRemote} で無効化する。</p>
+ */
+@Component
+public class MemberSnapshotCache {
+
+    // スナップショット1件あたりの概算の固定部分（エントリ・レコード・値オブジェクト・副インデックスのオブジェクトヘッダーと参照）
+    private static final long ENTRY_OVERHEAD = 256;
+
+    private final long maximumWeight;
+    private final LinkedHashMap<MemberId, MemberSnapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, MemberId> idsByEmail = new HashMap<>();
+    private long weight;
+    private long generation;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public MemberSnapshotCache(@Value("${praha.member-cache.maximum-weight:16MB}") DataSize maximumWeight) {
+        if (maximumWeight.toBytes() <= 0) {
+            throw new IllegalArgumentException("キャッシュの上限は1バイト以上である必要があります: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight.toBytes();
+    }
+
+    /**
+     * 現在の世代を取得する（読み込みの開始前に取得し、格納時に渡す）
+     * @return 世代
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * キャッシュされた参加者を取得する
+     * @param memberId 参加者ID
+     * @return 参加者（キャッシュにない場合はEmpty）
+     */
+    public synchronized Optional<Member> get(MemberId memberId) {
+        MemberSnapshot snapshot = snapshots.get(memberId);
+        if (snapshot == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(snapshot.toMember());
+    }
+
+    /**
+     * メールアドレスを使用している参加者のIDを、キャッシュされた参加者から探す
+     * @param email メールアドレス
+     * @return 参加者ID（キャッシュにない場合はEmpty）
+     */
+    public synchronized Optional<MemberId> findIdByEmail(Email email) {
+        return Optional.ofNullable(idsByEmail.get(email.value()));
+    }
+
+    /**
+     * 読み込んだ参加者を格納する
+     * @param member 参加者
+     * @param loadedGeneration 読み込みの開始前に取得した世代
+     */
+    public void put(Member member, long loadedGeneration) {
+        synchronized (this) {
+            if (generation != loadedGeneration) {
+                return;
+            }
+            remove(member.getId());
+            MemberSnapshot snapshot = MemberSnapshot.of(member);
+            snapshots.put(snapshot.id(), snapshot);
+            idsByEmail.put(snapshot.email().value(), snapshot.id());
+            weight += snapshot.weight();
+            evictOverweight();
+        }
+        evictOnRollback(() -> evict(member.getId()));
+    }
+
+    /**
+     * 参加者を無効化する（参加者の追加・在籍ステータスの更新時）
+     * @param memberId 参加者ID
+     */
+    public void invalidate(MemberId memberId) {
+        evict(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(memberId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 他のノードで更新された参加者を無効化する
+     * @param memberIds 更新された参加者のID
+     * @param all 全ての参加者を無効化する場合はtrue
+     */
+    public synchronized void evictRemote(Set<MemberId> memberIds, boolean all) {
+        generation++;
+        if (all) {
+            snapshots.clear();
+            idsByEmail.clear();
+            weight = 0;
+            return;
+        }
+        memberIds.forEach(this::remove);
+    }
+
+    public synchronized int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * キャッシュしている参加者の概算のメモリ使用量
+     * @return バイト数
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    private synchronized void evict(MemberId memberId) {
+        generation++;
+        remove(memberId);
+    }
+
+    private void remove(MemberId memberId) {
+        MemberSnapshot removed = snapshots.remove(memberId);
+        if (removed != null) {
+            idsByEmail.remove(removed.email().value(), removed.id());
+            weight -= removed.weight();
+        }
+    }
+
+    private void evictOverweight() {
+        Iterator<MemberSnapshot> eldest = snapshots.values().iterator();
+        while (weight > maximumWeight && eldest.hasNext()) {
+            MemberSnapshot snapshot = eldest.next();
+            eldest.remove();
+            idsByEmail.remove(snapshot.email().value(), snapshot.id());
+            weight -= snapshot.weight();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * トランザクション内で読み込んだ内容は未コミットの変更を含む可能性があるため、ロールバック時に取り消す
+     */
+    private void evictOnRollback(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        eviction.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 参加者の変更できないスナップショットと、その概算のメモリ使用量
+     */
+    private record MemberSnapshot(MemberId id, MemberName name, Email email, EnrollmentStatus status, long weight) {
+
+        static MemberSnapshot of(Member member) {
+            // 文字列は1文字2バイトとして見積もる（ASCIIのみの場合は実際より大きく見積もる）
+            long chars = member.getId().value().length() + member.getName().value().length()
+                + member.getEmail().value().length();
+            return new MemberSnapshot(member.getId(), member.getName(), member.getEmail(), member.getStatus(),
+                ENTRY_OVERHEAD + chars * 2);
+        }
+
+        Member toMember() {
+            return new Member(id, name, email, status);
+        }
+    }
+}
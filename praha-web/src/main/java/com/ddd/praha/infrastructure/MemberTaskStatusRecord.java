@@ -0,0 +1,11 @@
+package com.ddd.praha.infrastructure;
+
+/**
+ * 参加者課題の進捗ステータスのSQLマッピングレコード
+ */
+public record MemberTaskStatusRecord(
+    String memberId,
+    String taskId,
+    String status
+) {
+}
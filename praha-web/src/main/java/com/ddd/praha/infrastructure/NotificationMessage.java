@@ -2,8 +2,11 @@ package com.ddd.praha.infrastructure;
 
 /**
  * キューに送信する通知メッセージの構造化レコード
+ * <p>{@code eventId} はアウトボックスへの書き込み時に採番し、再送されても変わらない。
+ * 受信側はこれを使って重複した通知を読み飛ばす。</p>
  */
 public record NotificationMessage(
+    String eventId,
     String type,
     String message,
     String teamId,
@@ -3,23 +3,41 @@ package com.ddd.praha.infrastructure;
 import com.ddd.praha.application.repository.NotificationRepository;
 import com.ddd.praha._config.RabbitMQConfig;
 import com.ddd.praha.domain.model.TeamNotificationEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
 
 /**
  * 通知送信の実装
  * RabbitMQキューへのメッセージ送信とログ出力を実装
+ *
+ * <p>チームの通知イベントはRabbitMQへ直接送信せず、呼び出し元と同じトランザクションで
+ * アウトボックス（{@code outbox} テーブル）に書き込む。実際の送信は {@link OutboxRelay} が非同期に行うため、
+ * トランザクションがブローカーの応答を待つことはなく、ロールバックされた変更の通知が送られることもない。
+ * 非同期送信が有効な場合は、コミット後に {@link OutboxAsyncPublisher} へ渡して定期実行を待たずに送信する。</p>
  */
 @Repository
 public class NotificationRepositoryImpl implements NotificationRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(NotificationRepositoryImpl.class);
     private final RabbitTemplate rabbitTemplate;
+    private final OutboxMapper outboxMapper;
+    private final ObjectMapper objectMapper;
+    private final OutboxAsyncPublisher asyncPublisher;
     
-    public NotificationRepositoryImpl(RabbitTemplate rabbitTemplate) {
+    public NotificationRepositoryImpl(RabbitTemplate rabbitTemplate, OutboxMapper outboxMapper, ObjectMapper objectMapper,
+                                      OutboxAsyncPublisher asyncPublisher) {
         this.rabbitTemplate = rabbitTemplate;
+        this.outboxMapper = outboxMapper;
+        this.objectMapper = objectMapper;
+        this.asyncPublisher = asyncPublisher;
     }
 
     @Override
@@ -64,28 +82,49 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     }
     
     /**
-     * TeamNotificationEventの構造化された情報をキューに送信
+     * TeamNotificationEventの構造化された情報をアウトボックスに書き込む
+     * <p>書き込みに失敗した場合は例外をそのまま送出し、呼び出し元のトランザクションをロールバックさせる。</p>
      * @param event 通知イベント
      */
     private void sendNotificationEventToQueue(TeamNotificationEvent event) {
+        // 構造化された通知情報を作成
+        NotificationMessage notificationMessage = new NotificationMessage(
+            UUID.randomUUID().toString(),
+            event.getType().name(),
+            event.getMessage(),
+            event.getTeam() != null ? event.getTeam().getId().value() : null,
+            event.getTeam() != null ? event.getTeam().getName().value() : null,
+            event.getMember() != null ? event.getMember().getId().value() : null,
+            event.getMember() != null ? event.getMember().getName().value() : null,
+            System.currentTimeMillis()
+        );
+
+        long id;
         try {
-            // 構造化された通知情報を作成
-            NotificationMessage notificationMessage = new NotificationMessage(
-                event.getType().name(),
-                event.getMessage(),
-                event.getTeam() != null ? event.getTeam().getId().value() : null,
-                event.getTeam() != null ? event.getTeam().getName().value() : null,
-                event.getMember() != null ? event.getMember().getId().value() : null,
-                event.getMember() != null ? event.getMember().getName().value() : null,
-                System.currentTimeMillis()
-            );
-            
-            rabbitTemplate.convertAndSend(RabbitMQConfig.TEAM_NOTIFICATION_QUEUE, notificationMessage);
-            logger.info("構造化された通知イベントをRabbitMQキューに送信しました: {}", event.getType());
-        } catch (Exception e) {
-            logger.error("構造化された通知イベントのRabbitMQキュー送信に失敗しました", e);
-            // フォールバックとして文字列メッセージを送信
-            sendToQueue(event.getMessage());
+            id = outboxMapper.insert(RabbitMQConfig.TEAM_NOTIFICATION_QUEUE, objectMapper.writeValueAsString(notificationMessage));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("通知メッセージをJSONに変換できませんでした", e);
+        }
+        logger.info("構造化された通知イベントをアウトボックスに書き込みました: {}", event.getType());
+        if (asyncPublisher.isEnabled()) {
+            afterCommit(() -> asyncPublisher.enqueue(id));
+        }
+    }
+
+    /**
+     * トランザクションのコミット後に処理を実行する（トランザクション外の場合は即時に実行する）
+     * @param action 実行する処理
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
-}
\ No newline at end of file
+}
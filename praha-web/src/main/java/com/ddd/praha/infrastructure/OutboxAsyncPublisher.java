@@ -0,0 +1,239 @@
+package com.ddd.praha.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * アウトボックスに書き込まれたメッセージを、定期実行を待たずに専用スレッドで送信する
+ *
+ * <p>コミット済みのメッセージIDを固定長のリングバッファ（{@link ArrayBlockingQueue}）に積み、
+ * 専用スレッドが {@code batch-size} 件まで（または {@code linger} の間に届いた分を）まとめて
+ * {@link OutboxRelay} で1つのチャネルから送信する。</p>
+ *
+ * <p>バッファが満杯の場合の動作は {@link OverflowPolicy} で選択する。
+ * バッファから外れたメッセージもアウトボックスには残っているため、定期実行のリレーが後で送信する。
+ * つまりアウトボックスのテーブルがディスクへの退避先を兼ねており、どの動作でもメッセージは失われない。</p>
+ *
+ * <p>{@code praha.outbox.async.enabled} がfalseの場合は何もせず、定期実行のリレーのみで送信する。</p>
+ */
+@Component
+public class OutboxAsyncPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxAsyncPublisher.class);
+
+    /**
+     * バッファが満杯の場合の動作
+     */
+    public enum OverflowPolicy {
+        /**
+         * 空きができるまで {@code block-timeout} の間待ち、それでも空かなければ退避する
+         */
+        BLOCK,
+        /**
+         * 最も古いメッセージをバッファから外して追加する
+         */
+        DROP_OLDEST,
+        /**
+         * 追加せずにアウトボックスに退避する（定期実行のリレーに任せる）
+         */
+        SPILL
+    }
+
+    private final OutboxRelay outboxRelay;
+    private final boolean enabled;
+    private final BlockingQueue<Long> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration blockTimeout;
+    private final Duration linger;
+    private final int batchSize;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private volatile Thread publisherThread;
+
+    public OutboxAsyncPublisher(OutboxRelay outboxRelay,
+                                @Value("${praha.outbox.async.enabled:false}") boolean enabled,
+                                @Value("${praha.outbox.async.capacity:10000}") int capacity,
+                                @Value("${praha.outbox.async.overflow:spill}") OverflowPolicy overflowPolicy,
+                                @Value("${praha.outbox.async.block-timeout:100ms}") Duration blockTimeout,
+                                @Value("${praha.outbox.async.linger:5ms}") Duration linger,
+                                @Value("${praha.outbox.batch-size:100}") int batchSize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("送信バッファの容量は1以上である必要があります: " + capacity);
+        }
+        this.outboxRelay = outboxRelay;
+        this.enabled = enabled;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.linger = linger;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 非同期送信が有効かどうか
+     * @return 有効な場合はtrue
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * コミット済みのメッセージを送信バッファに積む
+     * <p>バッファが満杯の場合は {@link OverflowPolicy} に従う。</p>
+     * @param id メッセージID
+     */
+    public void enqueue(long id) {
+        if (!enabled) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (!buffer.offer(id, blockTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                        spilled.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    spilled.incrementAndGet();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!buffer.offer(id)) {
+                    if (buffer.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+            case SPILL -> {
+                if (!buffer.offer(id)) {
+                    spilled.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * 送信バッファに積まれているメッセージの件数
+     * @return 件数
+     */
+    public int depth() {
+        return buffer.size();
+    }
+
+    /**
+     * 専用スレッドで送信したメッセージの累計件数
+     * @return 件数
+     */
+    public long publishedCount() {
+        return published.get();
+    }
+
+    /**
+     * バッファから外したメッセージの累計件数（{@link OverflowPolicy#DROP_OLDEST}）
+     * @return 件数
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * バッファに積まずにアウトボックスに退避したメッセージの累計件数
+     * @return 件数
+     */
+    public long spilledCount() {
+        return spilled.get();
+    }
+
+    /**
+     * 専用の送信スレッドを開始する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || publisherThread != null) {
+            return;
+        }
+        publisherThread = Thread.ofPlatform()
+            .name("outbox-publisher")
+            .daemon(true)
+            .start(this::runLoop);
+        logger.info("アウトボックスの非同期送信を開始しました（容量: {}、満杯時: {}）",
+            buffer.remainingCapacity() + buffer.size(), overflowPolicy);
+    }
+
+    /**
+     * 専用の送信スレッドを停止する
+     * <p>バッファに残ったメッセージはアウトボックスに残っているため、次回起動時などに定期実行のリレーが送信する。</p>
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        Thread thread = publisherThread;
+        if (thread == null) {
+            return;
+        }
+        publisherThread = null;
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        while (publisherThread != null) {
+            try {
+                List<Long> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    published.addAndGet(outboxRelay.relay(batch));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 送信できなかったメッセージはアウトボックスに残り、定期実行のリレーが再送する
+                logger.warn("アウトボックスの非同期送信に失敗しました", e);
+            }
+        }
+    }
+
+    /**
+     * 送信バッファから1バッチ分のメッセージIDを取り出す
+     * <p>最初の1件が届いてから {@code linger} の間、または {@code batch-size} 件に達するまで待ってまとめる。</p>
+     */
+    List<Long> nextBatch() throws InterruptedException {
+        Long first = buffer.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<Long> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + linger.toNanos();
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Long next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+}
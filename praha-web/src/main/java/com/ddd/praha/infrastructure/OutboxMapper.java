@@ -0,0 +1,119 @@
+package com.ddd.praha.infrastructure;
+
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+/**
+ * 通知アウトボックスのMyBatisマッパーインターフェース
+ */
+@Mapper
+public interface OutboxMapper {
+
+    /**
+     * 送信待ちメッセージを書き込む
+     * @param destination 送信先のキュー名
+     * @param payload 通知メッセージのJSON
+     * @return メッセージID
+     */
+    @Select("""
+        INSERT INTO outbox (destination, payload) VALUES (#{destination}, CAST(#{payload} AS JSONB))
+        RETURNING id
+    """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    long insert(@Param("destination") String destination, @Param("payload") String payload);
+
+    /**
+     * 送信待ちメッセージを書き込み順に取得し、行ロックを取得する
+     * <p>他のリレーがロック中の行は読み飛ばすため、複数ノードで同時に実行しても同じメッセージを取得しない。
+     * トランザクション内で呼び出すこと。</p>
+     * @param limit 取得件数
+     * @return 送信待ちメッセージのレコード
+     */
+    @Select("""
+        SELECT id, destination, payload::text AS payload, attempts
+        FROM outbox
+        ORDER BY id
+        LIMIT #{limit}
+        FOR UPDATE SKIP LOCKED
+    """)
+    List<OutboxRecord> lockPending(@Param("limit") int limit);
+
+    /**
+     * 指定した送信待ちメッセージを取得し、行ロックを取得する
+     * <p>送信済み（削除済み）の行や、他のリレーがロック中の行は含まれない。
+     * トランザクション内で呼び出すこと。</p>
+     * @param ids メッセージIDのリスト（空でないこと）
+     * @return 送信待ちメッセージのレコード（ID順）
+     */
+    @Select("""
+        <script>
+        SELECT id, destination, payload::text AS payload, attempts
+        FROM outbox
+        WHERE id IN
+        <foreach item="id" collection="ids" open="(" separator="," close=")">
+            #{id}
+        </foreach>
+        ORDER BY id
+        FOR UPDATE SKIP LOCKED
+        </script>
+    """)
+    List<OutboxRecord> lockByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 送信済みのメッセージを削除する
+     * @param ids メッセージIDのリスト（空でないこと）
+     */
+    @Delete("""
+        <script>
+        DELETE FROM outbox WHERE id IN
+        <foreach item="id" collection="ids" open="(" separator="," close=")">
+            #{id}
+        </foreach>
+        </script>
+    """)
+    void deleteByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 送信に失敗したメッセージの失敗回数と原因を記録する
+     * @param ids メッセージIDのリスト（空でないこと）
+     * @param error 失敗の原因
+     */
+    @Update("""
+        <script>
+        UPDATE outbox SET attempts = attempts + 1, last_error = #{error}
+        WHERE id IN
+        <foreach item="id" collection="ids" open="(" separator="," close=")">
+            #{id}
+        </foreach>
+        </script>
+    """)
+    void recordFailure(@Param("ids") List<Long> ids, @Param("error") String error);
+
+    /**
+     * 送信できないメッセージを退避テーブルに移す
+     * @param ids メッセージIDのリスト（空でないこと）
+     * @param error 退避の理由
+     */
+    @Insert("""
+        <script>
+        WITH moved AS (
+            DELETE FROM outbox WHERE id IN
+            <foreach item="id" collection="ids" open="(" separator="," close=")">
+                #{id}
+            </foreach>
+            RETURNING id, destination, payload, attempts, created_at
+        )
+        INSERT INTO outbox_dead_letter (id, destination, payload, attempts, last_error, created_at)
+        SELECT id, destination, payload, attempts, #{error}, created_at FROM moved
+        </script>
+    """)
+    void moveToDeadLetter(@Param("ids") List<Long> ids, @Param("error") String error);
+
+    /**
+     * 送信待ちメッセージの件数を取得する
+     * @return 件数
+     */
+    @Select("SELECT COUNT(*) FROM outbox")
+    long countPending();
+}
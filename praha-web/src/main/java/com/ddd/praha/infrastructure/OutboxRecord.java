@@ -0,0 +1,15 @@
+package com.ddd.praha.infrastructure;
+
+/**
+ * アウトボックスの送信待ちメッセージのレコード
+ * @param id 書き込み順の連番
+ * @param destination 送信先のキュー名
+ * @param payload 通知メッセージのJSON
+ * @param attempts 送信に失敗した回数
+ */
+public record OutboxRecord(
+    long id,
+    String destination,
+    String payload,
+    int attempts
+) {}
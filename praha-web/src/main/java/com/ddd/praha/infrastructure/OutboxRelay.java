@@ -0,0 +1,204 @@
+package com.ddd.praha.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * アウトボックスの送信待ちメッセージをRabbitMQへ送信するリレー
+ *
+ * <p>送信待ちメッセージを書き込み順にまとめて行ロックし、1つのチャネルで連続して送信した後、
+ * パブリッシャーコンファームでブローカーに受理されたことを確認してから削除する。
+ * 受理を確認できなかったメッセージは失敗回数を記録して行を残し、次回の実行で再送する。</p>
+ *
+ * <p>読み込めないメッセージや、失敗回数が {@code max-attempts} に達したメッセージは送信せずに
+ * {@code outbox_dead_letter} テーブルに移す。書き込み順の先頭に残り続けて後続のメッセージを妨げないようにするため。</p>
+ *
+ * <p>送信後・削除前に障害が起きると同じメッセージが再送されるため、配信は「少なくとも1回」となる。</p>
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    /**
+     * 失敗の原因として記録する文字数の上限
+     */
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxMapper outboxMapper;
+    private final RabbitTemplate rabbitTemplate;
+    private final CorrelatedConfirmPublisher confirmPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final int maxAttempts;
+
+    public OutboxRelay(OutboxMapper outboxMapper,
+                       RabbitTemplate rabbitTemplate,
+                       CorrelatedConfirmPublisher confirmPublisher,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${praha.outbox.batch-size:100}") int batchSize,
+                       @Value("${praha.outbox.confirm-timeout:5s}") Duration confirmTimeout,
+                       @Value("${praha.outbox.max-attempts:10}") int maxAttempts) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("アウトボックスのバッチサイズは1以上である必要があります: " + batchSize);
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("アウトボックスの送信回数の上限は1以上である必要があります: " + maxAttempts);
+        }
+        this.outboxMapper = outboxMapper;
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmPublisher = confirmPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 送信待ちメッセージがなくなるか、送信に失敗するまでバッチ単位で送信する
+     */
+    @Scheduled(initialDelayString = "${praha.outbox.relay-interval:1s}", fixedDelayString = "${praha.outbox.relay-interval:1s}")
+    public void relayPending() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * 送信待ちメッセージを1バッチ分送信する
+     * @return 送信できたメッセージの件数（送信に失敗した場合は0）
+     */
+    public int relayBatch() {
+        return relay(() -> outboxMapper.lockPending(batchSize));
+    }
+
+    /**
+     * 指定した送信待ちメッセージを送信する
+     * <p>既に送信済みのメッセージや、他のリレーが送信中のメッセージは読み飛ばす。</p>
+     * @param ids メッセージIDのリスト
+     * @return 送信できたメッセージの件数（送信に失敗した場合は0）
+     */
+    public int relay(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return relay(() -> outboxMapper.lockByIds(ids));
+    }
+
+    private int relay(Supplier<List<OutboxRecord>> lock) {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxRecord> locked = lock.get();
+            if (locked.isEmpty()) {
+                return 0;
+            }
+            List<Outgoing> records = readSendable(locked);
+            if (records.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = records.stream().map(outgoing -> outgoing.record().id()).toList();
+            List<Long> unconfirmed;
+            try {
+                unconfirmed = publish(records);
+            } catch (AmqpException | IllegalStateException e) {
+                logger.warn("アウトボックスのメッセージ送信に失敗しました（{}件、次回再送します）", records.size(), e);
+                outboxMapper.recordFailure(ids, truncate(String.valueOf(e.getMessage())));
+                return 0;
+            }
+            if (unconfirmed.isEmpty()) {
+                outboxMapper.deleteByIds(ids);
+                return records.size();
+            }
+            logger.warn("ブローカーに受理されなかったメッセージがあります（{}件、次回再送します）", unconfirmed.size());
+            outboxMapper.recordFailure(unconfirmed, "ブローカーに受理されませんでした");
+            List<Long> confirmed = ids.stream().filter(id -> !unconfirmed.contains(id)).toList();
+            if (!confirmed.isEmpty()) {
+                outboxMapper.deleteByIds(confirmed);
+            }
+            return confirmed.size();
+        });
+        if (relayed != null && relayed > 0) {
+            logger.info("アウトボックスのメッセージをRabbitMQキューに送信しました: {}件", relayed);
+        }
+        return relayed != null ? relayed : 0;
+    }
+
+    /**
+     * メッセージを送信し、ブローカーに受理されなかったメッセージのIDを返す
+     * <p>相関付きのコンファームが有効な場合は {@link CorrelatedConfirmPublisher} で送信し、
+     * 受理されなかったメッセージのみを再送対象とする。
+     * それ以外の場合はバッチ全体の受理を待ち、1件でも受理されなければ例外とする。</p>
+     */
+    private List<Long> publish(List<Outgoing> records) {
+        if (confirmPublisher.isAvailable()) {
+            List<CorrelatedConfirmPublisher.Outbound> outbounds = records.stream()
+                .map(outgoing -> new CorrelatedConfirmPublisher.Outbound(
+                    outgoing.record().id(), outgoing.record().destination(), outgoing.message()))
+                .toList();
+            return confirmPublisher.publish(outbounds);
+        }
+        rabbitTemplate.invoke(operations -> {
+            for (Outgoing outgoing : records) {
+                operations.convertAndSend(outgoing.record().destination(), outgoing.message());
+            }
+            // バッチ内の全メッセージがブローカーに受理されるまで待つ（nackやタイムアウトの場合は例外）
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+        return List.of();
+    }
+
+    /**
+     * メッセージを1件ずつ読み込み、送信できないメッセージを退避テーブルに移す
+     * @return 送信するメッセージ（書き込み順）
+     */
+    private List<Outgoing> readSendable(List<OutboxRecord> records) {
+        List<Outgoing> sendable = new ArrayList<>(records.size());
+        List<Long> exhausted = new ArrayList<>();
+        for (OutboxRecord record : records) {
+            if (record.attempts() >= maxAttempts) {
+                exhausted.add(record.id());
+                continue;
+            }
+            try {
+                sendable.add(new Outgoing(record, objectMapper.readValue(record.payload(), NotificationMessage.class)));
+            } catch (JsonProcessingException e) {
+                logger.error("アウトボックスのメッセージを読み込めないため退避します: id={}", record.id(), e);
+                outboxMapper.moveToDeadLetter(List.of(record.id()),
+                    truncate("メッセージを読み込めませんでした: " + e.getOriginalMessage()));
+            }
+        }
+        if (!exhausted.isEmpty()) {
+            logger.error("送信の失敗回数が上限（{}回）に達したメッセージを退避します: {}", maxAttempts, exhausted);
+            outboxMapper.moveToDeadLetter(exhausted, "送信の失敗回数が上限に達しました");
+        }
+        return sendable;
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * 送信するメッセージと、読み込んだ通知メッセージ
+     */
+    private record Outgoing(OutboxRecord record, NotificationMessage message) {}
+}
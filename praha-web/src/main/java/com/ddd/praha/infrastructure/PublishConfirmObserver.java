@@ -0,0 +1,58 @@
+package com.ddd.praha.infrastructure;
+
+import java.time.Duration;
+
+/**
+ * パブリッシャーコンファームの結果を受け取るオブザーバー
+ * <p>確認までの時間や再送の計測に使う。計測の実装は設定クラスで提供する。</p>
+ */
+public interface PublishConfirmObserver {
+
+    /**
+     * 何もしないオブザーバー
+     */
+    PublishConfirmObserver NOOP = new PublishConfirmObserver() {
+        @Override
+        public void onConfirm(ConfirmResult result, Duration latency) {
+        }
+
+        @Override
+        public void onRetry(int count) {
+        }
+    };
+
+    /**
+     * 送信したメッセージの確認結果
+     */
+    enum ConfirmResult {
+        /**
+         * ブローカーに受理された
+         */
+        ACK,
+        /**
+         * ブローカーに拒否された
+         */
+        NACK,
+        /**
+         * どのキューにも配送できず返送された
+         */
+        RETURNED,
+        /**
+         * 待ち時間内に確認できなかった
+         */
+        TIMEOUT
+    }
+
+    /**
+     * メッセージの確認結果を受け取る
+     * @param result 確認結果
+     * @param latency 送信から確認（またはタイムアウト）までの時間
+     */
+    void onConfirm(ConfirmResult result, Duration latency);
+
+    /**
+     * 受理されなかったメッセージを再送する
+     * @param count 再送するメッセージの件数
+     */
+    void onRetry(int count);
+}
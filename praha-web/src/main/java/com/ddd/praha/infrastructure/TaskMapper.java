@@ -28,6 +28,22 @@ public interface TaskMapper {
     @Select("SELECT id, name FROM tasks WHERE id = #{id.value}")
     TaskRecord get(@Param("id") TaskId id);
 
+    /**
+     * 課題名で課題を取得する
+     * @param names 課題名のリスト（完全一致検索）
+     * @return 課題レコードのリスト
+     */
+    @Select("""
+        <script>
+        SELECT id, name FROM tasks
+        WHERE name IN
+        <foreach item="name" collection="names" open="(" separator="," close=")">
+            #{name}
+        </foreach>
+        </script>
+    """)
+    List<TaskRecord> findByNames(@Param("names") List<String> names);
+
     /**
      * 課題を保存する（新規追加）
      */
@@ -2,8 +2,11 @@ package com.ddd.praha.infrastructure;
 
 import com.ddd.praha.domain.model.MemberId;
 import com.ddd.praha.domain.model.TaskId;
+import com.ddd.praha.domain.model.TaskProgressKey;
 import org.apache.ibatis.annotations.*;
 
+import java.util.List;
+
 /**
  * 参加者課題のMyBatisマッパーインターフェース
  */
@@ -35,6 +38,107 @@ public interface TaskProgressMapper {
         @Param("taskId") TaskId taskId
     );
 
+    /**
+     * 参加者の全ての参加者課題を取得する
+     * <p>主キー (member_id, task_id) の先頭列で参加者ごとにまとめて読み込む。
+     * 課題が割り当てられていない参加者は、課題の列がnullの1行として返す。</p>
+     * @param memberIds 参加者IDのリスト（空でないこと）
+     * @return 参加者課題レコード（参加者ID、課題名、課題IDの順）
+     */
+    @Select("""
+        <script>
+        SELECT
+            m.id as memberId,
+            m.name as memberName,
+            m.email as email,
+            m.status as memberStatus,
+            t.id as taskId,
+            t.name as taskName,
+            mt.status as taskStatus
+        FROM members m
+        LEFT JOIN member_tasks mt ON mt.member_id = m.id
+        LEFT JOIN tasks t ON mt.task_id = t.id
+        WHERE m.id IN
+        <foreach item="memberId" collection="memberIds" open="(" separator="," close=")">
+            #{memberId.value}
+        </foreach>
+        ORDER BY m.id, t.name, t.id
+        </script>
+    """)
+    List<TaskProgressRecord> findByMembers(@Param("memberIds") List<MemberId> memberIds);
+
+    /**
+     * 全ての参加者課題の進捗ステータスを取得する
+     * @return 参加者ID・課題ID・進捗ステータスのレコード
+     */
+    @Select("SELECT member_id, task_id, status FROM member_tasks")
+    List<MemberTaskStatusRecord> findAllStatuses();
+
+    /**
+     * 指定した参加者の全ての課題の進捗ステータスを取得する
+     * @param memberIds 参加者IDの配列
+     * @return 参加者ID・課題ID・進捗ステータスのレコード
+     */
+    @Select("""
+        SELECT member_id, task_id, status FROM member_tasks
+        WHERE member_id = ANY(#{memberIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})
+    """)
+    List<MemberTaskStatusRecord> findStatusesByMemberIds(@Param("memberIds") String[] memberIds);
+
+    /**
+     * 指定した参加者課題の進捗ステータスをまとめて取得する
+     * @param keys 参加者課題のキー（空でないこと）
+     * @return 参加者ID・課題ID・進捗ステータスのレコード
+     */
+    @Select("""
+        <script>
+        SELECT member_id, task_id, status FROM member_tasks
+        WHERE (member_id, task_id) IN
+        <foreach item="key" collection="keys" open="(" separator="," close=")">
+            (#{key.memberId.value}, #{key.taskId.value})
+        </foreach>
+        </script>
+    """)
+    List<MemberTaskStatusRecord> findStatuses(@Param("keys") List<TaskProgressKey> keys);
+
+    /**
+     * 参加者に全ての課題の参加者課題を作成する（既に存在するものは作成しない）
+     * <p>課題の件数によらず1回のINSERTで作成する。</p>
+     * @param memberId 参加者ID
+     * @param status 初期ステータス
+     * @return 作成した参加者課題の課題ID
+     */
+    @Select("""
+        INSERT INTO member_tasks (member_id, task_id, status)
+        SELECT m.id, t.id, #{status}
+        FROM members m
+        CROSS JOIN tasks t
+        WHERE m.id = #{memberId.value}
+        ON CONFLICT (member_id, task_id) DO NOTHING
+        RETURNING task_id
+    """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<String> insertForMember(@Param("memberId") MemberId memberId, @Param("status") String status);
+
+    /**
+     * 全ての参加者に課題の参加者課題を作成する（既に存在するものは作成しない）
+     * <p>参加者の人数によらず1回のINSERTで作成する。</p>
+     * @param taskId 課題ID
+     * @param status 初期ステータス
+     * @return 作成した参加者課題の参加者ID
+     */
+    @Select("""
+        INSERT INTO member_tasks (member_id, task_id, status)
+        SELECT m.id, t.id, #{status}
+        FROM members m
+        CROSS JOIN tasks t
+        WHERE t.id = #{taskId.value}
+        ON CONFLICT (member_id, task_id) DO NOTHING
+        RETURNING member_id
+    """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<String> insertForTask(@Param("taskId") TaskId taskId, @Param("status") String status);
+
     /**
      * 参加者課題の進捗ステータスを更新する
      * @param memberId 参加者ID
@@ -37,22 +37,37 @@ public record TaskProgressRecord(
 
   public TaskProgress toMemberTask() {
     Map<Task, TaskStatus> map = new HashMap<>();
-    Task task = new Task(
-        new TaskId(taskId),
-        new TaskName(taskName)
+    map.put(toTask(), TaskStatus.valueOf(taskStatus));
+
+    return new TaskProgress(
+        toMember(),
+        map
     );
-    map.put(task, TaskStatus.valueOf(taskStatus));
+  }
 
-    Member member = new Member(
+  /**
+   * 参加者の情報をMemberに変換する
+   *
+   * @return Member
+   */
+  public Member toMember() {
+    return new Member(
         new MemberId(memberId),
         new MemberName(memberName),
         new Email(email),
         EnrollmentStatus.valueOf(memberStatus)
     );
+  }
 
-    return new TaskProgress(
-        member,
-        map
+  /**
+   * 課題の情報をTaskに変換する
+   *
+   * @return Task
+   */
+  public Task toTask() {
+    return new Task(
+        new TaskId(taskId),
+        new TaskName(taskName)
     );
   }
 }
\ No newline at end of file
@@ -1,11 +1,30 @@
 package com.ddd.praha.infrastructure;
 
+import com.ddd.praha.application.event.TaskProgressChangedEvent;
 import com.ddd.praha.application.repository.TaskProgressRepository;
 import com.ddd.praha.domain.entity.Member;
 import com.ddd.praha.domain.entity.TaskProgress;
 import com.ddd.praha.domain.entity.Task;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TaskId;
+import com.ddd.praha.domain.model.TaskProgressKey;
 import com.ddd.praha.domain.model.TaskStatus;
+import com.ddd.praha.domain.model.TaskStatusChange;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 参加者課題リポジトリのMyBatis実装
@@ -13,10 +32,22 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class TaskProgressRepositoryImpl implements TaskProgressRepository {
     
+    /**
+     * 1回の問い合わせで指定するキーの最大件数（バインド変数の上限を超えないようにする）
+     */
+    private static final int FIND_CHUNK_SIZE = 1000;
+
     private final TaskProgressMapper taskProgressMapper;
+    private final TaskStatusMemberIndex taskStatusIndex;
+    private final SqlSessionTemplate batchSqlSession;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public TaskProgressRepositoryImpl(TaskProgressMapper taskProgressMapper) {
+    public TaskProgressRepositoryImpl(TaskProgressMapper taskProgressMapper, TaskStatusMemberIndex taskStatusIndex,
+                                      SqlSessionFactory sqlSessionFactory, ApplicationEventPublisher eventPublisher) {
         this.taskProgressMapper = taskProgressMapper;
+        this.taskStatusIndex = taskStatusIndex;
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
@@ -25,6 +56,30 @@ public class TaskProgressRepositoryImpl implements TaskProgressRepository {
         return record != null ? record.toMemberTask() : null;
     }
     
+    @Override
+    public Optional<TaskProgress> findByMember(MemberId memberId) {
+        return Optional.ofNullable(findByMembers(List.of(memberId)).get(memberId));
+    }
+
+    @Override
+    public Map<MemberId, TaskProgress> findByMembers(Collection<MemberId> memberIds) {
+        List<MemberId> distinctIds = memberIds.stream().distinct().toList();
+        Map<MemberId, TaskProgress> progresses = new LinkedHashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += FIND_CHUNK_SIZE) {
+            List<MemberId> chunk = distinctIds.subList(from, Math.min(from + FIND_CHUNK_SIZE, distinctIds.size()));
+            Map<String, List<TaskProgressRecord>> byMember = taskProgressMapper.findByMembers(chunk).stream()
+                .collect(Collectors.groupingBy(TaskProgressRecord::memberId, LinkedHashMap::new, Collectors.toList()));
+            byMember.forEach((memberId, records) -> {
+                Map<Task, TaskStatus> statuses = new LinkedHashMap<>();
+                records.stream()
+                    .filter(record -> record.taskId() != null)
+                    .forEach(record -> statuses.put(record.toTask(), record.toTaskStatus()));
+                progresses.put(new MemberId(memberId), new TaskProgress(records.getFirst().toMember(), statuses));
+            });
+        }
+        return progresses;
+    }
+
     @Override
     public void save(TaskProgress taskProgress, Task task) {
         TaskStatus currentStatus = taskProgress.getTaskStatus(task);
@@ -33,5 +88,85 @@ public class TaskProgressRepositoryImpl implements TaskProgressRepository {
             task.getId(),
             currentStatus.name()
         );
+        MemberId memberId = taskProgress.getOwner().getId();
+        afterCommit(List.of(memberId), () -> taskStatusIndex.update(memberId, task.getId(), currentStatus));
+    }
+
+    @Override
+    public void provisionForMember(MemberId memberId) {
+        List<String> taskIds = taskProgressMapper.insertForMember(memberId, TaskStatus.未着手.name());
+        afterCommit(List.of(memberId), () -> taskIds.forEach(taskId ->
+            taskStatusIndex.update(memberId, new TaskId(taskId), TaskStatus.未着手)));
+    }
+
+    @Override
+    public void provisionForTask(TaskId taskId) {
+        List<MemberId> memberIds = taskProgressMapper.insertForTask(taskId, TaskStatus.未着手.name()).stream()
+            .map(MemberId::new)
+            .toList();
+        afterCommit(memberIds, () -> memberIds.forEach(memberId ->
+            taskStatusIndex.update(memberId, taskId, TaskStatus.未着手)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>一括更新と同じトランザクションで使えるよう、バッチ実行のセッションで取得する。</p>
+     */
+    @Override
+    public Map<TaskProgressKey, TaskStatus> findStatuses(Collection<TaskProgressKey> keys) {
+        TaskProgressMapper batchMapper = batchSqlSession.getMapper(TaskProgressMapper.class);
+        List<TaskProgressKey> distinctKeys = keys.stream().distinct().toList();
+        Map<TaskProgressKey, TaskStatus> statuses = new HashMap<>();
+        for (int from = 0; from < distinctKeys.size(); from += FIND_CHUNK_SIZE) {
+            List<TaskProgressKey> chunk = distinctKeys.subList(from, Math.min(from + FIND_CHUNK_SIZE, distinctKeys.size()));
+            batchMapper.findStatuses(chunk).forEach(record -> statuses.put(
+                new TaskProgressKey(new MemberId(record.memberId()), new TaskId(record.taskId())),
+                TaskStatus.valueOf(record.status())
+            ));
+        }
+        return statuses;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>MyBatisのバッチ実行（{@link ExecutorType#BATCH}）でUPDATEをまとめて送信する。
+     * まとめて送信されるのはトランザクション内で呼び出した場合のみ。
+     * バッチ実行のセッションは同じトランザクション内で通常のマッパーと併用できないため、
+     * 同じトランザクションでの読み込みには {@link #findStatuses} を使用すること。</p>
+     */
+    @Override
+    public void saveAll(List<TaskStatusChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        TaskProgressMapper batchMapper = batchSqlSession.getMapper(TaskProgressMapper.class);
+        changes.forEach(change -> batchMapper.updateTaskStatus(change.memberId(), change.taskId(), change.status().name()));
+        batchSqlSession.flushStatements();
+        afterCommit(changes.stream().map(TaskStatusChange::memberId).toList(), () -> changes.forEach(change ->
+            taskStatusIndex.update(change.memberId(), change.taskId(), change.status())));
+    }
+
+    /**
+     * トランザクションのコミット後に課題進捗インデックスを更新し、変更を通知する（トランザクション外の場合は即時に実行する）
+     * <p>課題進捗インデックスは検索結果そのものに使われるため、コミットされた内容のみを反映する。
+     * 通知した変更は {@link CacheInvalidationBus} が他のノードに伝える。</p>
+     * @param memberIds 進捗ステータスが変わる参加者のID
+     * @param action インデックスを更新する処理
+     */
+    private void afterCommit(Collection<MemberId> memberIds, Runnable action) {
+        Runnable publish = () -> {
+            action.run();
+            eventPublisher.publishEvent(TaskProgressChangedEvent.ofMembers(memberIds));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.application.event.TaskProgressChangedEvent;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TaskId;
+import com.ddd.praha.domain.model.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 課題ID×進捗ステータスごとに、そのステータスにある参加者の集合を保持するインメモリのインデックス。
+ *
+ * <p>参加者には読み込み順に連番（序数）を割り当て、参加者の集合を序数の {@link BitSet} で表す。
+ * 「指定した全ての課題が指定ステータスにある参加者」の検索を、
+ * {@code member_tasks} の集計なしにビット演算（和集合・積集合）で行えるようにする。</p>
+ *
+ * <p>アプリケーション起動時にデータベースから構築し、以降は
+ * {@link TaskProgressRepositoryImpl} での進捗更新のコミット後に差分更新される。
+ * 他のノードで進捗が更新された参加者は、{@link CacheInvalidationBus} からの {@link TaskProgressChangedEvent} を受けて読み直す。</p>
+ */
+@Component
+public class TaskStatusMemberIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatusMemberIndex.class);
+
+    private final TaskProgressMapper taskProgressMapper;
+    private final Map<MemberId, Integer> ordinals = new HashMap<>();
+    private final List<MemberId> members = new ArrayList<>();
+    private final Map<TaskId, Map<TaskStatus, BitSet>> bitmaps = new HashMap<>();
+    // データベースから読み込んでいる間に差分更新された進捗（読み込みごと）
+    private final List<Map<Progress, TaskStatus>> updatesDuringLoads = new ArrayList<>();
+    private boolean loaded;
+
+    public TaskStatusMemberIndex(TaskProgressMapper taskProgressMapper) {
+        this.taskProgressMapper = taskProgressMapper;
+    }
+
+    /**
+     * データベースの内容からインデックスを再構築する
+     * <p>読み込みの間に差分更新された進捗は、読み込んだ内容に含まれているか分からないため、読み込んだ内容の上に適用し直す
+     * （差分更新はコミット済みの進捗ステータスそのものを設定するため、適用し直しても結果は変わらない）。</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Progress, TaskStatus> updates = startLoad();
+        List<MemberTaskStatusRecord> records;
+        try {
+            records = taskProgressMapper.findAllStatuses();
+        } catch (RuntimeException e) {
+            finishLoad(updates);
+            throw e;
+        }
+        synchronized (this) {
+            finishLoad(updates);
+            ordinals.clear();
+            members.clear();
+            bitmaps.clear();
+            records.forEach(this::set);
+            updates.forEach((progress, status) -> set(progress.memberId(), progress.taskId(), status));
+            loaded = true;
+        }
+        logger.info("課題進捗インデックスを構築しました: {}件（参加者{}名、読み込み中の更新{}件）",
+            records.size(), members.size(), updates.size());
+    }
+
+    /**
+     * 指定した参加者の進捗ステータスをデータベースから読み直す
+     * <p>読み込みの間に差分更新された進捗は、{@link #rebuild()} と同じく適用し直す。</p>
+     * @param memberIds 参加者ID
+     */
+    public void refresh(Collection<MemberId> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Map<Progress, TaskStatus> updates = startLoad();
+        List<MemberTaskStatusRecord> records;
+        try {
+            records = taskProgressMapper.findStatusesByMemberIds(memberIds.stream().map(MemberId::value).toArray(String[]::new));
+        } catch (RuntimeException e) {
+            finishLoad(updates);
+            throw e;
+        }
+        synchronized (this) {
+            finishLoad(updates);
+            Set<Integer> refreshed = new HashSet<>();
+            memberIds.forEach(memberId -> refreshed.add(ordinalOf(memberId)));
+            bitmaps.values().forEach(byStatus -> byStatus.values().forEach(bitmap ->
+                refreshed.forEach(bitmap::clear)));
+            records.forEach(this::set);
+            updates.forEach((progress, status) -> set(progress.memberId(), progress.taskId(), status));
+        }
+    }
+
+    /**
+     * 他のノードで進捗が更新された参加者を読み直す
+     * @param event 進捗ステータスの変更
+     */
+    @EventListener
+    public void onTaskProgressChanged(TaskProgressChangedEvent event) {
+        if (!event.remote()) {
+            return;
+        }
+        if (event.all()) {
+            rebuild();
+        } else {
+            refresh(event.memberIds());
+        }
+    }
+
+    /**
+     * インデックスが構築済みかどうか
+     * @return 構築済みの場合はtrue
+     */
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 参加者の課題の進捗ステータスを設定する（他のステータスからは取り除く）
+     * @param memberId 参加者ID
+     * @param taskId 課題ID
+     * @param status 進捗ステータス
+     */
+    public synchronized void update(MemberId memberId, TaskId taskId, TaskStatus status) {
+        updatesDuringLoads.forEach(updates -> updates.put(new Progress(memberId, taskId), status));
+        set(memberId, taskId, status);
+    }
+
+    private void set(MemberTaskStatusRecord record) {
+        set(new MemberId(record.memberId()), new TaskId(record.taskId()), TaskStatus.valueOf(record.status()));
+    }
+
+    private void set(MemberId memberId, TaskId taskId, TaskStatus status) {
+        int ordinal = ordinalOf(memberId);
+        Map<TaskStatus, BitSet> byStatus = bitmaps.computeIfAbsent(taskId, key -> new EnumMap<>(TaskStatus.class));
+        byStatus.values().forEach(bitmap -> bitmap.clear(ordinal));
+        byStatus.computeIfAbsent(status, key -> new BitSet()).set(ordinal);
+    }
+
+    /**
+     * 全ての課題グループについて、いずれかの課題が指定ステータスのいずれかにある参加者を検索する。
+     *
+     * <p>課題グループは同名の課題IDの集合で、グループ内は和集合、グループ間は積集合をとる。</p>
+     *
+     * @param taskGroups 課題グループのリスト（空の場合は結果も空）
+     * @param statuses 進捗ステータス
+     * @return 条件に合致する参加者ID（順不同）
+     */
+    public synchronized List<MemberId> findMembersMatchingAll(Collection<? extends Collection<TaskId>> taskGroups,
+                                                              Collection<TaskStatus> statuses) {
+        if (taskGroups.isEmpty()) {
+            return List.of();
+        }
+        BitSet result = null;
+        for (Collection<TaskId> group : taskGroups) {
+            BitSet matched = union(group, statuses);
+            if (result == null) {
+                result = matched;
+            } else {
+                result.and(matched);
+            }
+            if (result.isEmpty()) {
+                return List.of();
+            }
+        }
+        return result.stream().mapToObj(members::get).toList();
+    }
+
+    private BitSet union(Collection<TaskId> taskIds, Collection<TaskStatus> statuses) {
+        BitSet union = new BitSet();
+        for (TaskId taskId : taskIds) {
+            Map<TaskStatus, BitSet> byStatus = bitmaps.get(taskId);
+            if (byStatus == null) {
+                continue;
+            }
+            for (TaskStatus status : statuses) {
+                BitSet bitmap = byStatus.get(status);
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+        }
+        return union;
+    }
+
+    /**
+     * データベースからの読み込みを開始し、読み込みの間に差分更新された進捗の記録を始める
+     * @return 読み込みの間に差分更新された進捗の記録先
+     */
+    private synchronized Map<Progress, TaskStatus> startLoad() {
+        Map<Progress, TaskStatus> updates = new LinkedHashMap<>();
+        updatesDuringLoads.add(updates);
+        return updates;
+    }
+
+    /**
+     * 読み込みの間に差分更新された進捗の記録を終える（読み込んだ内容を反映するのと同じロックの中で呼び出す）
+     */
+    private synchronized void finishLoad(Map<Progress, TaskStatus> updates) {
+        updatesDuringLoads.removeIf(recorded -> recorded == updates);
+    }
+
+    private int ordinalOf(MemberId memberId) {
+        return ordinals.computeIfAbsent(memberId, key -> {
+            members.add(key);
+            return members.size() - 1;
+        });
+    }
+
+    private record Progress(MemberId memberId, TaskId taskId) {}
+}
@@ -52,6 +52,96 @@ public interface TeamMapper {
       """)
   List<TeamMemberJoinRecord> getWithMembers(@Param("id") TeamId id);
 
+  /**
+   * メンバーが所属しているチームを、そのチームの全メンバーと共に検索する
+   *
+   * @param memberId メンバーID
+   * @return チームとメンバーの結合レコード（所属していない場合は空）
+   */
+  @Select("""
+          SELECT
+             t.id as team_id,
+             t.name as team_name,
+             m.id as member_id,
+             m.name as member_name,
+             m.email as member_email,
+             m.status as member_status
+          FROM
+              team_members owner
+              INNER JOIN teams t ON owner.team_id = t.id
+              LEFT JOIN team_members tm ON t.id = tm.team_id
+              LEFT JOIN members m ON tm.member_id = m.id
+          WHERE
+              owner.member_id = #{memberId.value}
+      """)
+  List<TeamMemberJoinRecord> findWithMembersByMemberId(@Param("memberId") MemberId memberId);
+
+  /**
+   * 指定人数未満のチームのうち、最小人数のチームをメンバーと共に取得する
+   *
+   * @param excludeTeamId  候補から除外するチームID（nullの場合は除外しない）
+   * @param maxMemberCount この人数未満のチームのみを対象とする（nullの場合は制限しない）
+   * @return チームとメンバーの結合レコード
+   */
+  @Select("""
+          <script>
+          WITH team_sizes AS (
+              SELECT team_id, COUNT(*) AS member_count
+              FROM team_members
+              <where>
+                  <if test="excludeTeamId != null">team_id &lt;&gt; #{excludeTeamId.value}</if>
+              </where>
+              GROUP BY team_id
+              <if test="maxMemberCount != null">HAVING COUNT(*) &lt; #{maxMemberCount}</if>
+          ),
+          smallest_teams AS (
+              SELECT team_id, member_count
+              FROM team_sizes
+              WHERE member_count = (SELECT MIN(member_count) FROM team_sizes)
+          )
+          SELECT
+             t.id as team_id,
+             t.name as team_name,
+             m.id as member_id,
+             m.name as member_name,
+             m.email as member_email,
+             m.status as member_status
+          FROM
+              smallest_teams st
+              INNER JOIN teams t ON st.team_id = t.id
+              LEFT JOIN team_members tm ON t.id = tm.team_id
+              LEFT JOIN members m ON tm.member_id = m.id
+          ORDER BY st.member_count, t.id
+          </script>
+      """)
+  List<TeamMemberJoinRecord> findSmallestTeamsWithMembers(
+      @Param("excludeTeamId") TeamId excludeTeamId,
+      @Param("maxMemberCount") Integer maxMemberCount
+  );
+
+  /**
+   * チームごとのメンバー数を取得する
+   *
+   * @return チームIDとメンバー数のレコード
+   */
+  @Select("SELECT team_id, COUNT(*) AS member_count FROM team_members GROUP BY team_id")
+  List<TeamSizeRecord> countMembersByTeam();
+
+  /**
+   * 指定したチームのメンバー数を取得する
+   *
+   * @param teamIds チームIDの配列
+   * @return チームIDとメンバー数のレコード（存在しないチームは含まない）
+   */
+  @Select("""
+          SELECT t.id AS team_id, COUNT(tm.member_id) AS member_count
+          FROM teams t
+              LEFT JOIN team_members tm ON t.id = tm.team_id
+          WHERE t.id = ANY(#{teamIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})
+          GROUP BY t.id
+      """)
+  List<TeamSizeRecord> countMembersByTeamIds(@Param("teamIds") String[] teamIds);
+
   /**
    * チームを保存する（新規追加）
    */
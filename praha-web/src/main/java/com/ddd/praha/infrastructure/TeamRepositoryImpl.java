@@ -6,9 +6,12 @@ import com.ddd.praha.domain.entity.Member;
 import com.ddd.praha.domain.entity.Team;
 import com.ddd.praha.domain.model.*;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -16,10 +19,18 @@ import java.util.stream.Collectors;
  */
 @Repository
 public class TeamRepositoryImpl implements TeamRepository {
+    /**
+     * 新しいメンバーを受け入れられるチームの人数上限（この人数未満なら受け入れ可能）
+     * {@link Team#canAcceptNewMember()} と同じ基準
+     */
+    private static final int ACCEPTABLE_MEMBER_COUNT = 4;
+
     private final TeamMapper teamMapper;
+    private final TeamSizeIndex teamSizeIndex;
 
-    public TeamRepositoryImpl(TeamMapper teamMapper) {
+    public TeamRepositoryImpl(TeamMapper teamMapper, TeamSizeIndex teamSizeIndex) {
         this.teamMapper = teamMapper;
+        this.teamSizeIndex = teamSizeIndex;
     }
 
     @Override
@@ -38,6 +49,53 @@ public class TeamRepositoryImpl implements TeamRepository {
         return teams.get(0);
     }
 
+    @Override
+    public Optional<Team> findById(TeamId id) {
+        return convertJoinRecordsToTeams(teamMapper.getWithMembers(id)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Team> findByMemberId(MemberId memberId) {
+        List<TeamMemberJoinRecord> joinRecords = teamMapper.findWithMembersByMemberId(memberId);
+        return convertJoinRecordsToTeams(joinRecords).stream().findFirst();
+    }
+
+    @Override
+    public TeamCandidates findMergeCandidates(TeamId excludeTeamId) {
+        Optional<Team> indexed = teamSizeIndex.pickSmallest(ACCEPTABLE_MEMBER_COUNT, excludeTeamId)
+            .flatMap(this::findById)
+            .filter(this::matchesSizeIndex)
+            .filter(Team::canAcceptNewMember);
+        if (indexed.isPresent()) {
+            return new TeamCandidates(List.of(indexed.get()));
+        }
+
+        // インデックス未構築、または実データとずれている場合はSQLで絞り込む
+        List<TeamMemberJoinRecord> joinRecords =
+            teamMapper.findSmallestTeamsWithMembers(excludeTeamId, ACCEPTABLE_MEMBER_COUNT);
+        return new TeamCandidates(convertJoinRecordsToTeams(joinRecords));
+    }
+
+    @Override
+    public TeamCandidates findAssignmentCandidates() {
+        Optional<Team> indexed = teamSizeIndex.pickSmallest(ACCEPTABLE_MEMBER_COUNT, null)
+            .or(teamSizeIndex::pickSmallest)
+            .flatMap(this::findById)
+            .filter(this::matchesSizeIndex);
+        if (indexed.isPresent()) {
+            return new TeamCandidates(List.of(indexed.get()));
+        }
+
+        // インデックス未構築、または実データとずれている場合はSQLで絞り込む
+        List<TeamMemberJoinRecord> joinRecords =
+            teamMapper.findSmallestTeamsWithMembers(null, ACCEPTABLE_MEMBER_COUNT);
+        if (joinRecords.isEmpty()) {
+            // 受け入れ可能なチームがない場合は最小人数のチームを返す（分割前提）
+            joinRecords = teamMapper.findSmallestTeamsWithMembers(null, null);
+        }
+        return new TeamCandidates(convertJoinRecordsToTeams(joinRecords));
+    }
+
     @Override
     public void create(Team team) {
         if (teamMapper.exists(team.getId())) {
@@ -60,16 +118,29 @@ public class TeamRepositoryImpl implements TeamRepository {
         if (!memberIds.isEmpty()) {
             teamMapper.addMembers(team.getId(), memberIds);
         }
+
+        updateSizeIndex(
+            () -> teamSizeIndex.put(team.getId(), memberIds.size()),
+            () -> teamSizeIndex.remove(team.getId())
+        );
     }
 
     @Override
     public void addMember(TeamId teamId, MemberId memberId) {
         teamMapper.addMember(teamId, memberId);
+        updateSizeIndex(
+            () -> teamSizeIndex.increment(teamId),
+            () -> teamSizeIndex.decrement(teamId)
+        );
     }
 
     @Override
     public void removeMember(TeamId teamId, MemberId memberId) {
         teamMapper.removeMember(teamId, memberId);
+        updateSizeIndex(
+            () -> teamSizeIndex.decrement(teamId),
+            () -> teamSizeIndex.increment(teamId)
+        );
     }
 
     @Override
@@ -78,6 +149,46 @@ public class TeamRepositoryImpl implements TeamRepository {
         teamMapper.removeAllMembers(team.getId());
         // チーム自体を削除
         teamMapper.delete(team.getId());
+
+        Optional<Integer> previousSize = teamSizeIndex.sizeOf(team.getId());
+        updateSizeIndex(
+            () -> teamSizeIndex.remove(team.getId()),
+            () -> previousSize.ifPresent(size -> teamSizeIndex.put(team.getId(), size))
+        );
+    }
+
+    /**
+     * インデックスから選択したチームの実際の人数が、インデックスの人数と一致するか確認する
+     * <p>一致しない場合は選択結果を使わず、インデックスを実際の人数に合わせる。</p>
+     * @param team データベースから読み込んだチーム
+     * @return 一致する場合はtrue
+     */
+    private boolean matchesSizeIndex(Team team) {
+        int actualSize = team.getMembers().size();
+        if (teamSizeIndex.sizeOf(team.getId()).filter(size -> size == actualSize).isPresent()) {
+            return true;
+        }
+        teamSizeIndex.put(team.getId(), actualSize);
+        return false;
+    }
+
+    /**
+     * チーム人数インデックスを即時に更新し、トランザクションがロールバックされた場合は元に戻す
+     * @param apply 更新処理
+     * @param compensate ロールバック時の取り消し処理
+     */
+    private void updateSizeIndex(Runnable apply, Runnable compensate) {
+        apply.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        compensate.run();
+                    }
+                }
+            });
+        }
     }
 
     private List<Team> convertJoinRecordsToTeams(List<TeamMemberJoinRecord> joinRecords) {
@@ -0,0 +1,312 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.application.event.TeamsChangedEvent;
+import com.ddd.praha.domain.model.TeamId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * チームの人数ごとにチームIDを保持するインメモリのインデックス。
+ *
+ * <p>人数をキーとしたバケット（{@link TreeMap}）にチームIDを格納し、
+ * 最小人数のチームの選択を全チームの走査なしで行えるようにする。
+ * 各バケットは配列と位置マップで構成され、追加・削除・ランダム選択はO(1)で行える。</p>
+ *
+ * <p>アプリケーション起動時にデータベースから構築し、以降は
+ * {@link TeamRepositoryImpl} の書き込み操作に合わせて差分更新される。
+ * 他のノードで変更されたチームは {@link CacheInvalidationBus} からの {@link TeamsChangedEvent} を受けて読み直す。
+ * それでも実データとずれる可能性があるため、選択結果は呼び出し側でデータベースの値と照合すること。</p>
+ */
+@Component
+public class TeamSizeIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamSizeIndex.class);
+
+    /**
+     * 読み込みの間に変更され、差分更新できなかったチームを読み直す回数の上限
+     */
+    private static final int MAX_RELOAD_ATTEMPTS = 3;
+
+    private final TeamMapper teamMapper;
+    private final NavigableMap<Integer, Bucket> buckets = new TreeMap<>();
+    private final Map<TeamId, Integer> sizes = new HashMap<>();
+    // データベースから読み込んでいる間に変更されたチーム（読み込みごと）
+    private final List<Set<TeamId>> changesDuringLoads = new ArrayList<>();
+    private boolean loaded;
+
+    public TeamSizeIndex(TeamMapper teamMapper) {
+        this.teamMapper = teamMapper;
+    }
+
+    /**
+     * データベースの内容からインデックスを再構築する
+     * <p>読み込みの間に変更されたチームは、読み込んだ人数に変更が含まれているか分からない。
+     * これらのチームは差分更新してきた人数があればそれを残し、なければ読み込みの後に読み直す。</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Set<TeamId> changed = startLoad();
+        List<TeamSizeRecord> records;
+        try {
+            records = teamMapper.countMembersByTeam();
+        } catch (RuntimeException e) {
+            finishLoad(changed);
+            throw e;
+        }
+        Set<TeamId> unknown = new HashSet<>();
+        synchronized (this) {
+            finishLoad(changed);
+            Map<TeamId, Integer> current = new HashMap<>(sizes);
+            buckets.clear();
+            sizes.clear();
+            records.forEach(record -> set(new TeamId(record.teamId()), Math.toIntExact(record.memberCount())));
+            for (TeamId teamId : changed) {
+                Integer size = current.get(teamId);
+                if (size != null) {
+                    set(teamId, size);
+                } else {
+                    unknown.add(teamId);
+                }
+            }
+            loaded = true;
+        }
+        refresh(unknown);
+        logger.info("チーム人数インデックスを構築しました: {}チーム（読み込み中の変更: {}チーム）", records.size(), changed.size());
+    }
+
+    /**
+     * 指定したチームの人数をデータベースから読み直す（存在しなくなったチームは削除する）
+     * <p>読み込みの間にこのノードで変更されたチームは、差分更新した人数を残す。
+     * 差分更新できなかった（インデックスになかった）チームは、{@value #MAX_RELOAD_ATTEMPTS} 回まで読み直す。</p>
+     * @param teamIds チームID
+     */
+    public void refresh(Collection<TeamId> teamIds) {
+        Set<TeamId> remaining = new HashSet<>(teamIds);
+        for (int attempt = 0; attempt < MAX_RELOAD_ATTEMPTS && !remaining.isEmpty(); attempt++) {
+            Set<TeamId> changed = startLoad();
+            List<TeamSizeRecord> records;
+            try {
+                records = teamMapper.countMembersByTeamIds(remaining.stream().map(TeamId::value).toArray(String[]::new));
+            } catch (RuntimeException e) {
+                finishLoad(changed);
+                throw e;
+            }
+            synchronized (this) {
+                finishLoad(changed);
+                Set<TeamId> missing = new HashSet<>(remaining);
+                for (TeamSizeRecord record : records) {
+                    TeamId teamId = new TeamId(record.teamId());
+                    missing.remove(teamId);
+                    if (!changed.contains(teamId)) {
+                        set(teamId, Math.toIntExact(record.memberCount()));
+                    }
+                }
+                missing.stream().filter(teamId -> !changed.contains(teamId)).forEach(this::unset);
+                remaining.retainAll(changed);
+                remaining.removeIf(sizes::containsKey);
+            }
+        }
+    }
+
+    /**
+     * 他のノードで変更されたチームの人数を読み直す
+     * @param event チームの変更
+     */
+    @EventListener
+    public void onTeamsChanged(TeamsChangedEvent event) {
+        if (!event.remote()) {
+            return;
+        }
+        if (event.all()) {
+            rebuild();
+        } else {
+            refresh(event.teamIds());
+        }
+    }
+
+    /**
+     * インデックスが構築済みかどうか
+     * @return 構築済みの場合はtrue
+     */
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * チームの現在の人数を取得する
+     * @param teamId チームID
+     * @return 人数（インデックスに存在しない場合はEmpty）
+     */
+    public synchronized Optional<Integer> sizeOf(TeamId teamId) {
+        return Optional.ofNullable(sizes.get(teamId));
+    }
+
+    /**
+     * チームを指定人数で登録する（既に登録済みの場合は人数を置き換える）
+     * @param teamId チームID
+     * @param size 人数
+     */
+    public synchronized void put(TeamId teamId, int size) {
+        recordChange(teamId);
+        set(teamId, size);
+    }
+
+    /**
+     * チームの人数を1増やす（未登録のチームは無視する）
+     * @param teamId チームID
+     */
+    public synchronized void increment(TeamId teamId) {
+        recordChange(teamId);
+        Integer size = sizes.get(teamId);
+        if (size != null) {
+            set(teamId, size + 1);
+        }
+    }
+
+    /**
+     * チームの人数を1減らす（未登録のチームは無視する）
+     * @param teamId チームID
+     */
+    public synchronized void decrement(TeamId teamId) {
+        recordChange(teamId);
+        Integer size = sizes.get(teamId);
+        if (size != null) {
+            set(teamId, Math.max(0, size - 1));
+        }
+    }
+
+    /**
+     * チームをインデックスから削除する
+     * @param teamId チームID
+     */
+    public synchronized void remove(TeamId teamId) {
+        recordChange(teamId);
+        unset(teamId);
+    }
+
+    private void set(TeamId teamId, int size) {
+        unset(teamId);
+        sizes.put(teamId, size);
+        buckets.computeIfAbsent(size, key -> new Bucket()).add(teamId);
+    }
+
+    private void unset(TeamId teamId) {
+        Integer size = sizes.remove(teamId);
+        if (size == null) {
+            return;
+        }
+        Bucket bucket = buckets.get(size);
+        bucket.remove(teamId);
+        if (bucket.isEmpty()) {
+            buckets.remove(size);
+        }
+    }
+
+    /**
+     * 指定人数未満のチームのうち、最小人数のチームを1つ選択する。
+     *
+     * <p>同じ人数のチームが複数ある場合は一様ランダムに選択する。
+     * 除外チームしか存在しない人数は読み飛ばして次に少ない人数を探す。</p>
+     *
+     * @param belowSize この人数未満のチームのみを対象とする
+     * @param excludeTeamId 選択から除外するチームID（nullの場合は除外しない）
+     * @return 選択されたチームID（候補がない場合はEmpty）
+     */
+    public synchronized Optional<TeamId> pickSmallest(int belowSize, TeamId excludeTeamId) {
+        for (Bucket bucket : buckets.headMap(belowSize, false).values()) {
+            Optional<TeamId> picked = bucket.pickRandom(excludeTeamId);
+            if (picked.isPresent()) {
+                return picked;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 人数に関係なく、最小人数のチームを1つ選択する
+     * @return 選択されたチームID（チームが存在しない場合はEmpty）
+     */
+    public synchronized Optional<TeamId> pickSmallest() {
+        return pickSmallest(Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * データベースからの読み込みを開始し、読み込みの間に変更されたチームの記録を始める
+     * @return 読み込みの間に変更されたチームの記録先
+     */
+    private synchronized Set<TeamId> startLoad() {
+        Set<TeamId> changed = new HashSet<>();
+        changesDuringLoads.add(changed);
+        return changed;
+    }
+
+    /**
+     * 読み込みの間に変更されたチームの記録を終える（読み込んだ内容を反映するのと同じロックの中で呼び出す）
+     */
+    private synchronized void finishLoad(Set<TeamId> changed) {
+        changesDuringLoads.removeIf(recorded -> recorded == changed);
+    }
+
+    private void recordChange(TeamId teamId) {
+        changesDuringLoads.forEach(changed -> changed.add(teamId));
+    }
+
+    /**
+     * 同じ人数のチームIDの集合
+     * <p>末尾との入れ替えによる削除で、追加・削除・ランダム選択をO(1)で行う。</p>
+     */
+    private static final class Bucket {
+        private final List<TeamId> ids = new ArrayList<>();
+        private final Map<TeamId, Integer> positions = new HashMap<>();
+
+        void add(TeamId teamId) {
+            positions.put(teamId, ids.size());
+            ids.add(teamId);
+        }
+
+        void remove(TeamId teamId) {
+            Integer position = positions.remove(teamId);
+            if (position == null) {
+                return;
+            }
+            TeamId last = ids.removeLast();
+            if (position < ids.size()) {
+                ids.set(position, last);
+                positions.put(last, position);
+            }
+        }
+
+        boolean isEmpty() {
+            return ids.isEmpty();
+        }
+
+        Optional<TeamId> pickRandom(TeamId excludeTeamId) {
+            Integer excludedPosition = excludeTeamId != null ? positions.get(excludeTeamId) : null;
+            int candidateCount = excludedPosition != null ? ids.size() - 1 : ids.size();
+            if (candidateCount <= 0) {
+                return Optional.empty();
+            }
+            int index = ThreadLocalRandom.current().nextInt(candidateCount);
+            // 除外チームの位置を飛ばして、残りの候補から一様に選ぶ
+            if (excludedPosition != null && index >= excludedPosition) {
+                index++;
+            }
+            return Optional.of(ids.get(index));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.ddd.praha.infrastructure;
+
+/**
+ * チームごとのメンバー数のSQLマッピングレコード
+ */
+public record TeamSizeRecord(
+    String teamId,
+    long memberCount
+) {
+}
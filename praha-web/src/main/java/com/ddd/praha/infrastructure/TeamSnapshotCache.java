@@ -0,0 +1,277 @@
+package com.ddd.praha.infrastructure;
+
+import com.ddd.praha.application.event.TeamsChangedEvent;
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.entity.Team;
+import com.ddd.praha.domain.model.Email;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberName;
+import com.ddd.praha.domain.model.TeamId;
+import com.ddd.praha.domain.model.TeamName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * チームのスナップショットを保持するキャッシュ。
+ *
+ * <p>{@link CachingTeamRepository} が読み込んだチームを、変更できないスナップショットとして
+ * {@link TinyLfuCache} に保持する。取り出すたびに新しい {@link Team} を組み立てるため、
+ * 呼び出し側がチームを変更してもキャッシュには影響しない。</p>
+ *
+ * <p>チームの書き込みや参加者の在籍ステータスの更新では、該当するチームを直ちに無効化し、
+ * トランザクションの完了時（コミット・ロールバックとも）にもう一度無効化する。
+ * 書き込みと並行して読み込んだ古い内容を格納しないよう、無効化のたびに世代を進め、
+ * 読み込みの開始時から世代が変わっていれば格納しない。</p>
+ *
+ * <p>無効化したチームは {@link TeamsChangedEvent} で通知する。トランザクション内の変更はコミット後、
+ * キャッシュから取り除いた後に通知するため、受け取った側がこのキャッシュを経由して読み直しても古い内容にはならない。
+ * 他のノードでの変更は {@link CacheInvalidationBus} から受け取り、{@link #evictRemote} で無効化する。</p>
+ */
+@Component
+public class TeamSnapshotCache {
+
+    private final TinyLfuCache<TeamId, TeamSnapshot> snapshots;
+    private final ApplicationEventPublisher eventPublisher;
+    private long generation;
+    private List<TeamId> allTeamIds;
+
+    @Autowired
+    public TeamSnapshotCache(@Value("${praha.team-cache.maximum-size:10000}") int maximumSize,
+                             ApplicationEventPublisher eventPublisher) {
+        this.snapshots = new TinyLfuCache<>(maximumSize);
+        this.eventPublisher = eventPublisher;
+    }
+
+    TeamSnapshotCache(int maximumSize) {
+        this(maximumSize, event -> {});
+    }
+
+    /**
+     * 現在の世代を取得する（読み込みの開始前に取得し、格納時に渡す）
+     * @return 世代
+     */
+    public long generation() {
+        synchronized (snapshots) {
+            return generation;
+        }
+    }
+
+    /**
+     * キャッシュされたチームを取得する
+     * @param teamId チームID
+     * @return チーム（キャッシュにない場合はEmpty）
+     */
+    public Optional<Team> get(TeamId teamId) {
+        return Optional.ofNullable(snapshots.get(teamId)).map(TeamSnapshot::toTeam);
+    }
+
+    /**
+     * キャッシュされた全てのチームを取得する
+     * @return 全てのチーム（一覧が無効化されているか、いずれかのチームがキャッシュにない場合はEmpty）
+     */
+    public Optional<List<Team>> getAll() {
+        List<TeamId> teamIds;
+        synchronized (snapshots) {
+            teamIds = allTeamIds;
+        }
+        if (teamIds == null) {
+            return Optional.empty();
+        }
+        List<Team> teams = new ArrayList<>(teamIds.size());
+        for (TeamId teamId : teamIds) {
+            TeamSnapshot snapshot = snapshots.get(teamId);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            teams.add(snapshot.toTeam());
+        }
+        return Optional.of(teams);
+    }
+
+    /**
+     * 読み込んだチームを格納する
+     * @param team チーム
+     * @param loadedGeneration 読み込みの開始前に取得した世代
+     */
+    public void put(Team team, long loadedGeneration) {
+        synchronized (snapshots) {
+            if (generation != loadedGeneration) {
+                return;
+            }
+            snapshots.put(team.getId(), TeamSnapshot.of(team));
+        }
+        evictOnRollback(() -> evict(team.getId()));
+    }
+
+    /**
+     * 読み込んだ全てのチームを一覧として格納する
+     * @param teams 全てのチーム
+     * @param loadedGeneration 読み込みの開始前に取得した世代
+     */
+    public void putAll(List<Team> teams, long loadedGeneration) {
+        synchronized (snapshots) {
+            if (generation != loadedGeneration) {
+                return;
+            }
+            teams.forEach(team -> snapshots.put(team.getId(), TeamSnapshot.of(team)));
+            allTeamIds = teams.stream().map(Team::getId).toList();
+        }
+        evictOnRollback(() -> teams.forEach(team -> evict(team.getId())));
+    }
+
+    /**
+     * チームを無効化する（チームの一覧は維持する）
+     * @param teamId チームID
+     */
+    public void invalidate(TeamId teamId) {
+        invalidateNowAndAfterCompletion(() -> evict(teamId), TeamsChangedEvent.ofTeam(teamId));
+    }
+
+    /**
+     * チームとチームの一覧を無効化する（チームの作成・削除時）
+     * @param teamId チームID
+     */
+    public void invalidateWithList(TeamId teamId) {
+        invalidateNowAndAfterCompletion(() -> {
+            synchronized (snapshots) {
+                evict(teamId);
+                allTeamIds = null;
+            }
+        }, TeamsChangedEvent.ofTeam(teamId));
+    }
+
+    /**
+     * 参加者が所属するチームを無効化する（参加者の情報の更新時）
+     * @param memberId 参加者ID
+     */
+    public void invalidateMember(MemberId memberId) {
+        invalidateNowAndAfterCompletion(() -> {
+            synchronized (snapshots) {
+                generation++;
+                snapshots.invalidateIf(snapshot -> snapshot.contains(memberId));
+            }
+        }, TeamsChangedEvent.ofMember(memberId));
+    }
+
+    /**
+     * 他のノードで変更されたチームを無効化する
+     * <p>他のノードでの変更はチームの作成・削除かどうか分からないため、チームを無効化する場合は一覧も無効化する。
+     * 受信した時点で他のノードではコミット済みのため、直ちに {@link TeamsChangedEvent} で通知する。</p>
+     * @param teamIds 変更されたチームのID
+     * @param memberIds 情報が更新された参加者のID
+     * @param all 全てのチームを無効化する場合はtrue
+     */
+    public void evictRemote(Set<TeamId> teamIds, Set<MemberId> memberIds, boolean all) {
+        synchronized (snapshots) {
+            generation++;
+            if (all) {
+                snapshots.invalidateIf(snapshot -> true);
+            } else {
+                teamIds.forEach(snapshots::invalidate);
+                if (!memberIds.isEmpty()) {
+                    snapshots.invalidateIf(snapshot -> memberIds.stream().anyMatch(snapshot::contains));
+                }
+            }
+            if (all || !teamIds.isEmpty()) {
+                allTeamIds = null;
+            }
+        }
+        eventPublisher.publishEvent(TeamsChangedEvent.ofRemote(teamIds, memberIds, all));
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    public long hitCount() {
+        return snapshots.hitCount();
+    }
+
+    public long missCount() {
+        return snapshots.missCount();
+    }
+
+    public long evictionCount() {
+        return snapshots.evictionCount();
+    }
+
+    private void evict(TeamId teamId) {
+        synchronized (snapshots) {
+            generation++;
+            snapshots.invalidate(teamId);
+        }
+    }
+
+    private void invalidateNowAndAfterCompletion(Runnable invalidation, TeamsChangedEvent event) {
+        invalidation.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidation.run();
+                if (status == STATUS_COMMITTED) {
+                    eventPublisher.publishEvent(event);
+                }
+            }
+        });
+    }
+
+    /**
+     * トランザクション内で読み込んだ内容は未コミットの変更を含む可能性があるため、ロールバック時に取り消す
+     */
+    private void evictOnRollback(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        eviction.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * チームの変更できないスナップショット
+     */
+    private record TeamSnapshot(TeamId id, TeamName name, List<MemberSnapshot> members) {
+
+        static TeamSnapshot of(Team team) {
+            return new TeamSnapshot(team.getId(), team.getName(),
+                team.getMembers().stream().map(MemberSnapshot::of).toList());
+        }
+
+        boolean contains(MemberId memberId) {
+            return members.stream().anyMatch(member -> member.id().equals(memberId));
+        }
+
+        Team toTeam() {
+            return new Team(id, name, members.stream().map(MemberSnapshot::toMember).toList());
+        }
+    }
+
+    private record MemberSnapshot(MemberId id, MemberName name, Email email, EnrollmentStatus status) {
+
+        static MemberSnapshot of(Member member) {
+            return new MemberSnapshot(member.getId(), member.getName(), member.getEmail(), member.getStatus());
+        }
+
+        Member toMember() {
+            return new Member(id, name, email, status);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.ddd.praha.infrastructure;
+
+import java.util.LinkedHashMap;
+import java.util.function.Predicate;
+
+/**
+ * W-TinyLFU方式の上限付きキャッシュ。
+ *
+ * <p>新しいエントリはまず容量の1%のウィンドウ（LRU）に入る。ウィンドウからあふれたエントリは、
+ * メイン領域（試用区画と保護区画からなるSLRU）の追い出し候補とアクセス頻度を比べ、頻度が高い方だけが残る。
+ * 一度しか参照されないエントリが大量に流れても、よく参照されるエントリは追い出されにくい。</p>
+ *
+ * <p>アクセス頻度はカウントミンスケッチ（上限15の飽和カウンター）で近似し、
+ * 容量の10倍のアクセスごとに全カウンターを半減させて古い頻度を忘れる。
+ * 全ての操作はこのインスタンスで排他する。</p>
+ *
+ * @param <K> キーの型
+ * @param <V> 値の型
+ */
+final class TinyLfuCache<K, V> {
+
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final int protectedCapacity;
+    // 挿入順のマップを、取り出して入れ直すことでLRUの並び（先頭が最も古い）として使う
+    private final LinkedHashMap<K, V> window = new LinkedHashMap<>();
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>();
+    private final FrequencySketch sketch;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    TinyLfuCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("キャッシュの上限は1以上にしてください: " + maximumSize);
+        }
+        this.windowCapacity = Math.max(1, maximumSize / 100);
+        this.mainCapacity = maximumSize - windowCapacity;
+        this.protectedCapacity = mainCapacity * 4 / 5;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * 値を取得する（ヒット・ミスを記録する）
+     * @param key キー
+     * @return 値（存在しない場合はnull）
+     */
+    synchronized V get(K key) {
+        sketch.increment(key);
+        V value = window.remove(key);
+        if (value != null) {
+            window.put(key, value);
+        } else if ((value = probation.remove(key)) != null) {
+            promote(key, value);
+        } else if ((value = protectedSegment.remove(key)) != null) {
+            protectedSegment.put(key, value);
+        } else {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return value;
+    }
+
+    /**
+     * 値を格納する（既に存在する場合は値を置き換える）
+     * @param key キー
+     * @param value 値
+     */
+    synchronized void put(K key, V value) {
+        if (window.containsKey(key)) {
+            window.put(key, value);
+            return;
+        }
+        if (probation.containsKey(key)) {
+            probation.put(key, value);
+            return;
+        }
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.put(key, value);
+            return;
+        }
+        sketch.increment(key);
+        window.put(key, value);
+        if (window.size() > windowCapacity) {
+            K candidate = window.firstEntry().getKey();
+            admit(candidate, window.remove(candidate));
+        }
+    }
+
+    /**
+     * 値を削除する
+     * @param key キー
+     */
+    synchronized void invalidate(K key) {
+        if (window.remove(key) == null && probation.remove(key) == null) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    /**
+     * 条件に合致する値を全て削除する
+     * @param condition 削除する値の条件
+     */
+    synchronized void invalidateIf(Predicate<? super V> condition) {
+        window.values().removeIf(condition);
+        probation.values().removeIf(condition);
+        protectedSegment.values().removeIf(condition);
+    }
+
+    synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    synchronized long hitCount() {
+        return hitCount;
+    }
+
+    synchronized long missCount() {
+        return missCount;
+    }
+
+    synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 試用区画で再び参照されたエントリを保護区画に移し、あふれた分を試用区画に戻す
+     */
+    private void promote(K key, V value) {
+        protectedSegment.put(key, value);
+        if (protectedSegment.size() > protectedCapacity) {
+            K demoted = protectedSegment.firstEntry().getKey();
+            probation.put(demoted, protectedSegment.remove(demoted));
+        }
+    }
+
+    /**
+     * ウィンドウからあふれたエントリをメイン領域に入れるか、追い出し候補と頻度を比べて決める
+     */
+    private void admit(K candidate, V value) {
+        if (probation.size() + protectedSegment.size() < mainCapacity) {
+            probation.put(candidate, value);
+            return;
+        }
+        LinkedHashMap<K, V> victims = probation.isEmpty() ? protectedSegment : probation;
+        if (!victims.isEmpty()) {
+            K victim = victims.firstEntry().getKey();
+            if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+                victims.remove(victim);
+                probation.put(candidate, value);
+            }
+        }
+        evictionCount++;
+    }
+
+    /**
+     * キーごとのアクセス頻度を近似するカウントミンスケッチ
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int capped = Math.min(maximumSize, 1 << 24);
+            int width = Integer.highestOneBit(Math.max(16, capped * 4) - 1) << 1;
+            this.table = new byte[width];
+            this.mask = width - 1;
+            this.sampleSize = capped * 10;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, table[indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (byte) (table[i] >> 1);
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & mask;
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
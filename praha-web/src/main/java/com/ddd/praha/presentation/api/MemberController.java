@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>GET /api/members - 全参加者の一覧取得</li>
  *   <li>GET /api/members/{id} - 特定参加者の詳細取得</li>
+ *   <li>GET /api/members/{id}/progress - 特定参加者の全課題の進捗取得</li>
  *   <li>POST /api/members - 新規参加者の作成</li>
  *   <li>PUT /api/members/{id}/status - 参加者の在籍ステータス更新</li>
  * </ul>
@@ -61,6 +62,18 @@ public class MemberController {
             .orElseThrow(() -> new ResourceNotFoundException("Member not found: " + id));
     }
     
+    /**
+     * 参加者の全ての課題の進捗を、進捗ステータスごとにまとめて取得する
+     * @param id 参加者ID
+     * @return 課題進捗
+     */
+    @GetMapping("/{id}/progress")
+    public MemberProgressResponse findMemberProgress(@PathVariable String id) {
+        return memberService.findTaskProgress(new MemberId(id))
+            .map(MemberProgressResponse::from)
+            .orElseThrow(() -> new ResourceNotFoundException("Member not found: " + id));
+    }
+    
     /**
      * 新しい参加者を追加する
      * @param request 参加者作成リクエスト
@@ -0,0 +1,31 @@
+package com.ddd.praha.presentation.api;
+
+import com.ddd.praha.domain.entity.TaskProgress;
+import com.ddd.praha.domain.model.TaskStatus;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 参加者の課題進捗レスポンス
+ * @param member 参加者
+ * @param tasksByStatus 進捗ステータスごとの課題リスト（全てのステータスを含む）
+ */
+public record MemberProgressResponse(
+    MemberResponse member,
+    Map<TaskStatus, List<TaskResponse>> tasksByStatus
+) {
+    /**
+     * TaskProgressからMemberProgressResponseを生成
+     */
+    public static MemberProgressResponse from(TaskProgress taskProgress) {
+        Map<TaskStatus, List<TaskResponse>> tasksByStatus = new EnumMap<>(TaskStatus.class);
+        taskProgress.groupByStatus().forEach((status, tasks) ->
+            tasksByStatus.put(status, tasks.stream().map(TaskResponse::from).toList()));
+
+        return new MemberProgressResponse(
+            MemberResponse.from(taskProgress.getOwner()),
+            tasksByStatus
+        );
+    }
+}
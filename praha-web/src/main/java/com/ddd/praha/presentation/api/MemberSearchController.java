@@ -2,6 +2,7 @@ package com.ddd.praha.presentation.api;
 
 import com.ddd.praha.application.service.usecase.MemberService;
 import com.ddd.praha.domain.model.*;
+import com.ddd.praha.presentation.exception.BadRequestException;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,6 +30,8 @@ public class MemberSearchController {
    *  - 例１：「設計原則（SOLID）」と「DBモデリング１」を「レビュー完了」している参加者一覧を取得する
    *  - 例２：「DBモデリング3」を「未着手」の参加者一覧を取得する
    *  - 条件に合致する参加者を全て取得するのではなく、10名ずつ取得する点（ページング）にご注意ください！
+   *
+   * matchMode=ALL の場合は指定した全ての課題が条件を満たす参加者、ANY（省略時）の場合はいずれかの課題が条件を満たす参加者を返す
    */
   @PostMapping("/members")
   public MembersResponse searchMembersByTasksAndStatuses(@Valid @RequestBody MemberSearchRequest request) {
@@ -38,13 +41,36 @@ public class MemberSearchController {
         .collect(Collectors.toList());
     
     // サービス層の呼び出し（固定で10件ずつ取得）
-    MemberSearchResult result = memberService.searchMembersByTaskNamesAndStatuses(
+    MemberSearchResult result = request.matchesAll()
+        ? memberService.searchMembersMatchingAllTasks(request.taskNames(), statuses, request.page(), 10)
+        : memberService.searchMembersByTaskNamesAndStatuses(request.taskNames(), statuses, request.page(), 10);
+    
+    return MembersResponse.from(result);
+  }
+
+  /**
+   * 課題名と進捗ステータスで参加者を検索し、参加者ID順に10人ずつカーソル方式で取得する
+   *
+   * <p>ページ番号の代わりに、前のレスポンスの next を after に指定して次のページを取得する。
+   * 読み飛ばす件数に比例したコストがかからないため、全件を順に読み進める用途ではこちらを使用する。
+   * page は無視される。matchMode=ALL には対応していない。</p>
+   */
+  @PostMapping("/members/cursor")
+  public MembersCursorResponse searchMembersByTasksAndStatusesAfter(@Valid @RequestBody MemberSearchRequest request) {
+    if (request.matchesAll()) {
+      throw new BadRequestException("カーソル方式の検索では matchMode=ALL は指定できません");
+    }
+    List<TaskStatus> statuses = request.statuses().stream()
+        .map(TaskStatus::valueOf)
+        .collect(Collectors.toList());
+
+    MemberSearchSlice slice = memberService.searchMembersByTaskNamesAndStatusesAfter(
         request.taskNames(),
         statuses,
-        request.page(),
+        MemberSearchCursor.decode(request.after()),
         10
     );
-    
-    return MembersResponse.from(result);
+
+    return MembersCursorResponse.from(slice);
   }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.ddd.praha.presentation.api;
+
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.presentation.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * カーソル方式の参加者検索で使用するカーソルの変換
+ * <p>ページ末尾の参加者IDをURLセーフなBase64でエンコードし、クライアントには不透明な文字列として扱わせる。</p>
+ */
+final class MemberSearchCursor {
+
+  private MemberSearchCursor() {
+  }
+
+  /**
+   * 参加者IDをカーソル文字列に変換する
+   * @param memberId ページ末尾の参加者ID
+   * @return カーソル文字列
+   */
+  static String encode(MemberId memberId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(memberId.value().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * カーソル文字列を参加者IDに変換する
+   * @param cursor カーソル文字列（nullまたは空の場合は先頭から）
+   * @return 参加者ID（先頭から検索する場合はnull）
+   * @throws BadRequestException カーソルの形式が不正な場合
+   */
+  static MemberId decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      return new MemberId(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("カーソルの形式が不正です", e);
+    }
+  }
+}
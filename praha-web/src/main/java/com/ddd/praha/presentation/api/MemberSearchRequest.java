@@ -9,6 +9,8 @@ import java.util.List;
  * @param taskNames 課題名のリスト（完全一致検索）
  * @param statuses ステータスのリスト
  * @param page ページ番号（0から開始）
+ * @param after カーソル方式で検索する場合の、前のページのレスポンスに含まれる次ページカーソル（省略時は先頭から）
+ * @param matchMode 複数の課題名を指定した場合の条件（省略時は ANY）
  */
 public record MemberSearchRequest(
     @NotEmpty
@@ -16,6 +18,25 @@ public record MemberSearchRequest(
     @NotEmpty
     List<String> statuses,
     @Min(0)
-    int page
+    int page,
+    String after,
+    MatchMode matchMode
 ) {
+    /**
+     * 複数の課題名を指定した場合の条件
+     */
+    public enum MatchMode {
+        /** 全ての課題が指定ステータスになっている参加者 */
+        ALL,
+        /** いずれかの課題が指定ステータスになっている参加者 */
+        ANY
+    }
+
+    /**
+     * 全ての課題を満たす参加者を検索するかどうか
+     * @return matchMode が ALL の場合はtrue
+     */
+    public boolean matchesAll() {
+        return matchMode == MatchMode.ALL;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.ddd.praha.presentation.api;
+
+import com.ddd.praha.domain.model.MemberSearchSlice;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * カーソル方式の参加者検索レスポンス
+ * @param members 参加者リスト
+ * @param size ページサイズ
+ * @param hasNext 次のページがあるかどうか
+ * @param next 次のページを取得する際に after に指定するカーソル（次のページがない場合はnull）
+ */
+public record MembersCursorResponse(
+    List<MemberResponse> members,
+    int size,
+    boolean hasNext,
+    String next
+) {
+    /**
+     * MemberSearchSliceからMembersCursorResponseを生成
+     */
+    public static MembersCursorResponse from(MemberSearchSlice slice) {
+        List<MemberResponse> memberResponses = slice.getMembers().stream()
+            .map(MemberResponse::from)
+            .collect(Collectors.toList());
+
+        return new MembersCursorResponse(
+            memberResponses,
+            slice.getSize(),
+            slice.hasNext(),
+            slice.nextAfter().map(MemberSearchCursor::encode).orElse(null)
+        );
+    }
+}
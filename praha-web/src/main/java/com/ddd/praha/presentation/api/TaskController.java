@@ -8,9 +8,13 @@ import com.ddd.praha.domain.entity.Task;
 import com.ddd.praha.domain.model.TaskId;
 import com.ddd.praha.domain.model.TaskName;
 import com.ddd.praha.domain.model.TaskStatus;
+import com.ddd.praha.domain.model.TaskStatusChange;
+import com.ddd.praha.domain.model.TaskStatusChangeResult;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,6 +28,7 @@ import java.util.List;
  *   <li>GET /api/tasks - 全課題の一覧取得</li>
  *   <li>POST /api/tasks - 新しい課題の作成</li>
  *   <li>PUT /api/tasks/{taskId}/status - 課題進捗ステータスの更新</li>
+ *   <li>PUT /api/tasks/status - 課題進捗ステータスの一括更新</li>
  * </ul>
  * 
  * <p>このコントローラはHTTPリクエストをドメインモデルに変換し、
@@ -98,4 +103,42 @@ public class TaskController {
 
         taskService.updateTaskStatus(member, member, task, newStatus);
     }
-}
\ No newline at end of file
+
+    /**
+     * 複数の参加者の課題進捗ステータスを一括で更新する。
+     *
+     * <p>外部の学習管理システムとの同期などで、大量の進捗変更をまとめて取り込むためのエンドポイント。
+     * 値が不正な項目や、存在しない参加者課題・許可されていないステータス遷移の項目は失敗として報告し、
+     * それ以外の項目は更新する。</p>
+     *
+     * @param request 一括更新リクエスト（参加者ID・課題ID・新ステータスのリスト）
+     * @return 1件ごとの更新結果
+     */
+    @PutMapping("/status")
+    public TaskStatusBulkUpdateResponse updateTaskStatuses(@Valid @RequestBody TaskStatusBulkUpdateRequest request) {
+        List<TaskStatusBulkUpdateRequest.Item> items = request.items();
+        TaskStatusBulkUpdateResponse.ItemResult[] results = new TaskStatusBulkUpdateResponse.ItemResult[items.size()];
+
+        // 変換できない項目はその場で失敗とし、残りをまとめてサービス層に渡す
+        List<Integer> positions = new ArrayList<>();
+        List<TaskStatusChange> changes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            TaskStatusBulkUpdateRequest.Item item = items.get(i);
+            try {
+                changes.add(item.toChange());
+                positions.add(i);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                results[i] = TaskStatusBulkUpdateResponse.ItemResult.invalid(item, e.getMessage());
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            List<TaskStatusChangeResult> applied = taskService.updateTaskStatuses(changes);
+            for (int j = 0; j < applied.size(); j++) {
+                results[positions.get(j)] = TaskStatusBulkUpdateResponse.ItemResult.from(applied.get(j));
+            }
+        }
+
+        return TaskStatusBulkUpdateResponse.of(List.of(results));
+    }
+}
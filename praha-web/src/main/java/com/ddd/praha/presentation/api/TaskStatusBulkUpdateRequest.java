@@ -0,0 +1,49 @@
+package com.ddd.praha.presentation.api;
+
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TaskId;
+import com.ddd.praha.domain.model.TaskStatus;
+import com.ddd.praha.domain.model.TaskStatusChange;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 課題進捗ステータス一括更新リクエスト
+ * @param items 更新内容のリスト（1回のリクエストで最大10000件）
+ */
+public record TaskStatusBulkUpdateRequest(
+    @NotEmpty
+    @Size(max = 10000)
+    List<Item> items
+) {
+    /**
+     * 1件分の更新内容
+     * @param memberId 参加者ID
+     * @param taskId 課題ID
+     * @param status 新しいステータス
+     */
+    public record Item(String memberId, String taskId, String status) {
+
+        /**
+         * ドメインの変更要求に変換する
+         * @return 進捗ステータスの変更要求
+         * @throws IllegalArgumentException 値が不正な場合
+         * @throws NullPointerException 必須の値がない場合
+         */
+        public TaskStatusChange toChange() {
+            return new TaskStatusChange(new MemberId(memberId), new TaskId(taskId), toStatus());
+        }
+
+        private TaskStatus toStatus() {
+            if (status == null) {
+                throw new IllegalArgumentException("ステータスは必須です");
+            }
+            try {
+                return TaskStatus.valueOf(status);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("不正なステータスです: " + status, e);
+            }
+        }
+    }
+}
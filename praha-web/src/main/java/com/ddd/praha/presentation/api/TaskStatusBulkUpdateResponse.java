@@ -0,0 +1,55 @@
+package com.ddd.praha.presentation.api;
+
+import com.ddd.praha.domain.model.TaskStatusChangeResult;
+import java.util.List;
+
+/**
+ * 課題進捗ステータス一括更新レスポンス
+ * @param succeeded 更新に成功した件数
+ * @param failed 更新に失敗した件数
+ * @param results 1件ごとの結果（リクエストと同じ順序）
+ */
+public record TaskStatusBulkUpdateResponse(
+    int succeeded,
+    int failed,
+    List<ItemResult> results
+) {
+    /**
+     * 1件ごとの結果のリストからレスポンスを生成
+     */
+    public static TaskStatusBulkUpdateResponse of(List<ItemResult> results) {
+        int succeeded = (int) results.stream().filter(ItemResult::success).count();
+        return new TaskStatusBulkUpdateResponse(succeeded, results.size() - succeeded, results);
+    }
+
+    /**
+     * 1件分の結果
+     * @param memberId 参加者ID
+     * @param taskId 課題ID
+     * @param status 新しいステータス
+     * @param success 更新に成功した場合はtrue
+     * @param error 失敗した理由（成功時はnull）
+     */
+    public record ItemResult(String memberId, String taskId, String status, boolean success, String error) {
+
+        /**
+         * ドメインの処理結果から生成
+         */
+        public static ItemResult from(TaskStatusChangeResult result) {
+            return new ItemResult(
+                result.change().memberId().value(),
+                result.change().taskId().value(),
+                result.change().status().name(),
+                result.succeeded(),
+                result.errorMessage()
+            );
+        }
+
+        /**
+         * ドメインの変更要求に変換できなかったリクエストから生成
+         */
+        public static ItemResult invalid(TaskStatusBulkUpdateRequest.Item item, String error) {
+            return new ItemResult(item.memberId(), item.taskId(), item.status(), false, error);
+        }
+    }
+}
@@ -7,12 +7,17 @@ import com.ddd.praha.domain.entity.Member;
 import com.ddd.praha.domain.model.MemberId;
 import com.ddd.praha.domain.entity.Team;
 import com.ddd.praha.domain.model.TeamId;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import com.ddd.praha.presentation.exception.ResourceNotFoundException;
 import com.ddd.praha.presentation.exception.BadRequestException;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,7 +28,7 @@ import java.util.stream.Collectors;
  * 
  * <p>提供するエンドポイント：</p>
  * <ul>
- *   <li>GET /api/teams - 全チームの一覧取得</li>
+ *   <li>GET /api/teams - 全チームの一覧取得（ETagによる条件付き取得に対応）</li>
  *   <li>GET /api/teams/{id} - 特定チームの詳細取得</li>
  *   <li>PUT /api/teams/{id}/members - チームメンバーの編成更新</li>
  * </ul>
@@ -35,36 +40,50 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/teams")
 public class TeamController {
 
+  /**
+   * チーム一覧の版数を返すレスポンスヘッダー
+   */
+  static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+
   private final TeamQueryService teamQueryService;
   private final TeamOrchestrationService teamOrchestrationService;
   private final MemberService memberService;
+  private final TeamRosterSnapshot teamRosterSnapshot;
 
   public TeamController(TeamQueryService teamQueryService,
       TeamOrchestrationService teamOrchestrationService,
-      MemberService memberService) {
+      MemberService memberService,
+      TeamRosterSnapshot teamRosterSnapshot) {
     this.teamQueryService = teamQueryService;
     this.teamOrchestrationService = teamOrchestrationService;
     this.memberService = memberService;
+    this.teamRosterSnapshot = teamRosterSnapshot;
   }
 
   /**
    * 全てのチームを取得する
    *
-   * @return チームのリスト
+   * <p>{@link TeamRosterSnapshot} で組み立て済みのJSONを返す。
+   * {@code If-None-Match} が現在のETagと一致する場合は、本文なしで304を返す。</p>
+   *
+   * @param request リクエスト（ETagの照合に使用）
+   * @return チームのリストのJSON（変更がない場合はnull）
    */
   @GetMapping
-  public List<TeamResponse> listAll() {
+  public ResponseEntity<byte[]> listAll(WebRequest request) {
+    TeamRosterSnapshot.Roster roster;
     try {
-      List<Team> teams = teamQueryService.getAll();
-      if (teams == null) {
-        teams = new ArrayList<>();
-      }
-      return teams.stream()
-          .map(TeamResponse::from)
-          .collect(Collectors.toList());
+      roster = teamRosterSnapshot.current();
     } catch (Exception e) {
       throw new BadRequestException("Failed to retrieve teams: " + e.getMessage());
     }
+    if (request.checkNotModified(roster.etag())) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(ROSTER_VERSION_HEADER, String.valueOf(roster.version()))
+        .body(roster.json());
   }
 
   @GetMapping("/{id}")
@@ -95,41 +114,51 @@ public class TeamController {
     }
     TeamId teamId = team.getId();
 
-    try {
-      // 現在のメンバーと新しいメンバーを取得
-      List<Member> currentMembers = new ArrayList<>(team.getMembers());
-      List<Member> newMembers = request.getMemberIds().stream()
-          .map(memberId -> {
-            try {
-              return memberService.get(new MemberId(memberId));
-            } catch (Exception e) {
-              throw new BadRequestException("Member not found with id: " + memberId);
-            }
-          })
-          .toList();
+    // 新しいメンバーを1回の問い合わせでまとめて取得し、不正なIDと存在しないIDはまとめて報告する
+    List<MemberId> requestedIds = request.getMemberIds().stream()
+        .filter(TeamController::isValidMemberId)
+        .map(MemberId::new)
+        .distinct()
+        .toList();
+    Map<MemberId, Member> foundMembers = memberService.getAll(requestedIds).stream()
+        .collect(Collectors.toMap(Member::getId, Function.identity(), (first, second) -> first));
+    List<String> missingIds = request.getMemberIds().stream()
+        .filter(memberId -> !isValidMemberId(memberId) || !foundMembers.containsKey(new MemberId(memberId)))
+        .map(String::valueOf)
+        .distinct()
+        .toList();
+    if (!missingIds.isEmpty()) {
+      throw new BadRequestException("Members not found with ids: " + String.join(", ", missingIds));
+    }
+    List<Member> newMembers = requestedIds.stream().map(foundMembers::get).toList();
 
-      // 削除するメンバーを特定
-      List<Member> membersToRemove = currentMembers.stream()
-          .filter(member -> !newMembers.contains(member))
-          .toList();
+    // 削除するメンバーと追加するメンバーを、IDの集合で特定する
+    Set<MemberId> currentIds = team.getMembers().stream()
+        .map(Member::getId)
+        .collect(Collectors.toSet());
+    List<Member> membersToRemove = team.getMembers().stream()
+        .filter(member -> !foundMembers.containsKey(member.getId()))
+        .toList();
+    List<Member> membersToAdd = newMembers.stream()
+        .filter(member -> !currentIds.contains(member.getId()))
+        .toList();
 
-      // 追加するメンバーを特定
-      List<Member> membersToAdd = newMembers.stream()
-          .filter(member -> !currentMembers.contains(member))
-          .toList();
+    // メンバーの更新を実行
+    Team updatedTeam = team;
+    for (Member member : membersToRemove) {
+      updatedTeam = teamOrchestrationService.removeMemberFromTeam(teamId, member);
+    }
+    for (Member member : membersToAdd) {
+      updatedTeam = teamOrchestrationService.addMemberToTeam(teamId, member);
+    }
 
-      // メンバーの更新を実行
-      Team updatedTeam = team;
-      for (Member member : membersToRemove) {
-        updatedTeam = teamOrchestrationService.removeMemberFromTeam(teamId, member);
-      }
-      for (Member member : membersToAdd) {
-        updatedTeam = teamOrchestrationService.addMemberToTeam(teamId, member);
-      }
+    return TeamResponse.from(updatedTeam);
+  }
 
-      return TeamResponse.from(updatedTeam);
-    } catch (BadRequestException e) {
-      throw e;
-    }
+  /**
+   * 参加者IDとして使える値かどうか（nullと空文字列は存在しないIDとして報告する）
+   */
+  private static boolean isValidMemberId(String memberId) {
+    return memberId != null && !memberId.isBlank();
   }
-}
\ No newline at end of file
+}
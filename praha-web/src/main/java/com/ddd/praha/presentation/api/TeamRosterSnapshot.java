@@ -0,0 +1,219 @@
+package com.ddd.praha.presentation.api;
+
+import com.ddd.praha.application.event.TeamsChangedEvent;
+import com.ddd.praha.application.service.usecase.TeamQueryService;
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.entity.Team;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TeamId;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * GET /api/teams で返す全チームの一覧のスナップショット。
+ *
+ * <p>チームごとにJSONに変換したバイト列を保持し、一覧全体のJSONと版数・ETagを組み立てておく。
+ * {@link TeamsChangedEvent} を受け取ると変更されたチームに印を付け、次の取得時にそのチームだけを読み直して組み立て直す。
+ * 変更がなければデータベースもJacksonも使わずに、組み立て済みのバイト列を返す。</p>
+ *
+ * <p>ETagは内容のハッシュから作るため、複数のノードで同じ内容を返す場合も同じ値になる。</p>
+ */
+@Component
+public class TeamRosterSnapshot {
+
+    private final TeamQueryService teamQueryService;
+    private final ObjectMapper objectMapper;
+
+    // 変更の印（changes で排他する）。changeCount は印を付けるたびに進め、組み立て済みの一覧が最新かどうかの判定に使う
+    private final Object changes = new Object();
+    private final Set<TeamId> changedTeams = new HashSet<>();
+    private final Set<MemberId> changedMembers = new HashSet<>();
+    private boolean invalidated = true;
+    private final AtomicLong changeCount = new AtomicLong();
+
+    // 組み立てに使う状態（this で排他する）
+    private final Map<TeamId, Fragment> fragments = new LinkedHashMap<>();
+    private long version;
+    private volatile Built current;
+
+    public TeamRosterSnapshot(TeamQueryService teamQueryService, ObjectMapper objectMapper) {
+        this.teamQueryService = teamQueryService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 最新の一覧を取得する（変更があった場合は組み立て直す）
+     * @return 一覧のスナップショット
+     */
+    public Roster current() {
+        Built built = current;
+        if (built != null && built.changeCount() == changeCount.get()) {
+            return built.roster();
+        }
+        return rebuild();
+    }
+
+    /**
+     * チームの構成の変更を受け取り、変更されたチームに印を付ける
+     * @param event 変更のイベント
+     */
+    @EventListener
+    public void onTeamsChanged(TeamsChangedEvent event) {
+        if (event.all()) {
+            invalidateAll();
+            return;
+        }
+        synchronized (changes) {
+            changedTeams.addAll(event.teamIds());
+            changedMembers.addAll(event.memberIds());
+        }
+        changeCount.incrementAndGet();
+    }
+
+    /**
+     * 次の取得時に全てのチームを読み直す
+     */
+    public void invalidateAll() {
+        synchronized (changes) {
+            invalidated = true;
+        }
+        changeCount.incrementAndGet();
+    }
+
+    private synchronized Roster rebuild() {
+        long observed = changeCount.get();
+        Built built = current;
+        if (built != null && built.changeCount() == observed) {
+            return built.roster();
+        }
+
+        boolean full;
+        Set<TeamId> teamIds;
+        Set<MemberId> memberIds;
+        synchronized (changes) {
+            full = invalidated;
+            teamIds = new HashSet<>(changedTeams);
+            memberIds = new HashSet<>(changedMembers);
+            invalidated = false;
+            changedTeams.clear();
+            changedMembers.clear();
+        }
+
+        try {
+            if (full) {
+                reloadAll();
+            } else {
+                reload(teamIds, memberIds);
+            }
+        } catch (RuntimeException e) {
+            // 途中まで反映した状態が残るため、次の取得時に全てのチームを読み直す
+            invalidateAll();
+            throw e;
+        }
+
+        byte[] json = assemble();
+        String etag = etagOf(json);
+        Roster previous = built != null ? built.roster() : null;
+        Roster roster = previous != null && previous.etag().equals(etag)
+            ? previous
+            : new Roster(++version, json, etag);
+        current = new Built(roster, observed);
+        return roster;
+    }
+
+    private void reloadAll() {
+        fragments.clear();
+        List<Team> teams = teamQueryService.getAll();
+        if (teams != null) {
+            teams.forEach(team -> fragments.put(team.getId(), toFragment(team)));
+        }
+    }
+
+    private void reload(Set<TeamId> teamIds, Set<MemberId> memberIds) {
+        // 情報が更新された参加者は、組み立て済みの一覧から所属するチームを探す
+        fragments.forEach((teamId, fragment) -> {
+            if (fragment.memberIds().stream().anyMatch(memberIds::contains)) {
+                teamIds.add(teamId);
+            }
+        });
+        for (TeamId teamId : teamIds) {
+            Optional<Team> team = teamQueryService.find(teamId);
+            if (team.isPresent()) {
+                fragments.put(teamId, toFragment(team.get()));
+            } else {
+                fragments.remove(teamId);
+            }
+        }
+    }
+
+    private Fragment toFragment(Team team) {
+        try {
+            return new Fragment(objectMapper.writeValueAsBytes(TeamResponse.from(team)),
+                team.getMembers().stream().map(Member::getId).collect(Collectors.toUnmodifiableSet()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("チームをJSONに変換できませんでした: " + team.getId().value(), e);
+        }
+    }
+
+    private byte[] assemble() {
+        int size = 2 + fragments.size();
+        for (Fragment fragment : fragments.values()) {
+            size += fragment.json().length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.write('[');
+        boolean first = true;
+        for (Fragment fragment : fragments.values()) {
+            if (!first) {
+                out.write(',');
+            }
+            out.writeBytes(fragment.json());
+            first = false;
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256が使用できません", e);
+        }
+    }
+
+    /**
+     * 全チームの一覧のスナップショット
+     * <p>{@code json} は組み立て済みのバイト列をそのまま保持するため、変更しないこと。</p>
+     * @param version 内容が変わるたびに増える版数
+     * @param json 一覧のJSON
+     * @param etag 内容から求めたETag（引用符付き）
+     */
+    public record Roster(long version, byte[] json, String etag) {}
+
+    /**
+     * 組み立て済みの一覧と、組み立て時点の変更の回数
+     */
+    private record Built(Roster roster, long changeCount) {}
+
+    /**
+     * チーム1件分のJSONと、所属する参加者のID
+     */
+    private record Fragment(byte[] json, Set<MemberId> memberIds) {}
+}
@@ -0,0 +1,5 @@
+-- V3__Add_team_members_member_id_index.sql
+-- 参加者IDから所属チームを引くためのインデックス
+-- （主キー (team_id, member_id) は member_id 単独の検索に使えないため）
+
+CREATE INDEX IF NOT EXISTS idx_team_members_member_id ON team_members (member_id);
@@ -0,0 +1,10 @@
+-- V4__Add_member_task_search_indexes.sql
+-- 課題名と進捗ステータスによる参加者検索のためのインデックス
+
+-- 課題名から課題IDを引くためのインデックス
+CREATE INDEX IF NOT EXISTS idx_tasks_name ON tasks (name);
+
+-- 課題IDと進捗ステータスで参加者を絞り込むためのインデックス
+-- （主キー (member_id, task_id) は task_id からの検索に使えないため）
+-- member_id を含めてテーブル本体を読まずに参加者IDを取得できるようにする
+CREATE INDEX IF NOT EXISTS idx_member_tasks_task_id_status ON member_tasks (task_id, status) INCLUDE (member_id);
@@ -0,0 +1,13 @@
+-- V5__Create_notification_outbox.sql
+-- チーム通知の送信待ちメッセージ（トランザクショナルアウトボックス）
+
+-- チームの更新と同じトランザクションで書き込み、リレーがRabbitMQへ送信した後に削除する
+-- 未送信のメッセージのみが残るため、id の主キーインデックスで送信順に取得できる
+CREATE TABLE IF NOT EXISTS outbox (
+    id BIGSERIAL PRIMARY KEY,
+    destination VARCHAR(255) NOT NULL,
+    payload JSONB NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,14 @@
+-- V6__Create_outbox_dead_letter.sql
+-- 送信できないアウトボックスのメッセージの退避先
+
+-- 読み込めないメッセージや、送信の失敗回数が上限に達したメッセージを outbox から移す
+-- outbox に残すと書き込み順の先頭に居座り、後続のメッセージが送信されなくなるため
+CREATE TABLE IF NOT EXISTS outbox_dead_letter (
+    id BIGINT PRIMARY KEY,
+    destination VARCHAR(255) NOT NULL,
+    payload JSONB NOT NULL,
+    attempts INTEGER NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    dead_lettered_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -8,6 +8,7 @@ import com.ddd.praha.domain.model.Email;
 import com.ddd.praha.domain.model.EnrollmentStatus;
 import com.ddd.praha.domain.model.MemberId;
 import com.ddd.praha.domain.model.MemberName;
+import com.ddd.praha.domain.model.TeamCandidates;
 import com.ddd.praha.domain.model.TeamCompositionResult;
 import com.ddd.praha.domain.model.TeamId;
 import com.ddd.praha.domain.model.TeamName;
@@ -318,4 +319,74 @@ class TeamCompositionDomainServiceTest {
         assertTrue(result.requiresSplit());
         assertNotNull(result.composition().getNewTeam());
     }
-}
\ No newline at end of file
+
+    @Test
+    void executeRedistribution_絞り込み済みの候補チームに合流する() {
+        // 準備
+        Member singleMember = new Member(
+            new MemberId("single-member"),
+            new MemberName("単独メンバー"),
+            new Email("single@example.com"),
+            EnrollmentStatus.在籍中
+        );
+
+        Team singleTeam = new Team(
+            new TeamId("team-single"),
+            new TeamName("SingleMemberTeam"),
+            Arrays.asList(singleMember, testMember1)
+        );
+
+        Team targetTeam = new Team(
+            new TeamId("team-target"),
+            new TeamName("MergeTargetTeam"),
+            Arrays.asList(testMember2, testMember3)
+        );
+
+        TeamCandidates candidates = new TeamCandidates(List.of(targetTeam));
+
+        // 実行
+        TeamRedistributionResult result = service.executeRedistribution(singleTeam, testMember1, candidates);
+
+        // 検証
+        assertTrue(result.requiresMerge());
+        assertEquals(targetTeam, result.composition().getOriginalTeam());
+        assertEquals(3, result.composition().getOriginalTeam().getMembers().size());
+    }
+
+    @Test
+    void executeRedistribution_候補チームが空の場合は合流失敗フラグを返す() {
+        // 準備
+        Team twoTeam = new Team(
+            new TeamId("team-two"),
+            new TeamName("TwoMemberTeam"),
+            Arrays.asList(testMember1, testMember2)
+        );
+
+        // 実行
+        TeamRedistributionResult result = service.executeRedistribution(
+            twoTeam, testMember1, new TeamCandidates(List.of()));
+
+        // 検証
+        assertTrue(result.mergeFailure());
+        assertFalse(result.requiresMerge());
+    }
+
+    @Test
+    void assignMemberToTeam_候補チームのいずれかに割り当てる() {
+        // 準備
+        Team candidateTeam = new Team(
+            new TeamId("team-candidate"),
+            new TeamName("CandidateTeam"),
+            Arrays.asList(testMember1, testMember2)
+        );
+
+        // 実行
+        TeamCompositionResult result = service.assignMemberToTeam(
+            testMember4, new TeamCandidates(List.of(candidateTeam)));
+
+        // 検証
+        assertFalse(result.requiresSplit());
+        assertEquals(candidateTeam, result.composition().getOriginalTeam());
+        assertEquals(3, result.composition().getOriginalTeam().getMembers().size());
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.ddd.praha.application.repository.MemberRepository;
+import com.ddd.praha.application.repository.TaskProgressRepository;
 import com.ddd.praha.application.repository.TeamRepository;
 import com.ddd.praha.domain.entity.Member;
 import com.ddd.praha.domain.entity.Team;
@@ -17,17 +18,22 @@ import com.ddd.praha.domain.model.TeamName;
 import com.ddd.praha.domain.model.TaskId;
 import com.ddd.praha.domain.model.TaskStatus;
 import com.ddd.praha.domain.model.MemberSearchResult;
+import com.ddd.praha.domain.model.MemberSearchSlice;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
@@ -41,12 +47,15 @@ class MemberServiceTest {
     @Mock
     private TeamOrchestrationService teamOrchestrationService;
 
+    @Mock
+    private TaskProgressRepository taskProgressRepository;
+
     private MemberService memberService;
     private Team testTeam;
 
     @BeforeEach
     void setUp() {
-        memberService = new MemberService(memberRepository, teamRepository, teamOrchestrationService);
+        memberService = new MemberService(memberRepository, teamRepository, teamOrchestrationService, taskProgressRepository);
 
       Member testMember = new Member(
           new MemberId("member-001"),
@@ -101,7 +110,7 @@ class MemberServiceTest {
         );
 
         when(memberRepository.get(member.getId())).thenReturn(member);
-        when(teamRepository.getAll()).thenReturn(List.of(testTeam));
+        when(teamRepository.findByMemberId(member.getId())).thenReturn(Optional.of(testTeam));
 
         // 実行
         memberService.updateMemberStatus(member.getId(), EnrollmentStatus.休会中);
@@ -122,7 +131,7 @@ class MemberServiceTest {
         );
 
         when(memberRepository.get(member.getId())).thenReturn(member);
-        when(teamRepository.getAll()).thenReturn(List.of(testTeam));
+        when(teamRepository.findByMemberId(member.getId())).thenReturn(Optional.of(testTeam));
 
         // 実行
         memberService.updateMemberStatus(member.getId(), EnrollmentStatus.退会済);
@@ -157,7 +166,7 @@ class MemberServiceTest {
         );
 
         when(memberRepository.get(member.getId())).thenReturn(member);
-        when(teamRepository.getAll()).thenReturn(List.of(testTeam)); // member-999は含まれていない
+        when(teamRepository.findByMemberId(member.getId())).thenReturn(Optional.empty()); // member-999はどのチームにも所属していない
 
         // 実行
         memberService.updateMemberStatus(member.getId(), EnrollmentStatus.休会中);
@@ -171,7 +180,7 @@ class MemberServiceTest {
     void findMemberTeam_メンバーが所属しているチームを正しく見つける() {
         // 準備
         MemberId memberId = new MemberId("member-001");
-        when(teamRepository.getAll()).thenReturn(List.of(testTeam));
+        when(teamRepository.findByMemberId(memberId)).thenReturn(Optional.of(testTeam));
 
         // リフレクションを使ってprivateメソッドをテスト
         // 実際の実装では、メンバーがチームから削除される動作を確認する
@@ -255,7 +264,7 @@ class MemberServiceTest {
         );
         
         when(memberRepository.findMembersByTaskNamesAndStatuses(taskNames, statuses, page, size))
-            .thenReturn(expectedMembers);
+            .thenReturn(new MemberSearchResult(expectedMembers, page, size, 2));
 
         // 実行
         MemberSearchResult result = memberService.searchMembersByTaskNamesAndStatuses(taskNames, statuses, page, size);
@@ -280,7 +289,7 @@ class MemberServiceTest {
         int size = 10;
         
         when(memberRepository.findMembersByTaskNamesAndStatuses(taskNames, statuses, page, size))
-            .thenReturn(List.of());
+            .thenReturn(new MemberSearchResult(List.of(), page, size, 0));
 
         // 実行
         MemberSearchResult result = memberService.searchMembersByTaskNamesAndStatuses(taskNames, statuses, page, size);
@@ -310,18 +319,95 @@ class MemberServiceTest {
         );
         
         when(memberRepository.findMembersByTaskNamesAndStatuses(taskNames, statuses, page, size))
-            .thenReturn(expectedMembers);
+            .thenReturn(new MemberSearchResult(expectedMembers, page, size, 11));
 
         // 実行
         MemberSearchResult result = memberService.searchMembersByTaskNamesAndStatuses(taskNames, statuses, page, size);
         
-        // 検証
+        // 検証（全件数はページ内の件数ではなく条件に合致する全件数）
         assertNotNull(result);
         assertEquals(1, result.getMembers().size());
         assertEquals(1, result.getPage());
-        assertEquals(1, result.getTotalElements());
-        assertEquals(1, result.getTotalPages());
+        assertEquals(11, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
         assertEquals(false, result.isFirst());
         assertEquals(true, result.isLast());
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchMembersByTaskNamesAndStatusesAfter_続きがある場合は1件多く取得して次ページありと判定する() {
+        // 準備
+        List<String> taskNames = Arrays.asList("設計原則（SOLID）");
+        List<TaskStatus> statuses = Arrays.asList(TaskStatus.完了);
+        MemberId after = new MemberId("member-010");
+
+        List<Member> fetched = Arrays.asList(
+            new Member(new MemberId("member-011"), new MemberName("鈴木一郎"), new Email("suzuki@example.com"), EnrollmentStatus.在籍中),
+            new Member(new MemberId("member-012"), new MemberName("高橋次郎"), new Email("takahashi@example.com"), EnrollmentStatus.在籍中),
+            new Member(new MemberId("member-013"), new MemberName("伊藤三郎"), new Email("ito@example.com"), EnrollmentStatus.在籍中)
+        );
+        when(memberRepository.findMembersByTaskNamesAndStatusesAfter(taskNames, statuses, after, 3))
+            .thenReturn(fetched);
+
+        // 実行
+        MemberSearchSlice result = memberService.searchMembersByTaskNamesAndStatusesAfter(taskNames, statuses, after, 2);
+
+        // 検証
+        assertEquals(2, result.getMembers().size());
+        assertEquals(2, result.getSize());
+        assertTrue(result.hasNext());
+        assertEquals(Optional.of(new MemberId("member-012")), result.nextAfter());
+    }
+
+    @Test
+    void searchMembersByTaskNamesAndStatusesAfter_最後のページでは次ページなしと判定する() {
+        // 準備
+        List<String> taskNames = Arrays.asList("設計原則（SOLID）");
+        List<TaskStatus> statuses = Arrays.asList(TaskStatus.完了);
+
+        List<Member> fetched = List.of(
+            new Member(new MemberId("member-001"), new MemberName("田中太郎"), new Email("tanaka@example.com"), EnrollmentStatus.在籍中)
+        );
+        when(memberRepository.findMembersByTaskNamesAndStatusesAfter(taskNames, statuses, null, 11))
+            .thenReturn(fetched);
+
+        // 実行
+        MemberSearchSlice result = memberService.searchMembersByTaskNamesAndStatusesAfter(taskNames, statuses, null, 10);
+
+        // 検証
+        assertEquals(1, result.getMembers().size());
+        assertFalse(result.hasNext());
+        assertTrue(result.nextAfter().isEmpty());
+    }
+
+    @Test
+    void searchMembersMatchingAllTasks_全ての課題を満たす参加者の検索をリポジトリに委譲する() {
+        // 準備
+        List<String> taskNames = Arrays.asList("設計原則（SOLID）", "DBモデリング1");
+        List<TaskStatus> statuses = Arrays.asList(TaskStatus.完了);
+        List<Member> expectedMembers = List.of(
+            new Member(new MemberId("member-001"), new MemberName("田中太郎"), new Email("tanaka@example.com"), EnrollmentStatus.在籍中)
+        );
+        when(memberRepository.findMembersMatchingAllTasks(taskNames, statuses, 0, 10))
+            .thenReturn(new MemberSearchResult(expectedMembers, 0, 10, 1));
+
+        // 実行
+        MemberSearchResult result = memberService.searchMembersMatchingAllTasks(taskNames, statuses, 0, 10);
+
+        // 検証
+        assertEquals(1, result.getMembers().size());
+        assertEquals(1, result.getTotalElements());
+        verify(memberRepository, never()).findMembersByTaskNamesAndStatuses(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void addMember_追加した参加者に全ての課題を割り当てる() {
+        // 実行
+        memberService.addMember(new MemberName("新規太郎"), new Email("new@example.com"), EnrollmentStatus.在籍中);
+
+        // 検証
+        ArgumentCaptor<Member> saved = ArgumentCaptor.forClass(Member.class);
+        verify(memberRepository).save(saved.capture());
+        verify(taskProgressRepository).provisionForMember(saved.getValue().getId());
+    }
+}
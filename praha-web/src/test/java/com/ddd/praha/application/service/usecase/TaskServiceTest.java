@@ -13,10 +13,12 @@ import com.ddd.praha.domain.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
@@ -119,4 +121,64 @@ class TaskServiceTest {
         assertEquals("指定された課題が見つかりません", exception.getMessage());
         verify(taskProgressRepository, never()).save(any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateTaskStatuses_遷移ルールを満たす変更のみをまとめて保存し1件ごとの結果を返す() {
+        // Given
+        MemberId memberId = testMember.getId();
+        TaskId taskA = new TaskId("task-a");
+        TaskId taskB = new TaskId("task-b");
+        TaskId unknown = new TaskId("task-unknown");
+        when(taskProgressRepository.findStatuses(any())).thenReturn(Map.of(
+            new TaskProgressKey(memberId, taskA), TaskStatus.未着手,
+            new TaskProgressKey(memberId, taskB), TaskStatus.未着手
+        ));
+        List<TaskStatusChange> changes = List.of(
+            new TaskStatusChange(memberId, taskA, TaskStatus.取組中),
+            new TaskStatusChange(memberId, taskB, TaskStatus.完了),
+            new TaskStatusChange(memberId, unknown, TaskStatus.取組中)
+        );
+
+        // When
+        List<TaskStatusChangeResult> results = taskService.updateTaskStatuses(changes);
+
+        // Then
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).succeeded());
+        assertEquals("このステータス変更は許可されていません", results.get(1).errorMessage());
+        assertEquals("指定された課題が見つかりません", results.get(2).errorMessage());
+        verify(taskProgressRepository).saveAll(List.of(changes.get(0)));
+    }
+
+    @Test
+    void updateTaskStatuses_同じ参加者課題への変更は前の変更を適用した後のステータスから検証する() {
+        // Given
+        MemberId memberId = testMember.getId();
+        TaskId taskA = new TaskId("task-a");
+        when(taskProgressRepository.findStatuses(any())).thenReturn(Map.of(
+            new TaskProgressKey(memberId, taskA), TaskStatus.取組中
+        ));
+        List<TaskStatusChange> changes = List.of(
+            new TaskStatusChange(memberId, taskA, TaskStatus.レビュー待ち),
+            new TaskStatusChange(memberId, taskA, TaskStatus.完了)
+        );
+
+        // When
+        List<TaskStatusChangeResult> results = taskService.updateTaskStatuses(changes);
+
+        // Then
+        assertTrue(results.stream().allMatch(TaskStatusChangeResult::succeeded));
+        verify(taskProgressRepository).saveAll(changes);
+    }
+
+    @Test
+    void addTask_作成した課題を全ての参加者に割り当てる() {
+        // When
+        taskService.addTask(new TaskName("新しい課題"));
+
+        // Then
+        ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
+        verify(taskRepository).save(saved.capture());
+        verify(taskProgressRepository).provisionForTask(saved.getValue().getId());
+    }
+}
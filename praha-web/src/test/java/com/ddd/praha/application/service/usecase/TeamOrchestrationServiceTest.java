@@ -12,6 +12,7 @@ import com.ddd.praha.domain.model.Email;
 import com.ddd.praha.domain.model.EnrollmentStatus;
 import com.ddd.praha.domain.model.MemberId;
 import com.ddd.praha.domain.model.MemberName;
+import com.ddd.praha.domain.model.TeamCandidates;
 import com.ddd.praha.domain.model.TeamComposition;
 import com.ddd.praha.domain.model.TeamCompositionResult;
 import com.ddd.praha.domain.model.TeamId;
@@ -90,16 +91,16 @@ class TeamOrchestrationServiceTest {
     void 合流先が見つからない場合にメール通知が送信される() {
         // 準備
         TeamId teamId = testTeam.getId();
-        List<Team> allTeams = List.of(testTeam);
+        TeamCandidates candidates = new TeamCandidates(List.of());
         
         when(teamRepository.get(teamId)).thenReturn(testTeam);
-        when(teamRepository.getAll()).thenReturn(allTeams);
+        when(teamRepository.findMergeCandidates(teamId)).thenReturn(candidates);
         
         TeamComposition noChangeComposition = TeamComposition.noChange(testTeam);
         TeamRedistributionResult mergeFailureResult = TeamRedistributionResult.mergeFailure(
             noChangeComposition, testMember1
         );
-        when(domainService.executeRedistribution(testTeam, testMember1, allTeams))
+        when(domainService.executeRedistribution(testTeam, testMember1, candidates))
             .thenReturn(mergeFailureResult);
 
         // 実行
@@ -121,8 +122,8 @@ class TeamOrchestrationServiceTest {
             Arrays.asList(testMember3, testMember4)
         );
         
-        List<Team> allTeams = Arrays.asList(testTeam, smallestTeam);
-        when(teamRepository.getAll()).thenReturn(allTeams);
+        TeamCandidates candidates = new TeamCandidates(List.of(smallestTeam));
+        when(teamRepository.findAssignmentCandidates()).thenReturn(candidates);
         
         TeamComposition composition = TeamComposition.noChange(smallestTeam);
         TeamCompositionResult result = TeamCompositionResult.normal(composition);
@@ -134,7 +135,7 @@ class TeamOrchestrationServiceTest {
             EnrollmentStatus.在籍中
         );
         
-        when(domainService.assignMemberToTeam(newMember, allTeams))
+        when(domainService.assignMemberToTeam(newMember, candidates))
             .thenReturn(result);
 
         // 実行
@@ -158,12 +159,12 @@ class TeamOrchestrationServiceTest {
             List.of(testMember3, testMember4)
         );
         
-        List<Team> allTeams = List.of(originalTeam);
-        when(teamRepository.getAll()).thenReturn(allTeams);
+        TeamCandidates candidates = new TeamCandidates(List.of(originalTeam));
+        when(teamRepository.findAssignmentCandidates()).thenReturn(candidates);
         
         TeamComposition splitComposition = TeamComposition.split(originalTeam, newTeam, List.of(testMember3));
         TeamCompositionResult splitResult = TeamCompositionResult.split(splitComposition);
-        when(domainService.assignMemberToTeam(testMember3, allTeams))
+        when(domainService.assignMemberToTeam(testMember3, candidates))
             .thenReturn(splitResult);
 
         // 実行
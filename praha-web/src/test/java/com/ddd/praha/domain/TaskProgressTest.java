@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -129,4 +130,23 @@ class TaskProgressTest {
       assertEquals(TaskStatus.取組中, taskProgress.getTaskStatus(task1));
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("ステータスごとの分類のテスト")
+  class GroupByStatusTest {
+
+    @Test
+    @DisplayName("全てのステータスをキーに持ち課題をステータスごとに分類できる")
+    void 全てのステータスをキーに持ち課題をステータスごとに分類できる() {
+      TaskProgress taskProgress = new TaskProgress(owner, tasks);
+      taskProgress.updateTaskStatus(owner, task1, TaskStatus.取組中);
+
+      Map<TaskStatus, List<Task>> grouped = taskProgress.groupByStatus();
+
+      assertEquals(TaskStatus.values().length, grouped.size());
+      assertEquals(List.of(task1), grouped.get(TaskStatus.取組中));
+      assertEquals(List.of(task2), grouped.get(TaskStatus.未着手));
+      assertTrue(grouped.get(TaskStatus.完了).isEmpty());
+    }
+  }
+}
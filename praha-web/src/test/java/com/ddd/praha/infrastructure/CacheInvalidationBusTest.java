@@ -0,0 +1,291 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.application.event.TaskProgressChangedEvent;
+import com.ddd.praha.application.event.TeamsChangedEvent;
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.entity.Team;
+import com.ddd.praha.domain.model.Email;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberName;
+import com.ddd.praha.domain.model.TeamId;
+import com.ddd.praha.domain.model.TeamName;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TeamSnapshotCache cache;
+    private MemberSnapshotCache memberCache;
+    private CacheInvalidationBus bus;
+
+    private final Member member1 = member("member-1", "山田太郎", "yamada@example.com");
+    private final Member member2 = member("member-2", "佐藤花子", "sato@example.com");
+    private final Team teamA = new Team(new TeamId("team-a"), new TeamName("チームA"), List.of(member1));
+    private final Team teamB = new Team(new TeamId("team-b"), new TeamName("チームB"), List.of(member2));
+
+    @BeforeEach
+    void setUp() {
+        cache = new TeamSnapshotCache(100);
+        memberCache = new MemberSnapshotCache(DataSize.ofKilobytes(64));
+        bus = new CacheInvalidationBus(rabbitTemplate, cache, memberCache, eventPublisher, "node-1", 100);
+    }
+
+    @Test
+    void このノードでの変更をまとめて1つのメッセージで送信する() throws InterruptedException {
+        // Given
+        bus.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA.getId()));
+        bus.onTeamsChanged(TeamsChangedEvent.ofMember(member2.getId()));
+
+        // When
+        bus.publish(bus.nextBatch());
+
+        // Then
+        Message message = sentMessage();
+        assertEquals("node-1", message.getMessageProperties().getHeader(CacheInvalidationBus.ORIGIN_HEADER));
+        assertEquals(CacheInvalidation.CONTENT_TYPE, message.getMessageProperties().getContentType());
+        assertEquals(List.of(
+            new CacheInvalidation(CacheInvalidation.Kind.TEAM, 1, "team-a"),
+            new CacheInvalidation(CacheInvalidation.Kind.MEMBER, 2, "member-2")),
+            CacheInvalidation.decode(message.getBody()));
+    }
+
+    @Test
+    void 並行して積まれた変更にも送信順に増える版数を付ける() throws InterruptedException {
+        // Given
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 20; i++) {
+                    bus.onTeamsChanged(TeamsChangedEvent.ofTeam(new TeamId("team-" + thread + "-" + i)));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // When
+        while (bus.depth() > 0) {
+            bus.publish(bus.nextBatch());
+        }
+
+        // Then
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, atLeastOnce()).send(eq(CacheInvalidationBus.EXCHANGE), eq(""), captor.capture());
+        List<Long> versions = captor.getAllValues().stream()
+            .flatMap(message -> CacheInvalidation.decode(message.getBody()).stream())
+            .map(CacheInvalidation::version)
+            .toList();
+        assertEquals(LongStream.rangeClosed(1, 80).boxed().toList(), versions);
+    }
+
+    @Test
+    void 他のノードから受信した変更は送り返さない() {
+        // When
+        bus.onTeamsChanged(TeamsChangedEvent.ofRemote(Set.of(teamA.getId()), Set.of(), false));
+
+        // Then
+        assertEquals(0, bus.depth());
+    }
+
+    @Test
+    void 受信したチームと参加者と参加者が所属するチームをキャッシュから取り除く() {
+        // Given
+        cache.putAll(List.of(teamA, teamB), cache.generation());
+        memberCache.put(member2, memberCache.generation());
+
+        // When
+        bus.onMessage(message("node-2",
+            new CacheInvalidation(CacheInvalidation.Kind.TEAM, 1, "team-a"),
+            new CacheInvalidation(CacheInvalidation.Kind.MEMBER, 2, "member-2")));
+
+        // Then
+        assertTrue(cache.get(teamA.getId()).isEmpty());
+        assertTrue(cache.get(teamB.getId()).isEmpty());
+        assertTrue(cache.getAll().isEmpty());
+        assertTrue(memberCache.get(member2.getId()).isEmpty());
+    }
+
+    @Test
+    void 自分が送信したメッセージは無視する() {
+        // Given
+        cache.put(teamA, cache.generation());
+
+        // When
+        bus.onMessage(message("node-1", new CacheInvalidation(CacheInvalidation.Kind.TEAM, 1, "team-a")));
+
+        // Then
+        assertTrue(cache.get(teamA.getId()).isPresent());
+    }
+
+    @Test
+    void 受信済みの版数の無効化は適用しない() {
+        // Given
+        bus.onMessage(message("node-2", new CacheInvalidation(CacheInvalidation.Kind.TEAM, 1, "team-a")));
+        cache.put(teamA, cache.generation());
+
+        // When
+        bus.onMessage(message("node-2", new CacheInvalidation(CacheInvalidation.Kind.TEAM, 1, "team-a")));
+
+        // Then
+        assertTrue(cache.get(teamA.getId()).isPresent());
+    }
+
+    @Test
+    void 同じノードの識別子で再起動したノードの無効化は版数が戻っても適用する() throws InterruptedException {
+        // Given（node-2が版数2まで送信した後、同じ識別子で再起動する）
+        CacheInvalidationBus node2 = new CacheInvalidationBus(rabbitTemplate, cache, memberCache, eventPublisher, "node-2", 100);
+        node2.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA.getId()));
+        node2.onTeamsChanged(TeamsChangedEvent.ofTeam(teamB.getId()));
+        node2.publish(node2.nextBatch());
+        bus.onMessage(sentMessage());
+        cache.put(teamA, cache.generation());
+
+        CacheInvalidationBus restarted = new CacheInvalidationBus(rabbitTemplate, cache, memberCache, eventPublisher, "node-2", 100);
+        restarted.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA.getId()));
+        clearInvocations(rabbitTemplate);
+        restarted.publish(restarted.nextBatch());
+        Message afterRestart = sentMessage();
+
+        // When
+        bus.onMessage(afterRestart);
+
+        // Then
+        assertEquals(List.of(new CacheInvalidation(CacheInvalidation.Kind.TEAM, 1, "team-a")),
+            CacheInvalidation.decode(afterRestart.getBody()));
+        assertTrue(cache.get(teamA.getId()).isEmpty());
+    }
+
+    @Test
+    void 全てのキャッシュの無効化を受信した場合は全てのチームと参加者を取り除く() {
+        // Given
+        cache.putAll(List.of(teamA, teamB), cache.generation());
+        memberCache.put(member1, memberCache.generation());
+
+        // When
+        bus.onMessage(message("node-2", CacheInvalidation.all(1)));
+
+        // Then
+        assertEquals(0, cache.size());
+        assertEquals(0, memberCache.size());
+        assertTrue(cache.getAll().isEmpty());
+        verify(eventPublisher).publishEvent(TaskProgressChangedEvent.ofRemote(Set.of(), true));
+    }
+
+    @Test
+    void このノードでの課題の進捗の変更を送信する() throws InterruptedException {
+        // Given
+        bus.onTaskProgressChanged(TaskProgressChangedEvent.ofMembers(List.of(member1.getId())));
+        bus.onTaskProgressChanged(TaskProgressChangedEvent.ofRemote(Set.of(member2.getId()), false));
+
+        // When
+        bus.publish(bus.nextBatch());
+
+        // Then
+        assertEquals(List.of(new CacheInvalidation(CacheInvalidation.Kind.TASK_PROGRESS, 1, "member-1")),
+            CacheInvalidation.decode(sentMessage().getBody()));
+    }
+
+    @Test
+    void 受信した課題の進捗の変更を通知する() {
+        // When
+        bus.onMessage(message("node-2", new CacheInvalidation(CacheInvalidation.Kind.TASK_PROGRESS, 1, "member-1")));
+
+        // Then
+        verify(eventPublisher).publishEvent(TaskProgressChangedEvent.ofRemote(Set.of(member1.getId()), false));
+    }
+
+    @Test
+    void ブローカーに接続できなかった場合は回復後に全てのキャッシュの無効化を送信する() throws InterruptedException {
+        // Given
+        doThrow(new AmqpConnectException(new ConnectException("接続が拒否されました")))
+            .doNothing()
+            .when(rabbitTemplate).send(eq(CacheInvalidationBus.EXCHANGE), eq(""), any(Message.class));
+        bus.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA.getId()));
+        bus.publish(bus.nextBatch());
+
+        // When
+        bus.publish(List.of());
+
+        // Then
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(2)).send(eq(CacheInvalidationBus.EXCHANGE), eq(""), captor.capture());
+        List<CacheInvalidation> resent = CacheInvalidation.decode(captor.getAllValues().get(1).getBody());
+        assertEquals(1, resent.size());
+        assertEquals(CacheInvalidation.Kind.ALL, resent.get(0).kind());
+    }
+
+    @Test
+    void 送信バッファが溢れた場合は全てのキャッシュの無効化を送信する() throws InterruptedException {
+        // Given
+        bus = new CacheInvalidationBus(rabbitTemplate, cache, memberCache, eventPublisher, "node-1", 1);
+        bus.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA.getId()));
+        bus.onTeamsChanged(TeamsChangedEvent.ofTeam(teamB.getId()));
+
+        // When
+        bus.publish(bus.nextBatch());
+
+        // Then
+        List<CacheInvalidation> sent = CacheInvalidation.decode(sentMessage().getBody());
+        assertEquals(CacheInvalidation.Kind.ALL, sent.get(0).kind());
+    }
+
+    @Test
+    void 解釈できないメッセージは破棄して全てのキャッシュを取り除く() {
+        // Given
+        cache.put(teamA, cache.generation());
+        Message broken = MessageBuilder.withBody("X 1 team-a\n".getBytes())
+            .setHeader(CacheInvalidationBus.ORIGIN_HEADER, "node-2")
+            .build();
+
+        // When
+        bus.onMessage(broken);
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    private Message sentMessage() {
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(CacheInvalidationBus.EXCHANGE), eq(""), captor.capture());
+        return captor.getValue();
+    }
+
+    private static Message message(String origin, CacheInvalidation... invalidations) {
+        return MessageBuilder.withBody(CacheInvalidation.encode(List.of(invalidations)))
+            .setContentType(CacheInvalidation.CONTENT_TYPE)
+            .setHeader(CacheInvalidationBus.ORIGIN_HEADER, origin)
+            .build();
+    }
+
+    private static Member member(String id, String name, String email) {
+        return new Member(new MemberId(id), new MemberName(name), new Email(email), EnrollmentStatus.在籍中);
+    }
+}
@@ -0,0 +1,147 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.model.Email;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberName;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class CachingMemberRepositoryTest {
+
+    @Mock
+    private MemberRepositoryImpl delegate;
+
+    private MemberSnapshotCache cache;
+    private CachingMemberRepository repository;
+
+    private final Member member = new Member(new MemberId("member-1"), new MemberName("山田太郎"),
+        new Email("yamada@example.com"), EnrollmentStatus.在籍中);
+
+    @BeforeEach
+    void setUp() {
+        cache = new MemberSnapshotCache(DataSize.ofKilobytes(64));
+        repository = new CachingMemberRepository(delegate, cache);
+    }
+
+    @Test
+    void 二回目以降の取得はキャッシュから返す() {
+        // Given
+        when(delegate.get(member.getId())).thenReturn(member);
+
+        // When
+        repository.get(member.getId());
+        Member cached = repository.get(member.getId());
+
+        // Then
+        verify(delegate, times(1)).get(member.getId());
+        assertEquals(member, cached);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void IDで検索した参加者もキャッシュし存在しない場合はキャッシュしない() {
+        // Given
+        MemberId unknown = new MemberId("unknown");
+        when(delegate.findById(member.getId())).thenReturn(Optional.of(member));
+        when(delegate.findById(unknown)).thenReturn(Optional.empty());
+
+        // When
+        repository.findById(member.getId());
+        repository.findById(unknown);
+        Member cached = repository.get(member.getId());
+        repository.findById(unknown);
+
+        // Then
+        assertEquals(member, cached);
+        verify(delegate, never()).get(member.getId());
+        verify(delegate, times(2)).findById(unknown);
+    }
+
+    @Test
+    void 取得した参加者を変更してもキャッシュには影響しない() {
+        // Given
+        when(delegate.get(member.getId())).thenReturn(member);
+        Member loaded = repository.get(member.getId());
+
+        // When
+        loaded.updateEnrollmentStatus(EnrollmentStatus.休会中);
+
+        // Then
+        assertEquals(EnrollmentStatus.在籍中, repository.get(member.getId()).getStatus());
+    }
+
+    @Test
+    void 在籍ステータスの更新で参加者を無効化する() {
+        // Given
+        when(delegate.get(member.getId())).thenReturn(member);
+        repository.get(member.getId());
+
+        // When
+        repository.updateStatus(member.getId(), EnrollmentStatus.休会中);
+        repository.get(member.getId());
+
+        // Then
+        verify(delegate).updateStatus(member.getId(), EnrollmentStatus.休会中);
+        verify(delegate, times(2)).get(member.getId());
+    }
+
+    @Test
+    void 参加者の追加で参加者とメールアドレスの対応を無効化する() {
+        // Given
+        cache.put(member, cache.generation());
+
+        // When
+        repository.save(member);
+
+        // Then
+        verify(delegate).save(member);
+        assertTrue(cache.get(member.getId()).isEmpty());
+        assertTrue(cache.findIdByEmail(member.getEmail()).isEmpty());
+    }
+
+    @Test
+    void まとめて取得する場合はキャッシュにない参加者だけを1回で読み込む() {
+        // Given
+        Member other = new Member(new MemberId("member-2"), new MemberName("佐藤花子"),
+            new Email("sato@example.com"), EnrollmentStatus.在籍中);
+        MemberId unknown = new MemberId("unknown");
+        cache.put(member, cache.generation());
+        when(delegate.getAll(List.of(other.getId(), unknown))).thenReturn(List.of(other));
+
+        // When
+        List<Member> members = repository.getAll(List.of(member.getId(), other.getId(), unknown, member.getId()));
+
+        // Then
+        assertEquals(List.of(member, other), members);
+        assertTrue(cache.get(other.getId()).isPresent());
+        verify(delegate, times(1)).getAll(List.of(other.getId(), unknown));
+    }
+
+    @Test
+    void 読み込み中に無効化された場合は読み込んだ内容を格納しない() {
+        // Given（読み込みの途中で別の処理が参加者を更新する）
+        when(delegate.get(member.getId())).thenAnswer(invocation -> {
+            cache.invalidate(member.getId());
+            return member;
+        });
+
+        // When
+        repository.get(member.getId());
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,152 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.entity.Team;
+import com.ddd.praha.domain.model.Email;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberName;
+import com.ddd.praha.domain.model.TeamId;
+import com.ddd.praha.domain.model.TeamName;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTeamRepositoryTest {
+
+    @Mock
+    private TeamRepositoryImpl delegate;
+
+    private TeamSnapshotCache cache;
+    private CachingTeamRepository repository;
+
+    private final Member member1 = member("member-1", "山田太郎", "yamada@example.com");
+    private final Member member2 = member("member-2", "佐藤花子", "sato@example.com");
+    private final Member member3 = member("member-3", "鈴木一郎", "suzuki@example.com");
+    private final Team team = new Team(new TeamId("team-1"), new TeamName("チーム1"), List.of(member1, member2));
+
+    @BeforeEach
+    void setUp() {
+        cache = new TeamSnapshotCache(100);
+        repository = new CachingTeamRepository(delegate, cache);
+    }
+
+    @Test
+    void 二回目以降の取得はキャッシュから返す() {
+        // Given
+        when(delegate.get(team.getId())).thenReturn(team);
+
+        // When
+        Team first = repository.get(team.getId());
+        Team second = repository.get(team.getId());
+
+        // Then
+        verify(delegate, times(1)).get(team.getId());
+        assertEquals(team.getId(), second.getId());
+        assertEquals(first.getMembers(), second.getMembers());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void 取得したチームを変更してもキャッシュには影響しない() {
+        // Given
+        when(delegate.get(team.getId())).thenReturn(team);
+        Team loaded = repository.get(team.getId());
+
+        // When
+        loaded.addMember(member3);
+
+        // Then
+        assertEquals(List.of(member1, member2), repository.get(team.getId()).getMembers());
+    }
+
+    @Test
+    void メンバーの追加と削除でチームを無効化する() {
+        // Given
+        when(delegate.get(team.getId())).thenReturn(team);
+        repository.get(team.getId());
+
+        // When
+        repository.addMember(team.getId(), member3.getId());
+        repository.get(team.getId());
+        repository.removeMember(team.getId(), member3.getId());
+        repository.get(team.getId());
+
+        // Then
+        verify(delegate, times(3)).get(team.getId());
+    }
+
+    @Test
+    void チームの作成と削除でチームの一覧を無効化する() {
+        // Given
+        Team other = new Team(new TeamId("team-2"), new TeamName("チーム2"), List.of(member3, member1));
+        when(delegate.getAll()).thenReturn(List.of(team), List.of(team, other), List.of(team));
+        repository.getAll();
+
+        // When
+        repository.create(other);
+        List<Team> afterCreate = repository.getAll();
+        repository.delete(other);
+        List<Team> afterDelete = repository.getAll();
+
+        // Then
+        assertEquals(2, afterCreate.size());
+        assertEquals(1, afterDelete.size());
+        verify(delegate, times(3)).getAll();
+    }
+
+    @Test
+    void チームの一覧を続けて取得する場合はキャッシュから返す() {
+        // Given
+        when(delegate.getAll()).thenReturn(List.of(team));
+
+        // When
+        repository.getAll();
+        List<Team> cached = repository.getAll();
+
+        // Then
+        verify(delegate, times(1)).getAll();
+        assertEquals(List.of(team.getId()), cached.stream().map(Team::getId).toList());
+    }
+
+    @Test
+    void 参加者の情報の更新で所属するチームを無効化する() {
+        // Given
+        when(delegate.get(team.getId())).thenReturn(team);
+        repository.get(team.getId());
+
+        // When
+        cache.invalidateMember(member2.getId());
+        repository.get(team.getId());
+
+        // Then
+        verify(delegate, times(2)).get(team.getId());
+    }
+
+    @Test
+    void 読み込み中に無効化された場合は読み込んだ内容を格納しない() {
+        // Given（読み込みの途中で別の処理がチームを変更する）
+        when(delegate.get(team.getId())).thenAnswer(invocation -> {
+            cache.invalidate(team.getId());
+            return team;
+        });
+
+        // When
+        repository.get(team.getId());
+
+        // Then
+        assertTrue(cache.get(team.getId()).isEmpty());
+    }
+
+    private static Member member(String id, String name, String email) {
+        return new Member(new MemberId(id), new MemberName(name), new Email(email), EnrollmentStatus.在籍中);
+    }
+}
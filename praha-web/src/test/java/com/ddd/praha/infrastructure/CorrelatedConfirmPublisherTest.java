@@ -0,0 +1,130 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.infrastructure.CorrelatedConfirmPublisher.Outbound;
+import com.ddd.praha.infrastructure.PublishConfirmObserver.ConfirmResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CorrelatedConfirmPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    @Mock
+    private PublishConfirmObserver observer;
+
+    private final List<String> sentCorrelationIds = new ArrayList<>();
+
+    @Test
+    void 全件が受理された場合は空を返す() {
+        // Given
+        CorrelatedConfirmPublisher publisher = create();
+        confirmEach(correlation -> ack(correlation, true));
+
+        // When
+        List<Long> unconfirmed = publisher.publish(List.of(outbound(1), outbound(2)));
+
+        // Then
+        assertTrue(unconfirmed.isEmpty());
+        assertEquals(List.of("1-0", "2-0"), sentCorrelationIds);
+        verify(observer, times(2)).onConfirm(eq(ConfirmResult.ACK), any());
+        assertEquals(0, publisher.inFlightCount());
+    }
+
+    @Test
+    void 拒否されたメッセージのIDを返し再送はしない() {
+        // Given（2は拒否される）
+        CorrelatedConfirmPublisher publisher = create();
+        confirmEach(correlation -> ack(correlation, !correlation.getId().startsWith("2-")));
+
+        // When
+        List<Long> unconfirmed = publisher.publish(List.of(outbound(1), outbound(2)));
+
+        // Then
+        assertEquals(List.of(2L), unconfirmed);
+        assertEquals(List.of("1-0", "2-1"), sentCorrelationIds);
+        verify(observer).onConfirm(eq(ConfirmResult.NACK), any());
+        verify(observer).onRetry(1);
+        assertEquals(0, publisher.inFlightCount());
+    }
+
+    @Test
+    void 同じメッセージを再度送信する場合は別の相関IDを使う() {
+        // Given
+        CorrelatedConfirmPublisher publisher = create();
+        confirmEach(correlation -> ack(correlation, true));
+
+        // When
+        publisher.publish(List.of(outbound(1)));
+        publisher.publish(List.of(outbound(1)));
+
+        // Then
+        assertEquals(List.of("1-0", "1-1"), sentCorrelationIds);
+    }
+
+    @Test
+    void 返送されたメッセージと確認が届かないメッセージは受理されなかったものとして扱う() {
+        // Given
+        CorrelatedConfirmPublisher publisher = create();
+        confirmEach(correlation -> {
+            if (correlation.getId().equals("1-0")) {
+                correlation.setReturned(new ReturnedMessage(new Message(new byte[0]), 312, "NO_ROUTE", "", "unknown"));
+                ack(correlation, true);
+            }
+        });
+
+        // When
+        List<Long> unconfirmed = publisher.publish(List.of(outbound(1), outbound(2)));
+
+        // Then
+        assertEquals(List.of(1L, 2L), unconfirmed);
+        verify(observer).onConfirm(eq(ConfirmResult.RETURNED), any());
+        verify(observer).onConfirm(eq(ConfirmResult.TIMEOUT), any());
+        assertEquals(0, publisher.inFlightCount());
+    }
+
+    private CorrelatedConfirmPublisher create() {
+        return new CorrelatedConfirmPublisher(rabbitTemplate, observer, Duration.ofMillis(50));
+    }
+
+    /**
+     * 送信したメッセージごとにブローカーからの確認を模擬する
+     */
+    private void confirmEach(Consumer<CorrelationData> confirm) {
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+            invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(2);
+            sentCorrelationIds.add(correlation.getId());
+            confirm.accept(correlation);
+            return null;
+        }).when(operations).convertAndSend(anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    private static void ack(CorrelationData correlation, boolean ack) {
+        correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+    }
+
+    private static Outbound outbound(long id) {
+        return new Outbound(id, "team.notification.queue", "message-" + id);
+    }
+}
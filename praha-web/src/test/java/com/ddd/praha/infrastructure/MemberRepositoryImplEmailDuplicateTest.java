@@ -7,12 +7,17 @@ import static org.mockito.Mockito.*;
 import com.ddd.praha.domain.entity.Member;
 import com.ddd.praha.domain.model.Email;
 import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
 import com.ddd.praha.domain.model.MemberName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @ExtendWith(MockitoExtension.class)
 class MemberRepositoryImplEmailDuplicateTest {
@@ -20,13 +25,22 @@ class MemberRepositoryImplEmailDuplicateTest {
     @Mock
     private MemberMapper memberMapper;
 
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private TaskStatusMemberIndex taskStatusIndex;
+
+    private MemberSnapshotCache memberCache;
+
     private MemberRepositoryImpl memberRepository;
 
     private Member testMember;
 
     @BeforeEach
     void setUp() {
-        memberRepository = new MemberRepositoryImpl(memberMapper);
+        memberCache = new MemberSnapshotCache(DataSize.ofKilobytes(64));
+        memberRepository = new MemberRepositoryImpl(memberMapper, taskMapper, new MemberSearchCountCache(Duration.ZERO), taskStatusIndex, new TeamSnapshotCache(100), memberCache);
 
         testMember = new Member(
             new MemberName("テストユーザー"),
@@ -37,26 +51,54 @@ class MemberRepositoryImplEmailDuplicateTest {
 
     @Test
     void save_正常系_新しいメールアドレスで保存成功() {
-        // Given
-        when(memberMapper.findByEmail("test@example.com")).thenReturn(null);
-
         // When
         assertDoesNotThrow(() -> memberRepository.save(testMember));
 
         // Then
         verify(memberMapper).insert(testMember);
+        verify(memberMapper, never()).findByEmail(any());
     }
 
     @Test
     void save_異常系_メールアドレス重複で例外() {
+        // Given - メールアドレスの一意制約に違反する
+        doThrow(new DuplicateKeyException("members_email_key")).when(memberMapper).insert(testMember);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> memberRepository.save(testMember)
+        );
+
+        assertEquals("このメールアドレスは既に使用されています", exception.getMessage());
+    }
+
+    @Test
+    void save_異常系_メールアドレス以外の一意制約違反はそのまま例外() {
+        // Given - 参加者IDの主キーに違反する
+        DuplicateKeyException duplicateId = new DuplicateKeyException(
+            "duplicate key value violates unique constraint \"members_pkey\"");
+        doThrow(duplicateId).when(memberMapper).insert(testMember);
+
+        // When & Then
+        DuplicateKeyException exception = assertThrows(
+            DuplicateKeyException.class,
+            () -> memberRepository.save(testMember)
+        );
+
+        assertSame(duplicateId, exception);
+    }
+
+    @Test
+    void save_異常系_キャッシュにある参加者とのメールアドレス重複はデータベースに問い合わせずに例外() {
         // Given
-        MemberRecord existingRecord = new MemberRecord(
-            "existing-id",
-            "既存ユーザー",
-            "test@example.com",
-            "在籍中"
+        Member existingMember = new Member(
+            new MemberId("existing-id"),
+            new MemberName("既存ユーザー"),
+            new Email("test@example.com"),
+            EnrollmentStatus.在籍中
         );
-        when(memberMapper.findByEmail("test@example.com")).thenReturn(existingRecord);
+        memberCache.put(existingMember, memberCache.generation());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -70,14 +112,8 @@ class MemberRepositoryImplEmailDuplicateTest {
 
     @Test
     void save_正常系_同じメンバーの更新は許可() {
-        // Given - 同じIDのメンバーが既に存在
-        MemberRecord existingRecord = new MemberRecord(
-            testMember.getId().value(),
-            "既存ユーザー",
-            "test@example.com",
-            "在籍中"
-        );
-        when(memberMapper.findByEmail("test@example.com")).thenReturn(existingRecord);
+        // Given - 同じIDのメンバーがキャッシュに存在
+        memberCache.put(testMember, memberCache.generation());
 
         // When
         assertDoesNotThrow(() -> memberRepository.save(testMember));
@@ -85,4 +121,4 @@ class MemberRepositoryImplEmailDuplicateTest {
         // Then
         verify(memberMapper).insert(testMember);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberSearchResult;
+import com.ddd.praha.domain.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class MemberRepositoryImplSearchTest {
+
+    @Mock
+    private MemberMapper memberMapper;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private TaskStatusMemberIndex taskStatusIndex;
+
+    private final List<String> taskNames = List.of("設計原則（SOLID）");
+    private final List<TaskStatus> statuses = List.of(TaskStatus.完了);
+
+    private MemberSearchRecord record(String id, long totalCount) {
+        return new MemberSearchRecord(id, "テスト太郎", id + "@example.com", "在籍中", totalCount);
+    }
+
+    @Test
+    void ウィンドウ関数の全件数を検索結果の全件数として返す() {
+        // Given
+        MemberRepositoryImpl repository = new MemberRepositoryImpl(memberMapper, taskMapper, new MemberSearchCountCache(Duration.ZERO), taskStatusIndex, new TeamSnapshotCache(100), new MemberSnapshotCache(DataSize.ofKilobytes(64)));
+        when(memberMapper.findMembersByTaskNamesAndStatuses(taskNames, statuses, 0, 10, true))
+            .thenReturn(List.of(record("member-001", 25), record("member-002", 25)));
+
+        // When
+        MemberSearchResult result = repository.findMembersByTaskNamesAndStatuses(taskNames, statuses, 0, 10);
+
+        // Then
+        assertEquals(2, result.getMembers().size());
+        assertEquals(25, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        assertFalse(result.isLast());
+        verify(memberMapper, never()).countMembersByTaskNamesAndStatuses(any(), any());
+    }
+
+    @Test
+    void 範囲外のページでは件数を数え直す() {
+        // Given
+        MemberRepositoryImpl repository = new MemberRepositoryImpl(memberMapper, taskMapper, new MemberSearchCountCache(Duration.ZERO), taskStatusIndex, new TeamSnapshotCache(100), new MemberSnapshotCache(DataSize.ofKilobytes(64)));
+        when(memberMapper.findMembersByTaskNamesAndStatuses(taskNames, statuses, 50, 10, true))
+            .thenReturn(List.of());
+        when(memberMapper.countMembersByTaskNamesAndStatuses(taskNames, statuses)).thenReturn(12L);
+
+        // When
+        MemberSearchResult result = repository.findMembersByTaskNamesAndStatuses(taskNames, statuses, 5, 10);
+
+        // Then
+        assertTrue(result.getMembers().isEmpty());
+        assertEquals(12, result.getTotalElements());
+    }
+
+    @Test
+    void 最初のページが空の場合は件数を数えない() {
+        // Given
+        MemberRepositoryImpl repository = new MemberRepositoryImpl(memberMapper, taskMapper, new MemberSearchCountCache(Duration.ZERO), taskStatusIndex, new TeamSnapshotCache(100), new MemberSnapshotCache(DataSize.ofKilobytes(64)));
+        when(memberMapper.findMembersByTaskNamesAndStatuses(taskNames, statuses, 0, 10, true))
+            .thenReturn(List.of());
+
+        // When
+        MemberSearchResult result = repository.findMembersByTaskNamesAndStatuses(taskNames, statuses, 0, 10);
+
+        // Then
+        assertEquals(0, result.getTotalElements());
+        verify(memberMapper, never()).countMembersByTaskNamesAndStatuses(any(), any());
+    }
+
+    @Test
+    void キャッシュされた全件数がある場合は件数を取得しない() {
+        // Given
+        MemberRepositoryImpl repository = new MemberRepositoryImpl(memberMapper, taskMapper, new MemberSearchCountCache(Duration.ofSeconds(30)), taskStatusIndex, new TeamSnapshotCache(100), new MemberSnapshotCache(DataSize.ofKilobytes(64)));
+        when(memberMapper.findMembersByTaskNamesAndStatuses(taskNames, statuses, 0, 10, true))
+            .thenReturn(List.of(record("member-001", 25)));
+        when(memberMapper.findMembersByTaskNamesAndStatuses(taskNames, statuses, 10, 10, false))
+            .thenReturn(List.of(record("member-011", 0)));
+
+        // When
+        repository.findMembersByTaskNamesAndStatuses(taskNames, statuses, 0, 10);
+        MemberSearchResult secondPage = repository.findMembersByTaskNamesAndStatuses(taskNames, statuses, 1, 10);
+
+        // Then
+        assertEquals(25, secondPage.getTotalElements());
+        verify(memberMapper).findMembersByTaskNamesAndStatuses(taskNames, statuses, 10, 10, false);
+        verify(memberMapper, never()).countMembersByTaskNamesAndStatuses(any(), any());
+    }
+
+    @Test
+    void 全ての課題を満たす参加者を課題進捗インデックスから検索する() {
+        // Given
+        MemberRepositoryImpl repository = new MemberRepositoryImpl(memberMapper, taskMapper, new MemberSearchCountCache(Duration.ZERO), taskStatusIndex, new TeamSnapshotCache(100), new MemberSnapshotCache(DataSize.ofKilobytes(64)));
+        List<String> names = List.of("設計原則（SOLID）", "DBモデリング1");
+        when(taskStatusIndex.isLoaded()).thenReturn(true);
+        when(taskMapper.findByNames(names)).thenReturn(List.of(
+            new TaskRecord("task-1", "設計原則（SOLID）"),
+            new TaskRecord("task-2", "DBモデリング1")
+        ));
+        when(taskStatusIndex.findMembersMatchingAll(any(), eq(statuses))).thenReturn(List.of(
+            new MemberId("member-003"), new MemberId("member-001"), new MemberId("member-002")
+        ));
+        when(memberMapper.findByIds(aryEq(new String[] {"member-003"})))
+            .thenReturn(List.of(new MemberRecord("member-003", "テスト三郎", "saburo@example.com", "在籍中")));
+
+        // When（1ページ2件の2ページ目）
+        MemberSearchResult result = repository.findMembersMatchingAllTasks(names, statuses, 1, 2);
+
+        // Then
+        assertEquals(1, result.getMembers().size());
+        assertEquals("member-003", result.getMembers().getFirst().getId().value());
+        assertEquals(3, result.getTotalElements());
+        verify(memberMapper, never()).findMembersMatchingAllTaskNamesAndStatuses(any(), anyInt(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void 存在しない課題名が含まれる場合は全ての課題を満たす参加者はいない() {
+        // Given
+        MemberRepositoryImpl repository = new MemberRepositoryImpl(memberMapper, taskMapper, new MemberSearchCountCache(Duration.ZERO), taskStatusIndex, new TeamSnapshotCache(100), new MemberSnapshotCache(DataSize.ofKilobytes(64)));
+        List<String> names = List.of("設計原則（SOLID）", "存在しない課題");
+        when(taskStatusIndex.isLoaded()).thenReturn(true);
+        when(taskMapper.findByNames(names)).thenReturn(List.of(new TaskRecord("task-1", "設計原則（SOLID）")));
+
+        // When
+        MemberSearchResult result = repository.findMembersMatchingAllTasks(names, statuses, 0, 10);
+
+        // Then
+        assertTrue(result.getMembers().isEmpty());
+        assertEquals(0, result.getTotalElements());
+        verify(taskStatusIndex, never()).findMembersMatchingAll(any(), any());
+    }
+
+    @Test
+    void 課題進捗インデックスが未構築の場合はSQLで全ての課題を満たす参加者を検索する() {
+        // Given
+        MemberRepositoryImpl repository = new MemberRepositoryImpl(memberMapper, taskMapper, new MemberSearchCountCache(Duration.ZERO), taskStatusIndex, new TeamSnapshotCache(100), new MemberSnapshotCache(DataSize.ofKilobytes(64)));
+        List<String> names = List.of("設計原則（SOLID）", "DBモデリング1", "設計原則（SOLID）");
+        List<String> distinctNames = List.of("設計原則（SOLID）", "DBモデリング1");
+        when(taskStatusIndex.isLoaded()).thenReturn(false);
+        when(memberMapper.findMembersMatchingAllTaskNamesAndStatuses(distinctNames, 2, statuses, 0, 10))
+            .thenReturn(List.of(record("member-001", 1)));
+
+        // When
+        MemberSearchResult result = repository.findMembersMatchingAllTasks(names, statuses, 0, 10);
+
+        // Then
+        assertEquals(1, result.getMembers().size());
+        assertEquals(1, result.getTotalElements());
+        verify(taskMapper, never()).findByNames(any());
+    }
+}
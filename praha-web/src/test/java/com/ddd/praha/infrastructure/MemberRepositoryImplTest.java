@@ -165,4 +165,21 @@ class MemberRepositoryImplTest {
 
     assertEquals(EnrollmentStatus.休会中, foundMember.getStatus());
   }
-}
\ No newline at end of file
+
+  @Test
+  void IDのコレクションで参加者をまとめて取得し存在しないIDは含めない() {
+    Member member1 = new Member(new MemberId("test-id-1"), new MemberName("name-1"),
+        new Email("initial-1@example.com"), EnrollmentStatus.在籍中);
+    Member member2 = new Member(new MemberId("test-id-2"), new MemberName("name-2"),
+        new Email("initial-2@example.com"), EnrollmentStatus.在籍中);
+    memberRepository.save(member1);
+    memberRepository.save(member2);
+
+    List<Member> result = memberRepository.getAll(
+        List.of(member1.getId(), new MemberId("no-exist-id"), member2.getId(), member1.getId()));
+
+    assertEquals(2, result.size());
+    assertTrue(result.containsAll(List.of(member1, member2)));
+    assertTrue(memberRepository.getAll(List.of()).isEmpty());
+  }
+}
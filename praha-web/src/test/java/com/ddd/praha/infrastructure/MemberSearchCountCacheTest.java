@@ -0,0 +1,79 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.ddd.praha.domain.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+class MemberSearchCountCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void 同じ検索条件の全件数を取得できる() {
+        MemberSearchCountCache cache = new MemberSearchCountCache(Duration.ofSeconds(10), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        cache.put(List.of("課題A", "課題B"), List.of(TaskStatus.完了), 42);
+
+        // 課題名の指定順序が異なっても同じ条件として扱う
+        assertEquals(Optional.of(42L), cache.get(List.of("課題B", "課題A"), List.of(TaskStatus.完了)));
+        assertTrue(cache.get(List.of("課題A"), List.of(TaskStatus.完了)).isEmpty());
+    }
+
+    @Test
+    void TTLを過ぎた全件数は取得できない() {
+        MutableClock clock = new MutableClock(NOW);
+        MemberSearchCountCache cache = new MemberSearchCountCache(Duration.ofSeconds(10), clock);
+        cache.put(List.of("課題A"), List.of(TaskStatus.完了), 42);
+
+        clock.advance(Duration.ofSeconds(9));
+        assertEquals(Optional.of(42L), cache.get(List.of("課題A"), List.of(TaskStatus.完了)));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertTrue(cache.get(List.of("課題A"), List.of(TaskStatus.完了)).isEmpty());
+    }
+
+    @Test
+    void TTLが0の場合はキャッシュしない() {
+        MemberSearchCountCache cache = new MemberSearchCountCache(Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        cache.put(List.of("課題A"), List.of(TaskStatus.完了), 42);
+
+        assertTrue(cache.get(List.of("課題A"), List.of(TaskStatus.完了)).isEmpty());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
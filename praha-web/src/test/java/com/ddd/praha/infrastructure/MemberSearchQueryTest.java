@@ -0,0 +1,129 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.ddd.praha.annotation.MyBatisRepositoryTest;
+import com.ddd.praha.application.repository.MemberRepository;
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.model.MemberSearchResult;
+import com.ddd.praha.domain.model.TaskStatus;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 課題名と進捗ステータスによる参加者検索クエリのテスト
+ * <p>検索結果に加えて、実行計画がインデックスを使用していることを EXPLAIN で確認する。</p>
+ */
+@MyBatisRepositoryTest
+class MemberSearchQueryTest {
+
+  private static final String SEARCH_STATEMENT =
+      "com.ddd.praha.infrastructure.MemberMapper.findMembersByTaskNamesAndStatuses";
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  @BeforeEach
+  void setUp() {
+    // 課題5000件、参加者2000名、参加者ごとに20課題の進捗（計40000件）を用意する
+    // 「課題-1」を「完了」しているのは member-0001 〜 member-0010 の10名のみ
+    jdbcTemplate.update("""
+        INSERT INTO tasks (id, name)
+        SELECT 'task-' || g, '課題-' || g FROM generate_series(1, 5000) g
+        """);
+    jdbcTemplate.update("""
+        INSERT INTO members (id, name, email, status)
+        SELECT 'member-' || lpad(g::text, 4, '0'), '参加者' || g, 'member' || g || '@example.com', '在籍中'
+        FROM generate_series(1, 2000) g
+        """);
+    jdbcTemplate.update("""
+        INSERT INTO member_tasks (member_id, task_id, status)
+        SELECT 'member-' || lpad(m::text, 4, '0'), 'task-' || t,
+               CASE WHEN t = 1 AND m <= 10 THEN '完了'
+                    WHEN t = 2 AND m <= 5 THEN '完了'
+                    ELSE '未着手' END
+        FROM generate_series(1, 2000) m, generate_series(1, 20) t
+        """);
+    jdbcTemplate.execute("ANALYZE tasks, members, member_tasks");
+  }
+
+  @Test
+  void 複数の課題が条件に合致しても参加者は重複せずID順に取得できる() {
+    // 実行（member-0001〜0005は課題-1と課題-2の両方を完了している）
+    MemberSearchResult result = memberRepository.findMembersByTaskNamesAndStatuses(
+        List.of("課題-1", "課題-2"), List.of(TaskStatus.完了), 0, 10);
+
+    // 検証
+    List<String> ids = result.getMembers().stream().map(member -> member.getId().value()).toList();
+    assertEquals(10, ids.size());
+    assertEquals(10, result.getTotalElements());
+    assertEquals("member-0001", ids.getFirst());
+    assertEquals("member-0010", ids.getLast());
+    assertEquals(ids.stream().sorted().toList(), ids);
+  }
+
+  @Test
+  void 条件に合致する参加者がいない場合は空の結果を返す() {
+    // 実行
+    MemberSearchResult result = memberRepository.findMembersByTaskNamesAndStatuses(
+        List.of("課題-3"), List.of(TaskStatus.完了), 0, 10);
+
+    // 検証
+    List<Member> members = result.getMembers();
+    assertTrue(members.isEmpty());
+    assertEquals(0, result.getTotalElements());
+  }
+
+  @Test
+  void 検索クエリは課題名と進捗のインデックスを使用する() {
+    // 準備
+    Map<String, Object> params = new HashMap<>();
+    params.put("taskNames", List.of("課題-1"));
+    params.put("statuses", List.of(TaskStatus.完了));
+    params.put("offset", 0);
+    params.put("limit", 10);
+    params.put("withTotal", true);
+
+    // 実行
+    String plan = explain(SEARCH_STATEMENT, params);
+
+    // 検証
+    assertAll(
+        () -> assertTrue(plan.contains("idx_tasks_name"), plan),
+        () -> assertTrue(plan.contains("idx_member_tasks_task_id_status"), plan),
+        () -> assertFalse(plan.contains("Seq Scan on member_tasks"), plan)
+    );
+  }
+
+  /**
+   * マッパーに定義されたSQLを実際のパラメータで組み立て、実行計画を取得する
+   */
+  private String explain(String statementId, Map<String, Object> params) {
+    MappedStatement statement = sqlSessionFactory.getConfiguration().getMappedStatement(statementId);
+    BoundSql boundSql = statement.getBoundSql(params);
+    Object[] args = boundSql.getParameterMappings().stream()
+        .map(mapping -> {
+          String property = mapping.getProperty();
+          Object value = boundSql.hasAdditionalParameter(property)
+              ? boundSql.getAdditionalParameter(property)
+              : params.get(property);
+          return value instanceof Enum<?> e ? e.name() : value;
+        })
+        .toArray();
+    return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + boundSql.getSql(), String.class, args));
+  }
+}
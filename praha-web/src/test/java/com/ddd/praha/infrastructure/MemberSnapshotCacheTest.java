@@ -0,0 +1,75 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.model.Email;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberName;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class MemberSnapshotCacheTest {
+
+    @Test
+    void メモリ使用量の上限を超えた場合は最も長く参照されていない参加者から追い出す() {
+        // Given
+        Member member1 = member("member-1", "yamada@example.com");
+        Member member2 = member("member-2", "sato@example.com");
+        Member member3 = member("member-3", "suzuki@example.com");
+        MemberSnapshotCache cache = new MemberSnapshotCache(DataSize.ofBytes(700));
+        cache.put(member1, cache.generation());
+        cache.put(member2, cache.generation());
+        cache.get(member1.getId());
+
+        // When
+        cache.put(member3, cache.generation());
+
+        // Then
+        assertTrue(cache.get(member1.getId()).isPresent());
+        assertTrue(cache.get(member2.getId()).isEmpty());
+        assertTrue(cache.get(member3.getId()).isPresent());
+        assertTrue(cache.findIdByEmail(member2.getEmail()).isEmpty());
+        assertEquals(1, cache.evictionCount());
+        assertTrue(cache.weight() <= 700);
+    }
+
+    @Test
+    void メールアドレスから参加者IDを引ける() {
+        // Given
+        Member member = member("member-1", "yamada@example.com");
+        MemberSnapshotCache cache = new MemberSnapshotCache(DataSize.ofKilobytes(64));
+
+        // When
+        cache.put(member, cache.generation());
+
+        // Then
+        assertEquals(member.getId(), cache.findIdByEmail(new Email("yamada@example.com")).orElseThrow());
+        assertTrue(cache.findIdByEmail(new Email("other@example.com")).isEmpty());
+    }
+
+    @Test
+    void 他のノードでの更新を受け取った場合は該当する参加者を無効化する() {
+        // Given
+        Member member1 = member("member-1", "yamada@example.com");
+        Member member2 = member("member-2", "sato@example.com");
+        MemberSnapshotCache cache = new MemberSnapshotCache(DataSize.ofKilobytes(64));
+        cache.put(member1, cache.generation());
+        cache.put(member2, cache.generation());
+        long weight = cache.weight();
+
+        // When
+        cache.evictRemote(Set.of(member1.getId()), false);
+
+        // Then
+        assertTrue(cache.get(member1.getId()).isEmpty());
+        assertTrue(cache.get(member2.getId()).isPresent());
+        assertTrue(cache.weight() < weight);
+    }
+
+    private static Member member(String id, String email) {
+        return new Member(new MemberId(id), new MemberName("山田太郎"), new Email(email), EnrollmentStatus.在籍中);
+    }
+}
@@ -16,6 +16,8 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
@@ -24,8 +26,10 @@ import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * NotificationRepositoryImplのRabbitMQ機能テスト
+ * <p>通知イベントはアウトボックスに書き込まれ、{@link OutboxRelay} の実行でキューに送信される。
+ * 定期実行のリレーと競合しないよう、実行間隔を十分に長くしている。</p>
  */
-@SpringBootTest
+@SpringBootTest(properties = "praha.outbox.relay-interval=1h")
 @Import({TestcontainersConfiguration.class, RabbitMQTestConfiguration.class})
 class NotificationRepositoryImplTest {
 
@@ -35,8 +39,18 @@ class NotificationRepositoryImplTest {
     @Autowired
     private RabbitTemplate rabbitTemplate;
 
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @BeforeEach
     void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox");
         // テスト前にキューをクリア
         rabbitTemplate.execute(channel -> {
             channel.queuePurge(RabbitMQConfig.TEAM_NOTIFICATION_QUEUE);
@@ -72,6 +86,7 @@ class NotificationRepositoryImplTest {
 
         // When
         notificationRepository.sendNotification(event);
+        outboxRelay.relayPending();
 
         // Then
         // 短時間待機してメッセージが送信されることを確認
@@ -85,6 +100,7 @@ class NotificationRepositoryImplTest {
         NotificationMessage notification =
             (NotificationMessage) receivedMessage;
         
+        assertNotNull(notification.eventId());
         assertEquals("MERGE_FAILURE", notification.type());
         assertNotNull(notification.message());
         assertEquals(team.getId().value(), notification.teamId());
@@ -107,6 +123,7 @@ class NotificationRepositoryImplTest {
 
         // When
         notificationRepository.sendNotification(event);
+        outboxRelay.relayPending();
 
         // Then
         // 短時間待機
@@ -134,6 +151,7 @@ class NotificationRepositoryImplTest {
 
         // When
         notificationRepository.sendNotification(event);
+        outboxRelay.relayPending();
 
         // Then
         // 短時間待機
@@ -153,6 +171,49 @@ class NotificationRepositoryImplTest {
         assertEquals(member1.getName().value(), notification.memberName());
     }
 
+    @Test
+    void sendNotification_WritesToOutboxWithoutPublishing() {
+        // Given
+        Member member1 = createTestMember("テスト太郎", "test1@example.com");
+        Member member2 = createTestMember("テスト次郎", "test2@example.com");
+        Team team = createTestTeam("TestTeam", Arrays.asList(member1, member2));
+        TeamNotificationEvent event = TeamNotificationEvent.monitoringRequired(team, member1);
+
+        // When
+        notificationRepository.sendNotification(event);
+
+        // Then
+        // リレーが実行されるまではキューに送信されない
+        assertEquals(1, countOutbox());
+        assertNull(rabbitTemplate.receiveAndConvert(RabbitMQConfig.TEAM_NOTIFICATION_QUEUE));
+
+        // リレーの実行後はキューに送信され、アウトボックスから削除される
+        assertEquals(1, outboxRelay.relayBatch());
+        assertEquals(0, countOutbox());
+        assertInstanceOf(NotificationMessage.class,
+            rabbitTemplate.receiveAndConvert(RabbitMQConfig.TEAM_NOTIFICATION_QUEUE, 1000));
+    }
+
+    @Test
+    void sendNotification_RolledBack_IsNeverPublished() {
+        // Given
+        Member member1 = createTestMember("テスト太郎", "test1@example.com");
+        Member member2 = createTestMember("テスト次郎", "test2@example.com");
+        Team team = createTestTeam("TestTeam", Arrays.asList(member1, member2));
+        TeamNotificationEvent event = TeamNotificationEvent.monitoringRequired(team, member1);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationRepository.sendNotification(event);
+            status.setRollbackOnly();
+        });
+        outboxRelay.relayPending();
+
+        // Then
+        assertEquals(0, countOutbox());
+        assertNull(rabbitTemplate.receiveAndConvert(RabbitMQConfig.TEAM_NOTIFICATION_QUEUE));
+    }
+
     @Test
     void sendEmail_LogsMessage() {
         // Given
@@ -165,6 +226,10 @@ class NotificationRepositoryImplTest {
         assertDoesNotThrow(() -> notificationRepository.sendEmail(to, subject, body));
     }
 
+    private int countOutbox() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class);
+    }
+
     private Member createTestMember(String name, String email) {
         return new Member(new MemberName(name), new Email(email), EnrollmentStatus.在籍中);
     }
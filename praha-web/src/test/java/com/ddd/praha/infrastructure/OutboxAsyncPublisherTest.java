@@ -0,0 +1,119 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.infrastructure.OutboxAsyncPublisher.OverflowPolicy;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxAsyncPublisherTest {
+
+    @Mock
+    private OutboxRelay outboxRelay;
+
+    private OutboxAsyncPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    void 無効な場合はバッファに積まない() {
+        // Given
+        publisher = create(false, 2, OverflowPolicy.SPILL);
+
+        // When
+        publisher.enqueue(1);
+
+        // Then
+        assertEquals(0, publisher.depth());
+    }
+
+    @Test
+    void 満杯の場合にSPILLでは追加せずに退避件数を数える() {
+        // Given
+        publisher = create(true, 2, OverflowPolicy.SPILL);
+
+        // When
+        publisher.enqueue(1);
+        publisher.enqueue(2);
+        publisher.enqueue(3);
+
+        // Then
+        assertEquals(2, publisher.depth());
+        assertEquals(1, publisher.spilledCount());
+        assertEquals(0, publisher.droppedCount());
+    }
+
+    @Test
+    void 満杯の場合にDROP_OLDESTでは最も古いメッセージを外して追加する() throws InterruptedException {
+        // Given
+        publisher = create(true, 2, OverflowPolicy.DROP_OLDEST);
+
+        // When
+        publisher.enqueue(1);
+        publisher.enqueue(2);
+        publisher.enqueue(3);
+
+        // Then
+        assertEquals(1, publisher.droppedCount());
+        assertEquals(List.of(2L, 3L), publisher.nextBatch());
+    }
+
+    @Test
+    void 満杯の場合にBLOCKでは待ち時間を過ぎると退避する() {
+        // Given
+        publisher = create(true, 1, OverflowPolicy.BLOCK);
+        publisher.enqueue(1);
+
+        // When
+        publisher.enqueue(2);
+
+        // Then
+        assertEquals(1, publisher.depth());
+        assertEquals(1, publisher.spilledCount());
+    }
+
+    @Test
+    void バッチサイズまでまとめて取り出す() throws InterruptedException {
+        // Given
+        publisher = create(true, 10, OverflowPolicy.SPILL);
+        for (long id = 1; id <= 5; id++) {
+            publisher.enqueue(id);
+        }
+
+        // When & Then
+        assertEquals(List.of(1L, 2L, 3L), publisher.nextBatch());
+        assertEquals(List.of(4L, 5L), publisher.nextBatch());
+    }
+
+    @Test
+    void 専用スレッドでまとめて送信する() {
+        // Given
+        publisher = create(true, 10, OverflowPolicy.SPILL);
+        when(outboxRelay.relay(List.of(1L, 2L))).thenReturn(2);
+        publisher.enqueue(1);
+        publisher.enqueue(2);
+
+        // When
+        publisher.start();
+
+        // Then
+        verify(outboxRelay, timeout(1000)).relay(List.of(1L, 2L));
+    }
+
+    private OutboxAsyncPublisher create(boolean enabled, int capacity, OverflowPolicy overflowPolicy) {
+        return new OutboxAsyncPublisher(outboxRelay, enabled, capacity, overflowPolicy,
+            Duration.ofMillis(10), Duration.ofMillis(5), 3);
+    }
+}
@@ -0,0 +1,217 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha._config.RabbitMQConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxMapper outboxMapper;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    @Mock
+    private CorrelatedConfirmPublisher confirmPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxMapper, rabbitTemplate, confirmPublisher, new ObjectMapper(), transactionManager, 2, Duration.ofSeconds(5), 3);
+    }
+
+    @Test
+    void 送信待ちのメッセージをまとめて送信し受理を確認してから削除する() {
+        // Given
+        when(outboxMapper.lockPending(2)).thenReturn(List.of(record(1), record(2)));
+        invokeWithOperations();
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(2, relayed);
+        verify(operations, times(2)).convertAndSend(eq(RabbitMQConfig.TEAM_NOTIFICATION_QUEUE), any(NotificationMessage.class));
+        verify(operations).waitForConfirmsOrDie(5000);
+        verify(outboxMapper).deleteByIds(List.of(1L, 2L));
+        verify(outboxMapper, never()).recordFailure(any(), any());
+    }
+
+    @Test
+    void 相関付きのコンファームでは受理されたメッセージのみ削除する() {
+        // Given
+        when(outboxMapper.lockPending(2)).thenReturn(List.of(record(1), record(2)));
+        when(confirmPublisher.isAvailable()).thenReturn(true);
+        when(confirmPublisher.publish(anyList())).thenReturn(List.of(2L));
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(1, relayed);
+        verify(outboxMapper).deleteByIds(List.of(1L));
+        verify(outboxMapper).recordFailure(eq(List.of(2L)), anyString());
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void 送信に失敗した場合は失敗を記録してメッセージを残す() {
+        // Given
+        when(outboxMapper.lockPending(2)).thenReturn(List.of(record(1)));
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpConnectException(new RuntimeException("接続できません")));
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(0, relayed);
+        verify(outboxMapper).recordFailure(eq(List.of(1L)), contains("接続できません"));
+        verify(outboxMapper, never()).deleteByIds(any());
+    }
+
+    @Test
+    void バッチが満杯の間は続けて送信する() {
+        // Given
+        when(outboxMapper.lockPending(2))
+            .thenReturn(List.of(record(1), record(2)))
+            .thenReturn(List.of(record(3)));
+        invokeWithOperations();
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verify(outboxMapper, times(2)).lockPending(2);
+        verify(outboxMapper).deleteByIds(List.of(1L, 2L));
+        verify(outboxMapper).deleteByIds(List.of(3L));
+    }
+
+    @Test
+    void 受理されなかったメッセージは同じ実行では再送せず次回のリレーに回す() {
+        // Given
+        when(outboxMapper.lockPending(2)).thenReturn(List.of(record(1), record(2)));
+        when(confirmPublisher.isAvailable()).thenReturn(true);
+        when(confirmPublisher.publish(anyList())).thenReturn(List.of(1L, 2L));
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verify(outboxMapper).lockPending(2);
+        verify(confirmPublisher).publish(anyList());
+        verify(outboxMapper).recordFailure(eq(List.of(1L, 2L)), anyString());
+        verify(outboxMapper, never()).deleteByIds(any());
+    }
+
+    @Test
+    void 送信待ちのメッセージがない場合は何もしない() {
+        // Given
+        when(outboxMapper.lockPending(2)).thenReturn(List.of());
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verifyNoInteractions(rabbitTemplate);
+        verify(outboxMapper, never()).deleteByIds(any());
+    }
+
+    @Test
+    void 指定したメッセージのうちロックできたものだけを送信する() {
+        // Given（2は他のリレーが送信済み）
+        when(outboxMapper.lockByIds(List.of(1L, 2L))).thenReturn(List.of(record(1)));
+        invokeWithOperations();
+
+        // When
+        int relayed = relay.relay(List.of(1L, 2L));
+
+        // Then
+        assertEquals(1, relayed);
+        verify(outboxMapper).deleteByIds(List.of(1L));
+    }
+
+    @Test
+    void 読み込めないメッセージは退避して後続のメッセージを送信する() {
+        // Given（先頭のメッセージが読み込めない）
+        OutboxRecord broken = new OutboxRecord(1, RabbitMQConfig.TEAM_NOTIFICATION_QUEUE, "{\"type\":", 0);
+        when(outboxMapper.lockPending(2)).thenReturn(List.of(broken, record(2)));
+        invokeWithOperations();
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(1, relayed);
+        verify(outboxMapper).moveToDeadLetter(eq(List.of(1L)), contains("読み込めませんでした"));
+        verify(operations, times(1)).convertAndSend(eq(RabbitMQConfig.TEAM_NOTIFICATION_QUEUE), any(NotificationMessage.class));
+        verify(outboxMapper).deleteByIds(List.of(2L));
+        verify(outboxMapper, never()).recordFailure(any(), any());
+    }
+
+    @Test
+    void 失敗回数が上限に達したメッセージは送信せずに退避する() {
+        // Given
+        OutboxRecord exhausted = new OutboxRecord(1, RabbitMQConfig.TEAM_NOTIFICATION_QUEUE, record(1).payload(), 3);
+        when(outboxMapper.lockPending(2)).thenReturn(List.of(exhausted, record(2)));
+        invokeWithOperations();
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(1, relayed);
+        verify(outboxMapper).moveToDeadLetter(eq(List.of(1L)), anyString());
+        verify(outboxMapper).deleteByIds(List.of(2L));
+    }
+
+    @Test
+    void 全てのメッセージを退避した場合は送信しない() {
+        // Given
+        OutboxRecord broken = new OutboxRecord(1, RabbitMQConfig.TEAM_NOTIFICATION_QUEUE, "not json", 0);
+        when(outboxMapper.lockPending(2)).thenReturn(List.of(broken));
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(0, relayed);
+        verify(outboxMapper).moveToDeadLetter(eq(List.of(1L)), anyString());
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    private void invokeWithOperations() {
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+            invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    }
+
+    private OutboxRecord record(long id) {
+        String payload = """
+            {"type":"TEAM_SPLIT","message":"チームが分割されました","teamId":"team-%d","teamName":"Team",\
+            "memberId":null,"memberName":null,"timestamp":1}
+            """.formatted(id);
+        return new OutboxRecord(id, RabbitMQConfig.TEAM_NOTIFICATION_QUEUE, payload, 0);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.ddd.praha.annotation.MyBatisRepositoryTest;
+import com.ddd.praha.domain.entity.TaskProgress;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TaskId;
+import com.ddd.praha.domain.model.TaskProgressKey;
+import com.ddd.praha.domain.model.TaskStatus;
+import com.ddd.praha.domain.model.TaskStatusChange;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 参加者課題リポジトリの一括取得・一括更新・割り当てのテスト
+ * <p>一括更新はバッチ実行のセッションを使うため、同じトランザクションで通常のマッパーを使わないよう
+ * テストデータの準備と検証は JdbcTemplate で行う。</p>
+ */
+@MyBatisRepositoryTest
+class TaskProgressRepositoryImplTest {
+
+  @Autowired
+  private TaskProgressRepositoryImpl taskProgressRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final MemberId member = new MemberId("member-bulk-1");
+  private final TaskId task1 = new TaskId("task-bulk-1");
+  private final TaskId task2 = new TaskId("task-bulk-2");
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("INSERT INTO members (id, name, email, status) VALUES (?, ?, ?, ?)",
+        member.value(), "一括太郎", "bulk@example.com", "在籍中");
+    jdbcTemplate.update("INSERT INTO tasks (id, name) VALUES (?, ?), (?, ?)",
+        task1.value(), "一括課題1", task2.value(), "一括課題2");
+    jdbcTemplate.update("INSERT INTO member_tasks (member_id, task_id, status) VALUES (?, ?, ?), (?, ?, ?)",
+        member.value(), task1.value(), "未着手", member.value(), task2.value(), "取組中");
+  }
+
+  @Test
+  void 複数の参加者課題のステータスをまとめて取得できる() {
+    // When
+    Map<TaskProgressKey, TaskStatus> statuses = taskProgressRepository.findStatuses(List.of(
+        new TaskProgressKey(member, task1),
+        new TaskProgressKey(member, task2),
+        new TaskProgressKey(member, new TaskId("task-not-exist"))
+    ));
+
+    // Then
+    assertEquals(Map.of(
+        new TaskProgressKey(member, task1), TaskStatus.未着手,
+        new TaskProgressKey(member, task2), TaskStatus.取組中
+    ), statuses);
+  }
+
+  @Test
+  void 複数の参加者課題のステータスをまとめて更新できる() {
+    // When
+    taskProgressRepository.saveAll(List.of(
+        new TaskStatusChange(member, task1, TaskStatus.取組中),
+        new TaskStatusChange(member, task2, TaskStatus.レビュー待ち),
+        new TaskStatusChange(member, task2, TaskStatus.完了)
+    ));
+
+    // Then
+    assertEquals("取組中", statusOf(task1));
+    assertEquals("完了", statusOf(task2));
+  }
+
+  @Test
+  void 参加者に未割り当ての全ての課題を未着手で割り当てる() {
+    // Given
+    jdbcTemplate.update("DELETE FROM member_tasks WHERE member_id = ? AND task_id = ?", member.value(), task1.value());
+
+    // When
+    taskProgressRepository.provisionForMember(member);
+
+    // Then（割り当て済みの課題のステータスは変わらない）
+    assertEquals("未着手", statusOf(task1));
+    assertEquals("取組中", statusOf(task2));
+  }
+
+  @Test
+  void 課題を全ての参加者に未着手で割り当てる() {
+    // Given
+    TaskId newTask = new TaskId("task-bulk-new");
+    jdbcTemplate.update("INSERT INTO tasks (id, name) VALUES (?, ?)", newTask.value(), "新しい課題");
+
+    // When
+    taskProgressRepository.provisionForTask(newTask);
+
+    // Then
+    Integer notAssigned = jdbcTemplate.queryForObject("""
+        SELECT COUNT(*) FROM members m
+        WHERE NOT EXISTS (
+            SELECT 1 FROM member_tasks mt WHERE mt.member_id = m.id AND mt.task_id = ? AND mt.status = '未着手'
+        )
+        """, Integer.class, newTask.value());
+    assertEquals(0, notAssigned);
+  }
+
+  @Test
+  void 参加者の全ての課題の進捗をまとめて取得できる() {
+    // When
+    Optional<TaskProgress> progress = taskProgressRepository.findByMember(member);
+
+    // Then
+    assertTrue(progress.isPresent());
+    assertEquals(member, progress.get().getOwner().getId());
+    Map<String, TaskStatus> statuses = progress.get().getTaskStatuses().entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getKey().getId().value(), Map.Entry::getValue));
+    assertEquals(Map.of(task1.value(), TaskStatus.未着手, task2.value(), TaskStatus.取組中), statuses);
+  }
+
+  @Test
+  void 複数の参加者の課題の進捗をまとめて取得できる() {
+    // Given
+    MemberId noTaskMember = new MemberId("member-bulk-2");
+    jdbcTemplate.update("INSERT INTO members (id, name, email, status) VALUES (?, ?, ?, ?)",
+        noTaskMember.value(), "一括花子", "bulk2@example.com", "在籍中");
+
+    // When
+    Map<MemberId, TaskProgress> progresses = taskProgressRepository.findByMembers(
+        List.of(member, noTaskMember, new MemberId("member-not-exist")));
+
+    // Then
+    assertEquals(2, progresses.size());
+    assertEquals(2, progresses.get(member).getTaskStatuses().size());
+    assertTrue(progresses.get(noTaskMember).getTaskStatuses().isEmpty());
+  }
+
+  private String statusOf(TaskId taskId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT status FROM member_tasks WHERE member_id = ? AND task_id = ?",
+        String.class, member.value(), taskId.value());
+  }
+}
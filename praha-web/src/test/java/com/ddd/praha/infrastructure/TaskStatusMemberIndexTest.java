@@ -0,0 +1,158 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.application.event.TaskProgressChangedEvent;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.TaskId;
+import com.ddd.praha.domain.model.TaskStatus;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatusMemberIndexTest {
+
+    @Mock
+    private TaskProgressMapper taskProgressMapper;
+
+    private TaskStatusMemberIndex index;
+
+    private final MemberId memberA = new MemberId("member-a");
+    private final MemberId memberB = new MemberId("member-b");
+    private final MemberId memberC = new MemberId("member-c");
+    private final TaskId solid = new TaskId("task-solid");
+    private final TaskId db1 = new TaskId("task-db1");
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskStatusMemberIndex(taskProgressMapper);
+    }
+
+    @Test
+    void データベースの進捗から構築できる() {
+        // Given
+        when(taskProgressMapper.findAllStatuses()).thenReturn(List.of(
+            new MemberTaskStatusRecord("member-a", "task-solid", "完了"),
+            new MemberTaskStatusRecord("member-b", "task-solid", "未着手")
+        ));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertTrue(index.isLoaded());
+        assertEquals(List.of(memberA), index.findMembersMatchingAll(List.of(List.of(solid)), List.of(TaskStatus.完了)));
+    }
+
+    @Test
+    void 構築中に差分更新された進捗は失われない() {
+        // Given
+        when(taskProgressMapper.findAllStatuses()).thenAnswer(invocation -> {
+            // 読み込みの後にコミットされた進捗の更新
+            index.update(memberA, solid, TaskStatus.完了);
+            return List.of(
+                new MemberTaskStatusRecord("member-a", "task-solid", "取組中"),
+                new MemberTaskStatusRecord("member-b", "task-solid", "完了")
+            );
+        });
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertEquals(Set.of(memberA, memberB),
+            new HashSet<>(index.findMembersMatchingAll(List.of(List.of(solid)), List.of(TaskStatus.完了))));
+    }
+
+    @Test
+    void 他のノードで進捗が更新された参加者を読み直す() {
+        // Given
+        index.update(memberA, solid, TaskStatus.完了);
+        index.update(memberA, db1, TaskStatus.完了);
+        index.update(memberB, solid, TaskStatus.完了);
+        when(taskProgressMapper.findStatusesByMemberIds(new String[] {"member-a"})).thenReturn(List.of(
+            new MemberTaskStatusRecord("member-a", "task-solid", "取組中"),
+            new MemberTaskStatusRecord("member-a", "task-db1", "完了")
+        ));
+
+        // When
+        index.onTaskProgressChanged(TaskProgressChangedEvent.ofRemote(Set.of(memberA), false));
+
+        // Then
+        assertEquals(List.of(memberB), index.findMembersMatchingAll(List.of(List.of(solid)), List.of(TaskStatus.完了)));
+        assertEquals(List.of(memberA), index.findMembersMatchingAll(List.of(List.of(db1)), List.of(TaskStatus.完了)));
+    }
+
+    @Test
+    void このノードでの進捗の更新では読み直さない() {
+        // When
+        index.onTaskProgressChanged(TaskProgressChangedEvent.ofMembers(List.of(memberA)));
+
+        // Then
+        verifyNoInteractions(taskProgressMapper);
+    }
+
+    @Test
+    void 全ての課題を満たす参加者のみを返す() {
+        // Given
+        index.update(memberA, solid, TaskStatus.完了);
+        index.update(memberA, db1, TaskStatus.完了);
+        index.update(memberB, solid, TaskStatus.完了);
+        index.update(memberB, db1, TaskStatus.取組中);
+        index.update(memberC, db1, TaskStatus.完了);
+
+        // When
+        List<MemberId> result = index.findMembersMatchingAll(
+            List.of(List.of(solid), List.of(db1)), List.of(TaskStatus.完了));
+
+        // Then
+        assertEquals(List.of(memberA), result);
+    }
+
+    @Test
+    void 複数のステータスと同名の課題はいずれかを満たせばよい() {
+        // Given
+        TaskId solidOld = new TaskId("task-solid-old");
+        index.update(memberA, solid, TaskStatus.レビュー待ち);
+        index.update(memberB, solidOld, TaskStatus.完了);
+        index.update(memberC, solid, TaskStatus.未着手);
+
+        // When
+        List<MemberId> result = index.findMembersMatchingAll(
+            List.of(List.of(solid, solidOld)), List.of(TaskStatus.レビュー待ち, TaskStatus.完了));
+
+        // Then
+        assertEquals(Set.of(memberA, memberB), new HashSet<>(result));
+    }
+
+    @Test
+    void ステータスを更新すると以前のステータスからは取り除かれる() {
+        // Given
+        index.update(memberA, solid, TaskStatus.レビュー待ち);
+
+        // When
+        index.update(memberA, solid, TaskStatus.完了);
+
+        // Then
+        assertTrue(index.findMembersMatchingAll(List.of(List.of(solid)), List.of(TaskStatus.レビュー待ち)).isEmpty());
+        assertEquals(List.of(memberA), index.findMembersMatchingAll(List.of(List.of(solid)), List.of(TaskStatus.完了)));
+    }
+
+    @Test
+    void 課題の指定がない場合や進捗のない課題の場合は空を返す() {
+        // Given
+        index.update(memberA, solid, TaskStatus.完了);
+
+        // When & Then
+        assertTrue(index.findMembersMatchingAll(List.of(), List.of(TaskStatus.完了)).isEmpty());
+        assertTrue(index.findMembersMatchingAll(
+            List.of(List.of(solid), List.of(new TaskId("task-unknown"))), List.of(TaskStatus.完了)).isEmpty());
+    }
+}
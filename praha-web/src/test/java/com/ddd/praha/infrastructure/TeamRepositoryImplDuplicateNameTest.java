@@ -30,7 +30,7 @@ class TeamRepositoryImplDuplicateNameTest {
 
     @BeforeEach
     void setUp() {
-        teamRepository = new TeamRepositoryImpl(teamMapper);
+        teamRepository = new TeamRepositoryImpl(teamMapper, new TeamSizeIndex(teamMapper));
 
         // 最低2名のメンバーを作成（Teamのバリデーション要件）
         Member member1 = new Member(
@@ -10,10 +10,12 @@ import com.ddd.praha.domain.model.Email;
 import com.ddd.praha.domain.model.EnrollmentStatus;
 import com.ddd.praha.domain.model.MemberId;
 import com.ddd.praha.domain.model.MemberName;
+import com.ddd.praha.domain.model.TeamCandidates;
 import com.ddd.praha.domain.model.TeamId;
 import com.ddd.praha.domain.model.TeamName;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,9 @@ class TeamRepositoryImplTest {
   @Autowired
   private MemberRepository memberRepository;
 
+  @Autowired
+  private TeamSizeIndex teamSizeIndex;
+
   private Member testMember1;
   private Member testMember2;
   private Member testMember3;
@@ -289,4 +294,146 @@ class TeamRepositoryImplTest {
         () -> teamRepository.get(new TeamId("delete-team"))
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  void メンバーIDから所属チームを検索できる() {
+    // 準備
+    Team team = new Team(
+        new TeamId("member-team"),
+        new TeamName("MemberTeam"),
+        Arrays.asList(testMember1, testMember2, testMember3)
+    );
+    teamRepository.create(team);
+
+    // 実行
+    Optional<Team> result = teamRepository.findByMemberId(testMember2.getId());
+
+    // 検証（検索に使ったメンバー以外も含めてチーム全体が復元される）
+    assertAll(
+        () -> assertTrue(result.isPresent()),
+        () -> assertEquals("member-team", result.get().getId().value()),
+        () -> assertEquals(3, result.get().getMembers().size())
+    );
+  }
+
+  @Test
+  void チームに所属していないメンバーの場合は空を返す() {
+    // 実行
+    Optional<Team> result = teamRepository.findByMemberId(testMember1.getId());
+
+    // 検証
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  void 合流候補として4名未満かつ最小人数のチームのみを取得できる() {
+    // 準備
+    Member testMember4 = new Member(
+        new MemberId("member-" + UUID.randomUUID()),
+        new MemberName("山田次郎"),
+        new Email("yamada-" + UUID.randomUUID() + "@example.com"),
+        EnrollmentStatus.在籍中
+    );
+    Member testMember5 = new Member(
+        new MemberId("member-" + UUID.randomUUID()),
+        new MemberName("高橋五郎"),
+        new Email("takahashi-" + UUID.randomUUID() + "@example.com"),
+        EnrollmentStatus.在籍中
+    );
+    memberRepository.save(testMember4);
+    memberRepository.save(testMember5);
+
+    Team sourceTeam = new Team(
+        new TeamId("source-team"),
+        new TeamName("SourceTeam"),
+        Arrays.asList(testMember1, testMember2)
+    );
+    Team smallTeam = new Team(
+        new TeamId("small-team"),
+        new TeamName("SmallTeam"),
+        Arrays.asList(testMember3, testMember4)
+    );
+    teamRepository.create(sourceTeam);
+    teamRepository.create(smallTeam);
+    teamRepository.addMember(new TeamId("source-team"), testMember5.getId());
+
+    // 実行
+    TeamCandidates candidates = teamRepository.findMergeCandidates(new TeamId("small-team"));
+
+    // 検証（除外したチーム以外で最小人数のチームのみ）
+    assertAll(
+        () -> assertEquals(1, candidates.teams().size()),
+        () -> assertEquals("source-team", candidates.teams().getFirst().getId().value()),
+        () -> assertEquals(3, candidates.teams().getFirst().getMembers().size())
+    );
+  }
+
+  @Test
+  void インデックスの人数が実際とずれている場合はSQLで合流候補を取得してインデックスを補正する() {
+    // 準備
+    Member testMember4 = new Member(
+        new MemberId("member-" + UUID.randomUUID()),
+        new MemberName("山田次郎"),
+        new Email("yamada-" + UUID.randomUUID() + "@example.com"),
+        EnrollmentStatus.在籍中
+    );
+    Member testMember5 = new Member(
+        new MemberId("member-" + UUID.randomUUID()),
+        new MemberName("高橋五郎"),
+        new Email("takahashi-" + UUID.randomUUID() + "@example.com"),
+        EnrollmentStatus.在籍中
+    );
+    memberRepository.save(testMember4);
+    memberRepository.save(testMember5);
+
+    teamRepository.create(new Team(
+        new TeamId("pair-team"),
+        new TeamName("PairTeam"),
+        Arrays.asList(testMember1, testMember2)
+    ));
+    teamRepository.create(new Team(
+        new TeamId("drifted-team"),
+        new TeamName("DriftedTeam"),
+        Arrays.asList(testMember3, testMember4, testMember5)
+    ));
+    // 他のノードでの更新を取りこぼしたなどで、インデックスの人数が実際より少なくなっている
+    teamSizeIndex.put(new TeamId("drifted-team"), 1);
+
+    // 実行
+    TeamCandidates candidates = teamRepository.findMergeCandidates(null);
+
+    // 検証
+    assertAll(
+        () -> assertEquals(1, candidates.teams().size()),
+        () -> assertEquals("pair-team", candidates.teams().getFirst().getId().value()),
+        () -> assertEquals(Optional.of(3), teamSizeIndex.sizeOf(new TeamId("drifted-team")))
+    );
+  }
+
+  @Test
+  void 割り当て候補として最小人数のチームを取得できる() {
+    // 準備
+    Team team = new Team(
+        new TeamId("assign-team"),
+        new TeamName("AssignTeam"),
+        Arrays.asList(testMember1, testMember2, testMember3)
+    );
+    teamRepository.create(team);
+
+    // 実行
+    TeamCandidates candidates = teamRepository.findAssignmentCandidates();
+
+    // 検証
+    assertAll(
+        () -> assertEquals(1, candidates.teams().size()),
+        () -> assertEquals("assign-team", candidates.teams().getFirst().getId().value())
+    );
+  }
+
+  @Test
+  void チームが存在しない場合は空の候補を返す() {
+    // 実行・検証
+    assertTrue(teamRepository.findAssignmentCandidates().isEmpty());
+    assertTrue(teamRepository.findMergeCandidates(new TeamId("any-team")).isEmpty());
+  }
+}
@@ -0,0 +1,189 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.application.event.TeamsChangedEvent;
+import com.ddd.praha.domain.model.TeamId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TeamSizeIndexTest {
+
+    @Mock
+    private TeamMapper teamMapper;
+
+    private TeamSizeIndex index;
+
+    private final TeamId teamA = new TeamId("team-a");
+    private final TeamId teamB = new TeamId("team-b");
+    private final TeamId teamC = new TeamId("team-c");
+
+    @BeforeEach
+    void setUp() {
+        index = new TeamSizeIndex(teamMapper);
+    }
+
+    @Test
+    void データベースの人数から構築できる() {
+        // Given
+        when(teamMapper.countMembersByTeam()).thenReturn(List.of(
+            new TeamSizeRecord("team-a", 3),
+            new TeamSizeRecord("team-b", 2)
+        ));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertTrue(index.isLoaded());
+        assertEquals(Optional.of(3), index.sizeOf(teamA));
+        assertEquals(Optional.of(teamB), index.pickSmallest(4, null));
+    }
+
+    @Test
+    void 構築中にこのノードで変更されたチームの人数は失われない() {
+        // Given
+        when(teamMapper.countMembersByTeam()).thenAnswer(invocation -> {
+            // 読み込みの後にコミットされたチームの作成
+            index.put(teamA, 3);
+            return List.of(new TeamSizeRecord("team-b", 2));
+        });
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertEquals(Optional.of(3), index.sizeOf(teamA));
+        assertEquals(Optional.of(2), index.sizeOf(teamB));
+        verify(teamMapper, never()).countMembersByTeamIds(any());
+    }
+
+    @Test
+    void 構築中に変更されインデックスになかったチームは読み直す() {
+        // Given
+        when(teamMapper.countMembersByTeam()).thenAnswer(invocation -> {
+            index.increment(teamA);
+            return List.of(new TeamSizeRecord("team-a", 2));
+        });
+        when(teamMapper.countMembersByTeamIds(new String[] {"team-a"}))
+            .thenReturn(List.of(new TeamSizeRecord("team-a", 3)));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertEquals(Optional.of(3), index.sizeOf(teamA));
+    }
+
+    @Test
+    void 最小人数のチームを選択する() {
+        // Given
+        index.put(teamA, 3);
+        index.put(teamB, 2);
+        index.put(teamC, 4);
+
+        // When & Then
+        assertEquals(Optional.of(teamB), index.pickSmallest(4, null));
+    }
+
+    @Test
+    void 除外チームしかない人数は読み飛ばす() {
+        // Given
+        index.put(teamA, 1);
+        index.put(teamB, 3);
+
+        // When & Then
+        assertEquals(Optional.of(teamB), index.pickSmallest(4, teamA));
+    }
+
+    @Test
+    void 上限人数以上のチームは選択しない() {
+        // Given
+        index.put(teamA, 4);
+
+        // When & Then
+        assertTrue(index.pickSmallest(4, null).isEmpty());
+        assertEquals(Optional.of(teamA), index.pickSmallest());
+    }
+
+    @Test
+    void 人数の増減に追従する() {
+        // Given
+        index.put(teamA, 2);
+        index.put(teamB, 3);
+
+        // When
+        index.increment(teamA);
+        index.increment(teamA);
+        index.decrement(teamB);
+
+        // Then
+        assertEquals(Optional.of(4), index.sizeOf(teamA));
+        assertEquals(Optional.of(teamB), index.pickSmallest(4, null));
+    }
+
+    @Test
+    void 削除したチームは選択されない() {
+        // Given
+        index.put(teamA, 2);
+        index.put(teamB, 3);
+
+        // When
+        index.remove(teamA);
+
+        // Then
+        assertTrue(index.sizeOf(teamA).isEmpty());
+        assertEquals(Optional.of(teamB), index.pickSmallest(4, null));
+    }
+
+    @Test
+    void 同じ人数のチームからランダムに選択する() {
+        // Given
+        index.put(teamA, 2);
+        index.put(teamB, 2);
+        index.put(teamC, 2);
+
+        // When
+        Set<TeamId> picked = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            index.pickSmallest(4, teamC).ifPresent(picked::add);
+        }
+
+        // Then
+        assertEquals(Set.of(teamA, teamB), picked);
+    }
+
+    @Test
+    void 他のノードで変更されたチームの人数を読み直す() {
+        // Given
+        index.put(teamA, 2);
+        index.put(teamB, 3);
+        when(teamMapper.countMembersByTeamIds(any())).thenReturn(List.of(new TeamSizeRecord("team-a", 4)));
+
+        // When
+        index.onTeamsChanged(TeamsChangedEvent.ofRemote(Set.of(teamA, teamC), Set.of(), false));
+
+        // Then
+        assertEquals(Optional.of(4), index.sizeOf(teamA));
+        assertEquals(Optional.of(3), index.sizeOf(teamB));
+        assertTrue(index.sizeOf(teamC).isEmpty());
+    }
+
+    @Test
+    void このノードでの変更では読み直さない() {
+        // When
+        index.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA));
+
+        // Then
+        verifyNoInteractions(teamMapper);
+    }
+}
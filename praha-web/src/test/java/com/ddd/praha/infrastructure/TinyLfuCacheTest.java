@@ -0,0 +1,90 @@
+package com.ddd.praha.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void 格納した値を取得できヒットとミスを記録する() {
+        // Given
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10);
+        cache.put("a", "A");
+
+        // When
+        String hit = cache.get("a");
+        String miss = cache.get("b");
+
+        // Then
+        assertEquals("A", hit);
+        assertNull(miss);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void 上限を超えると追い出して件数を記録する() {
+        // Given
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+
+        // Then
+        assertEquals(100, cache.size());
+        assertEquals(900, cache.evictionCount());
+    }
+
+    @Test
+    void よく参照される値は一度きりの値が大量に流れても残る() {
+        // Given（0〜49を繰り返し参照する。最後に格納した50はウィンドウに残る）
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+        for (int i = 0; i <= 50; i++) {
+            cache.put(i, i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get(i);
+            }
+        }
+
+        // When
+        for (int i = 1000; i < 11000; i++) {
+            cache.put(i, i);
+        }
+
+        // Then
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, cache.get(i), "key=" + i);
+        }
+    }
+
+    @Test
+    void 値を削除できる() {
+        // Given
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+        cache.get("b");
+
+        // When
+        cache.invalidate("a");
+        cache.invalidateIf(value -> value.equals("B"));
+
+        // Then
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void 上限が1未満の場合は作成できない() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<String, String>(0));
+    }
+}
@@ -2,11 +2,18 @@ package com.ddd.praha.presentation.api;
 
 import com.ddd.praha.application.service.usecase.MemberService;
 import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.entity.Task;
+import com.ddd.praha.domain.entity.TaskProgress;
 import com.ddd.praha.domain.model.Email;
 import com.ddd.praha.domain.model.EnrollmentStatus;
 import com.ddd.praha.domain.model.MemberId;
 import com.ddd.praha.domain.model.MemberName;
+import com.ddd.praha.domain.model.TaskId;
+import com.ddd.praha.domain.model.TaskName;
+import com.ddd.praha.domain.model.TaskStatus;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -90,6 +97,31 @@ public class MemberControllerTest {
         .andExpect(status().isNotFound());
   }
 
+  @Test
+  void メンバーの課題進捗をステータスごとにまとめて返す() throws Exception {
+    Task task1 = new Task(new TaskId("task-1"), new TaskName("課題1"));
+    Task task2 = new Task(new TaskId("task-2"), new TaskName("課題2"));
+    Map<Task, TaskStatus> statuses = new LinkedHashMap<>();
+    statuses.put(task1, TaskStatus.完了);
+    statuses.put(task2, TaskStatus.未着手);
+    when(memberService.findTaskProgress(testMemberId)).thenReturn(Optional.of(new TaskProgress(testMember, statuses)));
+
+    mockMvc.perform(get("/api/members/{id}/progress", testMemberId.value()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.member.id").value("test-id-1"))
+        .andExpect(jsonPath("$.tasksByStatus['完了'][0].id").value("task-1"))
+        .andExpect(jsonPath("$.tasksByStatus['未着手'][0].name").value("課題2"))
+        .andExpect(jsonPath("$.tasksByStatus['取組中']").isEmpty());
+  }
+
+  @Test
+  void 課題進捗の参加者が存在しない場合にNotFoundを返す() throws Exception {
+    when(memberService.findTaskProgress(any(MemberId.class))).thenReturn(Optional.empty());
+
+    mockMvc.perform(get("/api/members/{id}/progress", "non-existent-id"))
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   void メンバーを作成して作成されたメンバーを返す() throws Exception {
     // リクエストの作成
@@ -15,7 +15,11 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -210,4 +214,117 @@ public class MemberSearchControllerTest {
                 .content(requestJson))
             .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchMembersByTasksAndStatusesAfter_正常系_afterを省略すると先頭から取得し次ページカーソルを返す() throws Exception {
+        // Given
+        Member last = new Member(new MemberId("member-010"), new MemberName("テスト次郎"), new Email("jiro@example.com"), EnrollmentStatus.在籍中);
+        MemberSearchSlice slice = new MemberSearchSlice(List.of(testMembers.get(0), last), 10, true);
+        when(memberService.searchMembersByTaskNamesAndStatusesAfter(any(), any(), isNull(), eq(10)))
+            .thenReturn(slice);
+
+        // When & Then
+        String requestJson = """
+            {
+                "taskNames": ["設計原則（SOLID）"],
+                "statuses": ["レビュー待ち"]
+            }
+            """;
+
+        mockMvc.perform(post("/api/search/members/cursor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.members.length()").value(2))
+            .andExpect(jsonPath("$.size").value(10))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.next").value(MemberSearchCursor.encode(new MemberId("member-010"))));
+    }
+
+    @Test
+    void searchMembersByTasksAndStatusesAfter_正常系_afterで指定した参加者の続きから取得する() throws Exception {
+        // Given
+        MemberId after = new MemberId("member-010");
+        MemberSearchSlice slice = new MemberSearchSlice(testMembers, 10, false);
+        when(memberService.searchMembersByTaskNamesAndStatusesAfter(any(), any(), eq(after), eq(10)))
+            .thenReturn(slice);
+
+        // When & Then
+        String requestJson = """
+            {
+                "taskNames": ["設計原則（SOLID）"],
+                "statuses": ["レビュー待ち"],
+                "after": "%s"
+            }
+            """.formatted(MemberSearchCursor.encode(after));
+
+        mockMvc.perform(post("/api/search/members/cursor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.members.length()").value(2))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void searchMembersByTasksAndStatusesAfter_異常系_afterの形式が不正() throws Exception {
+        // When & Then
+        String requestJson = """
+            {
+                "taskNames": ["設計原則（SOLID）"],
+                "statuses": ["レビュー待ち"],
+                "after": "!!invalid!!"
+            }
+            """;
+
+        mockMvc.perform(post("/api/search/members/cursor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchMembersByTasksAndStatuses_正常系_matchModeがALLの場合は全ての課題を満たす参加者を検索する() throws Exception {
+        // Given
+        MemberSearchResult searchResult = new MemberSearchResult(testMembers, 0, 10, 2);
+        when(memberService.searchMembersMatchingAllTasks(
+                eq(List.of("設計原則（SOLID）", "DBモデリング1")), eq(List.of(TaskStatus.完了)), eq(0), eq(10)))
+            .thenReturn(searchResult);
+
+        // When & Then
+        String requestJson = """
+            {
+                "taskNames": ["設計原則（SOLID）", "DBモデリング1"],
+                "statuses": ["完了"],
+                "page": 0,
+                "matchMode": "ALL"
+            }
+            """;
+
+        mockMvc.perform(post("/api/search/members")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.members.length()").value(2))
+            .andExpect(jsonPath("$.totalElements").value(2));
+        verify(memberService, never()).searchMembersByTaskNamesAndStatuses(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchMembersByTasksAndStatusesAfter_異常系_matchModeがALL() throws Exception {
+        // When & Then
+        String requestJson = """
+            {
+                "taskNames": ["設計原則（SOLID）"],
+                "statuses": ["完了"],
+                "matchMode": "ALL"
+            }
+            """;
+
+        mockMvc.perform(post("/api/search/members/cursor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andExpect(status().isBadRequest());
+    }
+}
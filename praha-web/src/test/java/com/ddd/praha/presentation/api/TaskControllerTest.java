@@ -11,6 +11,8 @@ import com.ddd.praha.domain.model.MemberName;
 import com.ddd.praha.domain.model.TaskId;
 import com.ddd.praha.domain.model.TaskName;
 import com.ddd.praha.domain.model.TaskStatus;
+import com.ddd.praha.domain.model.TaskStatusChange;
+import com.ddd.praha.domain.model.TaskStatusChangeResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -279,4 +281,46 @@ public class TaskControllerTest {
     }
 
 
-}
\ No newline at end of file
+
+    @Test
+    void updateTaskStatuses_一括更新の結果を1件ごとにリクエストと同じ順序で返す() throws Exception {
+        // Given
+        TaskStatusChange accepted = new TaskStatusChange(testMemberId, testTaskId, TaskStatus.取組中);
+        TaskStatusChange rejected = new TaskStatusChange(testMemberId, new TaskId("test-task-id-2"), TaskStatus.完了);
+        when(taskService.updateTaskStatuses(List.of(accepted, rejected))).thenReturn(List.of(
+            TaskStatusChangeResult.success(accepted),
+            TaskStatusChangeResult.failure(rejected, "このステータス変更は許可されていません")
+        ));
+
+        String requestJson = """
+                {
+                    "items": [
+                        {"memberId": "test-member-id-1", "taskId": "test-task-id-1", "status": "取組中"},
+                        {"memberId": "test-member-id-1", "taskId": "test-task-id-3", "status": "不明"},
+                        {"memberId": "test-member-id-1", "taskId": "test-task-id-2", "status": "完了"}
+                    ]
+                }
+                """;
+
+        // When & Then
+        mockMvc.perform(put("/api/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].error").value("不正なステータスです: 不明"))
+                .andExpect(jsonPath("$.results[2].taskId").value("test-task-id-2"))
+                .andExpect(jsonPath("$.results[2].error").value("このステータス変更は許可されていません"));
+    }
+
+    @Test
+    void updateTaskStatuses_項目が空の場合は400() throws Exception {
+        mockMvc.perform(put("/api/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+}
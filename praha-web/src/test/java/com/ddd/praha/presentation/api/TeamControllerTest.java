@@ -17,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,11 +30,15 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TeamController.class)
+@Import(TeamRosterSnapshot.class)
 public class TeamControllerTest {
 
     @Autowired
@@ -47,6 +53,9 @@ public class TeamControllerTest {
     @MockitoBean
     private MemberService memberService;
 
+    @Autowired
+    private TeamRosterSnapshot teamRosterSnapshot;
+
     private Team team1;
     private Team team2;
     private Member member1;
@@ -85,6 +94,8 @@ public class TeamControllerTest {
         team2Members.add(member3);
         team2 = new Team(new TeamName("TeamB"), team2Members);
 
+        // テストごとに一覧を読み直させる
+        teamRosterSnapshot.invalidateAll();
     }
 
     @Test
@@ -106,6 +117,36 @@ public class TeamControllerTest {
                 .andExpect(jsonPath("$[1].members[1].id").value(member3.getId().value()));
     }
 
+    @Test
+    public void 一覧のETagが一致する場合はデータベースを読まずにNotModifiedを返す() throws Exception {
+        // Arrange
+        when(teamQueryService.getAll()).thenReturn(Arrays.asList(team1, team2));
+        String etag = mockMvc.perform(get("/api/teams"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(TeamController.ROSTER_VERSION_HEADER))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/teams").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+        verify(teamQueryService, times(1)).getAll();
+    }
+
+    @Test
+    public void 一覧のETagが一致しない場合は一覧を返す() throws Exception {
+        // Arrange
+        when(teamQueryService.getAll()).thenReturn(Arrays.asList(team1, team2));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/teams").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(team1.getId().value()))
+                .andExpect(jsonPath("$[1].id").value(team2.getId().value()));
+    }
+
     @Test
     public void チームが存在する場合にIDでチームを取得して返す() throws Exception {
         // Arrange
@@ -138,8 +179,7 @@ public class TeamControllerTest {
         );
 
         when(teamQueryService.get(new TeamId("team-1"))).thenReturn(team1);
-        when(memberService.get(member1.getId())).thenReturn(member1);
-        when(memberService.get(member3.getId())).thenReturn(member3);
+        when(memberService.getAll(List.of(member1.getId(), member3.getId()))).thenReturn(List.of(member3, member1));
 
         // Mock the team after removing member2
         Team updatedTeam1 = new Team(new TeamName("TeamA"), Arrays.asList(member1, member3)) {
@@ -192,27 +232,73 @@ public class TeamControllerTest {
     }
 
     @Test
-    public void メンバーが存在しない場合にBadRequestを返す() throws Exception {
+    public void メンバーが存在しない場合に存在しない全てのIDをまとめてBadRequestで返す() throws Exception {
         // Arrange
-        TeamMemberUpdateRequest request = new TeamMemberUpdateRequest(
-                Arrays.asList(member1.getId().value(), "non-existent-member")
-        );
+        when(teamQueryService.get(new TeamId("team-1"))).thenReturn(team1);
+        when(memberService.getAll(List.of(member1.getId(), new MemberId("missing-1"), new MemberId("missing-2"))))
+                .thenReturn(List.of(member1));
 
+        // Act & Assert
+        String requestJson = """
+                {
+                    "memberIds": ["%s", "%s", "%s"]
+                }
+                """.formatted(member1.getId().value(), "missing-1", "missing-2");
+
+        mockMvc.perform(put("/api/teams/team-1/members")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Members not found with ids: missing-1, missing-2"));
+
+        verify(memberService, never()).get(any());
+        verify(teamOrchestrationService, never()).removeMemberFromTeam(any(), any());
+        verify(teamOrchestrationService, never()).addMemberToTeam(any(), any());
+    }
+
+    @Test
+    public void メンバーIDがnullの場合に存在しないIDとまとめてBadRequestで返す() throws Exception {
+        // Arrange
         when(teamQueryService.get(new TeamId("team-1"))).thenReturn(team1);
-        when(memberService.get(member1.getId())).thenReturn(member1);
-        when(memberService.get(new MemberId("non-existent-member"))).thenThrow(new RuntimeException("Member not found"));
+        when(memberService.getAll(List.of(new MemberId("missing-1")))).thenReturn(List.of());
 
         // Act & Assert
         String requestJson = """
                 {
-                    "memberIds": ["%s", "%s"]
+                    "memberIds": [null, "missing-1"]
                 }
-                """.formatted(member1.getId().value(), "non-existent-member");
+                """;
 
         mockMvc.perform(put("/api/teams/team-1/members")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestJson))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Members not found with ids: null, missing-1"));
+
+        verify(teamOrchestrationService, never()).removeMemberFromTeam(any(), any());
+        verify(teamOrchestrationService, never()).addMemberToTeam(any(), any());
+    }
+
+    @Test
+    public void メンバーIDがnullのみの場合にBadRequestを返す() throws Exception {
+        // Arrange
+        when(teamQueryService.get(new TeamId("team-1"))).thenReturn(team1);
+
+        // Act & Assert
+        String requestJson = """
+                {
+                    "memberIds": [null]
+                }
+                """;
+
+        mockMvc.perform(put("/api/teams/team-1/members")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Members not found with ids: null"));
+
+        verify(teamOrchestrationService, never()).removeMemberFromTeam(any(), any());
+        verify(teamOrchestrationService, never()).addMemberToTeam(any(), any());
     }
 
     @Test
@@ -223,7 +309,7 @@ public class TeamControllerTest {
         );
 
         when(teamQueryService.get(new TeamId("team-1"))).thenReturn(team1);
-        when(memberService.get(member1.getId())).thenReturn(member1);
+        when(memberService.getAll(List.of(member1.getId()))).thenReturn(List.of(member1));
 
         // Use doThrow instead of when().thenThrow()
         Mockito.doThrow(new IllegalArgumentException("Error"))
@@ -250,7 +336,7 @@ public class TeamControllerTest {
         );
 
         when(teamQueryService.get(new TeamId("team-1"))).thenReturn(team1);
-        when(memberService.get(member1.getId())).thenReturn(member1);
+        when(memberService.getAll(List.of(member1.getId()))).thenReturn(List.of(member1));
         when(teamOrchestrationService.removeMemberFromTeam(any(), any())).thenThrow(new IllegalStateException("Error"));
 
         // Act & Assert
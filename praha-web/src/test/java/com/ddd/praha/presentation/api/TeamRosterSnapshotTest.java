@@ -0,0 +1,172 @@
+package com.ddd.praha.presentation.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.ddd.praha.application.event.TeamsChangedEvent;
+import com.ddd.praha.application.service.usecase.TeamQueryService;
+import com.ddd.praha.domain.entity.Member;
+import com.ddd.praha.domain.entity.Team;
+import com.ddd.praha.domain.model.Email;
+import com.ddd.praha.domain.model.EnrollmentStatus;
+import com.ddd.praha.domain.model.MemberId;
+import com.ddd.praha.domain.model.MemberName;
+import com.ddd.praha.domain.model.TeamId;
+import com.ddd.praha.domain.model.TeamName;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TeamRosterSnapshotTest {
+
+    @Mock
+    private TeamQueryService teamQueryService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TeamRosterSnapshot snapshot;
+
+    private final Member member1 = member("member-1", "山田太郎", "yamada@example.com", EnrollmentStatus.在籍中);
+    private final Member member2 = member("member-2", "佐藤花子", "sato@example.com", EnrollmentStatus.在籍中);
+    private final Member member3 = member("member-3", "鈴木一郎", "suzuki@example.com", EnrollmentStatus.在籍中);
+    private final Member member4 = member("member-4", "田中次郎", "tanaka@example.com", EnrollmentStatus.在籍中);
+    private final Team teamA = new Team(new TeamId("team-a"), new TeamName("チームA"), List.of(member1, member2));
+    private final Team teamB = new Team(new TeamId("team-b"), new TeamName("チームB"), List.of(member3, member4));
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new TeamRosterSnapshot(teamQueryService, objectMapper);
+    }
+
+    @Test
+    void 変更がなければ読み直さずに同じ一覧を返す() {
+        // Given
+        when(teamQueryService.getAll()).thenReturn(List.of(teamA, teamB));
+
+        // When
+        TeamRosterSnapshot.Roster first = snapshot.current();
+        TeamRosterSnapshot.Roster second = snapshot.current();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, first.version());
+        verify(teamQueryService, times(1)).getAll();
+    }
+
+    @Test
+    void 変更されたチームだけを読み直して版数とETagを更新する() throws Exception {
+        // Given
+        when(teamQueryService.getAll()).thenReturn(List.of(teamA, teamB));
+        TeamRosterSnapshot.Roster before = snapshot.current();
+        Team renamedB = new Team(teamB.getId(), teamB.getName(), List.of(member3, member4, member2));
+        when(teamQueryService.find(teamB.getId())).thenReturn(Optional.of(renamedB));
+
+        // When
+        snapshot.onTeamsChanged(TeamsChangedEvent.ofTeam(teamB.getId()));
+        TeamRosterSnapshot.Roster after = snapshot.current();
+
+        // Then
+        assertEquals(2, after.version());
+        assertNotEquals(before.etag(), after.etag());
+        JsonNode json = objectMapper.readTree(after.json());
+        assertEquals("team-a", json.get(0).get("id").asText());
+        assertEquals(3, json.get(1).get("members").size());
+        verify(teamQueryService, times(1)).getAll();
+        verify(teamQueryService, never()).find(teamA.getId());
+    }
+
+    @Test
+    void 参加者の更新では所属するチームを読み直す() throws Exception {
+        // Given
+        when(teamQueryService.getAll()).thenReturn(List.of(teamA, teamB));
+        snapshot.current();
+        Member suspended = member("member-1", "山田太郎", "yamada@example.com", EnrollmentStatus.休会中);
+        when(teamQueryService.find(teamA.getId()))
+            .thenReturn(Optional.of(new Team(teamA.getId(), teamA.getName(), List.of(suspended, member2))));
+
+        // When
+        snapshot.onTeamsChanged(TeamsChangedEvent.ofMember(member1.getId()));
+        TeamRosterSnapshot.Roster roster = snapshot.current();
+
+        // Then
+        JsonNode json = objectMapper.readTree(roster.json());
+        assertEquals("休会中", json.get(0).get("members").get(0).get("status").asText());
+        verify(teamQueryService, never()).find(teamB.getId());
+    }
+
+    @Test
+    void 削除されたチームは一覧から除き作成されたチームは末尾に加える() throws Exception {
+        // Given
+        when(teamQueryService.getAll()).thenReturn(List.of(teamA));
+        snapshot.current();
+        when(teamQueryService.find(teamA.getId())).thenReturn(Optional.empty());
+        when(teamQueryService.find(teamB.getId())).thenReturn(Optional.of(teamB));
+
+        // When
+        snapshot.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA.getId()));
+        snapshot.onTeamsChanged(TeamsChangedEvent.ofTeam(teamB.getId()));
+        TeamRosterSnapshot.Roster roster = snapshot.current();
+
+        // Then
+        JsonNode json = objectMapper.readTree(roster.json());
+        assertEquals(1, json.size());
+        assertEquals("team-b", json.get(0).get("id").asText());
+    }
+
+    @Test
+    void 読み直しても内容が変わらなければ版数は変えない() {
+        // Given
+        when(teamQueryService.getAll()).thenReturn(List.of(teamA));
+        TeamRosterSnapshot.Roster before = snapshot.current();
+        when(teamQueryService.find(teamA.getId())).thenReturn(Optional.of(teamA));
+
+        // When
+        snapshot.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA.getId()));
+        TeamRosterSnapshot.Roster after = snapshot.current();
+
+        // Then
+        assertSame(before, after);
+    }
+
+    @Test
+    void 読み直しに失敗した場合は次の取得で全てのチームを読み直す() {
+        // Given
+        when(teamQueryService.getAll()).thenReturn(List.of(teamA));
+        snapshot.current();
+        when(teamQueryService.find(teamA.getId())).thenThrow(new IllegalStateException("接続エラー"));
+        snapshot.onTeamsChanged(TeamsChangedEvent.ofTeam(teamA.getId()));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> snapshot.current());
+        snapshot.current();
+
+        // Then
+        verify(teamQueryService, times(2)).getAll();
+    }
+
+    @Test
+    void 全てのチームの変更を受け取った場合は全てのチームを読み直す() {
+        // Given
+        when(teamQueryService.getAll()).thenReturn(List.of(teamA));
+        snapshot.current();
+
+        // When
+        snapshot.onTeamsChanged(TeamsChangedEvent.ofRemote(Set.of(), Set.of(), true));
+        snapshot.current();
+
+        // Then
+        verify(teamQueryService, times(2)).getAll();
+        verify(teamQueryService, never()).find(any());
+    }
+
+    private static Member member(String id, String name, String email, EnrollmentStatus status) {
+        return new Member(new MemberId(id), new MemberName(name), new Email(email), status);
+    }
+}